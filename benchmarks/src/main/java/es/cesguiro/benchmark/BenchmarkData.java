@@ -0,0 +1,95 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.PublisherDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+
+    static final int PUBLISHERS = 200;
+    static final int AUTHORS = 2_000;
+
+    private BenchmarkData() {
+    }
+
+    static List<PublisherEntity> publishers() {
+        List<PublisherEntity> publishers = new ArrayList<>(PUBLISHERS);
+        for (int i = 1; i <= PUBLISHERS; i++) {
+            publishers.add(new PublisherEntity((long) i, "Publisher " + i, "publisher-" + i));
+        }
+        return publishers;
+    }
+
+    static List<AuthorEntity> authors() {
+        List<AuthorEntity> authors = new ArrayList<>(AUTHORS);
+        for (int i = 1; i <= AUTHORS; i++) {
+            authors.add(new AuthorEntity(
+                    (long) i,
+                    "Author " + i,
+                    i % 2 == 0 ? "Spain" : "United Kingdom",
+                    "Biografía del autor " + i,
+                    "Biography of author " + i,
+                    1900 + i % 100,
+                    i % 3 == 0 ? 1990 + i % 30 : null,
+                    "author-" + i
+            ));
+        }
+        return authors;
+    }
+
+    static List<BookEntity> books(int count) {
+        List<PublisherEntity> publishers = publishers();
+        List<AuthorEntity> authors = authors();
+        List<BookEntity> books = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            books.add(book(i, publishers.get(i % PUBLISHERS), List.of(
+                    authors.get(i % AUTHORS),
+                    authors.get((i * 7) % AUTHORS)
+            )));
+        }
+        return books;
+    }
+
+    static BookEntity book(long id, PublisherEntity publisher, List<AuthorEntity> authors) {
+        return new BookEntity(
+                id,
+                String.format("%013d", id),
+                "Título " + id,
+                "Title " + id,
+                "Sinopsis del libro " + id,
+                "Synopsis of book " + id,
+                BigDecimal.valueOf(500 + id % 5_000, 2),
+                id % 4 == 0 ? 0 : (double) (id % 50),
+                "cover-" + id + ".jpg",
+                LocalDate.of(1950, 1, 1).plusDays(id % 25_000),
+                publisher,
+                authors
+        );
+    }
+
+    static BookDto bookDto() {
+        return new BookDto(
+                1L,
+                "9788437604947",
+                "Cien años de soledad",
+                "One Hundred Years of Solitude",
+                "Sinopsis",
+                "Synopsis",
+                new BigDecimal("19.95"),
+                15,
+                new BigDecimal("16.96"),
+                "cover.jpg",
+                LocalDate.of(1967, 5, 30),
+                new PublisherDto(1L, "Editorial Sudamericana", "editorial-sudamericana"),
+                List.of(new AuthorDto(1L, "Gabriel García Márquez", "Colombia", "Bio", "Bio", 1927, 2014, "gabriel-garcia-marquez"))
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.repository.impl.BookRepositoryImpl;
+import es.cesguiro.repository.impl.SnapshotBookRepository;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.service.BookService;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.impl.BookServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BookServiceBenchmark {
+
+    @Param({"100000"})
+    public int books;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    @Param({"false", "true"})
+    public boolean snapshot;
+
+    private BookService bookService;
+    private int pages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BookRepositoryImpl bookRepository = new BookRepositoryImpl(64, books);
+        for (BookEntity bookEntity : BenchmarkData.books(books)) {
+            bookRepository.save(bookEntity);
+        }
+        bookService = new BookServiceImpl(snapshot ? new SnapshotBookRepository(bookRepository) : bookRepository);
+        pages = books / pageSize;
+    }
+
+    @Benchmark
+    public List<BookDto> getAllFirstPage() {
+        return bookService.getAll(0, pageSize);
+    }
+
+    @Benchmark
+    public List<BookDto> getAllRandomPage() {
+        return bookService.getAll(ThreadLocalRandom.current().nextInt(pages), pageSize);
+    }
+
+    @Benchmark
+    public BookDto getByIsbn() {
+        long id = ThreadLocalRandom.current().nextLong(1, books + 1L);
+        return bookService.getByIsbn(String.format("%013d", id));
+    }
+}
@@ -0,0 +1,64 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.mapper.BookMapper;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.service.dto.BookDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BulkMapperBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private List<BookEntity> bookEntities;
+    private List<BookDto> bookDtos;
+
+    @Setup
+    public void setUp() {
+        bookEntities = BenchmarkData.books(size);
+        bookDtos = bookEntities.stream()
+                .map(BookMapper.getInstance()::fromBookEntityToBook)
+                .map(BookMapper.getInstance()::fromBookToBookDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<BookDto> bookEntitiesToBookDtos() {
+        return bookEntities.stream()
+                .map(BookMapper.getInstance()::fromBookEntityToBook)
+                .map(BookMapper.getInstance()::fromBookToBookDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<BookDto> bookEntitiesToBookDtosInterned() {
+        return BookMapper.getInstance().fromBookEntitiesToBookDtos(bookEntities);
+    }
+
+    @Benchmark
+    public List<BookEntity> bookDtosToBookEntities() {
+        return bookDtos.stream()
+                .map(BookMapper.getInstance()::fromBookDtoToBook)
+                .map(BookMapper.getInstance()::fromBookToBookEntity)
+                .toList();
+    }
+}
@@ -0,0 +1,58 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.codec.BinaryCodec;
+import es.cesguiro.codec.RecordCodecs;
+import es.cesguiro.repository.entity.BookEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CodecBenchmark {
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean dedupStrings;
+
+    private List<BookEntity> books;
+    private ByteBuffer encoded;
+    private ByteBuffer target;
+
+    @Setup
+    public void setUp() {
+        books = BenchmarkData.books(size);
+        encoded = BinaryCodec.encode(books, RecordCodecs.BOOK_ENTITY, dedupStrings);
+        target = ByteBuffer.allocateDirect(encoded.remaining());
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        target.clear();
+        BinaryCodec.encode(books, RecordCodecs.BOOK_ENTITY, dedupStrings, target);
+        return target;
+    }
+
+    @Benchmark
+    public List<BookEntity> decode() {
+        return BinaryCodec.decode(encoded.duplicate(), RecordCodecs.BOOK_ENTITY);
+    }
+}
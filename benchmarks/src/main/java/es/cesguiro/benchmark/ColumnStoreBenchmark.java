@@ -0,0 +1,83 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.analytics.BookColumnStore;
+import es.cesguiro.analytics.PriceStats;
+import es.cesguiro.model.PriceCalculator;
+import es.cesguiro.repository.entity.BookEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnStoreBenchmark {
+
+    private static final BigDecimal MIN_PRICE = new BigDecimal("10.00");
+    private static final BigDecimal MAX_PRICE = new BigDecimal("20.00");
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<BookEntity> books;
+    private BookColumnStore columnStore;
+
+    @Setup
+    public void setUp() {
+        books = BenchmarkData.books(size);
+        columnStore = new BookColumnStore(size);
+        columnStore.rebuild(books);
+    }
+
+    @Benchmark
+    public Map<Long, LongSummaryStatistics> priceStatsByPublisherFromEntities() {
+        return books.stream()
+                .filter(book -> book.basePrice() != null && book.publisher() != null)
+                .collect(Collectors.groupingBy(
+                        book -> book.publisher().id(),
+                        Collectors.summarizingLong(book -> PriceCalculator.finalPriceCents(book.basePrice(), book.discountPercentage()))
+                ));
+    }
+
+    @Benchmark
+    public Map<Long, PriceStats> priceStatsByPublisherFromColumns() {
+        return columnStore.priceStatsByPublisher();
+    }
+
+    @Benchmark
+    public long countPriceRangeFromEntities() {
+        long from = PriceCalculator.toCents(MIN_PRICE);
+        long to = PriceCalculator.toCents(MAX_PRICE);
+        long count = 0;
+        for (BookEntity book : books) {
+            if (book.basePrice() != null) {
+                long cents = PriceCalculator.finalPriceCents(book.basePrice(), book.discountPercentage());
+                count += cents >= from && cents <= to ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long countPriceRangeFromColumns() {
+        return columnStore.countWithPriceBetween(MIN_PRICE, MAX_PRICE);
+    }
+}
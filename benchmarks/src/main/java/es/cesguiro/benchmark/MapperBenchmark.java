@@ -0,0 +1,98 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.mapper.AuthorMapper;
+import es.cesguiro.mapper.BookMapper;
+import es.cesguiro.mapper.PublisherMapper;
+import es.cesguiro.model.Author;
+import es.cesguiro.model.Book;
+import es.cesguiro.model.Publisher;
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.PublisherDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class MapperBenchmark {
+
+    private BookEntity bookEntity;
+    private Book book;
+    private BookDto bookDto;
+    private AuthorEntity authorEntity;
+    private Author author;
+    private AuthorDto authorDto;
+    private PublisherEntity publisherEntity;
+    private Publisher publisher;
+    private PublisherDto publisherDto;
+
+    @Setup
+    public void setUp() {
+        bookEntity = BenchmarkData.books(1).get(0);
+        book = BookMapper.getInstance().fromBookEntityToBook(bookEntity);
+        bookDto = BookMapper.getInstance().fromBookToBookDto(book);
+        authorEntity = bookEntity.authors().get(0);
+        author = AuthorMapper.getInstance().fromAuthorEntityToAuthor(authorEntity);
+        authorDto = AuthorMapper.getInstance().fromAuthorToAuthorDto(author);
+        publisherEntity = bookEntity.publisher();
+        publisher = PublisherMapper.getInstance().fromPublisherEntityToPublisher(publisherEntity);
+        publisherDto = PublisherMapper.getInstance().fromPublisherToPublisherDto(publisher);
+    }
+
+    @Benchmark
+    public BookDto bookEntityToBookDto() {
+        return BookMapper.getInstance().fromBookToBookDto(BookMapper.getInstance().fromBookEntityToBook(bookEntity));
+    }
+
+    @Benchmark
+    public BookEntity bookDtoToBookEntity() {
+        return BookMapper.getInstance().fromBookToBookEntity(BookMapper.getInstance().fromBookDtoToBook(bookDto));
+    }
+
+    @Benchmark
+    public Book bookEntityToBook() {
+        return BookMapper.getInstance().fromBookEntityToBook(bookEntity);
+    }
+
+    @Benchmark
+    public BookDto bookToBookDto() {
+        return BookMapper.getInstance().fromBookToBookDto(book);
+    }
+
+    @Benchmark
+    public AuthorDto authorEntityToAuthorDto() {
+        return AuthorMapper.getInstance().fromAuthorToAuthorDto(AuthorMapper.getInstance().fromAuthorEntityToAuthor(authorEntity));
+    }
+
+    @Benchmark
+    public AuthorEntity authorDtoToAuthorEntity() {
+        return AuthorMapper.getInstance().fromAuthorToAuthorEntity(AuthorMapper.getInstance().fromAuthorDtoToAuthor(authorDto));
+    }
+
+    @Benchmark
+    public PublisherDto publisherEntityToPublisherDto() {
+        return PublisherMapper.getInstance().fromPublisherToPublisherDto(PublisherMapper.getInstance().fromPublisherEntityToPublisher(publisherEntity));
+    }
+
+    @Benchmark
+    public PublisherEntity publisherDtoToPublisherEntity() {
+        return PublisherMapper.getInstance().fromPublisherToPublisherEntity(PublisherMapper.getInstance().fromPublisherDtoToPublisher(publisherDto));
+    }
+}
@@ -0,0 +1,77 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.mapper.BookMapper;
+import es.cesguiro.model.Book;
+import es.cesguiro.model.PriceCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceBenchmark {
+
+    private static final int BOOKS = 1_024;
+
+    private List<Book> books;
+    private Book book;
+
+    @Setup
+    public void setUp() {
+        books = BenchmarkData.books(BOOKS).stream()
+                .map(BookMapper.getInstance()::fromBookEntityToBook)
+                .toList();
+        book = books.get(1);
+    }
+
+    @Benchmark
+    public BigDecimal calculateFinalPrice() {
+        return book.calculateFinalPrice();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOOKS)
+    public void calculateFinalPriceBulk(Blackhole blackhole) {
+        for (Book current : books) {
+            blackhole.consume(current.calculateFinalPrice());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOOKS)
+    public void calculateFinalPriceCentsBulk(Blackhole blackhole) {
+        for (Book current : books) {
+            blackhole.consume(PriceCalculator.finalPriceCents(current.getBasePrice(), current.getDiscountPercentage()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOOKS)
+    public void referenceFinalPriceBulk(Blackhole blackhole) {
+        for (Book current : books) {
+            BigDecimal basePrice = current.getBasePrice();
+            BigDecimal discount = basePrice
+                    .multiply(BigDecimal.valueOf(current.getDiscountPercentage()))
+                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            blackhole.consume(basePrice.subtract(discount).setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.search.BookSearchIndex;
+import es.cesguiro.search.SearchHit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private BookSearchIndex searchIndex;
+
+    @Setup
+    public void setUp() {
+        searchIndex = new BookSearchIndex();
+        BenchmarkData.books(size).forEach(searchIndex::index);
+    }
+
+    @Benchmark
+    public List<SearchHit> searchCommonTermTop10() {
+        return searchIndex.search("libro", 10);
+    }
+
+    @Benchmark
+    public List<SearchHit> searchRareAndCommonTermsTop10() {
+        return searchIndex.search("titulo 4242", 10);
+    }
+
+    @Benchmark
+    public List<SearchHit> searchCommonTermsTop1000() {
+        return searchIndex.search("book synopsis", 1_000);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<SearchHit> searchConcurrently() {
+        return searchIndex.search("titulo 4242", 10);
+    }
+}
@@ -0,0 +1,69 @@
+package es.cesguiro.benchmark;
+
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.validation.DtoValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private BookDto bookDto;
+    private AuthorDto authorDto;
+    private AuthorDto invalidAuthorDto;
+
+    @Setup
+    public void setUp() {
+        bookDto = BenchmarkData.bookDto();
+        authorDto = bookDto.authors().get(0);
+        invalidAuthorDto = new AuthorDto(2L, "", "", null, null, -1, -1, "Not A Slug");
+    }
+
+    @Benchmark
+    public BookDto validateBook() {
+        DtoValidator.validate(bookDto);
+        return bookDto;
+    }
+
+    @Benchmark
+    public AuthorDto validateAuthor() {
+        DtoValidator.validate(authorDto);
+        return authorDto;
+    }
+
+    @Benchmark
+    public Object validateInvalidAuthor() {
+        try {
+            DtoValidator.validate(invalidAuthorDto);
+            return invalidAuthorDto;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object validateInvalidAuthorFailFast() {
+        try {
+            DtoValidator.validateFailFast(invalidAuthorDto);
+            return invalidAuthorDto;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package es.cesguiro.analytics;
+
+import es.cesguiro.collection.LongArrayList;
+import es.cesguiro.collection.LongIntHashMap;
+import es.cesguiro.collection.LongObjectHashMap;
+import es.cesguiro.model.PriceCalculator;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.service.BookListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class BookColumnStore implements BookListener {
+
+    static final long NO_PRICE = Long.MIN_VALUE;
+    static final long NO_PUBLISHER = Long.MIN_VALUE;
+    static final int NO_DATE = Integer.MIN_VALUE;
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+
+    private static final int DEFAULT_CAPACITY = 1_024;
+    private static final int NO_ROW = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap rowsById;
+    private LongBuffer ids;
+    private LongBuffer publisherIds;
+    private LongBuffer basePrices;
+    private DoubleBuffer discounts;
+    private LongBuffer finalPrices;
+    private IntBuffer epochDays;
+    private int capacity;
+    private int rows;
+
+    public BookColumnStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BookColumnStore(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be greater than 0");
+        }
+        if (initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Initial capacity cannot exceed " + MAX_CAPACITY + " rows");
+        }
+        this.rowsById = new LongIntHashMap(initialCapacity, NO_ROW);
+        allocate(initialCapacity);
+    }
+
+    @Override
+    public void onCreated(BookEntity book) {
+        upsert(book);
+    }
+
+    @Override
+    public void onUpdated(BookEntity previous, BookEntity current) {
+        if (previous != null && !previous.id().equals(current.id())) {
+            remove(previous.id());
+        }
+        upsert(current);
+    }
+
+    @Override
+    public void onDeleted(BookEntity book) {
+        remove(book.id());
+    }
+
+    public void upsert(BookEntity book) {
+        if (book.id() == null) {
+            throw new IllegalArgumentException("Book id cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            int row = rowsById.get(book.id());
+            if (row == NO_ROW) {
+                if (rows == capacity) {
+                    grow();
+                }
+                row = rows++;
+                rowsById.put(book.id(), row);
+            }
+            write(row, book);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long bookId) {
+        if (bookId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int row = rowsById.remove(bookId);
+            if (row == NO_ROW) {
+                return;
+            }
+            int last = --rows;
+            if (row != last) {
+                ids.put(row, ids.get(last));
+                publisherIds.put(row, publisherIds.get(last));
+                basePrices.put(row, basePrices.get(last));
+                discounts.put(row, discounts.get(last));
+                finalPrices.put(row, finalPrices.get(last));
+                epochDays.put(row, epochDays.get(last));
+                rowsById.put(ids.get(row), row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Iterable<BookEntity> books) {
+        lock.writeLock().lock();
+        try {
+            rowsById.clear();
+            rows = 0;
+            for (BookEntity book : books) {
+                upsert(book);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long countWithPriceBetween(BigDecimal min, BigDecimal max) {
+        long from = min == null ? NO_PRICE + 1 : PriceCalculator.toCents(min, RoundingMode.CEILING);
+        long to = max == null ? Long.MAX_VALUE : PriceCalculator.toCents(max, RoundingMode.FLOOR);
+        lock.readLock().lock();
+        try {
+            LongBuffer prices = finalPrices;
+            long count = 0;
+            for (int row = 0, n = rows; row < n; row++) {
+                long cents = prices.get(row);
+                count += cents >= from & cents <= to ? 1 : 0;
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] idsWithPriceBetween(BigDecimal min, BigDecimal max) {
+        long from = min == null ? NO_PRICE + 1 : PriceCalculator.toCents(min, RoundingMode.CEILING);
+        long to = max == null ? Long.MAX_VALUE : PriceCalculator.toCents(max, RoundingMode.FLOOR);
+        lock.readLock().lock();
+        try {
+            LongBuffer prices = finalPrices;
+            LongArrayList result = new LongArrayList();
+            for (int row = 0, n = rows; row < n; row++) {
+                long cents = prices.get(row);
+                if (cents >= from & cents <= to) {
+                    result.add(ids.get(row));
+                }
+            }
+            return result.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] idsPublishedBetween(LocalDate from, LocalDate to) {
+        int first = from == null ? NO_DATE + 1 : Math.toIntExact(from.toEpochDay());
+        int last = to == null ? Integer.MAX_VALUE : Math.toIntExact(to.toEpochDay());
+        lock.readLock().lock();
+        try {
+            IntBuffer days = epochDays;
+            LongArrayList result = new LongArrayList();
+            for (int row = 0, n = rows; row < n; row++) {
+                int day = days.get(row);
+                if (day >= first & day <= last) {
+                    result.add(ids.get(row));
+                }
+            }
+            return result.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public PriceStats priceStats() {
+        lock.readLock().lock();
+        try {
+            LongBuffer prices = finalPrices;
+            long count = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            long sum = 0;
+            for (int row = 0, n = rows; row < n; row++) {
+                long cents = prices.get(row);
+                if (cents != NO_PRICE) {
+                    count++;
+                    min = Math.min(min, cents);
+                    max = Math.max(max, cents);
+                    sum += cents;
+                }
+            }
+            return PriceStats.ofCents(count, min, max, sum);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public PriceStats priceStats(long publisherId) {
+        lock.readLock().lock();
+        try {
+            LongBuffer prices = finalPrices;
+            LongBuffer publishers = publisherIds;
+            long count = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            long sum = 0;
+            for (int row = 0, n = rows; row < n; row++) {
+                long cents = prices.get(row);
+                if (publishers.get(row) == publisherId && cents != NO_PRICE) {
+                    count++;
+                    min = Math.min(min, cents);
+                    max = Math.max(max, cents);
+                    sum += cents;
+                }
+            }
+            return PriceStats.ofCents(count, min, max, sum);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<Long, PriceStats> priceStatsByPublisher() {
+        LongObjectHashMap<Accumulator> accumulators = new LongObjectHashMap<>();
+        lock.readLock().lock();
+        try {
+            LongBuffer prices = finalPrices;
+            LongBuffer publishers = publisherIds;
+            long currentPublisher = NO_PUBLISHER;
+            Accumulator current = null;
+            for (int row = 0, n = rows; row < n; row++) {
+                long cents = prices.get(row);
+                long publisher = publishers.get(row);
+                if (cents == NO_PRICE || publisher == NO_PUBLISHER) {
+                    continue;
+                }
+                if (current == null || publisher != currentPublisher) {
+                    current = accumulators.computeIfAbsent(publisher, key -> new Accumulator());
+                    currentPublisher = publisher;
+                }
+                current.add(cents);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Map<Long, PriceStats> result = new TreeMap<>();
+        accumulators.forEach((publisher, accumulator) -> result.put(publisher, accumulator.toStats()));
+        return result;
+    }
+
+    private void write(int row, BookEntity book) {
+        long base = book.basePrice() == null ? NO_PRICE : PriceCalculator.toCents(book.basePrice());
+        ids.put(row, book.id());
+        publisherIds.put(row, book.publisher() == null || book.publisher().id() == null ? NO_PUBLISHER : book.publisher().id());
+        basePrices.put(row, base);
+        discounts.put(row, book.discountPercentage());
+        finalPrices.put(row, base == NO_PRICE ? NO_PRICE : PriceCalculator.finalPriceCents(book.basePrice(), book.discountPercentage()));
+        epochDays.put(row, book.publicationDate() == null ? NO_DATE : Math.toIntExact(book.publicationDate().toEpochDay()));
+    }
+
+    private void allocate(int capacity) {
+        this.ids = longColumn(capacity);
+        this.publisherIds = longColumn(capacity);
+        this.basePrices = longColumn(capacity);
+        this.discounts = direct(capacity, Double.BYTES).asDoubleBuffer();
+        this.finalPrices = longColumn(capacity);
+        this.epochDays = direct(capacity, Integer.BYTES).asIntBuffer();
+        this.capacity = capacity;
+    }
+
+    private void grow() {
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("BookColumnStore cannot grow beyond " + MAX_CAPACITY + " rows");
+        }
+        int newCapacity = (int) Math.min((long) capacity << 1, MAX_CAPACITY);
+        LongBuffer oldIds = ids;
+        LongBuffer oldPublisherIds = publisherIds;
+        LongBuffer oldBasePrices = basePrices;
+        DoubleBuffer oldDiscounts = discounts;
+        LongBuffer oldFinalPrices = finalPrices;
+        IntBuffer oldEpochDays = epochDays;
+        allocate(newCapacity);
+        ids.put(0, oldIds, 0, rows);
+        publisherIds.put(0, oldPublisherIds, 0, rows);
+        basePrices.put(0, oldBasePrices, 0, rows);
+        discounts.put(0, oldDiscounts, 0, rows);
+        finalPrices.put(0, oldFinalPrices, 0, rows);
+        epochDays.put(0, oldEpochDays, 0, rows);
+    }
+
+    private static LongBuffer longColumn(int capacity) {
+        return direct(capacity, Long.BYTES).asLongBuffer();
+    }
+
+    private static ByteBuffer direct(int capacity, int width) {
+        return ByteBuffer.allocateDirect(capacity * width).order(ByteOrder.nativeOrder());
+    }
+
+    private static final class Accumulator {
+        private long count;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        private long sum;
+
+        private void add(long cents) {
+            count++;
+            min = Math.min(min, cents);
+            max = Math.max(max, cents);
+            sum += cents;
+        }
+
+        private PriceStats toStats() {
+            return PriceStats.ofCents(count, min, max, sum);
+        }
+    }
+}
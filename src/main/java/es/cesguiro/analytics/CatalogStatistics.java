@@ -0,0 +1,321 @@
+package es.cesguiro.analytics;
+
+import es.cesguiro.collection.LongHashSet;
+import es.cesguiro.collection.LongObjectHashMap;
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+import es.cesguiro.service.AuthorListener;
+import es.cesguiro.service.BookListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class CatalogStatistics implements BookListener, AuthorListener {
+
+    private static final long DISCOUNT_SCALE = 10_000L;
+    private static final long[] NO_IDS = new long[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongObjectHashMap<BookFacts> books = new LongObjectHashMap<>();
+    private final LongObjectHashMap<String> nationalities = new LongObjectHashMap<>();
+    private final LongObjectHashMap<LongHashSet> booksByAuthor = new LongObjectHashMap<>();
+    private final LongObjectHashMap<PublisherCount> booksByPublisher = new LongObjectHashMap<>();
+    private final Map<String, Long> booksByNationality = new HashMap<>();
+    private final Map<Integer, Long> booksByPublicationYear = new HashMap<>();
+    private long discountSum;
+    private volatile Snapshot snapshot;
+
+    @Override
+    public void onCreated(BookEntity book) {
+        addBook(book);
+    }
+
+    @Override
+    public void onUpdated(BookEntity previous, BookEntity current) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null && previous.id() != null && !previous.id().equals(current.id())) {
+                removeBook(previous.id());
+            }
+            addBook(current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDeleted(BookEntity book) {
+        if (book.id() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeBook(book.id());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCreated(AuthorEntity author) {
+        changeNationality(author.id(), author.nationality());
+    }
+
+    @Override
+    public void onUpdated(AuthorEntity previous, AuthorEntity current) {
+        changeNationality(current.id(), current.nationality());
+    }
+
+    @Override
+    public void onDeleted(AuthorEntity author) {
+        changeNationality(author.id(), null);
+    }
+
+    public void rebuild(Iterable<AuthorEntity> authors, Iterable<BookEntity> books) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (AuthorEntity author : authors) {
+                if (author.id() != null && author.nationality() != null) {
+                    nationalities.put(author.id(), author.nationality());
+                }
+            }
+            for (BookEntity book : books) {
+                addBook(book);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            books.clear();
+            nationalities.clear();
+            booksByAuthor.clear();
+            booksByPublisher.clear();
+            booksByNationality.clear();
+            booksByPublicationYear.clear();
+            discountSum = 0;
+            snapshot = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.readLock().lock();
+        try {
+            current = snapshot;
+            if (current == null) {
+                current = takeSnapshot();
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long totalBooks() {
+        return snapshot().totalBooks();
+    }
+
+    public double averageDiscount() {
+        return snapshot().averageDiscount();
+    }
+
+    public long booksByPublisher(String publisherSlug) {
+        return snapshot().booksByPublisher().getOrDefault(publisherSlug, 0L);
+    }
+
+    public long booksByNationality(String nationality) {
+        return snapshot().booksByNationality().getOrDefault(nationality, 0L);
+    }
+
+    public long booksByPublicationYear(int year) {
+        return snapshot().booksByPublicationYear().getOrDefault(year, 0L);
+    }
+
+    public Map<String, Long> booksByPublisher() {
+        return snapshot().booksByPublisher();
+    }
+
+    public Map<String, Long> booksByNationality() {
+        return snapshot().booksByNationality();
+    }
+
+    public Map<Integer, Long> booksByPublicationYear() {
+        return snapshot().booksByPublicationYear();
+    }
+
+    private Snapshot takeSnapshot() {
+        SortedMap<String, Long> publishers = new TreeMap<>();
+        booksByPublisher.forEachValue(count -> {
+            if (count.slug != null) {
+                publishers.merge(count.slug, count.books, Long::sum);
+            }
+        });
+        return new Snapshot(
+                books.size(),
+                books.isEmpty() ? 0 : (double) discountSum / DISCOUNT_SCALE / books.size(),
+                Collections.unmodifiableSortedMap(publishers),
+                Collections.unmodifiableSortedMap(new TreeMap<>(booksByNationality)),
+                Collections.unmodifiableSortedMap(new TreeMap<>(booksByPublicationYear))
+        );
+    }
+
+    private void addBook(BookEntity book) {
+        if (book.id() == null) {
+            throw new IllegalArgumentException("Book id cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            removeBook(book.id());
+            long[] authorIds = authorIdsOf(book);
+            PublisherEntity publisher = book.publisher();
+            BookFacts facts = new BookFacts(
+                    publisher == null ? null : publisher.id(),
+                    publisher == null ? null : publisher.slug(),
+                    Math.round(book.discountPercentage() * DISCOUNT_SCALE),
+                    book.publicationDate() == null ? null : book.publicationDate().getYear(),
+                    authorIds
+            );
+            for (AuthorEntity author : authorsOf(book)) {
+                if (author != null && author.id() != null && author.nationality() != null && !nationalities.containsKey(author.id())) {
+                    nationalities.put(author.id(), author.nationality());
+                }
+            }
+            for (long authorId : authorIds) {
+                booksByAuthor.computeIfAbsent(authorId, key -> new LongHashSet()).add(book.id());
+            }
+            books.put(book.id(), facts);
+            count(facts, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeBook(long bookId) {
+        BookFacts facts = books.remove(bookId);
+        if (facts == null) {
+            return;
+        }
+        count(facts, -1);
+        for (long authorId : facts.authorIds()) {
+            LongHashSet authorBooks = booksByAuthor.get(authorId);
+            if (authorBooks != null && authorBooks.remove(bookId) && authorBooks.isEmpty()) {
+                booksByAuthor.remove(authorId);
+            }
+        }
+    }
+
+    private void changeNationality(Long authorId, String nationality) {
+        if (authorId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (Objects.equals(nationalities.get(authorId), nationality)) {
+                return;
+            }
+            snapshot = null;
+            LongHashSet authorBooks = booksByAuthor.get(authorId);
+            long[] bookIds = authorBooks == null ? NO_IDS : authorBooks.toArray();
+            for (long bookId : bookIds) {
+                countNationalities(books.get(bookId), -1);
+            }
+            if (nationality == null) {
+                nationalities.remove(authorId);
+            } else {
+                nationalities.put(authorId, nationality);
+            }
+            for (long bookId : bookIds) {
+                countNationalities(books.get(bookId), 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void count(BookFacts facts, long delta) {
+        snapshot = null;
+        discountSum += delta * facts.discount();
+        if (facts.publisherId() != null) {
+            countPublisher(facts, delta);
+        }
+        if (facts.year() != null) {
+            increment(booksByPublicationYear, facts.year(), delta);
+        }
+        countNationalities(facts, delta);
+    }
+
+    private void countPublisher(BookFacts facts, long delta) {
+        PublisherCount count = booksByPublisher.computeIfAbsent(facts.publisherId(), key -> new PublisherCount());
+        count.books += delta;
+        if (count.books == 0) {
+            booksByPublisher.remove(facts.publisherId());
+        } else if (delta > 0 && facts.publisherSlug() != null) {
+            count.slug = facts.publisherSlug();
+        }
+    }
+
+    private void countNationalities(BookFacts facts, long delta) {
+        Set<String> distinct = new HashSet<>();
+        for (long authorId : facts.authorIds()) {
+            String nationality = nationalities.get(authorId);
+            if (nationality != null && distinct.add(nationality)) {
+                increment(booksByNationality, nationality, delta);
+            }
+        }
+    }
+
+    private static <K> void increment(Map<K, Long> counts, K key, long delta) {
+        counts.merge(key, delta, (current, change) -> current + change == 0 ? null : current + change);
+    }
+
+    private static long[] authorIdsOf(BookEntity book) {
+        LongHashSet ids = new LongHashSet();
+        for (AuthorEntity author : authorsOf(book)) {
+            if (author != null && author.id() != null) {
+                ids.add(author.id());
+            }
+        }
+        return ids.isEmpty() ? NO_IDS : ids.toArray();
+    }
+
+    private static List<AuthorEntity> authorsOf(BookEntity book) {
+        return book.authors() == null ? List.of() : book.authors();
+    }
+
+    public record Snapshot(
+            long totalBooks,
+            double averageDiscount,
+            Map<String, Long> booksByPublisher,
+            Map<String, Long> booksByNationality,
+            Map<Integer, Long> booksByPublicationYear
+    ) {
+    }
+
+    private record BookFacts(Long publisherId, String publisherSlug, long discount, Integer year, long[] authorIds) {
+    }
+
+    private static final class PublisherCount {
+        private String slug;
+        private long books;
+    }
+}
@@ -0,0 +1,26 @@
+package es.cesguiro.analytics;
+
+import es.cesguiro.model.PriceCalculator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public record PriceStats(long count, BigDecimal min, BigDecimal max, BigDecimal average) {
+
+    public static final PriceStats EMPTY = new PriceStats(0, null, null, null);
+
+    static PriceStats ofCents(long count, long minCents, long maxCents, long sumCents) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        long averageCents = BigDecimal.valueOf(sumCents)
+                .divide(BigDecimal.valueOf(count), 0, RoundingMode.HALF_UP)
+                .longValueExact();
+        return new PriceStats(
+                count,
+                PriceCalculator.fromCents(minCents),
+                PriceCalculator.fromCents(maxCents),
+                PriceCalculator.fromCents(averageCents)
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package es.cesguiro.codec;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+public final class BinaryCodec {
+
+    public static final int VERSION = 2;
+
+    private static final short MAGIC = (short) 0xCB1B;
+    private static final int FLAG_DEDUP_STRINGS = 1;
+
+    private BinaryCodec() {
+    }
+
+    public static <T> ByteBuffer encode(List<T> values, RecordCodec<T> codec, boolean dedupStrings) {
+        BinaryWriter out = new BinaryWriter(dedupStrings);
+        write(values, codec, out);
+        return out.buffer().flip();
+    }
+
+    public static <T> void encode(List<T> values, RecordCodec<T> codec, boolean dedupStrings, ByteBuffer target) {
+        write(values, codec, new BinaryWriter(target, dedupStrings));
+    }
+
+    public static <T> List<T> decode(ByteBuffer buffer, RecordCodec<T> codec) {
+        if (buffer.remaining() < 4 || (short) ((buffer.get() & 0xFF) << 8 | buffer.get() & 0xFF) != MAGIC) {
+            throw new IllegalArgumentException("Not a binary codec payload");
+        }
+        int version = checkVersion(buffer.get() & 0xFF);
+        int flags = buffer.get() & 0xFF;
+        BinaryReader in = new BinaryReader(buffer, (flags & FLAG_DEDUP_STRINGS) != 0);
+        List<T> values = RecordCodecs.readList(codec, in, version);
+        return values == null ? List.of() : values;
+    }
+
+    public static <T> byte[] encodeRecord(T value, RecordCodec<T> codec) {
+        BinaryWriter out = new BinaryWriter(false);
+        out.writeByte(VERSION);
+        codec.write(value, out);
+        ByteBuffer buffer = out.buffer().flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    public static <T> T decodeRecord(ByteBuffer buffer, RecordCodec<T> codec) {
+        if (!buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Empty binary codec record");
+        }
+        int version = checkVersion(buffer.get() & 0xFF);
+        return codec.read(new BinaryReader(buffer, false), version);
+    }
+
+    private static int checkVersion(int version) {
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported codec version " + version);
+        }
+        return version;
+    }
+
+    private static <T> void write(List<T> values, RecordCodec<T> codec, BinaryWriter out) {
+        out.writeByte(MAGIC >> 8);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(out.dedupStrings() ? FLAG_DEDUP_STRINGS : 0);
+        RecordCodecs.writeList(values, codec, out);
+    }
+}
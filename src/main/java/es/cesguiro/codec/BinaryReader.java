@@ -0,0 +1,130 @@
+package es.cesguiro.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BinaryReader {
+
+    private static final double DISCOUNT_FACTOR = 10_000d;
+
+    private final ByteBuffer buffer;
+    private final List<String> strings;
+
+    public BinaryReader(ByteBuffer buffer, boolean dedupStrings) {
+        this.buffer = buffer;
+        this.strings = dedupStrings ? new ArrayList<>() : null;
+    }
+
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public int readByte() {
+        return buffer.get() & 0xFF;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public long readSignedVarLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public Long readNullableLong() {
+        long value = readVarLong();
+        if (value == 0) {
+            return null;
+        }
+        value--;
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public Integer readNullableInt() {
+        Long value = readNullableLong();
+        return value == null ? null : Math.toIntExact(value);
+    }
+
+    public LocalDate readDate() {
+        Long epochDay = readNullableLong();
+        return epochDay == null ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    public BigDecimal readDecimal() {
+        int tag = readByte();
+        if (tag == 0) {
+            return null;
+        }
+        if (tag == 1) {
+            return BigDecimal.valueOf(readSignedVarLong(), 2);
+        }
+        if (tag == 2) {
+            int scale = Math.toIntExact(readSignedVarLong());
+            return BigDecimal.valueOf(readSignedVarLong(), scale);
+        }
+        if (tag == 3) {
+            int scale = Math.toIntExact(readSignedVarLong());
+            byte[] unscaled = new byte[length()];
+            buffer.get(unscaled);
+            return new BigDecimal(new BigInteger(unscaled), scale);
+        }
+        throw new IllegalArgumentException("Unknown decimal tag " + tag);
+    }
+
+    public double readPercentage() {
+        long value = readSignedVarLong();
+        if ((value & 1) == 0) {
+            return (value >> 1) / DISCOUNT_FACTOR;
+        }
+        return buffer.getDouble();
+    }
+
+    public String readString() {
+        long tag = readVarLong();
+        if (tag == 0) {
+            return null;
+        }
+        if (tag > 1) {
+            if (strings == null || tag - 2 >= strings.size()) {
+                throw new IllegalArgumentException("Unknown string reference " + (tag - 2));
+            }
+            return strings.get((int) (tag - 2));
+        }
+        int length = length();
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (strings != null) {
+            strings.add(value);
+        }
+        return value;
+    }
+
+    private int length() {
+        long length = readVarLong();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid length " + length);
+        }
+        return (int) length;
+    }
+}
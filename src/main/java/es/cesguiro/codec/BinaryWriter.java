@@ -0,0 +1,168 @@
+package es.cesguiro.codec;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+public class BinaryWriter {
+
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final double DISCOUNT_FACTOR = 10_000d;
+    private static final long MAX_FIXED_PERCENTAGE = 1L << 52;
+    private static final long NEGATIVE_ZERO = Double.doubleToRawLongBits(-0.0d);
+
+    private ByteBuffer buffer;
+    private final boolean growable;
+    private final Map<String, Integer> strings;
+
+    public BinaryWriter(boolean dedupStrings) {
+        this(ByteBuffer.allocate(DEFAULT_CAPACITY), true, dedupStrings);
+    }
+
+    public BinaryWriter(ByteBuffer target, boolean dedupStrings) {
+        this(target, false, dedupStrings);
+    }
+
+    private BinaryWriter(ByteBuffer buffer, boolean growable, boolean dedupStrings) {
+        this.buffer = buffer;
+        this.growable = growable;
+        this.strings = dedupStrings ? new HashMap<>() : null;
+    }
+
+    public boolean dedupStrings() {
+        return strings != null;
+    }
+
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public int position() {
+        return buffer.position();
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer.put((byte) value);
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeNullableLong(Long value) {
+        if (value == null) {
+            writeVarLong(0);
+        } else {
+            writeVarLong(((value << 1) ^ (value >> 63)) + 1);
+        }
+    }
+
+    public void writeNullableInt(Integer value) {
+        writeNullableLong(value == null ? null : value.longValue());
+    }
+
+    public void writeDate(LocalDate value) {
+        writeNullableLong(value == null ? null : value.toEpochDay());
+    }
+
+    public void writeDecimal(BigDecimal value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        int scale = value.scale();
+        if (value.precision() <= 18) {
+            if (scale == 2) {
+                writeByte(1);
+            } else {
+                writeByte(2);
+                writeSignedVarLong(scale);
+            }
+            writeSignedVarLong(value.unscaledValue().longValue());
+            return;
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        writeByte(3);
+        writeSignedVarLong(scale);
+        writeVarLong(unscaled.length);
+        ensureCapacity(unscaled.length);
+        buffer.put(unscaled);
+    }
+
+    public void writePercentage(double value) {
+        double scaled = value * DISCOUNT_FACTOR;
+        long fixed = (long) scaled;
+        if (fixed == scaled
+                && Math.abs(fixed) < MAX_FIXED_PERCENTAGE
+                && (double) fixed / DISCOUNT_FACTOR == value
+                && Double.doubleToRawLongBits(value) != NEGATIVE_ZERO) {
+            writeSignedVarLong(fixed << 1);
+        } else {
+            writeSignedVarLong(1);
+            ensureCapacity(Double.BYTES);
+            buffer.putDouble(value);
+        }
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (strings != null) {
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarLong(index + 2L);
+                return;
+            }
+            strings.put(value, strings.size());
+        }
+        writeVarLong(1);
+        if (isAscii(value)) {
+            int length = value.length();
+            writeVarLong(length);
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() >= bytes || !growable) {
+            return;
+        }
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+        ByteBuffer grown = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+}
@@ -0,0 +1,8 @@
+package es.cesguiro.codec;
+
+public interface RecordCodec<T> {
+
+    void write(T value, BinaryWriter out);
+
+    T read(BinaryReader in, int version);
+}
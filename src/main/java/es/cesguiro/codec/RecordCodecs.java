@@ -0,0 +1,226 @@
+package es.cesguiro.codec;
+
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.PublisherDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RecordCodecs {
+
+    public static final RecordCodec<PublisherDto> PUBLISHER_DTO = new RecordCodec<>() {
+        @Override
+        public void write(PublisherDto value, BinaryWriter out) {
+            out.writeNullableLong(value.id());
+            out.writeString(value.name());
+            out.writeString(value.slug());
+            out.writeVarLong(value.version());
+        }
+
+        @Override
+        public PublisherDto read(BinaryReader in, int version) {
+            return new PublisherDto(in.readNullableLong(), in.readString(), in.readString(), readVersion(in, version));
+        }
+    };
+
+    public static final RecordCodec<AuthorDto> AUTHOR_DTO = new RecordCodec<>() {
+        @Override
+        public void write(AuthorDto value, BinaryWriter out) {
+            out.writeNullableLong(value.id());
+            out.writeString(value.name());
+            out.writeString(value.nationality());
+            out.writeString(value.biographyEs());
+            out.writeString(value.biographyEn());
+            out.writeSignedVarLong(value.birthYear());
+            out.writeNullableInt(value.deathYear());
+            out.writeString(value.slug());
+            out.writeVarLong(value.version());
+        }
+
+        @Override
+        public AuthorDto read(BinaryReader in, int version) {
+            return new AuthorDto(
+                    in.readNullableLong(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    Math.toIntExact(in.readSignedVarLong()),
+                    in.readNullableInt(),
+                    in.readString(),
+                    readVersion(in, version)
+            );
+        }
+    };
+
+    public static final RecordCodec<BookDto> BOOK_DTO = new RecordCodec<>() {
+        @Override
+        public void write(BookDto value, BinaryWriter out) {
+            out.writeNullableLong(value.id());
+            out.writeString(value.isbn());
+            out.writeString(value.titleEs());
+            out.writeString(value.titleEn());
+            out.writeString(value.synopsisEs());
+            out.writeString(value.synopsisEn());
+            out.writeDecimal(value.basePrice());
+            out.writePercentage(value.discountPercentage());
+            out.writeDecimal(value.price());
+            out.writeString(value.cover());
+            out.writeDate(value.publicationDate());
+            writeNullable(value.publisher(), PUBLISHER_DTO, out);
+            writeList(value.authors(), AUTHOR_DTO, out);
+            out.writeVarLong(value.version());
+        }
+
+        @Override
+        public BookDto read(BinaryReader in, int version) {
+            return new BookDto(
+                    in.readNullableLong(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readDecimal(),
+                    in.readPercentage(),
+                    in.readDecimal(),
+                    in.readString(),
+                    in.readDate(),
+                    readNullable(PUBLISHER_DTO, in, version),
+                    readList(AUTHOR_DTO, in, version),
+                    readVersion(in, version)
+            );
+        }
+    };
+
+    public static final RecordCodec<PublisherEntity> PUBLISHER_ENTITY = new RecordCodec<>() {
+        @Override
+        public void write(PublisherEntity value, BinaryWriter out) {
+            out.writeNullableLong(value.id());
+            out.writeString(value.name());
+            out.writeString(value.slug());
+            out.writeVarLong(value.version());
+        }
+
+        @Override
+        public PublisherEntity read(BinaryReader in, int version) {
+            return new PublisherEntity(in.readNullableLong(), in.readString(), in.readString(), readVersion(in, version));
+        }
+    };
+
+    public static final RecordCodec<AuthorEntity> AUTHOR_ENTITY = new RecordCodec<>() {
+        @Override
+        public void write(AuthorEntity value, BinaryWriter out) {
+            out.writeNullableLong(value.id());
+            out.writeString(value.name());
+            out.writeString(value.nationality());
+            out.writeString(value.biographyEs());
+            out.writeString(value.biographyEn());
+            out.writeSignedVarLong(value.birthYear());
+            out.writeNullableInt(value.deathYear());
+            out.writeString(value.slug());
+            out.writeVarLong(value.version());
+        }
+
+        @Override
+        public AuthorEntity read(BinaryReader in, int version) {
+            return new AuthorEntity(
+                    in.readNullableLong(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    Math.toIntExact(in.readSignedVarLong()),
+                    in.readNullableInt(),
+                    in.readString(),
+                    readVersion(in, version)
+            );
+        }
+    };
+
+    public static final RecordCodec<BookEntity> BOOK_ENTITY = new RecordCodec<>() {
+        @Override
+        public void write(BookEntity value, BinaryWriter out) {
+            out.writeNullableLong(value.id());
+            out.writeString(value.isbn());
+            out.writeString(value.titleEs());
+            out.writeString(value.titleEn());
+            out.writeString(value.synopsisEs());
+            out.writeString(value.synopsisEn());
+            out.writeDecimal(value.basePrice());
+            out.writePercentage(value.discountPercentage());
+            out.writeString(value.cover());
+            out.writeDate(value.publicationDate());
+            writeNullable(value.publisher(), PUBLISHER_ENTITY, out);
+            writeList(value.authors(), AUTHOR_ENTITY, out);
+            out.writeVarLong(value.version());
+        }
+
+        @Override
+        public BookEntity read(BinaryReader in, int version) {
+            return new BookEntity(
+                    in.readNullableLong(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readString(),
+                    in.readDecimal(),
+                    in.readPercentage(),
+                    in.readString(),
+                    in.readDate(),
+                    readNullable(PUBLISHER_ENTITY, in, version),
+                    readList(AUTHOR_ENTITY, in, version),
+                    readVersion(in, version)
+            );
+        }
+    };
+
+    private RecordCodecs() {
+    }
+
+    private static long readVersion(BinaryReader in, int version) {
+        return version >= 2 ? in.readVarLong() : 0L;
+    }
+
+    private static <T> void writeNullable(T value, RecordCodec<T> codec, BinaryWriter out) {
+        out.writeByte(value == null ? 0 : 1);
+        if (value != null) {
+            codec.write(value, out);
+        }
+    }
+
+    private static <T> T readNullable(RecordCodec<T> codec, BinaryReader in, int version) {
+        return in.readByte() != 0 ? codec.read(in, version) : null;
+    }
+
+    static <T> void writeList(List<T> values, RecordCodec<T> codec, BinaryWriter out) {
+        if (values == null) {
+            out.writeVarLong(0);
+            return;
+        }
+        out.writeVarLong(values.size() + 1L);
+        for (T value : values) {
+            codec.write(value, out);
+        }
+    }
+
+    static <T> List<T> readList(RecordCodec<T> codec, BinaryReader in, int version) {
+        long count = in.readVarLong();
+        if (count == 0) {
+            return null;
+        }
+        if (count - 1 > in.buffer().remaining()) {
+            throw new IllegalArgumentException("Invalid list size " + (count - 1));
+        }
+        List<T> values = new ArrayList<>((int) (count - 1));
+        for (long i = 1; i < count; i++) {
+            values.add(codec.read(in, version));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,175 @@
+package es.cesguiro.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+public class ConcurrentLongObjectMap<V> {
+
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENTS = 1 << SEGMENT_BITS;
+
+    private final Segment<V>[] segments;
+
+    public ConcurrentLongObjectMap() {
+        this(16);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongObjectMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        int perSegment = (expectedSize + SEGMENTS - 1) / SEGMENTS;
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>(perSegment);
+        }
+    }
+
+    public V get(long key) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            V value = segment.map.get(key);
+            if (segment.lock.validate(stamp)) {
+                return value;
+            }
+        }
+        stamp = segment.lock.readLock();
+        try {
+            return segment.map.get(key);
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean containsKey(long key) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            boolean found = segment.map.get(key) != null;
+            if (segment.lock.validate(stamp)) {
+                return found;
+            }
+        }
+        stamp = segment.lock.readLock();
+        try {
+            return segment.map.get(key) != null;
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    public V put(long key, V value) {
+        requireValue(value);
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            V previous = segment.map.put(key, value);
+            if (previous == null) {
+                segment.size++;
+            }
+            return previous;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public V putIfAbsent(long key, V value) {
+        requireValue(value);
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            V existing = segment.map.putIfAbsent(key, value);
+            if (existing == null) {
+                segment.size++;
+            }
+            return existing;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public void putAll(LongObjectHashMap<? extends V> values) {
+        values.forEach(this::put);
+    }
+
+    public V remove(long key) {
+        Segment<V> segment = segmentFor(key);
+        long stamp = segment.lock.writeLock();
+        try {
+            V previous = segment.map.remove(key);
+            if (previous != null) {
+                segment.size--;
+            }
+            return previous;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long total = 0;
+        for (Segment<V> segment : segments) {
+            total += segment.size;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, total);
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        for (Segment<V> segment : segments) {
+            List<V> values;
+            long stamp = segment.lock.readLock();
+            try {
+                values = new ArrayList<>(segment.size);
+                segment.map.forEachValue(values::add);
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+            values.forEach(action);
+        }
+    }
+
+    public void forEach(LongObjectHashMap.EntryConsumer<? super V> action) {
+        for (Segment<V> segment : segments) {
+            LongArrayList keys;
+            List<V> values;
+            long stamp = segment.lock.readLock();
+            try {
+                keys = new LongArrayList(segment.size);
+                values = new ArrayList<>(segment.size);
+                segment.map.forEach((key, value) -> {
+                    keys.add(key);
+                    values.add(value);
+                });
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                action.accept(keys.get(i), values.get(i));
+            }
+        }
+    }
+
+    private Segment<V> segmentFor(long key) {
+        return segments[LongHashing.mix(key) >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    private static void requireValue(Object value) {
+        if (value == null) {
+            throw new NullPointerException("ConcurrentLongObjectMap does not accept null values");
+        }
+    }
+
+    private static final class Segment<V> {
+        private final StampedLock lock = new StampedLock();
+        private final LongObjectHashMap<V> map;
+        private volatile int size;
+
+        private Segment(int expectedSize) {
+            this.map = new LongObjectHashMap<>(expectedSize);
+        }
+    }
+}
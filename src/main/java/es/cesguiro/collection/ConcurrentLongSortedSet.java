@@ -0,0 +1,225 @@
+package es.cesguiro.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+public class ConcurrentLongSortedSet {
+
+    private static final int BLOCK_SIZE = 512;
+    private static final int CHUNK_SIZE = 256;
+    private static final long[] EMPTY = new long[0];
+
+    private final StampedLock lock = new StampedLock();
+    private final List<LongArrayList> blocks = new ArrayList<>();
+    private int size;
+
+    public boolean add(long value) {
+        long stamp = lock.writeLock();
+        try {
+            if (blocks.isEmpty()) {
+                blocks.add(newBlock(value));
+                size++;
+                return true;
+            }
+            int index = blockOf(value);
+            LongArrayList block = blocks.get(index);
+            if (index == blocks.size() - 1 && block.size() >= BLOCK_SIZE && value > block.get(block.size() - 1)) {
+                blocks.add(newBlock(value));
+                size++;
+                return true;
+            }
+            if (!block.addSorted(value)) {
+                return false;
+            }
+            size++;
+            if (block.size() > BLOCK_SIZE) {
+                split(index);
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(long value) {
+        long stamp = lock.writeLock();
+        try {
+            if (blocks.isEmpty()) {
+                return false;
+            }
+            int index = blockOf(value);
+            LongArrayList block = blocks.get(index);
+            if (!block.removeSorted(value)) {
+                return false;
+            }
+            size--;
+            if (block.isEmpty()) {
+                blocks.remove(index);
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean contains(long value) {
+        long stamp = lock.readLock();
+        try {
+            return !blocks.isEmpty() && blocks.get(blockOf(value)).binarySearch(value) >= 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long[] page(long skip, int limit) {
+        if (skip < 0 || limit < 0) {
+            throw new IllegalArgumentException("Skip and limit cannot be negative");
+        }
+        long stamp = lock.readLock();
+        try {
+            if (skip >= size) {
+                return EMPTY;
+            }
+            long[] page = new long[(int) Math.min(limit, size - skip)];
+            int filled = 0;
+            for (int i = 0; i < blocks.size() && filled < page.length; i++) {
+                LongArrayList block = blocks.get(i);
+                if (skip >= block.size()) {
+                    skip -= block.size();
+                    continue;
+                }
+                int from = (int) skip;
+                int to = Math.min(block.size(), from + page.length - filled);
+                System.arraycopy(block.toArray(from, to), 0, page, filled, to - from);
+                filled += to - from;
+                skip = 0;
+            }
+            return page;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public long[] after(long lastValue, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        long stamp = lock.readLock();
+        try {
+            if (blocks.isEmpty() || limit == 0) {
+                return EMPTY;
+            }
+            LongArrayList result = new LongArrayList(Math.min(limit, size));
+            for (int i = blockOf(lastValue); i < blocks.size() && result.size() < limit; i++) {
+                LongArrayList block = blocks.get(i);
+                int found = block.binarySearch(lastValue);
+                int from = found >= 0 ? found + 1 : -found - 1;
+                for (int j = from; j < block.size() && result.size() < limit; j++) {
+                    result.add(block.get(j));
+                }
+            }
+            return result.toArray();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return iteratorAfter(Long.MIN_VALUE, true);
+    }
+
+    public PrimitiveIterator.OfLong iteratorAfter(long lastValue) {
+        return iteratorAfter(lastValue, false);
+    }
+
+    public LongStream stream() {
+        Spliterator.OfLong spliterator = Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.longStream(spliterator, false);
+    }
+
+    private PrimitiveIterator.OfLong iteratorAfter(long start, boolean inclusive) {
+        return new PrimitiveIterator.OfLong() {
+            private long[] chunk = EMPTY;
+            private int position;
+            private long lastValue = start;
+            private boolean first = inclusive;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                if (position < chunk.length) {
+                    return true;
+                }
+                if (exhausted) {
+                    return false;
+                }
+                chunk = first ? page(0, CHUNK_SIZE) : after(lastValue, CHUNK_SIZE);
+                first = false;
+                position = 0;
+                exhausted = chunk.length < CHUNK_SIZE;
+                return chunk.length > 0;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastValue = chunk[position++];
+                return lastValue;
+            }
+        };
+    }
+
+    private int blockOf(long value) {
+        int low = 0;
+        int high = blocks.size() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (blocks.get(middle).get(0) <= value) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private void split(int index) {
+        LongArrayList block = blocks.get(index);
+        int half = block.size() / 2;
+        LongArrayList upper = new LongArrayList(BLOCK_SIZE);
+        for (int i = half; i < block.size(); i++) {
+            upper.add(block.get(i));
+        }
+        LongArrayList lower = new LongArrayList(BLOCK_SIZE);
+        for (int i = 0; i < half; i++) {
+            lower.add(block.get(i));
+        }
+        blocks.set(index, lower);
+        blocks.add(index + 1, upper);
+    }
+
+    private static LongArrayList newBlock(long value) {
+        LongArrayList block = new LongArrayList(BLOCK_SIZE);
+        block.add(value);
+        return block;
+    }
+}
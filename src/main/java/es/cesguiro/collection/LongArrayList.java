@@ -0,0 +1,124 @@
+package es.cesguiro.collection;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+public class LongArrayList {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] values;
+    private int size;
+
+    public LongArrayList() {
+        this.values = EMPTY;
+    }
+
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        this.values = initialCapacity == 0 ? EMPTY : new long[initialCapacity];
+    }
+
+    public void add(long value) {
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    public void add(int index, long value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        if (size == values.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+    }
+
+    public long get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    public long removeAt(int index) {
+        checkIndex(index);
+        long removed = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    public boolean addSorted(long value) {
+        int index = binarySearch(value);
+        if (index >= 0) {
+            return false;
+        }
+        add(-index - 1, value);
+        return true;
+    }
+
+    public boolean removeSorted(long value) {
+        int index = binarySearch(value);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    public int binarySearch(long value) {
+        if (size > 0 && values[size - 1] < value) {
+            return -size - 1;
+        }
+        return Arrays.binarySearch(values, 0, size, value);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void sort() {
+        Arrays.sort(values, 0, size);
+    }
+
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    public long[] toArray(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for size " + size);
+        }
+        return Arrays.copyOfRange(values, from, to);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, values.length < 8 ? 8 : values.length + (values.length >> 1));
+        values = Arrays.copyOf(values, capacity);
+    }
+}
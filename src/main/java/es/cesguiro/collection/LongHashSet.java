@@ -0,0 +1,159 @@
+package es.cesguiro.collection;
+
+import java.util.function.LongConsumer;
+
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private boolean hasZeroKey;
+    private int assigned;
+    private int resizeAt;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        allocate(LongHashing.tableSize(expectedSize));
+    }
+
+    public boolean contains(long key) {
+        if (key == EMPTY) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    public boolean add(long key) {
+        if (key == EMPTY) {
+            boolean added = !hasZeroKey;
+            hasZeroKey = true;
+            return added;
+        }
+        int index = slotFor(key);
+        if (keys[index] == key) {
+            return false;
+        }
+        if (assigned >= resizeAt) {
+            rehash(keys.length << 1);
+            index = slotFor(key);
+        }
+        keys[index] = key;
+        assigned++;
+        return true;
+    }
+
+    public boolean remove(long key) {
+        if (key == EMPTY) {
+            boolean removed = hasZeroKey;
+            hasZeroKey = false;
+            return removed;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        assigned--;
+        shiftConflictingKeys(index);
+        return true;
+    }
+
+    public int size() {
+        return assigned + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (hasZeroKey) {
+            action.accept(EMPTY);
+        }
+        for (long key : keys) {
+            if (key != EMPTY) {
+                action.accept(key);
+            }
+        }
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size()];
+        int i = 0;
+        if (hasZeroKey) {
+            result[i++] = EMPTY;
+        }
+        for (long key : keys) {
+            if (key != EMPTY) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int index = LongHashing.mix(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slotFor(long key) {
+        int mask = keys.length - 1;
+        int index = LongHashing.mix(key) & mask;
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void shiftConflictingKeys(int gap) {
+        int mask = keys.length - 1;
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            long key = keys[index];
+            if (key == EMPTY) {
+                break;
+            }
+            int ideal = LongHashing.mix(key) & mask;
+            if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = key;
+                gap = index;
+            }
+        }
+        keys[gap] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > LongHashing.MAX_CAPACITY || capacity <= 0) {
+            throw new IllegalStateException("LongHashSet cannot grow beyond " + LongHashing.MAX_CAPACITY + " slots");
+        }
+        long[] oldKeys = keys;
+        long[] newKeys = new long[capacity];
+        int mask = capacity - 1;
+        for (long key : oldKeys) {
+            if (key != EMPTY) {
+                int index = LongHashing.mix(key) & mask;
+                while (newKeys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                newKeys[index] = key;
+            }
+        }
+        keys = newKeys;
+        resizeAt = LongHashing.resizeThreshold(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        resizeAt = LongHashing.resizeThreshold(capacity);
+    }
+}
@@ -0,0 +1,154 @@
+package es.cesguiro.collection;
+
+public class LongIntHashMap {
+
+    private static final long EMPTY = 0L;
+
+    private final int missingValue;
+    private long[] keys;
+    private int[] values;
+    private boolean hasZeroKey;
+    private int zeroValue;
+    private int assigned;
+    private int resizeAt;
+
+    public LongIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(LongHashing.tableSize(expectedSize));
+    }
+
+    public int get(long key) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : missingValue;
+        }
+        int index = indexOf(key);
+        return index < 0 ? missingValue : values[index];
+    }
+
+    public boolean containsKey(long key) {
+        if (key == EMPTY) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    public int put(long key, int value) {
+        if (key == EMPTY) {
+            int previous = hasZeroKey ? zeroValue : missingValue;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+        int index = slotFor(key);
+        if (keys[index] == key) {
+            int previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+        if (assigned >= resizeAt) {
+            rehash(keys.length << 1);
+            index = slotFor(key);
+        }
+        keys[index] = key;
+        values[index] = value;
+        assigned++;
+        return missingValue;
+    }
+
+    public int remove(long key) {
+        if (key == EMPTY) {
+            int previous = hasZeroKey ? zeroValue : missingValue;
+            hasZeroKey = false;
+            return previous;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return missingValue;
+        }
+        int previous = values[index];
+        assigned--;
+        shiftConflictingKeys(index);
+        return previous;
+    }
+
+    public int size() {
+        return assigned + (hasZeroKey ? 1 : 0);
+    }
+
+    public void clear() {
+        allocate(LongHashing.MIN_CAPACITY);
+        hasZeroKey = false;
+        assigned = 0;
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int index = LongHashing.mix(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slotFor(long key) {
+        int mask = keys.length - 1;
+        int index = LongHashing.mix(key) & mask;
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void shiftConflictingKeys(int gap) {
+        int mask = keys.length - 1;
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            long key = keys[index];
+            if (key == EMPTY) {
+                break;
+            }
+            int ideal = LongHashing.mix(key) & mask;
+            if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        keys[gap] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > LongHashing.MAX_CAPACITY || capacity <= 0) {
+            throw new IllegalStateException("LongIntHashMap cannot grow beyond " + LongHashing.MAX_CAPACITY + " slots");
+        }
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        long[] newKeys = new long[capacity];
+        int[] newValues = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY) {
+                int index = LongHashing.mix(key) & mask;
+                while (newKeys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                newKeys[index] = key;
+                newValues[index] = oldValues[i];
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        resizeAt = LongHashing.resizeThreshold(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        resizeAt = LongHashing.resizeThreshold(capacity);
+    }
+}
@@ -0,0 +1,249 @@
+package es.cesguiro.collection;
+
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+public class LongObjectHashMap<V> {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private Object[] values;
+    private boolean hasZeroKey;
+    private Object zeroValue;
+    private int assigned;
+    private int resizeAt;
+
+    public LongObjectHashMap() {
+        this(16);
+    }
+
+    public LongObjectHashMap(int expectedSize) {
+        allocate(LongHashing.tableSize(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == EMPTY) {
+            return hasZeroKey ? (V) zeroValue : null;
+        }
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        if (keys.length != values.length) {
+            return null;
+        }
+        int mask = keys.length - 1;
+        int index = LongHashing.mix(key) & mask;
+        for (int probes = 0; probes < keys.length; probes++) {
+            long current = keys[index];
+            if (current == key) {
+                return (V) values[index];
+            }
+            if (current == EMPTY) {
+                return null;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == EMPTY) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == EMPTY) {
+            V previous = (V) zeroValue;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+        int index = slotFor(key);
+        if (keys[index] == key) {
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+        insertAt(index, key, value);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(long key, V value) {
+        if (key == EMPTY) {
+            if (hasZeroKey) {
+                return (V) zeroValue;
+            }
+            hasZeroKey = true;
+            zeroValue = value;
+            return null;
+        }
+        int index = slotFor(key);
+        if (keys[index] == key) {
+            return (V) values[index];
+        }
+        insertAt(index, key, value);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<? extends V> factory) {
+        V current = get(key);
+        if (current != null) {
+            return current;
+        }
+        V created = factory.apply(key);
+        if (created != null) {
+            put(key, created);
+        }
+        return created;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == EMPTY) {
+            V previous = (V) zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            return previous;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        assigned--;
+        shiftConflictingKeys(index);
+        return previous;
+    }
+
+    public int size() {
+        return assigned + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        allocate(LongHashing.MIN_CAPACITY);
+        hasZeroKey = false;
+        zeroValue = null;
+        assigned = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        if (hasZeroKey) {
+            action.accept(EMPTY, (V) zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        if (hasZeroKey) {
+            action.accept((V) zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept((V) values[i]);
+            }
+        }
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int index = LongHashing.mix(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slotFor(long key) {
+        int mask = keys.length - 1;
+        int index = LongHashing.mix(key) & mask;
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void insertAt(int index, long key, V value) {
+        if (assigned >= resizeAt) {
+            rehash(keys.length << 1);
+            index = slotFor(key);
+        }
+        values[index] = value;
+        keys[index] = key;
+        assigned++;
+    }
+
+    private void shiftConflictingKeys(int gap) {
+        int mask = keys.length - 1;
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            long key = keys[index];
+            if (key == EMPTY) {
+                break;
+            }
+            int ideal = LongHashing.mix(key) & mask;
+            if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+                values[gap] = values[index];
+                keys[gap] = key;
+                gap = index;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = null;
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > LongHashing.MAX_CAPACITY || capacity <= 0) {
+            throw new IllegalStateException("LongObjectHashMap cannot grow beyond " + LongHashing.MAX_CAPACITY + " slots");
+        }
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        long[] newKeys = new long[capacity];
+        Object[] newValues = new Object[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY) {
+                int index = LongHashing.mix(key) & mask;
+                while (newKeys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                newKeys[index] = key;
+                newValues[index] = oldValues[i];
+            }
+        }
+        values = newValues;
+        keys = newKeys;
+        resizeAt = LongHashing.resizeThreshold(capacity);
+    }
+
+    private void allocate(int capacity) {
+        values = new Object[capacity];
+        keys = new long[capacity];
+        resizeAt = LongHashing.resizeThreshold(capacity);
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+}
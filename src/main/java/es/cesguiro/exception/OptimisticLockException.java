@@ -0,0 +1,7 @@
+package es.cesguiro.exception;
+
+public class OptimisticLockException extends BusinessException {
+    public OptimisticLockException(String message) {
+        super(message);
+    }
+}
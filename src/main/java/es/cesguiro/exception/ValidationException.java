@@ -1,31 +1,53 @@
 package es.cesguiro.exception;
 
+import es.cesguiro.validation.Violation;
 import jakarta.validation.ConstraintViolation;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class ValidationException extends RuntimeException {
-    private final Set<ConstraintViolation<?>> violations;
+    private final Set<ConstraintViolation<?>> constraintViolations;
+    private final List<Violation> violations;
 
     public ValidationException(String message) {
         super(message);
-        this.violations = Set.of();
+        this.constraintViolations = Set.of();
+        this.violations = List.of();
     }
 
     public ValidationException(Set<? extends ConstraintViolation<?>> violations) {
+        this(violations, violations.stream()
+                .map(v -> new Violation(v.getPropertyPath().toString(), v.getMessage()))
+                .toList());
+    }
+
+    public ValidationException(List<Violation> violations) {
+        this(Set.of(), violations);
+    }
+
+    public ValidationException(Set<? extends ConstraintViolation<?>> constraintViolations, List<Violation> violations) {
         super("Errores de validación detectados: " + violations.size());
-        this.violations = Set.copyOf(violations);
+        this.constraintViolations = Set.copyOf(constraintViolations);
+        this.violations = List.copyOf(violations);
     }
 
     public Set<ConstraintViolation<?>> getViolations() {
+        return constraintViolations;
+    }
+
+    public List<Violation> violations() {
         return violations;
     }
 
     @Override
     public String getMessage() {
+        if (violations.isEmpty()) {
+            return super.getMessage();
+        }
         return violations.stream()
-                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .map(Violation::toString)
                 .collect(Collectors.joining(", "));
     }
 }
@@ -0,0 +1,24 @@
+package es.cesguiro.mapper;
+
+import es.cesguiro.mapper.processor.GenerateMapper;
+import es.cesguiro.model.Author;
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.service.dto.AuthorDto;
+
+@GenerateMapper
+interface AuthorConversions {
+
+    AuthorConversions INSTANCE = new AuthorConversionsImpl();
+
+    Author toAuthor(AuthorEntity source);
+
+    AuthorEntity toAuthorEntity(Author source);
+
+    AuthorDto toAuthorDto(Author source);
+
+    AuthorDto toAuthorDto(AuthorEntity source);
+
+    Author toAuthor(AuthorDto source);
+
+    AuthorEntity toAuthorEntity(AuthorDto source);
+}
@@ -1,85 +1,114 @@
 package es.cesguiro.mapper;
 
 import es.cesguiro.exception.BusinessException;
+import es.cesguiro.metrics.Metrics;
 import es.cesguiro.model.Author;
 import es.cesguiro.repository.entity.AuthorEntity;
 import es.cesguiro.service.dto.AuthorDto;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class AuthorMapper {
 
-    private  static AuthorMapper instance;
+    private static final AuthorMapper INSTANCE = new AuthorMapper();
 
-    private AuthorMapper() {}
+    private AuthorMapper() {
+    }
 
     public static AuthorMapper getInstance() {
-        if (instance == null) {
-            instance = new AuthorMapper();
-        }
-        return instance;
+        return INSTANCE;
     }
 
     public Author fromAuthorEntityToAuthor(AuthorEntity authorEntity) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("AuthorMapper.fromAuthorEntityToAuthor", authorEntity, this::authorEntityToAuthor);
+        }
+        return authorEntityToAuthor(authorEntity);
+    }
+
+    private Author authorEntityToAuthor(AuthorEntity authorEntity) {
         if (authorEntity == null){
             return null;
         }
-        return new Author(
-                authorEntity.id(),
-                authorEntity.name(),
-                authorEntity.nationality(),
-                authorEntity.biographyEs(),
-                authorEntity.biographyEn(),
-                authorEntity.birthYear(),
-                authorEntity.deathYear(),
-                authorEntity.slug()
-        );
+        return AuthorConversions.INSTANCE.toAuthor(authorEntity);
     }
 
     public AuthorEntity fromAuthorToAuthorEntity(Author author) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("AuthorMapper.fromAuthorToAuthorEntity", author, this::authorToAuthorEntity);
+        }
+        return authorToAuthorEntity(author);
+    }
+
+    private AuthorEntity authorToAuthorEntity(Author author) {
         if (author == null){
             throw  new BusinessException("Author cannot be null");
         }
-        return new AuthorEntity(
-                author.getId(),
-                author.getName(),
-                author.getNationality(),
-                author.getBiographyEs(),
-                author.getBiographyEn(),
-                author.getBirthYear(),
-                author.getDeathYear(),
-                author.getSlug()
-        );
+        return AuthorConversions.INSTANCE.toAuthorEntity(author);
     }
 
     public AuthorDto fromAuthorToAuthorDto(Author author) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("AuthorMapper.fromAuthorToAuthorDto", author, this::authorToAuthorDto);
+        }
+        return authorToAuthorDto(author);
+    }
+
+    private AuthorDto authorToAuthorDto(Author author) {
         if (author == null){
             return null;
         }
-        return new AuthorDto(
-                author.getId(),
-                author.getName(),
-                author.getNationality(),
-                author.getBiographyEs(),
-                author.getBiographyEn(),
-                author.getBirthYear(),
-                author.getDeathYear(),
-                author.getSlug()
-        );
+        return AuthorConversions.INSTANCE.toAuthorDto(author);
+    }
+
+    public AuthorDto fromAuthorEntityToAuthorDto(AuthorEntity authorEntity) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("AuthorMapper.fromAuthorEntityToAuthorDto", authorEntity, this::authorEntityToAuthorDto);
+        }
+        return authorEntityToAuthorDto(authorEntity);
+    }
+
+    public List<AuthorDto> fromAuthorEntitiesToAuthorDtos(List<AuthorEntity> authorEntities) {
+        List<AuthorDto> authorDtos = new ArrayList<>(authorEntities.size());
+        for (AuthorEntity authorEntity : authorEntities) {
+            authorDtos.add(fromAuthorEntityToAuthorDto(authorEntity));
+        }
+        return authorDtos;
+    }
+
+    private AuthorDto authorEntityToAuthorDto(AuthorEntity authorEntity) {
+        if (authorEntity == null){
+            return null;
+        }
+        return AuthorConversions.INSTANCE.toAuthorDto(authorEntity);
     }
 
     public Author fromAuthorDtoToAuthor(AuthorDto authorDto) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("AuthorMapper.fromAuthorDtoToAuthor", authorDto, this::authorDtoToAuthor);
+        }
+        return authorDtoToAuthor(authorDto);
+    }
+
+    private Author authorDtoToAuthor(AuthorDto authorDto) {
         if (authorDto == null){
             throw new BusinessException("AuthorDto cannot be null");
         }
-        return new Author(
-                authorDto.id(),
-                authorDto.name(),
-                authorDto.nationality(),
-                authorDto.biographyEs(),
-                authorDto.biographyEn(),
-                authorDto.birthYear(),
-                authorDto.deathYear(),
-                authorDto.slug()
-        );
+        return AuthorConversions.INSTANCE.toAuthor(authorDto);
+    }
+
+    public AuthorEntity fromAuthorDtoToAuthorEntity(AuthorDto authorDto) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("AuthorMapper.fromAuthorDtoToAuthorEntity", authorDto, this::authorDtoToAuthorEntity);
+        }
+        return authorDtoToAuthorEntity(authorDto);
     }
 
+    private AuthorEntity authorDtoToAuthorEntity(AuthorDto authorDto) {
+        if (authorDto == null) {
+            throw new BusinessException("AuthorDto cannot be null");
+        }
+        return AuthorConversions.INSTANCE.toAuthorEntity(authorDto);
+    }
 }
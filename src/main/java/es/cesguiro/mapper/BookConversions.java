@@ -0,0 +1,126 @@
+package es.cesguiro.mapper;
+
+import es.cesguiro.mapper.processor.GenerateMapper;
+import es.cesguiro.model.Author;
+import es.cesguiro.model.Book;
+import es.cesguiro.model.PriceCalculator;
+import es.cesguiro.model.Publisher;
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.PublisherDto;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.function.Function;
+
+@GenerateMapper
+interface BookConversions {
+
+    BookConversions INSTANCE = new BookConversionsImpl();
+
+    Book toBook(BookEntity source);
+
+    BookEntity toBookEntity(Book source);
+
+    BookDto toBookDto(Book source, MappingContext context);
+
+    BookDto toBookDto(BookEntity source, MappingContext context);
+
+    Book toBook(BookDto source);
+
+    BookEntity toBookEntity(BookDto source);
+
+    default BigDecimal price(BookEntity source) {
+        return PriceCalculator.finalPrice(source.basePrice(), source.discountPercentage());
+    }
+
+    default Author toAuthor(AuthorEntity source) {
+        return AuthorMapper.getInstance().fromAuthorEntityToAuthor(source);
+    }
+
+    default AuthorDto toAuthorDto(AuthorEntity source, MappingContext context) {
+        if (context == null || source == null) {
+            return AuthorMapper.getInstance().fromAuthorEntityToAuthorDto(source);
+        }
+        return context.intern(AuthorDto.class, source.id(), source, AuthorMapper.getInstance()::fromAuthorEntityToAuthorDto);
+    }
+
+    default AuthorDto toAuthorDto(Author source, MappingContext context) {
+        if (context == null || source == null) {
+            return AuthorMapper.getInstance().fromAuthorToAuthorDto(source);
+        }
+        AuthorDto cached = context.find(AuthorDto.class, source.getId(), dto -> sameAuthor(dto, source));
+        if (cached != null) {
+            return cached;
+        }
+        AuthorDto mapped = AuthorMapper.getInstance().fromAuthorToAuthorDto(source);
+        return context.intern(AuthorDto.class, source.getId(), mapped, Function.identity());
+    }
+
+    default AuthorEntity toAuthorEntity(Author source) {
+        return AuthorMapper.getInstance().fromAuthorToAuthorEntity(source);
+    }
+
+    default Author toAuthor(AuthorDto source) {
+        return AuthorMapper.getInstance().fromAuthorDtoToAuthor(source);
+    }
+
+    default AuthorEntity toAuthorEntity(AuthorDto source) {
+        return AuthorMapper.getInstance().fromAuthorDtoToAuthorEntity(source);
+    }
+
+    default Publisher toPublisher(PublisherEntity source) {
+        return PublisherMapper.getInstance().fromPublisherEntityToPublisher(source);
+    }
+
+    default PublisherDto toPublisherDto(PublisherEntity source, MappingContext context) {
+        if (context == null || source == null) {
+            return PublisherMapper.getInstance().fromPublisherEntityToPublisherDto(source);
+        }
+        return context.intern(PublisherDto.class, source.id(), source, PublisherMapper.getInstance()::fromPublisherEntityToPublisherDto);
+    }
+
+    default PublisherDto toPublisherDto(Publisher source, MappingContext context) {
+        if (context == null || source == null) {
+            return PublisherMapper.getInstance().fromPublisherToPublisherDto(source);
+        }
+        PublisherDto cached = context.find(PublisherDto.class, source.getId(), dto -> samePublisher(dto, source));
+        if (cached != null) {
+            return cached;
+        }
+        PublisherDto mapped = PublisherMapper.getInstance().fromPublisherToPublisherDto(source);
+        return context.intern(PublisherDto.class, source.getId(), mapped, Function.identity());
+    }
+
+    default PublisherEntity toPublisherEntity(Publisher source) {
+        return PublisherMapper.getInstance().fromPublisherToPublisherEntity(source);
+    }
+
+    default Publisher toPublisher(PublisherDto source) {
+        return PublisherMapper.getInstance().fromPublisherDtoToPublisher(source);
+    }
+
+    default PublisherEntity toPublisherEntity(PublisherDto source) {
+        return PublisherMapper.getInstance().fromPublisherDtoToPublisherEntity(source);
+    }
+
+    private static boolean sameAuthor(AuthorDto dto, Author source) {
+        return dto.birthYear() == source.getBirthYear()
+                && dto.version() == source.getVersion()
+                && Objects.equals(dto.name(), source.getName())
+                && Objects.equals(dto.nationality(), source.getNationality())
+                && Objects.equals(dto.biographyEs(), source.getBiographyEs())
+                && Objects.equals(dto.biographyEn(), source.getBiographyEn())
+                && Objects.equals(dto.deathYear(), source.getDeathYear())
+                && Objects.equals(dto.slug(), source.getSlug());
+    }
+
+    private static boolean samePublisher(PublisherDto dto, Publisher source) {
+        return dto.version() == source.getVersion()
+                && Objects.equals(dto.name(), source.getName())
+                && Objects.equals(dto.slug(), source.getSlug());
+    }
+}
@@ -1,7 +1,7 @@
 package es.cesguiro.mapper;
 
 import es.cesguiro.exception.BusinessException;
-import es.cesguiro.model.Author;
+import es.cesguiro.metrics.Metrics;
 import es.cesguiro.model.Book;
 import es.cesguiro.repository.entity.BookEntity;
 import es.cesguiro.service.dto.BookDto;
@@ -11,101 +11,153 @@ import java.util.List;
 
 public class BookMapper {
 
-    private static BookMapper INSTANCE;
+    private static final BookConversions CONVERSIONS = BookConversions.INSTANCE;
+    private static final BookMapper INSTANCE = new BookMapper();
 
     private BookMapper() {
     }
 
     public static BookMapper getInstance() {
-        if (INSTANCE == null) {
-            INSTANCE = new BookMapper();
-        }
         return INSTANCE;
     }
 
     public Book fromBookEntityToBook(BookEntity bookEntity) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("BookMapper.fromBookEntityToBook", bookEntity, this::bookEntityToBook);
+        }
+        return bookEntityToBook(bookEntity);
+    }
+
+    public List<Book> fromBookEntitiesToBooks(List<BookEntity> bookEntities) {
+        List<Book> books = new ArrayList<>(bookEntities.size());
+        for (BookEntity bookEntity : bookEntities) {
+            books.add(fromBookEntityToBook(bookEntity));
+        }
+        return books;
+    }
+
+    private Book bookEntityToBook(BookEntity bookEntity) {
         if (bookEntity == null) {
             throw new BusinessException("BookEntity cannot be null");
         }
-        List<Author> authors = new ArrayList<>();
-        if (bookEntity.authors() != null) {
-            authors = bookEntity.authors().stream().map(AuthorMapper.getInstance()::fromAuthorEntityToAuthor).toList();
-        }
-        return new Book(
-                bookEntity.id(),
-                bookEntity.isbn(),
-                bookEntity.titleEs(),
-                bookEntity.titleEn(),
-                bookEntity.synopsisEs(),
-                bookEntity.synopsisEn(),
-                bookEntity.basePrice(),
-                bookEntity.discountPercentage(),
-                bookEntity.cover(),
-                bookEntity.publicationDate(),
-                PublisherMapper.getInstance().fromPublisherEntityToPublisher(bookEntity.publisher()),
-                authors
-        );
+        return CONVERSIONS.toBook(bookEntity);
     }
 
     public BookEntity fromBookToBookEntity(Book book) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("BookMapper.fromBookToBookEntity", book, this::bookToBookEntity);
+        }
+        return bookToBookEntity(book);
+    }
+
+    private BookEntity bookToBookEntity(Book book) {
         if (book == null) {
             throw new BusinessException("Book cannot be null");
         }
-        return new BookEntity(
-                book.getId(),
-                book.getIsbn(),
-                book.getTitleEs(),
-                book.getTitleEn(),
-                book.getSynopsisEs(),
-                book.getSynopsisEn(),
-                book.getBasePrice(),
-                book.getDiscountPercentage(),
-                book.getCover(),
-                book.getPublicationDate(),
-                PublisherMapper.getInstance().fromPublisherToPublisherEntity(book.getPublisher()),
-                book.getAuthors().stream().map(AuthorMapper.getInstance()::fromAuthorToAuthorEntity).toList()
-        );
+        return CONVERSIONS.toBookEntity(book);
     }
 
     public BookDto fromBookToBookDto(Book book) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("BookMapper.fromBookToBookDto", book, this::bookToBookDto);
+        }
+        return bookToBookDto(book);
+    }
+
+    public BookDto fromBookToBookDto(Book book, MappingContext context) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("BookMapper.fromBookToBookDto", book, value -> bookToBookDto(value, context));
+        }
+        return bookToBookDto(book, context);
+    }
+
+    private BookDto bookToBookDto(Book book) {
+        return bookToBookDto(book, null);
+    }
+
+    private BookDto bookToBookDto(Book book, MappingContext context) {
         if (book == null) {
             throw new BusinessException("Book cannot be null");
         }
-        return new BookDto(
-                book.getId(),
-                book.getIsbn(),
-                book.getTitleEs(),
-                book.getTitleEn(),
-                book.getSynopsisEs(),
-                book.getSynopsisEn(),
-                book.getBasePrice(),
-                book.getDiscountPercentage(),
-                book.calculateFinalPrice(),
-                book.getCover(),
-                book.getPublicationDate(),
-                PublisherMapper.getInstance().fromPublisherToPublisherDto(book.getPublisher()),
-                book.getAuthors().stream().map(AuthorMapper.getInstance()::fromAuthorToAuthorDto).toList()
-        );
+        return CONVERSIONS.toBookDto(book, context);
+    }
+
+    public BookDto fromBookEntityToBookDto(BookEntity bookEntity) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("BookMapper.fromBookEntityToBookDto", bookEntity, this::bookEntityToBookDto);
+        }
+        return bookEntityToBookDto(bookEntity);
+    }
+
+    public BookDto fromBookEntityToBookDto(BookEntity bookEntity, MappingContext context) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("BookMapper.fromBookEntityToBookDto", bookEntity, entity -> bookEntityToBookDto(entity, context));
+        }
+        return bookEntityToBookDto(bookEntity, context);
+    }
+
+    public List<BookDto> fromBookEntitiesToBookDtos(List<BookEntity> bookEntities) {
+        MappingContext context = new MappingContext();
+        List<BookDto> bookDtos = new ArrayList<>(bookEntities.size());
+        for (BookEntity bookEntity : bookEntities) {
+            bookDtos.add(fromBookEntityToBookDto(bookEntity, context));
+        }
+        return bookDtos;
     }
 
+    public List<BookDto> fromBooksToBookDtos(List<Book> books) {
+        MappingContext context = new MappingContext();
+        List<BookDto> bookDtos = new ArrayList<>(books.size());
+        for (Book book : books) {
+            bookDtos.add(fromBookToBookDto(book, context));
+        }
+        return bookDtos;
+    }
+
+    public List<BookEntity> fromBookDtosToBookEntities(List<BookDto> bookDtos) {
+        List<BookEntity> bookEntities = new ArrayList<>(bookDtos.size());
+        for (BookDto bookDto : bookDtos) {
+            bookEntities.add(fromBookDtoToBookEntity(bookDto));
+        }
+        return bookEntities;
+    }
+
+    private BookDto bookEntityToBookDto(BookEntity bookEntity) {
+        return bookEntityToBookDto(bookEntity, null);
+    }
+
+    private BookDto bookEntityToBookDto(BookEntity bookEntity, MappingContext context) {
+        if (bookEntity == null) {
+            throw new BusinessException("BookEntity cannot be null");
+        }
+        return CONVERSIONS.toBookDto(bookEntity, context);
+    }
 
     public Book fromBookDtoToBook(BookDto bookDto) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("BookMapper.fromBookDtoToBook", bookDto, this::bookDtoToBook);
+        }
+        return bookDtoToBook(bookDto);
+    }
+
+    private Book bookDtoToBook(BookDto bookDto) {
+        if (bookDto == null) {
+            throw new BusinessException("BookDto cannot be null");
+        }
+        return CONVERSIONS.toBook(bookDto);
+    }
+
+    public BookEntity fromBookDtoToBookEntity(BookDto bookDto) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("BookMapper.fromBookDtoToBookEntity", bookDto, this::bookDtoToBookEntity);
+        }
+        return bookDtoToBookEntity(bookDto);
+    }
+
+    private BookEntity bookDtoToBookEntity(BookDto bookDto) {
         if (bookDto == null) {
             throw new BusinessException("BookDto cannot be null");
         }
-        return new Book(
-                bookDto.id(),
-                bookDto.isbn(),
-                bookDto.titleEs(),
-                bookDto.titleEn(),
-                bookDto.synopsisEs(),
-                bookDto.synopsisEn(),
-                bookDto.basePrice(),
-                bookDto.discountPercentage(),
-                bookDto.cover(),
-                bookDto.publicationDate(),
-                PublisherMapper.getInstance().fromPublisherDtoToPublisher(bookDto.publisher()),
-                bookDto.authors().stream().map(AuthorMapper.getInstance()::fromAuthorDtoToAuthor).toList()
-        );
+        return CONVERSIONS.toBookEntity(bookDto);
     }
 }
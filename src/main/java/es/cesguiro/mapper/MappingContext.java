@@ -0,0 +1,60 @@
+package es.cesguiro.mapper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class MappingContext {
+
+    private final Map<Class<?>, Map<Long, Interned>> interned = new HashMap<>();
+    private int reused;
+
+    public <S, T> T intern(Class<T> type, Long id, S source, Function<? super S, ? extends T> mapper) {
+        if (source == null || id == null) {
+            return mapper.apply(source);
+        }
+        Map<Long, Interned> byId = interned.computeIfAbsent(type, key -> new HashMap<>());
+        Interned cached = byId.get(id);
+        if (cached != null && (cached.source == source || cached.source.equals(source))) {
+            reused++;
+            return type.cast(cached.target);
+        }
+        T target = mapper.apply(source);
+        byId.put(id, new Interned(source, target));
+        return target;
+    }
+
+    public <T> T find(Class<T> type, Long id, Predicate<? super T> matches) {
+        if (id == null) {
+            return null;
+        }
+        Map<Long, Interned> byId = interned.get(type);
+        Interned cached = byId == null ? null : byId.get(id);
+        if (cached == null || !type.isInstance(cached.target) || !matches.test(type.cast(cached.target))) {
+            return null;
+        }
+        reused++;
+        return type.cast(cached.target);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<Long, Interned> byId : interned.values()) {
+            size += byId.size();
+        }
+        return size;
+    }
+
+    public int reused() {
+        return reused;
+    }
+
+    public void clear() {
+        interned.clear();
+        reused = 0;
+    }
+
+    private record Interned(Object source, Object target) {
+    }
+}
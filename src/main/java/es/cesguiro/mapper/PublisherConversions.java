@@ -0,0 +1,24 @@
+package es.cesguiro.mapper;
+
+import es.cesguiro.mapper.processor.GenerateMapper;
+import es.cesguiro.model.Publisher;
+import es.cesguiro.repository.entity.PublisherEntity;
+import es.cesguiro.service.dto.PublisherDto;
+
+@GenerateMapper
+interface PublisherConversions {
+
+    PublisherConversions INSTANCE = new PublisherConversionsImpl();
+
+    Publisher toPublisher(PublisherEntity source);
+
+    PublisherEntity toPublisherEntity(Publisher source);
+
+    PublisherDto toPublisherDto(Publisher source);
+
+    PublisherDto toPublisherDto(PublisherEntity source);
+
+    Publisher toPublisher(PublisherDto source);
+
+    PublisherEntity toPublisherEntity(PublisherDto source);
+}
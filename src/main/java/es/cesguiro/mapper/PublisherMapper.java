@@ -1,65 +1,114 @@
 package es.cesguiro.mapper;
 
 import es.cesguiro.exception.BusinessException;
+import es.cesguiro.metrics.Metrics;
 import es.cesguiro.model.Publisher;
 import es.cesguiro.repository.entity.PublisherEntity;
 import es.cesguiro.service.dto.PublisherDto;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class PublisherMapper {
 
-    private static PublisherMapper INSTANCE;
+    private static final PublisherMapper INSTANCE = new PublisherMapper();
 
     private PublisherMapper() {
     }
 
     public static PublisherMapper getInstance() {
-        if (INSTANCE == null) {
-            INSTANCE = new PublisherMapper();
-        }
         return INSTANCE;
     }
 
     public Publisher fromPublisherEntityToPublisher(PublisherEntity publisherEntity) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("PublisherMapper.fromPublisherEntityToPublisher", publisherEntity, this::publisherEntityToPublisher);
+        }
+        return publisherEntityToPublisher(publisherEntity);
+    }
+
+    private Publisher publisherEntityToPublisher(PublisherEntity publisherEntity) {
         if (publisherEntity == null) {
             return null;
         }
-        return new Publisher(
-                publisherEntity.id(),
-                publisherEntity.name(),
-                publisherEntity.slug()
-        );
+        return PublisherConversions.INSTANCE.toPublisher(publisherEntity);
     }
 
     public PublisherEntity fromPublisherToPublisherEntity(Publisher publisher) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("PublisherMapper.fromPublisherToPublisherEntity", publisher, this::publisherToPublisherEntity);
+        }
+        return publisherToPublisherEntity(publisher);
+    }
+
+    private PublisherEntity publisherToPublisherEntity(Publisher publisher) {
         if (publisher == null) {
             throw new BusinessException("Publisher cannot be null");
         }
-        return new PublisherEntity(
-                publisher.getId(),
-                publisher.getName(),
-                publisher.getSlug()
-        );
+        return PublisherConversions.INSTANCE.toPublisherEntity(publisher);
     }
 
     public PublisherDto fromPublisherToPublisherDto(Publisher publisher) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("PublisherMapper.fromPublisherToPublisherDto", publisher, this::publisherToPublisherDto);
+        }
+        return publisherToPublisherDto(publisher);
+    }
+
+    private PublisherDto publisherToPublisherDto(Publisher publisher) {
         if (publisher == null) {
             return null;
         }
-        return new PublisherDto(
-                publisher.getId(),
-                publisher.getName(),
-                publisher.getSlug()
-        );
+        return PublisherConversions.INSTANCE.toPublisherDto(publisher);
+    }
+
+    public PublisherDto fromPublisherEntityToPublisherDto(PublisherEntity publisherEntity) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("PublisherMapper.fromPublisherEntityToPublisherDto", publisherEntity, this::publisherEntityToPublisherDto);
+        }
+        return publisherEntityToPublisherDto(publisherEntity);
+    }
+
+    public List<PublisherDto> fromPublisherEntitiesToPublisherDtos(List<PublisherEntity> publisherEntities) {
+        List<PublisherDto> publisherDtos = new ArrayList<>(publisherEntities.size());
+        for (PublisherEntity publisherEntity : publisherEntities) {
+            publisherDtos.add(fromPublisherEntityToPublisherDto(publisherEntity));
+        }
+        return publisherDtos;
+    }
+
+    private PublisherDto publisherEntityToPublisherDto(PublisherEntity publisherEntity) {
+        if (publisherEntity == null) {
+            return null;
+        }
+        return PublisherConversions.INSTANCE.toPublisherDto(publisherEntity);
     }
 
     public Publisher fromPublisherDtoToPublisher(PublisherDto publisherDto) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("PublisherMapper.fromPublisherDtoToPublisher", publisherDto, this::publisherDtoToPublisher);
+        }
+        return publisherDtoToPublisher(publisherDto);
+    }
+
+    private Publisher publisherDtoToPublisher(PublisherDto publisherDto) {
+        if (publisherDto == null) {
+            throw new BusinessException("PublisherDto cannot be null");
+        }
+        return PublisherConversions.INSTANCE.toPublisher(publisherDto);
+    }
+
+    public PublisherEntity fromPublisherDtoToPublisherEntity(PublisherDto publisherDto) {
+        if (Metrics.MAPPER_TIMING) {
+            return Metrics.time("PublisherMapper.fromPublisherDtoToPublisherEntity", publisherDto, this::publisherDtoToPublisherEntity);
+        }
+        return publisherDtoToPublisherEntity(publisherDto);
+    }
+
+    private PublisherEntity publisherDtoToPublisherEntity(PublisherDto publisherDto) {
         if (publisherDto == null) {
             throw new BusinessException("PublisherDto cannot be null");
         }
-        return new Publisher(
-                publisherDto.id(),
-                publisherDto.name(),
-                publisherDto.slug()
-        );
+        return PublisherConversions.INSTANCE.toPublisherEntity(publisherDto);
     }
 }
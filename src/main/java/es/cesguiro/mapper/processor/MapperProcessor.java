@@ -0,0 +1,289 @@
+package es.cesguiro.mapper.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@SupportedAnnotationTypes("es.cesguiro.mapper.processor.GenerateMapper")
+public class MapperProcessor extends AbstractProcessor {
+
+    private static final String INDENT = "        ";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateMapper.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error("@GenerateMapper can only be applied to interfaces", element);
+                continue;
+            }
+            generate((TypeElement) element);
+        }
+        return true;
+    }
+
+    private void generate(TypeElement mapper) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements().getAllMembers(mapper))) {
+            if (method.getEnclosingElement().getKind() == ElementKind.INTERFACE
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && !method.getParameters().isEmpty()) {
+                methods.add(method);
+            }
+        }
+        StringBuilder body = new StringBuilder();
+        boolean valid = true;
+        for (ExecutableElement method : methods) {
+            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                valid &= generateMethod(method, methods, body);
+            }
+        }
+        if (valid) {
+            write(mapper, body);
+        }
+    }
+
+    private boolean generateMethod(ExecutableElement method, List<ExecutableElement> methods, StringBuilder out) {
+        TypeMirror targetType = method.getReturnType();
+        if (targetType.getKind() != TypeKind.DECLARED) {
+            error("Mapping methods must return a class or record", method);
+            return false;
+        }
+        ExecutableElement constructor = widestConstructor((TypeElement) types().asElement(targetType));
+        if (constructor == null) {
+            error("No public constructor found for " + targetType, method);
+            return false;
+        }
+        List<? extends VariableElement> parameters = method.getParameters();
+        VariableElement source = parameters.get(0);
+        List<? extends VariableElement> extras = parameters.subList(1, parameters.size());
+
+        StringBuilder statements = new StringBuilder();
+        List<String> arguments = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters()) {
+            String argument = resolve(parameter.getSimpleName().toString(), parameter.asType(), source, extras, method, methods, statements);
+            if (argument == null) {
+                return false;
+            }
+            arguments.add(argument);
+        }
+
+        out.append("\n    @Override\n    public ").append(targetType).append(' ').append(method.getSimpleName()).append('(');
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(parameters.get(i).asType()).append(' ').append(parameters.get(i).getSimpleName());
+        }
+        out.append(") {\n")
+                .append(INDENT).append("if (").append(source.getSimpleName()).append(" == null) {\n")
+                .append(INDENT).append("    return null;\n")
+                .append(INDENT).append("}\n")
+                .append(statements)
+                .append(INDENT).append("return new ").append(types().erasure(targetType)).append("(\n");
+        for (int i = 0; i < arguments.size(); i++) {
+            out.append(INDENT).append("        ").append(arguments.get(i)).append(i < arguments.size() - 1 ? ",\n" : "\n");
+        }
+        out.append(INDENT).append(");\n    }\n");
+        return true;
+    }
+
+    private String resolve(
+            String property,
+            TypeMirror targetType,
+            VariableElement source,
+            List<? extends VariableElement> extras,
+            ExecutableElement method,
+            List<ExecutableElement> methods,
+            StringBuilder statements
+    ) {
+        for (ExecutableElement candidate : methods) {
+            if (candidate.getSimpleName().contentEquals(property) && accepts(candidate, source.asType(), targetType, extras)) {
+                return call(candidate, source.getSimpleName().toString(), extras);
+            }
+        }
+        ExecutableElement accessor = accessor(source.asType(), property);
+        if (accessor == null) {
+            error("No source property '" + property + "' in " + source.asType() + " for " + method.getReturnType(), method);
+            return null;
+        }
+        String value = source.getSimpleName() + "." + accessor.getSimpleName() + "()";
+        TypeMirror valueType = accessor.getReturnType();
+        String converted = convert(value, valueType, targetType, extras, methods);
+        if (converted != null) {
+            return converted;
+        }
+        if (isList(valueType) && isList(targetType)) {
+            TypeMirror sourceElement = elementType(valueType);
+            TypeMirror targetElement = elementType(targetType);
+            String element = convert(property + "Source.get(i)", sourceElement, targetElement, extras, methods);
+            if (element != null) {
+                statements.append(INDENT).append(valueType).append(' ').append(property).append("Source = ").append(value).append(";\n")
+                        .append(INDENT).append("java.util.List<").append(targetElement).append("> ").append(property).append("List;\n")
+                        .append(INDENT).append("if (").append(property).append("Source == null) {\n")
+                        .append(INDENT).append("    ").append(property).append("List = new java.util.ArrayList<>(0);\n")
+                        .append(INDENT).append("} else {\n")
+                        .append(INDENT).append("    int size = ").append(property).append("Source.size();\n")
+                        .append(INDENT).append("    ").append(property).append("List = new java.util.ArrayList<>(size);\n")
+                        .append(INDENT).append("    for (int i = 0; i < size; i++) {\n")
+                        .append(INDENT).append("        ").append(property).append("List.add(").append(element).append(");\n")
+                        .append(INDENT).append("    }\n")
+                        .append(INDENT).append("}\n");
+                return property + "List";
+            }
+        }
+        error("Cannot map property '" + property + "' from " + valueType + " to " + targetType, method);
+        return null;
+    }
+
+    private String convert(
+            String value,
+            TypeMirror valueType,
+            TypeMirror targetType,
+            List<? extends VariableElement> extras,
+            List<ExecutableElement> methods
+    ) {
+        if (types().isAssignable(valueType, targetType)) {
+            return value;
+        }
+        ExecutableElement match = null;
+        for (ExecutableElement candidate : methods) {
+            if (!accepts(candidate, valueType, targetType, extras)) {
+                continue;
+            }
+            if (match == null || types().isSameType(candidate.getParameters().get(0).asType(), valueType)) {
+                match = candidate;
+            }
+        }
+        return match == null ? null : call(match, value, extras);
+    }
+
+    private boolean accepts(ExecutableElement candidate, TypeMirror valueType, TypeMirror targetType, List<? extends VariableElement> extras) {
+        List<? extends VariableElement> parameters = candidate.getParameters();
+        if (!types().isAssignable(valueType, parameters.get(0).asType())
+                || !types().isAssignable(candidate.getReturnType(), targetType)) {
+            return false;
+        }
+        for (int i = 1; i < parameters.size(); i++) {
+            if (extra(parameters.get(i).asType(), extras) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String call(ExecutableElement candidate, String value, List<? extends VariableElement> extras) {
+        StringBuilder call = new StringBuilder(candidate.getSimpleName()).append('(').append(value);
+        List<? extends VariableElement> parameters = candidate.getParameters();
+        for (int i = 1; i < parameters.size(); i++) {
+            call.append(", ").append(extra(parameters.get(i).asType(), extras).getSimpleName());
+        }
+        return call.append(')').toString();
+    }
+
+    private VariableElement extra(TypeMirror type, List<? extends VariableElement> extras) {
+        for (VariableElement extra : extras) {
+            if (types().isAssignable(extra.asType(), type)) {
+                return extra;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement accessor(TypeMirror type, String property) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        List<ExecutableElement> members = ElementFilter.methodsIn(elements().getAllMembers((TypeElement) types().asElement(type)));
+        for (String name : List.of(property, "get" + capitalized, "is" + capitalized)) {
+            for (ExecutableElement member : members) {
+                if (member.getSimpleName().contentEquals(name)
+                        && member.getParameters().isEmpty()
+                        && member.getModifiers().contains(Modifier.PUBLIC)
+                        && !member.getModifiers().contains(Modifier.STATIC)) {
+                    return member;
+                }
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement widestConstructor(TypeElement type) {
+        ExecutableElement widest = null;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC)
+                    && (widest == null || constructor.getParameters().size() > widest.getParameters().size())) {
+                widest = constructor;
+            }
+        }
+        return widest;
+    }
+
+    private boolean isList(TypeMirror type) {
+        TypeElement list = elements().getTypeElement("java.util.List");
+        return type.getKind() == TypeKind.DECLARED
+                && types().isSameType(types().erasure(type), types().erasure(list.asType()))
+                && ((DeclaredType) type).getTypeArguments().size() == 1;
+    }
+
+    private TypeMirror elementType(TypeMirror listType) {
+        TypeMirror argument = ((DeclaredType) listType).getTypeArguments().get(0);
+        if (argument.getKind() == TypeKind.WILDCARD) {
+            TypeMirror bound = ((WildcardType) argument).getExtendsBound();
+            return bound == null ? elements().getTypeElement("java.lang.Object").asType() : bound;
+        }
+        return argument;
+    }
+
+    private void write(TypeElement mapper, StringBuilder body) {
+        String packageName = elements().getPackageOf(mapper).getQualifiedName().toString();
+        String simpleName = mapper.getSimpleName() + "Impl";
+        String visibility = mapper.getModifiers().contains(Modifier.PUBLIC) ? "public " : "";
+        try (Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + simpleName, mapper).openWriter()) {
+            writer.write("package " + packageName + ";\n\n"
+                    + "@javax.annotation.processing.Generated(\"" + MapperProcessor.class.getName() + "\")\n"
+                    + visibility + "final class " + simpleName + " implements " + mapper.getQualifiedName() + " {\n"
+                    + body
+                    + "}\n");
+        } catch (IOException e) {
+            error("Could not write " + simpleName + ": " + e.getMessage(), mapper);
+        }
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private Elements elements() {
+        return processingEnv.getElementUtils();
+    }
+
+    private Types types() {
+        return processingEnv.getTypeUtils();
+    }
+}
@@ -0,0 +1,12 @@
+package es.cesguiro.metrics;
+
+public record HistogramSnapshot(
+        long count,
+        double mean,
+        long max,
+        long p50,
+        long p90,
+        long p99,
+        long p999
+) {
+}
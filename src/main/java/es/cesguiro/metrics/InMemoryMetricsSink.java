@@ -0,0 +1,66 @@
+package es.cesguiro.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryMetricsSink implements MetricsSink {
+
+    private final ConcurrentHashMap<String, MethodMetrics> metrics = new ConcurrentHashMap<>();
+    private final String jmxDomain;
+
+    public InMemoryMetricsSink() {
+        this(null);
+    }
+
+    public InMemoryMetricsSink(String jmxDomain) {
+        this.jmxDomain = jmxDomain;
+    }
+
+    @Override
+    public void record(String name, long nanos, boolean failed) {
+        MethodMetrics methodMetrics = metrics.get(name);
+        if (methodMetrics == null) {
+            methodMetrics = metrics.computeIfAbsent(name, this::create);
+        }
+        methodMetrics.record(nanos, failed);
+    }
+
+    public SortedMap<String, MetricSnapshot> snapshot() {
+        SortedMap<String, MetricSnapshot> snapshot = new TreeMap<>();
+        for (Map.Entry<String, MethodMetrics> entry : metrics.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+        }
+        return snapshot;
+    }
+
+    public MetricSnapshot snapshot(String name) {
+        MethodMetrics methodMetrics = metrics.get(name);
+        return methodMetrics == null ? null : methodMetrics.snapshot(name);
+    }
+
+    private MethodMetrics create(String name) {
+        MethodMetrics methodMetrics = new MethodMetrics();
+        if (jmxDomain != null) {
+            register(name, methodMetrics);
+        }
+        return methodMetrics;
+    }
+
+    private void register(String name, MethodMetrics methodMetrics) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(jmxDomain + ":type=Method,name=" + ObjectName.quote(name));
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(methodMetrics, objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metric " + name + " in JMX", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package es.cesguiro.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class InstrumentedProxy implements InvocationHandler {
+
+    private final Object target;
+    private final String prefix;
+    private final MetricsSink sink;
+    private final ConcurrentHashMap<Method, String> names = new ConcurrentHashMap<>();
+
+    private InstrumentedProxy(Object target, String prefix, MetricsSink sink) {
+        this.target = target;
+        this.prefix = prefix;
+        this.sink = sink;
+    }
+
+    public static <T> T wrap(Class<T> type, T target, MetricsSink sink) {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException(type.getName() + " is not an interface");
+        }
+        if (sink == null || sink == MetricsSink.NOOP) {
+            return target;
+        }
+        Object proxy = Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                new InstrumentedProxy(target, type.getSimpleName(), sink)
+        );
+        return type.cast(proxy);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeTarget(method, args);
+        }
+        String name = names.computeIfAbsent(method, m -> prefix + "." + m.getName());
+        long start = System.nanoTime();
+        try {
+            Object result = invokeTarget(method, args);
+            sink.record(name, System.nanoTime() - start, false);
+            return result;
+        } catch (Throwable e) {
+            sink.record(name, System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
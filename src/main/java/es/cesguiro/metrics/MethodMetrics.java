@@ -0,0 +1,55 @@
+package es.cesguiro.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class MethodMetrics implements MethodMetricsMXBean {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    void record(long nanos, boolean failed) {
+        latency.record(nanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public MetricSnapshot snapshot(String name) {
+        return new MetricSnapshot(name, latency.count(), errors.sum(), latency.snapshot());
+    }
+
+    @Override
+    public long getCalls() {
+        return latency.count();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return latency.mean();
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latency.max();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return latency.percentile(50);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return latency.percentile(99);
+    }
+
+    @Override
+    public long getP999Nanos() {
+        return latency.percentile(99.9);
+    }
+}
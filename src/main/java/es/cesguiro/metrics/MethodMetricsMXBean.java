@@ -0,0 +1,18 @@
+package es.cesguiro.metrics;
+
+public interface MethodMetricsMXBean {
+
+    long getCalls();
+
+    long getErrors();
+
+    double getMeanNanos();
+
+    long getMaxNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getP999Nanos();
+}
@@ -0,0 +1,9 @@
+package es.cesguiro.metrics;
+
+public record MetricSnapshot(
+        String name,
+        long calls,
+        long errors,
+        HistogramSnapshot latency
+) {
+}
@@ -0,0 +1,46 @@
+package es.cesguiro.metrics;
+
+import java.util.function.Function;
+
+public final class Metrics {
+
+    public static final boolean MAPPER_TIMING = Boolean.getBoolean("es.cesguiro.metrics.mappers");
+
+    private static final String DEFAULT_JMX_DOMAIN = "es.cesguiro.metrics";
+
+    private static volatile MetricsSink sink = MetricsSink.NOOP;
+
+    private Metrics() {
+    }
+
+    public static MetricsSink sink() {
+        return sink;
+    }
+
+    public static void setSink(MetricsSink metricsSink) {
+        sink = metricsSink == null ? MetricsSink.NOOP : metricsSink;
+    }
+
+    public static InMemoryMetricsSink enableDefaultSink() {
+        InMemoryMetricsSink defaultSink = new InMemoryMetricsSink(DEFAULT_JMX_DOMAIN);
+        setSink(defaultSink);
+        return defaultSink;
+    }
+
+    public static <T> T instrument(Class<T> type, T target) {
+        return InstrumentedProxy.wrap(type, target, sink);
+    }
+
+    public static <T, R> R time(String name, T input, Function<T, R> conversion) {
+        MetricsSink current = sink;
+        long start = System.nanoTime();
+        try {
+            R result = conversion.apply(input);
+            current.record(name, System.nanoTime() - start, false);
+            return result;
+        } catch (RuntimeException e) {
+            current.record(name, System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+}
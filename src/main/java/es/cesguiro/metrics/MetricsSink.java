@@ -0,0 +1,10 @@
+package es.cesguiro.metrics;
+
+@FunctionalInterface
+public interface MetricsSink {
+
+    MetricsSink NOOP = (name, nanos, failed) -> {
+    };
+
+    void record(String name, long nanos, boolean failed);
+}
@@ -10,8 +10,13 @@ public class Author {
     private int birthYear;
     private Integer deathYear;
     private String slug;
+    private long version;
 
     public Author(Long id, String name, String nationality, String biographyEs, String biographyEn, int birthYear, Integer deathYear, String slug) {
+        this(id, name, nationality, biographyEs, biographyEn, birthYear, deathYear, slug, 0L);
+    }
+
+    public Author(Long id, String name, String nationality, String biographyEs, String biographyEn, int birthYear, Integer deathYear, String slug, long version) {
         this.id = id;
         this.name = name;
         this.nationality = nationality;
@@ -20,6 +25,7 @@ public class Author {
         this.birthYear = birthYear;
         this.deathYear = deathYear;
         this.slug = slug;
+        this.version = version;
     }
 
     public Long getId() {return id;}
@@ -81,4 +87,12 @@ public class Author {
     public void setSlug(String slug) {
         this.slug = slug;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
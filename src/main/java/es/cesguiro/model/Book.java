@@ -3,7 +3,6 @@ package es.cesguiro.model;
 import es.cesguiro.exception.BusinessException;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -21,6 +20,7 @@ public class Book {
     private LocalDate publicationDate;
     private Publisher publisher;
     private List<Author> authors;
+    private long version;
 
     public Book(
             Long id,
@@ -35,6 +35,24 @@ public class Book {
             LocalDate publicationDate,
             Publisher publisher,
             List<Author> authors
+    ) {
+        this(id, isbn, titleEs, titleEn, synopsisEs, synopsisEn, basePrice, discountPercentage, cover, publicationDate, publisher, authors, 0L);
+    }
+
+    public Book(
+            Long id,
+            String isbn,
+            String titleEs,
+            String titleEn,
+            String synopsisEs,
+            String synopsisEn,
+            BigDecimal basePrice,
+            double discountPercentage,
+            String cover,
+            LocalDate publicationDate,
+            Publisher publisher,
+            List<Author> authors,
+            long version
     ) {
         this.id = id;
         this.isbn = isbn;
@@ -49,6 +67,7 @@ public class Book {
         this.publicationDate = publicationDate;
         this.publisher = publisher;
         setAuthors(authors);
+        this.version = version;
     }
 
     public String getIsbn() {
@@ -105,6 +124,7 @@ public class Book {
 
     public void setBasePrice(BigDecimal basePrice) {
         this.basePrice = basePrice;
+        this.price = calculateFinalPrice();
     }
 
     public double getDiscountPercentage() {
@@ -113,6 +133,7 @@ public class Book {
 
     public void setDiscountPercentage(double discountPercentage) {
         this.discountPercentage = discountPercentage;
+        this.price = calculateFinalPrice();
     }
 
     public BigDecimal getPrice() {
@@ -136,11 +157,14 @@ public class Book {
     }
 
     public BigDecimal calculateFinalPrice() {
-        BigDecimal discount = basePrice
-                .multiply(BigDecimal.valueOf(discountPercentage))
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return calculateFinalPrice(basePrice, discountPercentage);
+    }
 
-        return basePrice.subtract(discount).setScale(2, RoundingMode.HALF_UP);
+    public static BigDecimal calculateFinalPrice(BigDecimal basePrice, double discountPercentage) {
+        if (basePrice == null) {
+            return null;
+        }
+        return PriceCalculator.finalPrice(basePrice, discountPercentage);
     }
 
     public Publisher getPublisher() {
@@ -151,6 +175,14 @@ public class Book {
         this.publisher = publisher;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public List<Author> getAuthors() {
         return authors;
     }
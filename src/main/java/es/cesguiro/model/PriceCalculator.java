@@ -0,0 +1,120 @@
+package es.cesguiro.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class PriceCalculator {
+
+    private static final int CENTS_SCALE = 2;
+    private static final long DISCOUNT_FACTOR = 10_000L;
+    private static final long DISCOUNT_DIVISOR = 100L * DISCOUNT_FACTOR;
+    private static final double MAX_FAST_DISCOUNT = 1_000_000_000d;
+    private static final int MAX_FAST_INTEGER_DIGITS = 16;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private PriceCalculator() {
+    }
+
+    public static BigDecimal finalPrice(BigDecimal basePrice, double discountPercentage) {
+        long cents = fastFinalPriceCents(basePrice, discountPercentage);
+        if (cents != Long.MIN_VALUE) {
+            return fromCents(cents);
+        }
+        return referenceFinalPrice(basePrice, discountPercentage);
+    }
+
+    public static long finalPriceCents(BigDecimal basePrice, double discountPercentage) {
+        long cents = fastFinalPriceCents(basePrice, discountPercentage);
+        if (cents != Long.MIN_VALUE) {
+            return cents;
+        }
+        return toCents(referenceFinalPrice(basePrice, discountPercentage));
+    }
+
+    public static long finalPriceCents(long baseCents, double discountPercentage) {
+        long scaledDiscount = toScaledDiscountOrMinValue(discountPercentage);
+        if (scaledDiscount != Long.MIN_VALUE) {
+            long cents = finalPriceCentsOrMinValue(baseCents, scaledDiscount);
+            if (cents != Long.MIN_VALUE) {
+                return cents;
+            }
+        }
+        return toCents(referenceFinalPrice(fromCents(baseCents), discountPercentage));
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return toCents(amount, RoundingMode.HALF_UP);
+    }
+
+    public static long toCents(BigDecimal amount, RoundingMode roundingMode) {
+        long cents = toCentsOrMinValue(amount);
+        if (cents != Long.MIN_VALUE) {
+            return cents;
+        }
+        return amount.setScale(CENTS_SCALE, roundingMode).movePointRight(CENTS_SCALE).longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, CENTS_SCALE);
+    }
+
+    private static long fastFinalPriceCents(BigDecimal basePrice, double discountPercentage) {
+        long baseCents = toCentsOrMinValue(basePrice);
+        long scaledDiscount = toScaledDiscountOrMinValue(discountPercentage);
+        if (baseCents == Long.MIN_VALUE || scaledDiscount == Long.MIN_VALUE) {
+            return Long.MIN_VALUE;
+        }
+        return finalPriceCentsOrMinValue(baseCents, scaledDiscount);
+    }
+
+    static BigDecimal referenceFinalPrice(BigDecimal basePrice, double discountPercentage) {
+        BigDecimal discount = basePrice
+                .multiply(BigDecimal.valueOf(discountPercentage))
+                .divide(HUNDRED, CENTS_SCALE, RoundingMode.HALF_UP);
+
+        return basePrice.subtract(discount).setScale(CENTS_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static long finalPriceCentsOrMinValue(long baseCents, long scaledDiscount) {
+        long product;
+        try {
+            product = Math.multiplyExact(baseCents, scaledDiscount);
+        } catch (ArithmeticException e) {
+            return Long.MIN_VALUE;
+        }
+        long discountCents = divideHalfUp(product, DISCOUNT_DIVISOR);
+        long cents = baseCents - discountCents;
+        if (((baseCents ^ discountCents) & (baseCents ^ cents)) < 0 || cents == Long.MIN_VALUE) {
+            return Long.MIN_VALUE;
+        }
+        return cents;
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    private static long toCentsOrMinValue(BigDecimal amount) {
+        int scale = amount.scale();
+        if (scale < 0 || scale > CENTS_SCALE || amount.precision() - scale > MAX_FAST_INTEGER_DIGITS) {
+            return Long.MIN_VALUE;
+        }
+        return amount.movePointRight(CENTS_SCALE).longValue();
+    }
+
+    private static long toScaledDiscountOrMinValue(double discountPercentage) {
+        if (!(Math.abs(discountPercentage) <= MAX_FAST_DISCOUNT)) {
+            return Long.MIN_VALUE;
+        }
+        long scaled = Math.round(discountPercentage * DISCOUNT_FACTOR);
+        if ((double) scaled / DISCOUNT_FACTOR != discountPercentage) {
+            return Long.MIN_VALUE;
+        }
+        return scaled;
+    }
+}
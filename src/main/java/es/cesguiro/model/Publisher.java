@@ -4,11 +4,17 @@ public class Publisher {
     Long id;
     private String name;
     private String slug;
+    private long version;
 
     public Publisher(Long id, String name, String slug) {
+        this(id, name, slug, 0L);
+    }
+
+    public Publisher(Long id, String name, String slug, long version) {
         this.id = id;
         this.name = name;
         this.slug = slug;
+        this.version = version;
     }
 
     public Long getId() {
@@ -34,4 +40,12 @@ public class Publisher {
     public void setSlug(String slug) {
         this.slug = slug;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -4,12 +4,16 @@ import es.cesguiro.repository.entity.AuthorEntity;
 import es.cesguiro.repository.entity.BookEntity;
 import es.cesguiro.service.dto.AuthorDto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AuthorRepository {
     List<AuthorEntity> findAll();
 
+    Stream<AuthorEntity> streamAll();
+
     AuthorEntity create(AuthorEntity authorEntity);
 
     Optional<AuthorEntity> findBySlug(String slug);
@@ -17,4 +21,12 @@ public interface AuthorRepository {
     AuthorEntity update(String slug, AuthorEntity authorEntity);
 
     int delete(String slug);
+
+    List<AuthorEntity> findAllBySlugIn(Collection<String> slugs);
+
+    List<AuthorEntity> createAll(List<AuthorEntity> authorEntities);
+
+    List<AuthorEntity> updateAll(List<AuthorEntity> authorEntities);
+
+    int deleteAll(Collection<String> slugs);
 }
@@ -0,0 +1,57 @@
+package es.cesguiro.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record BookQuery(
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        LocalDate publishedFrom,
+        LocalDate publishedTo,
+        String publisherSlug,
+        String authorSlug,
+        boolean discountedOnly,
+        BookSort sort
+) {
+    private static final BookQuery ALL = new BookQuery(null, null, null, null, null, null, false, BookSort.ID);
+
+    public BookQuery {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("Minimum price must not be greater than maximum price");
+        }
+        if (publishedFrom != null && publishedTo != null && publishedFrom.isAfter(publishedTo)) {
+            throw new IllegalArgumentException("Publication date range is inverted");
+        }
+        if (sort == null) {
+            sort = BookSort.ID;
+        }
+    }
+
+    public static BookQuery all() {
+        return ALL;
+    }
+
+    public BookQuery withPriceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+        return new BookQuery(minPrice, maxPrice, publishedFrom, publishedTo, publisherSlug, authorSlug, discountedOnly, sort);
+    }
+
+    public BookQuery withPublishedBetween(LocalDate publishedFrom, LocalDate publishedTo) {
+        return new BookQuery(minPrice, maxPrice, publishedFrom, publishedTo, publisherSlug, authorSlug, discountedOnly, sort);
+    }
+
+    public BookQuery withPublisher(String publisherSlug) {
+        return new BookQuery(minPrice, maxPrice, publishedFrom, publishedTo, publisherSlug, authorSlug, discountedOnly, sort);
+    }
+
+    public BookQuery withAuthor(String authorSlug) {
+        return new BookQuery(minPrice, maxPrice, publishedFrom, publishedTo, publisherSlug, authorSlug, discountedOnly, sort);
+    }
+
+    public BookQuery discounted() {
+        return new BookQuery(minPrice, maxPrice, publishedFrom, publishedTo, publisherSlug, authorSlug, true, sort);
+    }
+
+    public BookQuery sortedBy(BookSort sort) {
+        return new BookQuery(minPrice, maxPrice, publishedFrom, publishedTo, publisherSlug, authorSlug, discountedOnly, sort);
+    }
+}
@@ -3,20 +3,46 @@ package es.cesguiro.repository;
 import es.cesguiro.repository.entity.BookEntity;
 import es.cesguiro.service.dto.BookDto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookRepository {
 
     List<BookEntity> findAll(int page, int size);
 
+    List<BookEntity> findAllAfter(Long lastId, int size);
+
+    List<BookEntity> findAll(BookQuery query, int page, int size);
+
+    List<BookEntity> findAllByAuthorSlug(String slug, int page, int size);
+
+    List<BookEntity> findAllByPublisherSlug(String slug, int page, int size);
+
+    Stream<BookEntity> streamAll();
+
     Optional<BookEntity> findByIsbn(String isbn);
 
     BookEntity save(BookEntity bookEntity);
 
+    Optional<BookEntity> saveIfAbsent(BookEntity bookEntity);
+
+    UpsertResult<BookEntity> upsert(BookEntity bookEntity);
+
     BookEntity update(BookEntity bookEntity);
 
     void delete(String isbn);
 
     Optional<BookEntity> findById(Long id);
+
+    List<BookEntity> findAllByIsbnIn(Collection<String> isbns);
+
+    List<BookEntity> findAllByIdIn(Collection<Long> ids);
+
+    List<BookEntity> saveAll(List<BookEntity> bookEntities);
+
+    List<BookEntity> updateAll(List<BookEntity> bookEntities);
+
+    void deleteAll(Collection<String> isbns);
 }
@@ -0,0 +1,11 @@
+package es.cesguiro.repository;
+
+public enum BookSort {
+    ID,
+    PRICE_ASC,
+    PRICE_DESC,
+    DATE_ASC,
+    DATE_DESC,
+    TITLE_ASC,
+    TITLE_DESC
+}
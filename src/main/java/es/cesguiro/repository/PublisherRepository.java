@@ -3,10 +3,23 @@ package es.cesguiro.repository;
 import es.cesguiro.repository.entity.AuthorEntity;
 import es.cesguiro.repository.entity.PublisherEntity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PublisherRepository {
     PublisherEntity create(PublisherEntity publisherEntity);
 
     Optional<PublisherEntity> findBySlug(String slug);
+
+    Stream<PublisherEntity> streamAll();
+
+    List<PublisherEntity> findAllBySlugIn(Collection<String> slugs);
+
+    List<PublisherEntity> createAll(List<PublisherEntity> publisherEntities);
+
+    List<PublisherEntity> updateAll(List<PublisherEntity> publisherEntities);
+
+    int deleteAll(Collection<String> slugs);
 }
@@ -0,0 +1,10 @@
+package es.cesguiro.repository;
+
+public record UpsertResult<T>(
+        T previous,
+        T current
+) {
+    public boolean created() {
+        return previous == null;
+    }
+}
@@ -8,7 +8,11 @@ public record AuthorEntity(
         String biographyEn,
         int birthYear,
         Integer deathYear,
-        String slug
+        String slug,
+        long version
 ) {
+    public AuthorEntity(Long id, String name, String nationality, String biographyEs, String biographyEn, int birthYear, Integer deathYear, String slug) {
+        this(id, name, nationality, biographyEs, biographyEn, birthYear, deathYear, slug, 0L);
+    }
 
 }
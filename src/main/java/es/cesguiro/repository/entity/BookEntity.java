@@ -16,8 +16,26 @@ public record BookEntity(
         String cover,
         LocalDate publicationDate,
         PublisherEntity publisher,
-        List<AuthorEntity> authors
+        List<AuthorEntity> authors,
+        long version
 ) {
+    public BookEntity(
+            Long id,
+            String isbn,
+            String titleEs,
+            String titleEn,
+            String synopsisEs,
+            String synopsisEn,
+            BigDecimal basePrice,
+            double discountPercentage,
+            String cover,
+            LocalDate publicationDate,
+            PublisherEntity publisher,
+            List<AuthorEntity> authors
+    ) {
+        this(id, isbn, titleEs, titleEn, synopsisEs, synopsisEn, basePrice, discountPercentage, cover, publicationDate, publisher, authors, 0L);
+    }
+
     public boolean isPresent() {
         return id != null;
     }
@@ -3,6 +3,10 @@ package es.cesguiro.repository.entity;
 public record PublisherEntity(
         Long id,
         String name,
-        String slug
+        String slug,
+        long version
 ) {
+    public PublisherEntity(Long id, String name, String slug) {
+        this(id, name, slug, 0L);
+    }
 }
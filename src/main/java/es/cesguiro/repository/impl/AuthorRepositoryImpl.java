@@ -0,0 +1,91 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.repository.AuthorRepository;
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.storage.EntityStore;
+import es.cesguiro.storage.MemoryEntityStore;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class AuthorRepositoryImpl implements AuthorRepository {
+
+    private final SlugIndexedStore<AuthorEntity> authors;
+
+    public AuthorRepositoryImpl() {
+        this(new MemoryEntityStore<>());
+    }
+
+    public AuthorRepositoryImpl(EntityStore<AuthorEntity> store) {
+        this.authors = new SlugIndexedStore<>(store, AuthorEntity::id, AuthorEntity::slug, AuthorEntity::version, AuthorRepositoryImpl::withIdAndVersion, "Author");
+    }
+
+    @Override
+    public List<AuthorEntity> findAll() {
+        return authors.findAll();
+    }
+
+    @Override
+    public Stream<AuthorEntity> streamAll() {
+        return authors.streamAll();
+    }
+
+    @Override
+    public AuthorEntity create(AuthorEntity authorEntity) {
+        return authors.create(authorEntity);
+    }
+
+    @Override
+    public Optional<AuthorEntity> findBySlug(String slug) {
+        return authors.findBySlug(slug);
+    }
+
+    @Override
+    public AuthorEntity update(String slug, AuthorEntity authorEntity) {
+        return authors.update(slug, authorEntity);
+    }
+
+    @Override
+    public int delete(String slug) {
+        return authors.delete(slug);
+    }
+
+    @Override
+    public List<AuthorEntity> findAllBySlugIn(Collection<String> slugs) {
+        return authors.findAllBySlugIn(slugs);
+    }
+
+    @Override
+    public List<AuthorEntity> createAll(List<AuthorEntity> authorEntities) {
+        return authors.createAll(authorEntities);
+    }
+
+    @Override
+    public List<AuthorEntity> updateAll(List<AuthorEntity> authorEntities) {
+        return authors.updateAll(authorEntities);
+    }
+
+    @Override
+    public int deleteAll(Collection<String> slugs) {
+        return authors.deleteAll(slugs);
+    }
+
+    private static AuthorEntity withIdAndVersion(AuthorEntity authorEntity, Long id, long version) {
+        if (id.equals(authorEntity.id()) && version == authorEntity.version()) {
+            return authorEntity;
+        }
+        return new AuthorEntity(
+                id,
+                authorEntity.name(),
+                authorEntity.nationality(),
+                authorEntity.biographyEs(),
+                authorEntity.biographyEn(),
+                authorEntity.birthYear(),
+                authorEntity.deathYear(),
+                authorEntity.slug(),
+                version
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.repository.BookQuery;
+import es.cesguiro.repository.entity.BookEntity;
+
+record BookFilter(
+        boolean discountedOnly,
+        boolean priceFiltered,
+        long minPrice,
+        long maxPrice,
+        boolean dateFiltered,
+        long minDay,
+        long maxDay
+) {
+    static BookFilter of(BookQuery query) {
+        return new BookFilter(
+                query.discountedOnly(),
+                query.minPrice() != null || query.maxPrice() != null,
+                BookSortIndex.minPriceCents(query),
+                BookSortIndex.maxPriceCents(query),
+                query.publishedFrom() != null || query.publishedTo() != null,
+                BookSortIndex.minEpochDay(query),
+                BookSortIndex.maxEpochDay(query)
+        );
+    }
+
+    boolean matches(BookEntity book) {
+        if (discountedOnly && book.discountPercentage() <= 0) {
+            return false;
+        }
+        if (priceFiltered) {
+            long price = BookSortIndex.priceCentsOf(book);
+            if (price < minPrice || price > maxPrice) {
+                return false;
+            }
+        }
+        if (dateFiltered) {
+            long day = BookSortIndex.epochDayOf(book);
+            return day >= minDay && day <= maxDay;
+        }
+        return true;
+    }
+}
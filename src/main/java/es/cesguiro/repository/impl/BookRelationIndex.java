@@ -0,0 +1,246 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.collection.ConcurrentLongObjectMap;
+import es.cesguiro.collection.LongArrayList;
+import es.cesguiro.collection.LongObjectHashMap;
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+class BookRelationIndex {
+
+    private static final long[] NO_IDS = new long[0];
+    private static final int STRIPES = 64;
+    private static final int CHUNK_SIZE = 256;
+
+    private final Relation byAuthor = new Relation();
+    private final Relation byPublisher = new Relation();
+
+    void add(BookEntity bookEntity) {
+        for (AuthorEntity author : authorsOf(bookEntity)) {
+            if (author != null && author.id() != null) {
+                byAuthor.link(author.id(), author.slug(), bookEntity.id());
+            }
+        }
+        PublisherEntity publisher = bookEntity.publisher();
+        if (publisher != null && publisher.id() != null) {
+            byPublisher.link(publisher.id(), publisher.slug(), bookEntity.id());
+        }
+    }
+
+    void remove(BookEntity bookEntity) {
+        for (AuthorEntity author : authorsOf(bookEntity)) {
+            if (author != null && author.id() != null) {
+                byAuthor.unlink(author.id(), bookEntity.id());
+            }
+        }
+        PublisherEntity publisher = bookEntity.publisher();
+        if (publisher != null && publisher.id() != null) {
+            byPublisher.unlink(publisher.id(), bookEntity.id());
+        }
+    }
+
+    void replace(BookEntity previous, BookEntity current) {
+        remove(previous);
+        add(current);
+    }
+
+    Facet authorFacet(String slug) {
+        return byAuthor.facet(slug);
+    }
+
+    Facet publisherFacet(String slug) {
+        return byPublisher.facet(slug);
+    }
+
+    long[] bookIdsByAuthorSlug(String slug, long skip, int size) {
+        return byAuthor.bookIds(slug, skip, size);
+    }
+
+    long[] bookIdsByPublisherSlug(String slug, long skip, int size) {
+        return byPublisher.bookIds(slug, skip, size);
+    }
+
+    private static Collection<AuthorEntity> authorsOf(BookEntity bookEntity) {
+        return Objects.requireNonNullElse(bookEntity.authors(), List.of());
+    }
+
+    static final class Facet {
+        private final Stripe stripe;
+        private final long key;
+
+        private Facet(Stripe stripe, long key) {
+            this.stripe = stripe;
+            this.key = key;
+        }
+
+        boolean contains(long bookId) {
+            long stamp = stripe.lock.readLock();
+            try {
+                LongArrayList ids = stripe.bookIds.get(key);
+                return ids != null && ids.binarySearch(bookId) >= 0;
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = stripe.lock.readLock();
+            try {
+                LongArrayList ids = stripe.bookIds.get(key);
+                return ids == null ? 0 : ids.size();
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+
+        PrimitiveIterator.OfLong iterator() {
+            return new PrimitiveIterator.OfLong() {
+                private long[] chunk = NO_IDS;
+                private int position;
+                private long lastId = Long.MIN_VALUE;
+                private boolean exhausted;
+
+                @Override
+                public boolean hasNext() {
+                    if (position < chunk.length) {
+                        return true;
+                    }
+                    if (exhausted) {
+                        return false;
+                    }
+                    chunk = stripe.bookIdsAfter(key, lastId, CHUNK_SIZE);
+                    position = 0;
+                    exhausted = chunk.length < CHUNK_SIZE;
+                    return chunk.length > 0;
+                }
+
+                @Override
+                public long nextLong() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    lastId = chunk[position++];
+                    return lastId;
+                }
+            };
+        }
+    }
+
+    private static final class Stripe {
+        private final StampedLock lock = new StampedLock();
+        private final LongObjectHashMap<LongArrayList> bookIds = new LongObjectHashMap<>();
+
+        private long[] bookIdsAfter(long key, long lastId, int size) {
+            long stamp = lock.readLock();
+            try {
+                LongArrayList ids = bookIds.get(key);
+                if (ids == null) {
+                    return NO_IDS;
+                }
+                int index = ids.binarySearch(lastId);
+                int from = index >= 0 ? index + 1 : -index - 1;
+                return from >= ids.size() ? NO_IDS : ids.toArray(from, Math.min(ids.size(), from + size));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    private static final class Relation {
+        private final Stripe[] stripes = new Stripe[STRIPES];
+        private final ConcurrentLongObjectMap<String> slugsByKey = new ConcurrentLongObjectMap<>();
+        private final ConcurrentHashMap<String, Long> idsBySlug = new ConcurrentHashMap<>();
+
+        private Relation() {
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new Stripe();
+            }
+        }
+
+        private Stripe stripe(long key) {
+            return stripes[Long.hashCode(key) & (STRIPES - 1)];
+        }
+
+        private void link(long key, String slug, long bookId) {
+            Stripe stripe = stripe(key);
+            long stamp = stripe.lock.writeLock();
+            try {
+                stripe.bookIds.computeIfAbsent(key, k -> new LongArrayList(4)).addSorted(bookId);
+                if (slug != null && !(slug.equals(slugsByKey.get(key)) && Long.valueOf(key).equals(idsBySlug.get(slug)))) {
+                    assignSlug(key, slug);
+                }
+            } finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+        }
+
+        private void unlink(long key, long bookId) {
+            Stripe stripe = stripe(key);
+            long stamp = stripe.lock.writeLock();
+            try {
+                LongArrayList ids = stripe.bookIds.get(key);
+                if (ids != null && ids.removeSorted(bookId) && ids.isEmpty()) {
+                    stripe.bookIds.remove(key);
+                    releaseSlug(key);
+                }
+            } finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+        }
+
+        private void assignSlug(long key, String slug) {
+            synchronized (idsBySlug) {
+                String previousSlug = slugsByKey.put(key, slug);
+                if (previousSlug != null && !previousSlug.equals(slug)) {
+                    idsBySlug.remove(previousSlug, key);
+                }
+                Long previousOwner = idsBySlug.put(slug, key);
+                if (previousOwner != null && previousOwner != key && slug.equals(slugsByKey.get(previousOwner))) {
+                    slugsByKey.remove(previousOwner);
+                }
+            }
+        }
+
+        private void releaseSlug(long key) {
+            synchronized (idsBySlug) {
+                String slug = slugsByKey.remove(key);
+                if (slug != null) {
+                    idsBySlug.remove(slug, key);
+                }
+            }
+        }
+
+        private Facet facet(String slug) {
+            Long key = slug == null ? null : idsBySlug.get(slug);
+            return key == null ? null : new Facet(stripe(key), key);
+        }
+
+        private long[] bookIds(String slug, long skip, int size) {
+            Long key = slug == null ? null : idsBySlug.get(slug);
+            if (key == null) {
+                return NO_IDS;
+            }
+            Stripe stripe = stripe(key);
+            long stamp = stripe.lock.readLock();
+            try {
+                LongArrayList ids = stripe.bookIds.get(key);
+                if (ids == null || skip >= ids.size()) {
+                    return NO_IDS;
+                }
+                int from = (int) skip;
+                return ids.toArray(from, (int) Math.min(ids.size(), (long) from + size));
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+    }
+}
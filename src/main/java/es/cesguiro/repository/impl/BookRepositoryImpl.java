@@ -0,0 +1,653 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.collection.ConcurrentLongSortedSet;
+import es.cesguiro.collection.LongArrayList;
+import es.cesguiro.collection.LongHashSet;
+import es.cesguiro.collection.LongObjectHashMap;
+import es.cesguiro.exception.BusinessException;
+import es.cesguiro.exception.OptimisticLockException;
+import es.cesguiro.repository.BookQuery;
+import es.cesguiro.repository.BookRepository;
+import es.cesguiro.repository.BookSort;
+import es.cesguiro.repository.UpsertResult;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.storage.EntityStore;
+import es.cesguiro.storage.MemoryEntityStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+public class BookRepositoryImpl implements BookRepository {
+
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final EntityStore<BookEntity> books;
+    private final ConcurrentHashMap<String, Long> idsByIsbn;
+    private final ConcurrentLongSortedSet orderedIds = new ConcurrentLongSortedSet();
+    private final BookRelationIndex relations = new BookRelationIndex();
+    private final BookSortIndex sortIndex = new BookSortIndex();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ReentrantLock[] locks;
+
+    public BookRepositoryImpl() {
+        this(DEFAULT_STRIPES, 16);
+    }
+
+    public BookRepositoryImpl(int stripes, int expectedSize) {
+        this(new MemoryEntityStore<>(expectedSize), stripes, expectedSize);
+    }
+
+    public BookRepositoryImpl(EntityStore<BookEntity> books) {
+        this(books, DEFAULT_STRIPES, Math.max(16, books.size()));
+    }
+
+    public BookRepositoryImpl(EntityStore<BookEntity> books, int stripes, int expectedSize) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripes must be a positive power of two");
+        }
+        this.books = books;
+        this.idsByIsbn = new ConcurrentHashMap<>(expectedSize);
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        books.forEach(book -> {
+            idsByIsbn.put(book.isbn(), book.id());
+            orderedIds.add(book.id());
+            relations.add(book);
+            sortIndex.add(book);
+            sequence.accumulateAndGet(book.id(), Math::max);
+        });
+    }
+
+    @Override
+    public List<BookEntity> findAll(int page, int size) {
+        if (page < 0 || size <= 0) {
+            return List.of();
+        }
+        return booksOf(orderedIds.page((long) page * size, size));
+    }
+
+    @Override
+    public List<BookEntity> findAllAfter(Long lastId, int size) {
+        if (size <= 0) {
+            return List.of();
+        }
+        PrimitiveIterator.OfLong ids = lastId == null ? orderedIds.iterator() : orderedIds.iteratorAfter(lastId);
+        List<BookEntity> result = new ArrayList<>(size);
+        while (ids.hasNext()) {
+            BookEntity book = books.get(ids.nextLong());
+            if (book != null) {
+                result.add(book);
+                if (result.size() == size) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<BookEntity> findAllByAuthorSlug(String slug, int page, int size) {
+        if (page < 0 || size <= 0) {
+            return List.of();
+        }
+        return booksOf(relations.bookIdsByAuthorSlug(slug, (long) page * size, size));
+    }
+
+    @Override
+    public List<BookEntity> findAllByPublisherSlug(String slug, int page, int size) {
+        if (page < 0 || size <= 0) {
+            return List.of();
+        }
+        return booksOf(relations.bookIdsByPublisherSlug(slug, (long) page * size, size));
+    }
+
+    @Override
+    public List<BookEntity> findAll(BookQuery query, int page, int size) {
+        if (page < 0 || size <= 0) {
+            return List.of();
+        }
+        BookRelationIndex.Facet author = query.authorSlug() == null ? null : relations.authorFacet(query.authorSlug());
+        BookRelationIndex.Facet publisher = query.publisherSlug() == null ? null : relations.publisherFacet(query.publisherSlug());
+        if ((query.authorSlug() != null && author == null) || (query.publisherSlug() != null && publisher == null)) {
+            return List.of();
+        }
+        QueryFilter filter = QueryFilter.of(query, author, publisher);
+        BookRelationIndex.Facet facet = narrowest(author, publisher);
+        long skip = (long) page * size;
+        long needed = skip + size;
+        BookSort sort = query.sort();
+        if (sort == BookSort.ID) {
+            return page(idOrderedCandidates(query, facet, needed), filter, skip, size);
+        }
+        boolean keyed = sort == BookSort.PRICE_ASC || sort == BookSort.PRICE_DESC || sort == BookSort.DATE_ASC || sort == BookSort.DATE_DESC;
+        if (keyed && facet != null && drivesBetter(facet.size(), needed, books.size())) {
+            return sortedFromFacet(sort, facet, filter, skip, size);
+        }
+        return page(candidates(sort, query), filter, skip, size);
+    }
+
+    @Override
+    public Stream<BookEntity> streamAll() {
+        return orderedIds.stream()
+                .mapToObj(books::get)
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public Optional<BookEntity> findByIsbn(String isbn) {
+        if (isbn == null) {
+            return Optional.empty();
+        }
+        Long id = idsByIsbn.get(isbn);
+        return id == null ? Optional.empty() : Optional.ofNullable(books.get(id));
+    }
+
+    @Override
+    public Optional<BookEntity> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(books.get(id));
+    }
+
+    @Override
+    public BookEntity save(BookEntity bookEntity) {
+        return saveIfAbsent(bookEntity)
+                .orElseThrow(() -> new BusinessException("Book with isbn " + bookEntity.isbn() + " already exists"));
+    }
+
+    @Override
+    public Optional<BookEntity> saveIfAbsent(BookEntity bookEntity) {
+        requireIsbn(bookEntity);
+        ReentrantLock lock = lockFor(bookEntity.isbn());
+        lock.lock();
+        try {
+            if (idsByIsbn.containsKey(bookEntity.isbn())) {
+                return Optional.empty();
+            }
+            return Optional.of(insert(bookEntity));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public UpsertResult<BookEntity> upsert(BookEntity bookEntity) {
+        requireIsbn(bookEntity);
+        ReentrantLock lock = lockFor(bookEntity.isbn());
+        lock.lock();
+        try {
+            Long id = idsByIsbn.get(bookEntity.isbn());
+            if (id == null) {
+                return new UpsertResult<>(null, insert(bookEntity));
+            }
+            BookEntity current = books.get(id);
+            BookEntity updated = withIdAndVersion(bookEntity, id, current.version() + 1);
+            books.put(id, updated);
+            relations.replace(current, updated);
+            sortIndex.replace(current, updated);
+            return new UpsertResult<>(current, updated);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public BookEntity update(BookEntity bookEntity) {
+        requireIsbn(bookEntity);
+        if (bookEntity.id() == null) {
+            throw new BusinessException("Book id cannot be null");
+        }
+        while (true) {
+            BookEntity current = books.get(bookEntity.id());
+            if (current == null) {
+                throw new BusinessException("Book with id " + bookEntity.id() + " not found");
+            }
+            ReentrantLock first = lockFor(current.isbn());
+            ReentrantLock second = lockFor(bookEntity.isbn());
+            if (stripeOf(current.isbn()) > stripeOf(bookEntity.isbn())) {
+                ReentrantLock swap = first;
+                first = second;
+                second = swap;
+            }
+            first.lock();
+            second.lock();
+            try {
+                if (!current.equals(books.get(bookEntity.id()))) {
+                    continue;
+                }
+                checkVersion(current, bookEntity);
+                if (!current.isbn().equals(bookEntity.isbn())) {
+                    if (idsByIsbn.containsKey(bookEntity.isbn())) {
+                        throw new BusinessException("Book with isbn " + bookEntity.isbn() + " already exists");
+                    }
+                    idsByIsbn.remove(current.isbn());
+                    idsByIsbn.put(bookEntity.isbn(), bookEntity.id());
+                }
+                BookEntity updated = withIdAndVersion(bookEntity, bookEntity.id(), current.version() + 1);
+                books.put(updated.id(), updated);
+                relations.replace(current, updated);
+                sortIndex.replace(current, updated);
+                return updated;
+            } finally {
+                second.unlock();
+                first.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void delete(String isbn) {
+        if (isbn == null) {
+            return;
+        }
+        ReentrantLock lock = lockFor(isbn);
+        lock.lock();
+        try {
+            Long id = idsByIsbn.remove(isbn);
+            if (id != null) {
+                remove(id);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<BookEntity> findAllByIsbnIn(Collection<String> isbns) {
+        List<BookEntity> result = new ArrayList<>(isbns.size());
+        for (String isbn : isbns) {
+            Long id = isbn == null ? null : idsByIsbn.get(isbn);
+            BookEntity book = id == null ? null : books.get(id);
+            if (book != null) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<BookEntity> findAllByIdIn(Collection<Long> ids) {
+        List<BookEntity> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            BookEntity book = id == null ? null : books.get(id);
+            if (book != null) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<BookEntity> saveAll(List<BookEntity> bookEntities) {
+        boolean[] stripes = new boolean[locks.length];
+        for (BookEntity bookEntity : bookEntities) {
+            requireIsbn(bookEntity);
+            stripes[stripeOf(bookEntity.isbn())] = true;
+        }
+        lockAll(stripes);
+        try {
+            Set<String> isbns = new HashSet<>();
+            LongHashSet ids = new LongHashSet(bookEntities.size());
+            for (BookEntity bookEntity : bookEntities) {
+                if (idsByIsbn.containsKey(bookEntity.isbn()) || !isbns.add(bookEntity.isbn())) {
+                    throw new BusinessException("Book with isbn " + bookEntity.isbn() + " already exists");
+                }
+                if (bookEntity.id() != null && (books.contains(bookEntity.id()) || !ids.add(bookEntity.id()))) {
+                    throw new BusinessException("Book with id " + bookEntity.id() + " already exists");
+                }
+            }
+            List<BookEntity> saved = new ArrayList<>(bookEntities.size());
+            LongObjectHashMap<BookEntity> byId = new LongObjectHashMap<>(bookEntities.size());
+            for (BookEntity bookEntity : bookEntities) {
+                BookEntity book = withIdAndVersion(bookEntity, bookEntity.id() == null ? nextId(ids) : bookEntity.id(), 0L);
+                byId.put(book.id(), book);
+                saved.add(book);
+            }
+            if (!books.putAllIfAbsent(byId)) {
+                throw new BusinessException("Book with id " + takenId(saved) + " already exists");
+            }
+            for (BookEntity book : saved) {
+                sequence.accumulateAndGet(book.id(), Math::max);
+                idsByIsbn.put(book.isbn(), book.id());
+                orderedIds.add(book.id());
+                relations.add(book);
+                sortIndex.add(book);
+            }
+            return saved;
+        } finally {
+            unlockAll(stripes);
+        }
+    }
+
+    @Override
+    public List<BookEntity> updateAll(List<BookEntity> bookEntities) {
+        LongHashSet ids = new LongHashSet(bookEntities.size());
+        for (BookEntity bookEntity : bookEntities) {
+            requireIsbn(bookEntity);
+            if (bookEntity.id() == null) {
+                throw new BusinessException("Book id cannot be null");
+            }
+            if (!ids.add(bookEntity.id())) {
+                throw new BusinessException("Book with id " + bookEntity.id() + " is duplicated");
+            }
+        }
+        while (true) {
+            List<BookEntity> currents = new ArrayList<>(bookEntities.size());
+            boolean[] stripes = new boolean[locks.length];
+            for (BookEntity bookEntity : bookEntities) {
+                BookEntity current = books.get(bookEntity.id());
+                if (current == null) {
+                    throw new BusinessException("Book with id " + bookEntity.id() + " not found");
+                }
+                currents.add(current);
+                stripes[stripeOf(current.isbn())] = true;
+                stripes[stripeOf(bookEntity.isbn())] = true;
+            }
+            lockAll(stripes);
+            try {
+                boolean changed = false;
+                for (int i = 0; i < bookEntities.size() && !changed; i++) {
+                    changed = !currents.get(i).equals(books.get(bookEntities.get(i).id()));
+                }
+                if (changed) {
+                    continue;
+                }
+                for (int i = 0; i < bookEntities.size(); i++) {
+                    checkVersion(currents.get(i), bookEntities.get(i));
+                }
+                Map<String, Long> newIsbns = new HashMap<>();
+                for (BookEntity bookEntity : bookEntities) {
+                    Long owner = idsByIsbn.get(bookEntity.isbn());
+                    if ((owner != null && !owner.equals(bookEntity.id())) || newIsbns.put(bookEntity.isbn(), bookEntity.id()) != null) {
+                        throw new BusinessException("Book with isbn " + bookEntity.isbn() + " already exists");
+                    }
+                }
+                List<BookEntity> updated = new ArrayList<>(bookEntities.size());
+                LongObjectHashMap<BookEntity> updatedById = new LongObjectHashMap<>(bookEntities.size());
+                for (int i = 0; i < bookEntities.size(); i++) {
+                    BookEntity bookEntity = bookEntities.get(i);
+                    BookEntity book = withIdAndVersion(bookEntity, bookEntity.id(), currents.get(i).version() + 1);
+                    updated.add(book);
+                    updatedById.put(book.id(), book);
+                }
+                books.putAll(updatedById);
+                for (int i = 0; i < updated.size(); i++) {
+                    BookEntity current = currents.get(i);
+                    BookEntity book = updated.get(i);
+                    if (!current.isbn().equals(book.isbn())) {
+                        idsByIsbn.remove(current.isbn());
+                        idsByIsbn.put(book.isbn(), book.id());
+                    }
+                    relations.replace(current, book);
+                    sortIndex.replace(current, book);
+                }
+                return List.copyOf(updated);
+            } finally {
+                unlockAll(stripes);
+            }
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<String> isbns) {
+        boolean[] stripes = new boolean[locks.length];
+        for (String isbn : isbns) {
+            if (isbn != null) {
+                stripes[stripeOf(isbn)] = true;
+            }
+        }
+        lockAll(stripes);
+        try {
+            for (String isbn : isbns) {
+                Long id = isbn == null ? null : idsByIsbn.remove(isbn);
+                if (id != null) {
+                    remove(id);
+                }
+            }
+        } finally {
+            unlockAll(stripes);
+        }
+    }
+
+    public int count() {
+        return books.size();
+    }
+
+    private void requireIsbn(BookEntity bookEntity) {
+        if (bookEntity == null) {
+            throw new BusinessException("BookEntity cannot be null");
+        }
+        if (bookEntity.isbn() == null) {
+            throw new BusinessException("Book isbn cannot be null");
+        }
+    }
+
+    private List<BookEntity> booksOf(long[] ids) {
+        List<BookEntity> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            BookEntity book = books.get(id);
+            if (book != null) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    private long nextId(LongHashSet reserved) {
+        long id;
+        do {
+            id = sequence.incrementAndGet();
+        } while (books.contains(id) || reserved.contains(id));
+        return id;
+    }
+
+    private BookEntity insert(BookEntity bookEntity) {
+        Long id = bookEntity.id() == null ? sequence.incrementAndGet() : bookEntity.id();
+        BookEntity saved = withIdAndVersion(bookEntity, id, 0L);
+        if (!books.putIfAbsent(id, saved)) {
+            throw new BusinessException("Book with id " + id + " already exists");
+        }
+        sequence.accumulateAndGet(id, Math::max);
+        idsByIsbn.put(saved.isbn(), id);
+        orderedIds.add(id);
+        relations.add(saved);
+        sortIndex.add(saved);
+        return saved;
+    }
+
+    private List<BookEntity> page(PrimitiveIterator.OfLong ids, QueryFilter filter, long skip, int size) {
+        List<BookEntity> result = new ArrayList<>(size);
+        while (ids.hasNext() && result.size() < size) {
+            long id = ids.nextLong();
+            BookEntity book = books.get(id);
+            if (book == null || !filter.matches(id, book)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+            } else {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    private PrimitiveIterator.OfLong idOrderedCandidates(BookQuery query, BookRelationIndex.Facet facet, long needed) {
+        long scanned = facet == null ? books.size() : facet.size();
+        NavigableSet<BookSortIndex.KeyedId> range = null;
+        long rangeSize = scanned;
+        if (query.minPrice() != null || query.maxPrice() != null) {
+            NavigableSet<BookSortIndex.KeyedId> prices = sortIndex.byPrice(query);
+            long count = BookSortIndex.countUpTo(prices, rangeSize);
+            if (count < rangeSize) {
+                range = prices;
+                rangeSize = count;
+            }
+        }
+        if (query.publishedFrom() != null || query.publishedTo() != null) {
+            NavigableSet<BookSortIndex.KeyedId> dates = sortIndex.byDate(query);
+            long count = BookSortIndex.countUpTo(dates, rangeSize);
+            if (count < rangeSize) {
+                range = dates;
+                rangeSize = count;
+            }
+        }
+        if (range != null && drivesBetter(rangeSize, needed, scanned)) {
+            LongArrayList ids = new LongArrayList((int) rangeSize);
+            for (BookSortIndex.KeyedId keyed : range) {
+                ids.add(keyed.id());
+            }
+            ids.sort();
+            return Arrays.stream(ids.toArray()).iterator();
+        }
+        if (facet != null) {
+            return facet.iterator();
+        }
+        return orderedIds.iterator();
+    }
+
+    private List<BookEntity> sortedFromFacet(BookSort sort, BookRelationIndex.Facet facet, QueryFilter filter, long skip, int size) {
+        boolean byPrice = sort == BookSort.PRICE_ASC || sort == BookSort.PRICE_DESC;
+        boolean descending = sort == BookSort.PRICE_DESC || sort == BookSort.DATE_DESC;
+        List<Ranked> ranked = new ArrayList<>(facet.size());
+        PrimitiveIterator.OfLong ids = facet.iterator();
+        while (ids.hasNext()) {
+            long id = ids.nextLong();
+            BookEntity book = books.get(id);
+            if (book != null && filter.matches(id, book)) {
+                ranked.add(new Ranked(byPrice ? BookSortIndex.priceCentsOf(book) : BookSortIndex.epochDayOf(book), id, book));
+            }
+        }
+        ranked.sort((left, right) -> BookSortIndex.compare(left.key(), left.id(), right.key(), right.id(), descending));
+        return ranked.stream().skip(skip).limit(size).map(Ranked::book).toList();
+    }
+
+    private PrimitiveIterator.OfLong candidates(BookSort sort, BookQuery query) {
+        if (sort == BookSort.PRICE_ASC || sort == BookSort.PRICE_DESC) {
+            return BookSortIndex.ids(sortIndex.byPrice(query), sort == BookSort.PRICE_DESC);
+        }
+        if (sort == BookSort.DATE_ASC || sort == BookSort.DATE_DESC) {
+            return BookSortIndex.ids(sortIndex.byDate(query), sort == BookSort.DATE_DESC);
+        }
+        if (sort == BookSort.TITLE_DESC) {
+            return sortIndex.byTitle().descendingSet().stream().mapToLong(BookSortIndex.TitleId::id).iterator();
+        }
+        return sortIndex.byTitle().stream().mapToLong(BookSortIndex.TitleId::id).iterator();
+    }
+
+    private static BookRelationIndex.Facet narrowest(BookRelationIndex.Facet author, BookRelationIndex.Facet publisher) {
+        if (author == null || publisher == null) {
+            return author != null ? author : publisher;
+        }
+        return publisher.size() < author.size() ? publisher : author;
+    }
+
+    private static boolean drivesBetter(long candidates, long needed, long scanned) {
+        return (double) candidates * candidates <= (double) needed * scanned;
+    }
+
+    private void remove(Long id) {
+        BookEntity removed = books.get(id);
+        if (removed != null) {
+            books.remove(id);
+            relations.remove(removed);
+            sortIndex.remove(removed);
+        }
+        orderedIds.remove(id);
+    }
+
+    private Long takenId(List<BookEntity> bookEntities) {
+        for (BookEntity bookEntity : bookEntities) {
+            if (books.contains(bookEntity.id())) {
+                return bookEntity.id();
+            }
+        }
+        return bookEntities.get(0).id();
+    }
+
+    private void lockAll(boolean[] stripes) {
+        for (int i = 0; i < stripes.length; i++) {
+            if (stripes[i]) {
+                locks[i].lock();
+            }
+        }
+    }
+
+    private void unlockAll(boolean[] stripes) {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            if (stripes[i]) {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    private static void checkVersion(BookEntity current, BookEntity bookEntity) {
+        if (current.version() != bookEntity.version()) {
+            throw new OptimisticLockException("Book with id " + current.id() + " was modified concurrently: expected version "
+                    + bookEntity.version() + " but found " + current.version());
+        }
+    }
+
+    private ReentrantLock lockFor(String isbn) {
+        return locks[stripeOf(isbn)];
+    }
+
+    private int stripeOf(String isbn) {
+        int h = isbn.hashCode();
+        return (h ^ (h >>> 16)) & (locks.length - 1);
+    }
+
+    private record QueryFilter(BookRelationIndex.Facet author, BookRelationIndex.Facet publisher, BookFilter filter) {
+        private static QueryFilter of(BookQuery query, BookRelationIndex.Facet author, BookRelationIndex.Facet publisher) {
+            return new QueryFilter(author, publisher, BookFilter.of(query));
+        }
+
+        private boolean matches(long id, BookEntity book) {
+            if ((author != null && !author.contains(id)) || (publisher != null && !publisher.contains(id))) {
+                return false;
+            }
+            return filter.matches(book);
+        }
+    }
+
+    private record Ranked(long key, long id, BookEntity book) {
+    }
+
+    private static BookEntity withIdAndVersion(BookEntity bookEntity, Long id, long version) {
+        if (id.equals(bookEntity.id()) && version == bookEntity.version()) {
+            return bookEntity;
+        }
+        return new BookEntity(
+                id,
+                bookEntity.isbn(),
+                bookEntity.titleEs(),
+                bookEntity.titleEn(),
+                bookEntity.synopsisEs(),
+                bookEntity.synopsisEn(),
+                bookEntity.basePrice(),
+                bookEntity.discountPercentage(),
+                bookEntity.cover(),
+                bookEntity.publicationDate(),
+                bookEntity.publisher(),
+                bookEntity.authors(),
+                version
+        );
+    }
+}
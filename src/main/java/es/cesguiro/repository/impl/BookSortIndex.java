@@ -0,0 +1,155 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.model.PriceCalculator;
+import es.cesguiro.repository.BookQuery;
+import es.cesguiro.repository.entity.BookEntity;
+
+import java.math.RoundingMode;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.LongStream;
+
+class BookSortIndex {
+
+    static final long MISSING = Long.MAX_VALUE;
+
+    private static final Comparator<KeyedId> BY_KEY = Comparator.comparingLong(KeyedId::key).thenComparingLong(KeyedId::id);
+    private static final Comparator<TitleId> BY_TITLE = Comparator.comparing(TitleId::key).thenComparingLong(TitleId::id);
+
+    private final ConcurrentSkipListSet<KeyedId> byPrice = new ConcurrentSkipListSet<>(BY_KEY);
+    private final ConcurrentSkipListSet<KeyedId> byDate = new ConcurrentSkipListSet<>(BY_KEY);
+    private final ConcurrentSkipListSet<TitleId> byTitle = new ConcurrentSkipListSet<>(BY_TITLE);
+    private final Collator collator;
+
+    BookSortIndex() {
+        collator = titleCollator();
+    }
+
+    void add(BookEntity bookEntity) {
+        byPrice.add(new KeyedId(priceCentsOf(bookEntity), bookEntity.id()));
+        byDate.add(new KeyedId(epochDayOf(bookEntity), bookEntity.id()));
+        byTitle.add(new TitleId(titleKeyOf(bookEntity), bookEntity.id()));
+    }
+
+    void remove(BookEntity bookEntity) {
+        byPrice.remove(new KeyedId(priceCentsOf(bookEntity), bookEntity.id()));
+        byDate.remove(new KeyedId(epochDayOf(bookEntity), bookEntity.id()));
+        byTitle.remove(new TitleId(titleKeyOf(bookEntity), bookEntity.id()));
+    }
+
+    void replace(BookEntity previous, BookEntity current) {
+        remove(previous);
+        add(current);
+    }
+
+    NavigableSet<KeyedId> byPrice(BookQuery query) {
+        if (query.minPrice() == null && query.maxPrice() == null) {
+            return byPrice;
+        }
+        return range(byPrice, minPriceCents(query), maxPriceCents(query));
+    }
+
+    NavigableSet<KeyedId> byDate(BookQuery query) {
+        if (query.publishedFrom() == null && query.publishedTo() == null) {
+            return byDate;
+        }
+        return range(byDate, minEpochDay(query), maxEpochDay(query));
+    }
+
+    NavigableSet<TitleId> byTitle() {
+        return byTitle;
+    }
+
+    static PrimitiveIterator.OfLong ids(NavigableSet<KeyedId> keyed, boolean descending) {
+        if (!descending) {
+            return keyed.stream().mapToLong(KeyedId::id).iterator();
+        }
+        KeyedId firstMissing = new KeyedId(MISSING, Long.MIN_VALUE);
+        return LongStream.concat(
+                keyed.headSet(firstMissing, false).descendingSet().stream().mapToLong(KeyedId::id),
+                keyed.tailSet(firstMissing, true).descendingSet().stream().mapToLong(KeyedId::id)
+        ).iterator();
+    }
+
+    static long countUpTo(NavigableSet<KeyedId> keyed, long limit) {
+        long count = 0;
+        Iterator<KeyedId> iterator = keyed.iterator();
+        while (count <= limit && iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+
+    static int compare(long key, long id, long otherKey, long otherId, boolean descending) {
+        if ((key == MISSING) != (otherKey == MISSING)) {
+            return key == MISSING ? 1 : -1;
+        }
+        int order = key != otherKey ? Long.compare(key, otherKey) : Long.compare(id, otherId);
+        return descending ? -order : order;
+    }
+
+    static long priceCentsOf(BookEntity bookEntity) {
+        if (bookEntity.basePrice() == null) {
+            return MISSING;
+        }
+        return PriceCalculator.finalPriceCents(bookEntity.basePrice(), bookEntity.discountPercentage());
+    }
+
+    static long epochDayOf(BookEntity bookEntity) {
+        return bookEntity.publicationDate() == null ? MISSING : bookEntity.publicationDate().toEpochDay();
+    }
+
+    static long minPriceCents(BookQuery query) {
+        return query.minPrice() == null ? Long.MIN_VALUE : PriceCalculator.toCents(query.minPrice(), RoundingMode.CEILING);
+    }
+
+    static long maxPriceCents(BookQuery query) {
+        return query.maxPrice() == null ? MISSING - 1 : PriceCalculator.toCents(query.maxPrice(), RoundingMode.FLOOR);
+    }
+
+    static long minEpochDay(BookQuery query) {
+        return query.publishedFrom() == null ? Long.MIN_VALUE : query.publishedFrom().toEpochDay();
+    }
+
+    static long maxEpochDay(BookQuery query) {
+        return query.publishedTo() == null ? MISSING - 1 : query.publishedTo().toEpochDay();
+    }
+
+    static Collator titleCollator() {
+        Collator collator = Collator.getInstance(Locale.of("es"));
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    }
+
+    static CollationKey titleKeyOf(Collator collator, BookEntity bookEntity) {
+        String title = bookEntity.titleEs() != null ? bookEntity.titleEs() : bookEntity.titleEn();
+        return collator.getCollationKey(title == null ? "" : title);
+    }
+
+    private CollationKey titleKeyOf(BookEntity bookEntity) {
+        synchronized (collator) {
+            return titleKeyOf(collator, bookEntity);
+        }
+    }
+
+    private static NavigableSet<KeyedId> range(ConcurrentSkipListSet<KeyedId> index, long from, long to) {
+        if (from > to) {
+            return Collections.emptyNavigableSet();
+        }
+        return index.subSet(new KeyedId(from, Long.MIN_VALUE), true, new KeyedId(to, Long.MAX_VALUE), true);
+    }
+
+    record KeyedId(long key, long id) {
+    }
+
+    record TitleId(CollationKey key, long id) {
+    }
+}
@@ -0,0 +1,168 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.analytics.BookColumnStore;
+import es.cesguiro.repository.BookQuery;
+import es.cesguiro.repository.BookRepository;
+import es.cesguiro.repository.UpsertResult;
+import es.cesguiro.repository.entity.BookEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+public class ColumnStoreBookRepository implements BookRepository {
+
+    private final BookRepository delegate;
+    private final BookColumnStore columnStore;
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    public ColumnStoreBookRepository(BookRepository delegate, BookColumnStore columnStore) {
+        this.delegate = delegate;
+        this.columnStore = columnStore;
+        reconcile();
+    }
+
+    @Override
+    public List<BookEntity> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public List<BookEntity> findAllAfter(Long lastId, int size) {
+        return delegate.findAllAfter(lastId, size);
+    }
+
+    @Override
+    public List<BookEntity> findAll(BookQuery query, int page, int size) {
+        return delegate.findAll(query, page, size);
+    }
+
+    @Override
+    public List<BookEntity> findAllByAuthorSlug(String slug, int page, int size) {
+        return delegate.findAllByAuthorSlug(slug, page, size);
+    }
+
+    @Override
+    public List<BookEntity> findAllByPublisherSlug(String slug, int page, int size) {
+        return delegate.findAllByPublisherSlug(slug, page, size);
+    }
+
+    @Override
+    public Stream<BookEntity> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Optional<BookEntity> findByIsbn(String isbn) {
+        return delegate.findByIsbn(isbn);
+    }
+
+    @Override
+    public Optional<BookEntity> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<BookEntity> findAllByIsbnIn(Collection<String> isbns) {
+        return delegate.findAllByIsbnIn(isbns);
+    }
+
+    @Override
+    public List<BookEntity> findAllByIdIn(Collection<Long> ids) {
+        return delegate.findAllByIdIn(ids);
+    }
+
+    @Override
+    public BookEntity save(BookEntity bookEntity) {
+        BookEntity saved = delegate.save(bookEntity);
+        sync(List.of(saved.id()));
+        return saved;
+    }
+
+    @Override
+    public Optional<BookEntity> saveIfAbsent(BookEntity bookEntity) {
+        Optional<BookEntity> saved = delegate.saveIfAbsent(bookEntity);
+        saved.ifPresent(book -> sync(List.of(book.id())));
+        return saved;
+    }
+
+    @Override
+    public UpsertResult<BookEntity> upsert(BookEntity bookEntity) {
+        UpsertResult<BookEntity> result = delegate.upsert(bookEntity);
+        List<Long> ids = new ArrayList<>(2);
+        ids.add(result.current().id());
+        if (result.previous() != null) {
+            ids.add(result.previous().id());
+        }
+        sync(ids);
+        return result;
+    }
+
+    @Override
+    public BookEntity update(BookEntity bookEntity) {
+        BookEntity updated = delegate.update(bookEntity);
+        sync(List.of(updated.id()));
+        return updated;
+    }
+
+    @Override
+    public void delete(String isbn) {
+        Optional<BookEntity> existing = delegate.findByIsbn(isbn);
+        delegate.delete(isbn);
+        existing.ifPresent(book -> sync(List.of(book.id())));
+    }
+
+    @Override
+    public List<BookEntity> saveAll(List<BookEntity> bookEntities) {
+        List<BookEntity> saved = delegate.saveAll(bookEntities);
+        sync(saved.stream().map(BookEntity::id).toList());
+        return saved;
+    }
+
+    @Override
+    public List<BookEntity> updateAll(List<BookEntity> bookEntities) {
+        List<BookEntity> updated = delegate.updateAll(bookEntities);
+        sync(updated.stream().map(BookEntity::id).toList());
+        return updated;
+    }
+
+    @Override
+    public void deleteAll(Collection<String> isbns) {
+        List<Long> ids = delegate.findAllByIsbnIn(isbns).stream().map(BookEntity::id).toList();
+        delegate.deleteAll(isbns);
+        sync(ids);
+    }
+
+    public void reconcile() {
+        syncLock.lock();
+        try (Stream<BookEntity> stream = delegate.streamAll()) {
+            columnStore.rebuild(stream::iterator);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void sync(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            Set<Long> pending = new LinkedHashSet<>(ids);
+            for (BookEntity book : delegate.findAllByIdIn(pending)) {
+                columnStore.upsert(book);
+                pending.remove(book.id());
+            }
+            for (Long id : pending) {
+                columnStore.remove(id);
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.repository.PublisherRepository;
+import es.cesguiro.repository.entity.PublisherEntity;
+import es.cesguiro.storage.EntityStore;
+import es.cesguiro.storage.MemoryEntityStore;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class PublisherRepositoryImpl implements PublisherRepository {
+
+    private final SlugIndexedStore<PublisherEntity> publishers;
+
+    public PublisherRepositoryImpl() {
+        this(new MemoryEntityStore<>());
+    }
+
+    public PublisherRepositoryImpl(EntityStore<PublisherEntity> store) {
+        this.publishers = new SlugIndexedStore<>(store, PublisherEntity::id, PublisherEntity::slug, PublisherEntity::version, PublisherRepositoryImpl::withIdAndVersion, "Publisher");
+    }
+
+    @Override
+    public PublisherEntity create(PublisherEntity publisherEntity) {
+        return publishers.create(publisherEntity);
+    }
+
+    @Override
+    public Optional<PublisherEntity> findBySlug(String slug) {
+        return publishers.findBySlug(slug);
+    }
+
+    @Override
+    public Stream<PublisherEntity> streamAll() {
+        return publishers.streamAll();
+    }
+
+    @Override
+    public List<PublisherEntity> findAllBySlugIn(Collection<String> slugs) {
+        return publishers.findAllBySlugIn(slugs);
+    }
+
+    @Override
+    public List<PublisherEntity> createAll(List<PublisherEntity> publisherEntities) {
+        return publishers.createAll(publisherEntities);
+    }
+
+    @Override
+    public List<PublisherEntity> updateAll(List<PublisherEntity> publisherEntities) {
+        return publishers.updateAll(publisherEntities);
+    }
+
+    @Override
+    public int deleteAll(Collection<String> slugs) {
+        return publishers.deleteAll(slugs);
+    }
+
+    private static PublisherEntity withIdAndVersion(PublisherEntity publisherEntity, Long id, long version) {
+        if (id.equals(publisherEntity.id()) && version == publisherEntity.version()) {
+            return publisherEntity;
+        }
+        return new PublisherEntity(id, publisherEntity.name(), publisherEntity.slug(), version);
+    }
+}
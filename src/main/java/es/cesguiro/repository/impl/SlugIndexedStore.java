@@ -0,0 +1,238 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.collection.ConcurrentLongSortedSet;
+import es.cesguiro.collection.LongHashSet;
+import es.cesguiro.collection.LongObjectHashMap;
+import es.cesguiro.exception.BusinessException;
+import es.cesguiro.exception.OptimisticLockException;
+import es.cesguiro.storage.EntityStore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+class SlugIndexedStore<T> {
+
+    private final EntityStore<T> store;
+    private final Function<T, Long> idOf;
+    private final Function<T, String> slugOf;
+    private final ToLongFunction<T> versionOf;
+    private final Rebuilder<T> rebuilder;
+    private final String label;
+    private final ConcurrentHashMap<String, Long> idsBySlug = new ConcurrentHashMap<>();
+    private final ConcurrentLongSortedSet orderedIds = new ConcurrentLongSortedSet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    SlugIndexedStore(
+            EntityStore<T> store,
+            Function<T, Long> idOf,
+            Function<T, String> slugOf,
+            ToLongFunction<T> versionOf,
+            Rebuilder<T> rebuilder,
+            String label
+    ) {
+        this.store = store;
+        this.idOf = idOf;
+        this.slugOf = slugOf;
+        this.versionOf = versionOf;
+        this.rebuilder = rebuilder;
+        this.label = label;
+        store.forEach(entity -> {
+            long id = idOf.apply(entity);
+            idsBySlug.put(slugOf.apply(entity), id);
+            orderedIds.add(id);
+            sequence.accumulateAndGet(id, Math::max);
+        });
+    }
+
+    List<T> findAll() {
+        return streamAll().toList();
+    }
+
+    Stream<T> streamAll() {
+        return orderedIds.stream()
+                .mapToObj(store::get)
+                .filter(Objects::nonNull);
+    }
+
+    Optional<T> findBySlug(String slug) {
+        Long id = slug == null ? null : idsBySlug.get(slug);
+        return id == null ? Optional.empty() : Optional.ofNullable(store.get(id));
+    }
+
+    List<T> findAllBySlugIn(Collection<String> slugs) {
+        List<T> result = new ArrayList<>(slugs.size());
+        for (String slug : slugs) {
+            findBySlug(slug).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    T create(T entity) {
+        return createAll(List.of(requireSlug(entity))).get(0);
+    }
+
+    List<T> createAll(List<T> entities) {
+        lock.lock();
+        try {
+            Set<String> slugs = new HashSet<>();
+            LongHashSet ids = new LongHashSet(entities.size());
+            for (T entity : entities) {
+                String slug = slugOf.apply(requireSlug(entity));
+                if (idsBySlug.containsKey(slug) || !slugs.add(slug)) {
+                    throw new BusinessException(label + " with slug " + slug + " already exists");
+                }
+                Long id = idOf.apply(entity);
+                if (id != null && (store.contains(id) || !ids.add(id))) {
+                    throw new BusinessException(label + " with id " + id + " already exists");
+                }
+            }
+            List<T> created = new ArrayList<>(entities.size());
+            LongObjectHashMap<T> byId = new LongObjectHashMap<>(entities.size());
+            for (T entity : entities) {
+                Long id = idOf.apply(entity);
+                T stored = rebuilder.rebuild(entity, id == null ? nextId(ids) : id, 0L);
+                created.add(stored);
+                byId.put(idOf.apply(stored), stored);
+            }
+            store.putAll(byId);
+            for (T entity : created) {
+                long id = idOf.apply(entity);
+                idsBySlug.put(slugOf.apply(entity), id);
+                orderedIds.add(id);
+                sequence.accumulateAndGet(id, Math::max);
+            }
+            return created;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    T update(String slug, T entity) {
+        requireSlug(entity);
+        lock.lock();
+        try {
+            Long id = slug == null ? null : idsBySlug.get(slug);
+            if (id == null) {
+                throw new BusinessException(label + " with slug " + slug + " not found");
+            }
+            return replace(Map.of(slug, entity)).get(0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<T> updateAll(List<T> entities) {
+        Map<String, T> bySlug = new LinkedHashMap<>();
+        for (T entity : entities) {
+            String slug = slugOf.apply(requireSlug(entity));
+            if (bySlug.put(slug, entity) != null) {
+                throw new BusinessException(label + " with slug " + slug + " is duplicated");
+            }
+        }
+        lock.lock();
+        try {
+            for (String slug : bySlug.keySet()) {
+                if (!idsBySlug.containsKey(slug)) {
+                    throw new BusinessException(label + " with slug " + slug + " not found");
+                }
+            }
+            return replace(bySlug);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int delete(String slug) {
+        return deleteAll(slug == null ? List.of() : List.of(slug));
+    }
+
+    int deleteAll(Collection<String> slugs) {
+        lock.lock();
+        try {
+            List<Long> ids = new ArrayList<>(slugs.size());
+            for (String slug : slugs) {
+                Long id = slug == null ? null : idsBySlug.remove(slug);
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+            store.removeAll(ids);
+            for (Long id : ids) {
+                orderedIds.remove(id);
+            }
+            return ids.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<T> replace(Map<String, T> entitiesBySlug) {
+        Map<String, Long> newSlugs = new HashMap<>();
+        for (Map.Entry<String, T> entry : entitiesBySlug.entrySet()) {
+            Long id = idsBySlug.get(entry.getKey());
+            String newSlug = slugOf.apply(entry.getValue());
+            Long owner = idsBySlug.get(newSlug);
+            boolean releasedInBatch = owner != null && entitiesBySlug.containsKey(newSlug) && !newSlug.equals(slugOf.apply(entitiesBySlug.get(newSlug)));
+            if ((owner != null && !owner.equals(id) && !releasedInBatch) || newSlugs.put(newSlug, id) != null) {
+                throw new BusinessException(label + " with slug " + newSlug + " already exists");
+            }
+            long currentVersion = versionOf.applyAsLong(store.get(id));
+            long expectedVersion = versionOf.applyAsLong(entry.getValue());
+            if (currentVersion != expectedVersion) {
+                throw new OptimisticLockException(label + " with slug " + entry.getKey() + " was modified concurrently: expected version "
+                        + expectedVersion + " but found " + currentVersion);
+            }
+        }
+        List<T> updated = new ArrayList<>(entitiesBySlug.size());
+        LongObjectHashMap<T> byId = new LongObjectHashMap<>(entitiesBySlug.size());
+        for (Map.Entry<String, T> entry : entitiesBySlug.entrySet()) {
+            Long id = idsBySlug.get(entry.getKey());
+            T stored = rebuilder.rebuild(entry.getValue(), id, versionOf.applyAsLong(store.get(id)) + 1);
+            updated.add(stored);
+            byId.put(idOf.apply(stored), stored);
+        }
+        store.putAll(byId);
+        for (String slug : entitiesBySlug.keySet()) {
+            idsBySlug.remove(slug);
+        }
+        idsBySlug.putAll(newSlugs);
+        return updated;
+    }
+
+    private long nextId(LongHashSet reserved) {
+        long id;
+        do {
+            id = sequence.incrementAndGet();
+        } while (store.contains(id) || reserved.contains(id));
+        return id;
+    }
+
+    private T requireSlug(T entity) {
+        if (entity == null) {
+            throw new BusinessException(label + "Entity cannot be null");
+        }
+        if (slugOf.apply(entity) == null) {
+            throw new BusinessException(label + " slug cannot be null");
+        }
+        return entity;
+    }
+
+    interface Rebuilder<T> {
+        T rebuild(T entity, Long id, long version);
+    }
+}
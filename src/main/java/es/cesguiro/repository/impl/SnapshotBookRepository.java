@@ -0,0 +1,683 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.collection.LongArrayList;
+import es.cesguiro.collection.LongHashSet;
+import es.cesguiro.repository.BookQuery;
+import es.cesguiro.repository.BookRepository;
+import es.cesguiro.repository.BookSort;
+import es.cesguiro.repository.UpsertResult;
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class SnapshotBookRepository implements BookRepository {
+
+    private static final int PARTITION_SHIFT = 10;
+    private static final int HASH_PARTITION_TARGET = 256;
+    private static final long[] NO_IDS = new long[0];
+
+    private final BookRepository delegate;
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public SnapshotBookRepository(BookRepository delegate) {
+        this.delegate = delegate;
+        refreshAll();
+    }
+
+    @Override
+    public List<BookEntity> findAll(int page, int size) {
+        if (page < 0 || size <= 0) {
+            return List.of();
+        }
+        long skip = (long) page * size;
+        List<BookEntity> result = new ArrayList<>(size);
+        for (Partition partition : snapshot.partitions) {
+            int length = partition.ids.length;
+            if (skip >= length) {
+                skip -= length;
+                continue;
+            }
+            for (int i = (int) skip; i < length && result.size() < size; i++) {
+                result.add(partition.books[i]);
+            }
+            skip = 0;
+            if (result.size() == size) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<BookEntity> findAllAfter(Long lastId, int size) {
+        if (size <= 0) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        int partitionIndex = 0;
+        if (lastId != null) {
+            partitionIndex = Arrays.binarySearch(current.keys, lastId >> PARTITION_SHIFT);
+            partitionIndex = partitionIndex < 0 ? -partitionIndex - 1 : partitionIndex;
+        }
+        List<BookEntity> result = new ArrayList<>(size);
+        for (int p = partitionIndex; p < current.partitions.length && result.size() < size; p++) {
+            Partition partition = current.partitions[p];
+            int start = 0;
+            if (lastId != null) {
+                start = Arrays.binarySearch(partition.ids, lastId);
+                start = start < 0 ? -start - 1 : start + 1;
+            }
+            for (int i = start; i < partition.ids.length && result.size() < size; i++) {
+                result.add(partition.books[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<BookEntity> findAll(BookQuery query, int page, int size) {
+        if (page < 0 || size <= 0) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        long[] author = query.authorSlug() == null ? null : current.authors.get(query.authorSlug());
+        long[] publisher = query.publisherSlug() == null ? null : current.publishers.get(query.publisherSlug());
+        if ((query.authorSlug() != null && author == null) || (query.publisherSlug() != null && publisher == null)) {
+            return List.of();
+        }
+        BookFilter filter = BookFilter.of(query);
+        long skip = (long) page * size;
+        Iterator<BookEntity> candidates = current.candidates(author, publisher);
+        if (query.sort() != BookSort.ID) {
+            return topRanked(candidates, filter, query.sort(), skip, size);
+        }
+        List<BookEntity> result = new ArrayList<>(size);
+        while (candidates.hasNext() && result.size() < size) {
+            BookEntity book = candidates.next();
+            if (!filter.matches(book)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+            } else {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<BookEntity> findAllByAuthorSlug(String slug, int page, int size) {
+        if (page < 0 || size <= 0 || slug == null) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        return current.booksOf(current.authors.get(slug), (long) page * size, size);
+    }
+
+    @Override
+    public List<BookEntity> findAllByPublisherSlug(String slug, int page, int size) {
+        if (page < 0 || size <= 0 || slug == null) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        return current.booksOf(current.publishers.get(slug), (long) page * size, size);
+    }
+
+    @Override
+    public Stream<BookEntity> streamAll() {
+        return Arrays.stream(snapshot.partitions)
+                .flatMap(partition -> Arrays.stream(partition.books));
+    }
+
+    @Override
+    public Optional<BookEntity> findByIsbn(String isbn) {
+        return isbn == null ? Optional.empty() : Optional.ofNullable(snapshot.byIsbn(isbn));
+    }
+
+    @Override
+    public Optional<BookEntity> findById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(snapshot.byId(id));
+    }
+
+    @Override
+    public List<BookEntity> findAllByIsbnIn(Collection<String> isbns) {
+        Snapshot current = snapshot;
+        List<BookEntity> result = new ArrayList<>(isbns.size());
+        for (String isbn : isbns) {
+            BookEntity book = isbn == null ? null : current.byIsbn(isbn);
+            if (book != null) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<BookEntity> findAllByIdIn(Collection<Long> ids) {
+        Snapshot current = snapshot;
+        List<BookEntity> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            BookEntity book = id == null ? null : current.byId(id);
+            if (book != null) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public BookEntity save(BookEntity bookEntity) {
+        BookEntity saved = delegate.save(bookEntity);
+        publish(List.of(saved.id()));
+        return saved;
+    }
+
+    @Override
+    public Optional<BookEntity> saveIfAbsent(BookEntity bookEntity) {
+        Optional<BookEntity> saved = delegate.saveIfAbsent(bookEntity);
+        saved.ifPresent(book -> publish(List.of(book.id())));
+        return saved;
+    }
+
+    @Override
+    public UpsertResult<BookEntity> upsert(BookEntity bookEntity) {
+        UpsertResult<BookEntity> result = delegate.upsert(bookEntity);
+        publish(List.of(result.current().id()));
+        return result;
+    }
+
+    @Override
+    public BookEntity update(BookEntity bookEntity) {
+        BookEntity updated = delegate.update(bookEntity);
+        publish(List.of(updated.id()));
+        return updated;
+    }
+
+    @Override
+    public void delete(String isbn) {
+        BookEntity existing = isbn == null ? null : snapshot.byIsbn(isbn);
+        delegate.delete(isbn);
+        if (existing != null) {
+            publish(List.of(existing.id()));
+        }
+    }
+
+    @Override
+    public List<BookEntity> saveAll(List<BookEntity> bookEntities) {
+        List<BookEntity> saved = delegate.saveAll(bookEntities);
+        publish(saved.stream().map(BookEntity::id).toList());
+        return saved;
+    }
+
+    @Override
+    public List<BookEntity> updateAll(List<BookEntity> bookEntities) {
+        List<BookEntity> updated = delegate.updateAll(bookEntities);
+        publish(updated.stream().map(BookEntity::id).toList());
+        return updated;
+    }
+
+    @Override
+    public void deleteAll(Collection<String> isbns) {
+        List<Long> ids = findAllByIsbnIn(isbns).stream().map(BookEntity::id).toList();
+        delegate.deleteAll(isbns);
+        publish(ids);
+    }
+
+    public void refreshAll() {
+        publishLock.lock();
+        try {
+            Map<Long, BookEntity> books = new HashMap<>();
+            try (Stream<BookEntity> stream = delegate.streamAll()) {
+                stream.forEach(book -> books.put(book.id(), book));
+            }
+            snapshot.forEach(book -> books.putIfAbsent(book.id(), null));
+            snapshot = snapshot.apply(books);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    public int size() {
+        return snapshot.size;
+    }
+
+    private void publish(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        publishLock.lock();
+        try {
+            Set<Long> pending = new LinkedHashSet<>(ids);
+            Map<Long, BookEntity> changes = new HashMap<>(pending.size() * 2);
+            for (BookEntity book : delegate.findAllByIdIn(pending)) {
+                changes.put(book.id(), book);
+            }
+            for (Long id : pending) {
+                changes.putIfAbsent(id, null);
+            }
+            snapshot = snapshot.apply(changes);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private static List<BookEntity> topRanked(Iterator<BookEntity> candidates, BookFilter filter, BookSort sort, long skip, int size) {
+        long needed = skip + size;
+        Collator collator = sort == BookSort.TITLE_ASC || sort == BookSort.TITLE_DESC ? BookSortIndex.titleCollator() : null;
+        Comparator<Ranked> order = orderOf(sort);
+        PriorityQueue<Ranked> worstFirst = new PriorityQueue<>(order.reversed());
+        while (candidates.hasNext()) {
+            BookEntity book = candidates.next();
+            if (!filter.matches(book)) {
+                continue;
+            }
+            worstFirst.add(rank(book, sort, collator));
+            if (worstFirst.size() > needed) {
+                worstFirst.poll();
+            }
+        }
+        if (worstFirst.size() <= skip) {
+            return List.of();
+        }
+        List<Ranked> ranked = new ArrayList<>(worstFirst);
+        ranked.sort(order);
+        return ranked.subList((int) skip, ranked.size()).stream().map(Ranked::book).toList();
+    }
+
+    private static Ranked rank(BookEntity book, BookSort sort, Collator collator) {
+        if (sort == BookSort.PRICE_ASC || sort == BookSort.PRICE_DESC) {
+            return new Ranked(book, BookSortIndex.priceCentsOf(book), null);
+        }
+        if (sort == BookSort.DATE_ASC || sort == BookSort.DATE_DESC) {
+            return new Ranked(book, BookSortIndex.epochDayOf(book), null);
+        }
+        return new Ranked(book, 0, BookSortIndex.titleKeyOf(collator, book));
+    }
+
+    private static Comparator<Ranked> orderOf(BookSort sort) {
+        if (sort == BookSort.TITLE_ASC || sort == BookSort.TITLE_DESC) {
+            Comparator<Ranked> byTitle = Comparator.comparing(Ranked::title).thenComparingLong(ranked -> ranked.book().id());
+            return sort == BookSort.TITLE_DESC ? byTitle.reversed() : byTitle;
+        }
+        boolean descending = sort == BookSort.PRICE_DESC || sort == BookSort.DATE_DESC;
+        return (left, right) -> BookSortIndex.compare(left.key(), left.book().id(), right.key(), right.book().id(), descending);
+    }
+
+    private static Set<String> authorSlugsOf(BookEntity book) {
+        if (book == null || book.authors() == null) {
+            return Set.of();
+        }
+        Set<String> slugs = new HashSet<>();
+        for (AuthorEntity author : book.authors()) {
+            if (author != null && author.slug() != null) {
+                slugs.add(author.slug());
+            }
+        }
+        return slugs;
+    }
+
+    private static Set<String> publisherSlugsOf(BookEntity book) {
+        PublisherEntity publisher = book == null ? null : book.publisher();
+        return publisher == null || publisher.slug() == null ? Set.of() : Set.of(publisher.slug());
+    }
+
+    private record Ranked(BookEntity book, long key, CollationKey title) {
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new Partition[0], HashPartitions.empty(),
+                HashPartitions.empty(), HashPartitions.empty(), 0);
+
+        private final long[] keys;
+        private final Partition[] partitions;
+        private final HashPartitions<String, BookEntity> isbns;
+        private final HashPartitions<String, long[]> authors;
+        private final HashPartitions<String, long[]> publishers;
+        private final int size;
+
+        private Snapshot(
+                long[] keys,
+                Partition[] partitions,
+                HashPartitions<String, BookEntity> isbns,
+                HashPartitions<String, long[]> authors,
+                HashPartitions<String, long[]> publishers,
+                int size
+        ) {
+            this.keys = keys;
+            this.partitions = partitions;
+            this.isbns = isbns;
+            this.authors = authors;
+            this.publishers = publishers;
+            this.size = size;
+        }
+
+        private BookEntity byId(long id) {
+            int index = Arrays.binarySearch(keys, id >> PARTITION_SHIFT);
+            return index < 0 ? null : partitions[index].get(id);
+        }
+
+        private BookEntity byIsbn(String isbn) {
+            return isbns.get(isbn);
+        }
+
+        private Iterator<BookEntity> candidates(long[] author, long[] publisher) {
+            if (author == null && publisher == null) {
+                return Arrays.stream(partitions).flatMap(partition -> Arrays.stream(partition.books)).iterator();
+            }
+            long[] driver = author == null || (publisher != null && publisher.length < author.length) ? publisher : author;
+            long[] other = driver == author ? publisher : author;
+            return Arrays.stream(driver)
+                    .filter(id -> other == null || Arrays.binarySearch(other, id) >= 0)
+                    .mapToObj(this::byId)
+                    .filter(Objects::nonNull)
+                    .iterator();
+        }
+
+        private List<BookEntity> booksOf(long[] ids, long skip, int size) {
+            if (ids == null || skip >= ids.length) {
+                return List.of();
+            }
+            int to = (int) Math.min(ids.length, skip + size);
+            List<BookEntity> result = new ArrayList<>(to - (int) skip);
+            for (int i = (int) skip; i < to; i++) {
+                BookEntity book = byId(ids[i]);
+                if (book != null) {
+                    result.add(book);
+                }
+            }
+            return result;
+        }
+
+        private void forEach(Consumer<BookEntity> action) {
+            for (Partition partition : partitions) {
+                for (BookEntity book : partition.books) {
+                    action.accept(book);
+                }
+            }
+        }
+
+        private Snapshot apply(Map<Long, BookEntity> changes) {
+            TreeMap<Long, TreeMap<Long, BookEntity>> byPartition = new TreeMap<>();
+            HashPartitions.Editor<String, BookEntity> newIsbns = isbns.edit();
+            Map<String, FacetChange> authorChanges = new HashMap<>();
+            Map<String, FacetChange> publisherChanges = new HashMap<>();
+            int newSize = size;
+            for (Map.Entry<Long, BookEntity> change : changes.entrySet()) {
+                long id = change.getKey();
+                BookEntity previous = byId(id);
+                BookEntity current = change.getValue();
+                if (Objects.equals(previous, current)) {
+                    continue;
+                }
+                byPartition.computeIfAbsent(id >> PARTITION_SHIFT, key -> new TreeMap<>()).put(id, current);
+                if (previous != null) {
+                    BookEntity owner = newIsbns.get(previous.isbn());
+                    if (owner != null && owner.id().equals(previous.id())) {
+                        newIsbns.remove(previous.isbn());
+                    }
+                    newSize--;
+                }
+                if (current != null) {
+                    newIsbns.put(current.isbn(), current);
+                    newSize++;
+                }
+                FacetChange.track(authorChanges, id, authorSlugsOf(previous), authorSlugsOf(current));
+                FacetChange.track(publisherChanges, id, publisherSlugsOf(previous), publisherSlugsOf(current));
+            }
+            if (byPartition.isEmpty()) {
+                return this;
+            }
+            List<Long> newKeys = new ArrayList<>(keys.length + byPartition.size());
+            List<Partition> newPartitions = new ArrayList<>(keys.length + byPartition.size());
+            int i = 0;
+            for (Map.Entry<Long, TreeMap<Long, BookEntity>> entry : byPartition.entrySet()) {
+                long key = entry.getKey();
+                while (i < keys.length && keys[i] < key) {
+                    newKeys.add(keys[i]);
+                    newPartitions.add(partitions[i]);
+                    i++;
+                }
+                Partition base = Partition.EMPTY;
+                if (i < keys.length && keys[i] == key) {
+                    base = partitions[i];
+                    i++;
+                }
+                Partition merged = base.merge(entry.getValue());
+                if (merged.ids.length > 0) {
+                    newKeys.add(key);
+                    newPartitions.add(merged);
+                }
+            }
+            while (i < keys.length) {
+                newKeys.add(keys[i]);
+                newPartitions.add(partitions[i]);
+                i++;
+            }
+            long[] keyArray = new long[newKeys.size()];
+            for (int k = 0; k < keyArray.length; k++) {
+                keyArray[k] = newKeys.get(k);
+            }
+            return new Snapshot(keyArray, newPartitions.toArray(new Partition[0]), newIsbns.build(),
+                    FacetChange.applyAll(authors, authorChanges), FacetChange.applyAll(publishers, publisherChanges), newSize);
+        }
+    }
+
+    private static final class FacetChange {
+
+        private final LongHashSet removed = new LongHashSet();
+        private final LongArrayList added = new LongArrayList();
+
+        private static void track(Map<String, FacetChange> changes, long id, Set<String> previous, Set<String> current) {
+            for (String slug : previous) {
+                if (!current.contains(slug)) {
+                    changes.computeIfAbsent(slug, key -> new FacetChange()).removed.add(id);
+                }
+            }
+            for (String slug : current) {
+                if (!previous.contains(slug)) {
+                    changes.computeIfAbsent(slug, key -> new FacetChange()).added.add(id);
+                }
+            }
+        }
+
+        private static HashPartitions<String, long[]> applyAll(HashPartitions<String, long[]> facets, Map<String, FacetChange> changes) {
+            if (changes.isEmpty()) {
+                return facets;
+            }
+            HashPartitions.Editor<String, long[]> editor = facets.edit();
+            for (Map.Entry<String, FacetChange> change : changes.entrySet()) {
+                long[] ids = change.getValue().applyTo(editor.get(change.getKey()));
+                if (ids.length == 0) {
+                    editor.remove(change.getKey());
+                } else {
+                    editor.put(change.getKey(), ids);
+                }
+            }
+            return editor.build();
+        }
+
+        private long[] applyTo(long[] ids) {
+            long[] current = ids == null ? NO_IDS : ids;
+            LongArrayList merged = new LongArrayList(current.length + added.size());
+            for (long id : current) {
+                if (!removed.contains(id)) {
+                    merged.add(id);
+                }
+            }
+            added.forEach(merged::add);
+            merged.sort();
+            long[] sorted = merged.toArray();
+            int count = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[count++] = sorted[i];
+                }
+            }
+            return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+        }
+    }
+
+    private static final class HashPartitions<K, V> {
+
+        private static final HashPartitions<?, ?> EMPTY = new HashPartitions<>(emptyPartitions(1), 0);
+
+        private final Map<K, V>[] partitions;
+        private final int size;
+
+        private HashPartitions(Map<K, V>[] partitions, int size) {
+            this.partitions = partitions;
+            this.size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <K, V> HashPartitions<K, V> empty() {
+            return (HashPartitions<K, V>) EMPTY;
+        }
+
+        private V get(K key) {
+            return partitions[indexOf(key, partitions.length)].get(key);
+        }
+
+        private Editor<K, V> edit() {
+            return new Editor<>(partitions.clone(), size);
+        }
+
+        private static int indexOf(Object key, int length) {
+            int h = key.hashCode();
+            return (h ^ (h >>> 16)) & (length - 1);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <K, V> Map<K, V>[] emptyPartitions(int count) {
+            Map<K, V>[] partitions = new Map[count];
+            Arrays.fill(partitions, Map.of());
+            return partitions;
+        }
+
+        private static final class Editor<K, V> {
+
+            private final Map<K, V>[] partitions;
+            private final boolean[] copied;
+            private int size;
+
+            private Editor(Map<K, V>[] partitions, int size) {
+                this.partitions = partitions;
+                this.copied = new boolean[partitions.length];
+                this.size = size;
+            }
+
+            private V get(K key) {
+                return partitions[indexOf(key, partitions.length)].get(key);
+            }
+
+            private void put(K key, V value) {
+                if (writable(key).put(key, value) == null) {
+                    size++;
+                }
+            }
+
+            private void remove(K key) {
+                if (get(key) != null) {
+                    writable(key).remove(key);
+                    size--;
+                }
+            }
+
+            private HashPartitions<K, V> build() {
+                int count = partitions.length;
+                if (size > 2 * HASH_PARTITION_TARGET * count || (count > 1 && 2 * size < HASH_PARTITION_TARGET * count)) {
+                    return rehash(Integer.highestOneBit(Math.max(1, size / HASH_PARTITION_TARGET)));
+                }
+                return new HashPartitions<>(partitions, size);
+            }
+
+            private Map<K, V> writable(K key) {
+                int index = indexOf(key, partitions.length);
+                if (!copied[index]) {
+                    partitions[index] = new HashMap<>(partitions[index]);
+                    copied[index] = true;
+                }
+                return partitions[index];
+            }
+
+            private HashPartitions<K, V> rehash(int count) {
+                Map<K, V>[] rehashed = emptyPartitions(count);
+                for (int i = 0; i < count; i++) {
+                    rehashed[i] = new HashMap<>();
+                }
+                for (Map<K, V> partition : partitions) {
+                    partition.forEach((key, value) -> rehashed[indexOf(key, count)].put(key, value));
+                }
+                return new HashPartitions<>(rehashed, size);
+            }
+        }
+    }
+
+    private static final class Partition {
+
+        private static final Partition EMPTY = new Partition(new long[0], new BookEntity[0]);
+
+        private final long[] ids;
+        private final BookEntity[] books;
+
+        private Partition(long[] ids, BookEntity[] books) {
+            this.ids = ids;
+            this.books = books;
+        }
+
+        private BookEntity get(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index < 0 ? null : books[index];
+        }
+
+        private Partition merge(TreeMap<Long, BookEntity> changes) {
+            long[] mergedIds = new long[ids.length + changes.size()];
+            BookEntity[] mergedBooks = new BookEntity[mergedIds.length];
+            int count = 0;
+            int i = 0;
+            for (Map.Entry<Long, BookEntity> change : changes.entrySet()) {
+                long id = change.getKey();
+                while (i < ids.length && ids[i] < id) {
+                    mergedIds[count] = ids[i];
+                    mergedBooks[count++] = books[i++];
+                }
+                if (i < ids.length && ids[i] == id) {
+                    i++;
+                }
+                if (change.getValue() != null) {
+                    mergedIds[count] = id;
+                    mergedBooks[count++] = change.getValue();
+                }
+            }
+            while (i < ids.length) {
+                mergedIds[count] = ids[i];
+                mergedBooks[count++] = books[i++];
+            }
+            return new Partition(Arrays.copyOf(mergedIds, count), Arrays.copyOf(mergedBooks, count));
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package es.cesguiro.search;
+
+import es.cesguiro.collection.LongArrayList;
+import es.cesguiro.collection.LongObjectHashMap;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.service.BookListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+public class BookSearchIndex implements BookListener {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SYNOPSIS_WEIGHT = 1;
+    private static final int STRIPES = 64;
+    private static final Comparator<SearchHit> BY_RANK = Comparator
+            .comparingDouble(SearchHit::score)
+            .thenComparing(SearchHit::bookId, Comparator.reverseOrder());
+
+    private final TermStripe[] termStripes = new TermStripe[STRIPES];
+    private final BookStripe[] bookStripes = new BookStripe[STRIPES];
+    private final AtomicInteger documents = new AtomicInteger();
+
+    public BookSearchIndex() {
+        for (int i = 0; i < STRIPES; i++) {
+            termStripes[i] = new TermStripe();
+            bookStripes[i] = new BookStripe();
+        }
+    }
+
+    @Override
+    public void onCreated(BookEntity book) {
+        index(book);
+    }
+
+    @Override
+    public void onUpdated(BookEntity previous, BookEntity current) {
+        if (previous != null && !previous.id().equals(current.id())) {
+            remove(previous.id());
+        }
+        index(current);
+    }
+
+    @Override
+    public void onDeleted(BookEntity book) {
+        remove(book.id());
+    }
+
+    public void index(BookEntity book) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, book.titleEs(), Language.ES, TITLE_WEIGHT);
+        addTerms(frequencies, book.titleEn(), Language.EN, TITLE_WEIGHT);
+        addTerms(frequencies, book.synopsisEs(), Language.ES, SYNOPSIS_WEIGHT);
+        addTerms(frequencies, book.synopsisEn(), Language.EN, SYNOPSIS_WEIGHT);
+        long bookId = book.id();
+        BookStripe bookStripe = bookStripe(bookId);
+        bookStripe.lock.lock();
+        try {
+            String[] previousTerms = bookStripe.termsByBook.put(bookId, frequencies.keySet().toArray(String[]::new));
+            if (previousTerms == null) {
+                documents.incrementAndGet();
+            } else {
+                for (String term : previousTerms) {
+                    if (!frequencies.containsKey(term)) {
+                        unpost(term, bookId);
+                    }
+                }
+            }
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                post(entry.getKey(), bookId, entry.getValue());
+            }
+        } finally {
+            bookStripe.lock.unlock();
+        }
+    }
+
+    public void remove(Long bookId) {
+        if (bookId == null) {
+            return;
+        }
+        BookStripe bookStripe = bookStripe(bookId);
+        bookStripe.lock.lock();
+        try {
+            String[] terms = bookStripe.termsByBook.remove(bookId);
+            if (terms == null) {
+                return;
+            }
+            documents.decrementAndGet();
+            for (String term : terms) {
+                unpost(term, bookId);
+            }
+        } finally {
+            bookStripe.lock.unlock();
+        }
+    }
+
+    public void clear() {
+        for (BookStripe bookStripe : bookStripes) {
+            bookStripe.lock.lock();
+        }
+        try {
+            for (TermStripe termStripe : termStripes) {
+                long stamp = termStripe.lock.writeLock();
+                try {
+                    termStripe.postings.clear();
+                } finally {
+                    termStripe.lock.unlockWrite(stamp);
+                }
+            }
+            for (BookStripe bookStripe : bookStripes) {
+                bookStripe.termsByBook.clear();
+            }
+            documents.set(0);
+        } finally {
+            for (BookStripe bookStripe : bookStripes) {
+                bookStripe.lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        return documents.get();
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (Language language : Language.values()) {
+            terms.addAll(TextAnalyzer.analyze(query, language));
+        }
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        int[] stripes = terms.stream().mapToInt(BookSearchIndex::stripeOf).distinct().sorted().toArray();
+        long[] stamps = new long[stripes.length];
+        int locked = 0;
+        try {
+            for (; locked < stripes.length; locked++) {
+                stamps[locked] = termStripes[stripes[locked]].lock.readLock();
+            }
+            List<PostingCursor> cursors = new ArrayList<>(terms.size());
+            long candidates = 0;
+            for (String term : terms) {
+                Posting posting = termStripes[stripeOf(term)].postings.get(term);
+                if (posting != null) {
+                    cursors.add(new PostingCursor(posting));
+                    candidates += posting.ids.size();
+                }
+            }
+            if (cursors.isEmpty()) {
+                return List.of();
+            }
+            double documentCount = Math.max(documents.get(), 1);
+            for (PostingCursor cursor : cursors) {
+                cursor.weigh(documentCount);
+            }
+            cursors.sort(Comparator.comparingDouble(cursor -> cursor.maxScore));
+            return topK(cursors.toArray(PostingCursor[]::new), (int) Math.min(limit, candidates));
+        } finally {
+            for (int i = 0; i < locked; i++) {
+                termStripes[stripes[i]].lock.unlockRead(stamps[i]);
+            }
+        }
+    }
+
+    private static List<SearchHit> topK(PostingCursor[] cursors, int limit) {
+        double[] bounds = new double[cursors.length];
+        double bound = 0;
+        for (int i = 0; i < cursors.length; i++) {
+            bound += cursors[i].maxScore;
+            bounds[i] = bound;
+        }
+        double[] contributions = new double[cursors.length];
+        TopHits top = new TopHits(limit);
+        int firstEssential = 0;
+        while (firstEssential < cursors.length) {
+            long bookId = Long.MAX_VALUE;
+            for (int i = firstEssential; i < cursors.length; i++) {
+                if (cursors[i].hasCurrent()) {
+                    bookId = Math.min(bookId, cursors[i].current());
+                }
+            }
+            if (bookId == Long.MAX_VALUE) {
+                break;
+            }
+            Arrays.fill(contributions, 0);
+            double partial = 0;
+            for (int i = firstEssential; i < cursors.length; i++) {
+                PostingCursor cursor = cursors[i];
+                if (cursor.hasCurrent() && cursor.current() == bookId) {
+                    contributions[i] = cursor.score();
+                    partial += contributions[i];
+                    cursor.next();
+                }
+            }
+            boolean pruned = false;
+            for (int i = firstEssential - 1; i >= 0 && !pruned; i--) {
+                pruned = top.isFull() && partial + bounds[i] <= top.threshold();
+                if (!pruned && cursors[i].advanceTo(bookId)) {
+                    contributions[i] = cursors[i].score();
+                    partial += contributions[i];
+                }
+            }
+            if (pruned) {
+                continue;
+            }
+            double score = 0;
+            for (double contribution : contributions) {
+                score += contribution;
+            }
+            if (top.offer(bookId, score)) {
+                while (top.isFull() && firstEssential < cursors.length && bounds[firstEssential] <= top.threshold()) {
+                    firstEssential++;
+                }
+            }
+        }
+        return top.toHits();
+    }
+
+    private void post(String term, long bookId, int frequency) {
+        TermStripe termStripe = termStripe(term);
+        long stamp = termStripe.lock.writeLock();
+        try {
+            termStripe.postings.computeIfAbsent(term, key -> new Posting()).put(bookId, frequency);
+        } finally {
+            termStripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    private void unpost(String term, long bookId) {
+        TermStripe termStripe = termStripe(term);
+        long stamp = termStripe.lock.writeLock();
+        try {
+            Posting posting = termStripe.postings.get(term);
+            if (posting != null && posting.remove(bookId) && posting.isEmpty()) {
+                termStripe.postings.remove(term);
+            }
+        } finally {
+            termStripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    private TermStripe termStripe(String term) {
+        return termStripes[stripeOf(term)];
+    }
+
+    private static int stripeOf(String term) {
+        return term.hashCode() & (STRIPES - 1);
+    }
+
+    private BookStripe bookStripe(long bookId) {
+        return bookStripes[Long.hashCode(bookId) & (STRIPES - 1)];
+    }
+
+    private static void addTerms(Map<String, Integer> frequencies, String text, Language language, int weight) {
+        for (String term : TextAnalyzer.analyze(text, language)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    private static final class TermStripe {
+        private final StampedLock lock = new StampedLock();
+        private final Map<String, Posting> postings = new HashMap<>();
+    }
+
+    private static final class BookStripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LongObjectHashMap<String[]> termsByBook = new LongObjectHashMap<>();
+    }
+
+    private static final class Posting {
+        private final LongArrayList ids = new LongArrayList(4);
+        private int[] frequencies = new int[4];
+        private int maxFrequency;
+
+        private void put(long bookId, int frequency) {
+            int index = ids.binarySearch(bookId);
+            if (index < 0) {
+                index = -index - 1;
+                ids.add(index, bookId);
+                if (ids.size() > frequencies.length) {
+                    frequencies = Arrays.copyOf(frequencies, frequencies.length * 2);
+                }
+                System.arraycopy(frequencies, index, frequencies, index + 1, ids.size() - index - 1);
+            }
+            frequencies[index] = frequency;
+            maxFrequency = Math.max(maxFrequency, frequency);
+        }
+
+        private boolean remove(long bookId) {
+            int index = ids.binarySearch(bookId);
+            if (index < 0) {
+                return false;
+            }
+            ids.removeAt(index);
+            System.arraycopy(frequencies, index + 1, frequencies, index, ids.size() - index);
+            return true;
+        }
+
+        private boolean isEmpty() {
+            return ids.isEmpty();
+        }
+    }
+
+    private static final class PostingCursor {
+        private final LongArrayList ids;
+        private final int[] frequencies;
+        private final int maxFrequency;
+        private final int size;
+        private double idf;
+        private double maxScore;
+        private int position;
+
+        private PostingCursor(Posting posting) {
+            this.ids = posting.ids;
+            this.frequencies = posting.frequencies;
+            this.maxFrequency = posting.maxFrequency;
+            this.size = posting.ids.size();
+        }
+
+        private void weigh(double documentCount) {
+            idf = Math.log(1 + documentCount / size);
+            maxScore = (1 + Math.log(maxFrequency)) * idf;
+        }
+
+        private boolean hasCurrent() {
+            return position < size;
+        }
+
+        private long current() {
+            return ids.get(position);
+        }
+
+        private double score() {
+            return (1 + Math.log(frequencies[position])) * idf;
+        }
+
+        private void next() {
+            position++;
+        }
+
+        private boolean advanceTo(long bookId) {
+            if (position >= size || ids.get(position) > bookId) {
+                return false;
+            }
+            int index = ids.binarySearch(bookId);
+            position = Math.max(position, index >= 0 ? index : -index - 1);
+            return index >= 0;
+        }
+    }
+
+    private static final class TopHits {
+        private final long[] ids;
+        private final double[] scores;
+        private int size;
+
+        private TopHits(int limit) {
+            this.ids = new long[limit];
+            this.scores = new double[limit];
+        }
+
+        private boolean isFull() {
+            return size == ids.length;
+        }
+
+        private double threshold() {
+            return scores[0];
+        }
+
+        private boolean offer(long bookId, double score) {
+            if (size < ids.length) {
+                ids[size] = bookId;
+                scores[size] = score;
+                siftUp(size++);
+                return true;
+            }
+            if (!ranksAbove(bookId, score, ids[0], scores[0])) {
+                return false;
+            }
+            ids[0] = bookId;
+            scores[0] = score;
+            siftDown(0);
+            return true;
+        }
+
+        private List<SearchHit> toHits() {
+            List<SearchHit> hits = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                hits.add(new SearchHit(ids[i], scores[i]));
+            }
+            hits.sort(BY_RANK.reversed());
+            return hits;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!ranksAbove(ids[parent], scores[parent], ids[index], scores[index])) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int worst = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && ranksAbove(ids[worst], scores[worst], ids[left], scores[left])) {
+                    worst = left;
+                }
+                if (right < size && ranksAbove(ids[worst], scores[worst], ids[right], scores[right])) {
+                    worst = right;
+                }
+                if (worst == index) {
+                    return;
+                }
+                swap(index, worst);
+                index = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+            double score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+
+        private static boolean ranksAbove(long bookId, double score, long otherId, double otherScore) {
+            return score > otherScore || score == otherScore && bookId < otherId;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package es.cesguiro.search;
+
+import java.util.Set;
+
+public enum Language {
+    ES(Set.of(
+            "a", "al", "ante", "con", "como", "de", "del", "desde", "el", "en", "entre", "es", "esta", "este",
+            "hacia", "la", "las", "lo", "los", "mas", "no", "o", "para", "pero", "por", "que", "se", "sin",
+            "sobre", "su", "sus", "un", "una", "uno", "unos", "unas", "y"
+    )) {
+        @Override
+        String stem(String term) {
+            int length = term.length();
+            if (length < 5) {
+                return term;
+            }
+            char last = term.charAt(length - 1);
+            if (last == 'a' || last == 'o' || last == 'e') {
+                return term.substring(0, length - 1);
+            }
+            if (last == 's') {
+                char previous = term.charAt(length - 2);
+                if (term.endsWith("eses")) {
+                    return term.substring(0, length - 2);
+                }
+                if (term.endsWith("ces")) {
+                    return term.substring(0, length - 3) + 'z';
+                }
+                if (previous == 'a' || previous == 'o' || previous == 'e') {
+                    return term.substring(0, length - 2);
+                }
+            }
+            return term;
+        }
+    },
+    EN(Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "he", "in", "is", "it", "its",
+            "of", "on", "or", "that", "the", "to", "was", "were", "will", "with"
+    )) {
+        @Override
+        String stem(String term) {
+            int length = term.length();
+            if (length > 4 && term.endsWith("ies")) {
+                return term.substring(0, length - 3) + 'y';
+            }
+            if (length > 3 && term.endsWith("es") && (term.endsWith("ses") || term.endsWith("xes") || term.endsWith("ches") || term.endsWith("shes"))) {
+                term = term.substring(0, length - 2);
+            } else if (length > 3 && term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us")) {
+                term = term.substring(0, length - 1);
+            }
+            length = term.length();
+            if (length > 5 && term.endsWith("ing")) {
+                return term.substring(0, length - 3);
+            }
+            if (length > 4 && term.endsWith("ed")) {
+                return term.substring(0, length - 2);
+            }
+            if (length > 4 && term.endsWith("ly")) {
+                return term.substring(0, length - 2);
+            }
+            return term;
+        }
+    };
+
+    private final Set<String> stopWords;
+
+    Language(Set<String> stopWords) {
+        this.stopWords = stopWords;
+    }
+
+    boolean isStopWord(String term) {
+        return stopWords.contains(term);
+    }
+
+    abstract String stem(String term);
+}
@@ -0,0 +1,4 @@
+package es.cesguiro.search;
+
+public record SearchHit(long bookId, double score) {
+}
@@ -0,0 +1,15 @@
+package es.cesguiro.service;
+
+import es.cesguiro.repository.entity.AuthorEntity;
+
+public interface AuthorListener {
+
+    default void onCreated(AuthorEntity author) {
+    }
+
+    default void onUpdated(AuthorEntity previous, AuthorEntity current) {
+    }
+
+    default void onDeleted(AuthorEntity author) {
+    }
+}
@@ -1,13 +1,17 @@
 package es.cesguiro.service;
 
 import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BatchResultDto;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface AuthorService {
 
     List<AuthorDto> getAll();
 
+    Stream<AuthorDto> streamAll();
+
     AuthorDto getBySlug(String slug);
 
     AuthorDto create(AuthorDto authorDto);
@@ -15,4 +19,10 @@ public interface AuthorService {
     AuthorDto update(String slug,AuthorDto authorDto);
 
     int delete(String slug);
+
+    BatchResultDto<AuthorDto> createAll(List<AuthorDto> authorDtos);
+
+    BatchResultDto<AuthorDto> updateAll(List<AuthorDto> authorDtos);
+
+    BatchResultDto<String> deleteAll(List<String> slugs);
 }
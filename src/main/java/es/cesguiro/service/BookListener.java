@@ -0,0 +1,15 @@
+package es.cesguiro.service;
+
+import es.cesguiro.repository.entity.BookEntity;
+
+public interface BookListener {
+
+    default void onCreated(BookEntity book) {
+    }
+
+    default void onUpdated(BookEntity previous, BookEntity current) {
+    }
+
+    default void onDeleted(BookEntity book) {
+    }
+}
@@ -0,0 +1,12 @@
+package es.cesguiro.service;
+
+import es.cesguiro.service.dto.BookDto;
+
+import java.util.List;
+
+public interface BookSearchService {
+
+    List<BookDto> search(String query, int limit);
+
+    void reindex();
+}
@@ -1,20 +1,42 @@
 package es.cesguiro.service;
 
+import es.cesguiro.repository.BookQuery;
+import es.cesguiro.service.dto.BatchResultDto;
 import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.CursorPageDto;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookService {
 
     List<BookDto> getAll(int page, int size);
 
+    CursorPageDto<BookDto> getAllAfter(String cursor, int size);
+
+    List<BookDto> getAll(BookQuery query, int page, int size);
+
+    List<BookDto> getByAuthorSlug(String slug, int page, int size);
+
+    List<BookDto> getByPublisherSlug(String slug, int page, int size);
+
+    Stream<BookDto> streamAll();
+
     BookDto getByIsbn(String isbn);
 
     BookDto create(BookDto bookDto);
 
+    BookDto upsert(BookDto bookDto);
+
     BookDto update(BookDto bookDto);
 
     void delete(String isbn);
 
+    BatchResultDto<BookDto> createAll(List<BookDto> bookDtos);
+
+    BatchResultDto<BookDto> updateAll(List<BookDto> bookDtos);
+
+    BatchResultDto<String> deleteAll(List<String> isbns);
+
 }
@@ -0,0 +1,18 @@
+package es.cesguiro.service;
+
+import es.cesguiro.service.dto.CatalogStatisticsDto;
+
+public interface CatalogStatisticsService {
+
+    CatalogStatisticsDto getStatistics();
+
+    long countBooksByPublisher(String publisherSlug);
+
+    long countBooksByNationality(String nationality);
+
+    long countBooksByPublicationYear(int year);
+
+    double getAverageDiscount();
+
+    void rebuild();
+}
@@ -1,13 +1,17 @@
 package es.cesguiro.service;
 
+import es.cesguiro.service.dto.BatchResultDto;
 import es.cesguiro.service.dto.PublisherDto;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PublisherService {
 
     List<PublisherDto> getAll();
 
+    Stream<PublisherDto> streamAll();
+
     PublisherDto getBySlug(String slug);
 
     PublisherDto create(PublisherDto publisherDto);
@@ -15,4 +19,10 @@ public interface PublisherService {
     PublisherDto update(PublisherDto publisherDto);
 
     int delete(String slug);
+
+    BatchResultDto<PublisherDto> createAll(List<PublisherDto> publisherDtos);
+
+    BatchResultDto<PublisherDto> updateAll(List<PublisherDto> publisherDtos);
+
+    BatchResultDto<String> deleteAll(List<String> slugs);
 }
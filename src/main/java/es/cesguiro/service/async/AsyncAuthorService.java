@@ -0,0 +1,66 @@
+package es.cesguiro.service.async;
+
+import es.cesguiro.service.AuthorService;
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BatchResultDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+public class AsyncAuthorService extends AsyncFacade {
+
+    private final AuthorService authorService;
+
+    public AsyncAuthorService(AuthorService authorService) {
+        this.authorService = authorService;
+    }
+
+    public AsyncAuthorService(AuthorService authorService, ExecutorService executor) {
+        super(executor, false);
+        this.authorService = authorService;
+    }
+
+    public CompletableFuture<List<AuthorDto>> getAllAsync() {
+        return supply(authorService::getAll);
+    }
+
+    public CompletableFuture<AuthorDto> getBySlugAsync(String slug) {
+        return supply(() -> authorService.getBySlug(slug));
+    }
+
+    public CompletableFuture<List<AuthorDto>> getAllBySlugAsync(List<String> slugs, Duration timeout) {
+        Scope scope = openScope();
+        List<CompletableFuture<AuthorDto>> futures = new ArrayList<>(slugs.size());
+        for (String slug : slugs) {
+            futures.add(scope.fork(() -> authorService.getBySlug(slug)));
+        }
+        return within(scope, all(futures), timeout);
+    }
+
+    public CompletableFuture<AuthorDto> createAsync(AuthorDto authorDto) {
+        return supply(() -> authorService.create(authorDto));
+    }
+
+    public CompletableFuture<AuthorDto> updateAsync(String slug, AuthorDto authorDto) {
+        return supply(() -> authorService.update(slug, authorDto));
+    }
+
+    public CompletableFuture<Integer> deleteAsync(String slug) {
+        return supply(() -> authorService.delete(slug));
+    }
+
+    public CompletableFuture<BatchResultDto<AuthorDto>> createAllAsync(List<AuthorDto> authorDtos) {
+        return supply(() -> authorService.createAll(authorDtos));
+    }
+
+    public CompletableFuture<BatchResultDto<AuthorDto>> updateAllAsync(List<AuthorDto> authorDtos) {
+        return supply(() -> authorService.updateAll(authorDtos));
+    }
+
+    public CompletableFuture<BatchResultDto<String>> deleteAllAsync(List<String> slugs) {
+        return supply(() -> authorService.deleteAll(slugs));
+    }
+}
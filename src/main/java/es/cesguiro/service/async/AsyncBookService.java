@@ -0,0 +1,106 @@
+package es.cesguiro.service.async;
+
+import es.cesguiro.repository.BookQuery;
+import es.cesguiro.service.AuthorService;
+import es.cesguiro.service.BookService;
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BatchResultDto;
+import es.cesguiro.service.dto.BookDetailsDto;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.CursorPageDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+public class AsyncBookService extends AsyncFacade {
+
+    private final BookService bookService;
+    private final AuthorService authorService;
+
+    public AsyncBookService(BookService bookService, AuthorService authorService) {
+        this.bookService = bookService;
+        this.authorService = authorService;
+    }
+
+    public AsyncBookService(BookService bookService, AuthorService authorService, ExecutorService executor) {
+        super(executor, false);
+        this.bookService = bookService;
+        this.authorService = authorService;
+    }
+
+    public CompletableFuture<List<BookDto>> getAllAsync(int page, int size) {
+        return supply(() -> bookService.getAll(page, size));
+    }
+
+    public CompletableFuture<CursorPageDto<BookDto>> getAllAfterAsync(String cursor, int size) {
+        return supply(() -> bookService.getAllAfter(cursor, size));
+    }
+
+    public CompletableFuture<List<BookDto>> getAllAsync(BookQuery query, int page, int size) {
+        return supply(() -> bookService.getAll(query, page, size));
+    }
+
+    public CompletableFuture<List<BookDto>> getByAuthorSlugAsync(String slug, int page, int size) {
+        return supply(() -> bookService.getByAuthorSlug(slug, page, size));
+    }
+
+    public CompletableFuture<List<BookDto>> getByPublisherSlugAsync(String slug, int page, int size) {
+        return supply(() -> bookService.getByPublisherSlug(slug, page, size));
+    }
+
+    public CompletableFuture<BookDto> getByIsbnAsync(String isbn) {
+        return supply(() -> bookService.getByIsbn(isbn));
+    }
+
+    public CompletableFuture<List<BookDto>> getAllByIsbnAsync(List<String> isbns, Duration timeout) {
+        Scope scope = openScope();
+        List<CompletableFuture<BookDto>> futures = new ArrayList<>(isbns.size());
+        for (String isbn : isbns) {
+            futures.add(scope.fork(() -> bookService.getByIsbn(isbn)));
+        }
+        return within(scope, all(futures), timeout);
+    }
+
+    public CompletableFuture<BookDetailsDto> getDetailsAsync(String isbn, Duration timeout) {
+        Scope scope = openScope();
+        CompletableFuture<BookDetailsDto> details = scope.fork(() -> bookService.getByIsbn(isbn)).thenCompose(book -> {
+            List<CompletableFuture<AuthorDto>> authors = new ArrayList<>(book.authors().size());
+            for (AuthorDto author : book.authors()) {
+                authors.add(scope.fork(() -> authorService.getBySlug(author.slug())));
+            }
+            return all(authors).thenApply(authorDtos -> new BookDetailsDto(book, authorDtos));
+        });
+        return within(scope, details, timeout);
+    }
+
+    public CompletableFuture<BookDto> createAsync(BookDto bookDto) {
+        return supply(() -> bookService.create(bookDto));
+    }
+
+    public CompletableFuture<BookDto> upsertAsync(BookDto bookDto) {
+        return supply(() -> bookService.upsert(bookDto));
+    }
+
+    public CompletableFuture<BookDto> updateAsync(BookDto bookDto) {
+        return supply(() -> bookService.update(bookDto));
+    }
+
+    public CompletableFuture<Void> deleteAsync(String isbn) {
+        return run(() -> bookService.delete(isbn));
+    }
+
+    public CompletableFuture<BatchResultDto<BookDto>> createAllAsync(List<BookDto> bookDtos) {
+        return supply(() -> bookService.createAll(bookDtos));
+    }
+
+    public CompletableFuture<BatchResultDto<BookDto>> updateAllAsync(List<BookDto> bookDtos) {
+        return supply(() -> bookService.updateAll(bookDtos));
+    }
+
+    public CompletableFuture<BatchResultDto<String>> deleteAllAsync(List<String> isbns) {
+        return supply(() -> bookService.deleteAll(isbns));
+    }
+}
@@ -0,0 +1,112 @@
+package es.cesguiro.service.async;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+abstract class AsyncFacade implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    AsyncFacade() {
+        this(Executors.newVirtualThreadPerTaskExecutor(), true);
+    }
+
+    AsyncFacade(ExecutorService executor, boolean ownsExecutor) {
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    CompletableFuture<Void> run(Runnable task) {
+        return CompletableFuture.runAsync(task, executor);
+    }
+
+    static <T> CompletableFuture<List<T>> all(List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<T> results = new ArrayList<>(futures.size());
+                    for (CompletableFuture<T> future : futures) {
+                        results.add(future.join());
+                    }
+                    return results;
+                });
+    }
+
+    Scope openScope() {
+        return new Scope();
+    }
+
+    static <T> CompletableFuture<T> within(Scope scope, CompletableFuture<T> future, Duration timeout) {
+        CompletableFuture<T> bounded = timeout == null ? future : future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        return bounded.whenComplete((result, failure) -> {
+            if (failure != null) {
+                scope.cancel();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.close();
+        }
+    }
+
+    final class Scope {
+
+        private final List<Child> children = new ArrayList<>();
+        private boolean cancelled;
+
+        private Scope() {
+        }
+
+        <T> CompletableFuture<T> fork(Supplier<T> task) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            synchronized (this) {
+                if (cancelled) {
+                    result.cancel(false);
+                    return result;
+                }
+                Future<?> running = executor.submit(() -> {
+                    try {
+                        result.complete(task.get());
+                    } catch (Throwable failure) {
+                        result.completeExceptionally(failure);
+                    }
+                });
+                children.add(new Child(running, result));
+            }
+            return result;
+        }
+
+        void cancel() {
+            List<Child> running;
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                running = new ArrayList<>(children);
+                children.clear();
+            }
+            for (Child child : running) {
+                child.result().cancel(false);
+                child.task().cancel(true);
+            }
+        }
+    }
+
+    private record Child(Future<?> task, CompletableFuture<?> result) {
+    }
+}
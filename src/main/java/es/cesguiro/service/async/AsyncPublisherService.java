@@ -0,0 +1,55 @@
+package es.cesguiro.service.async;
+
+import es.cesguiro.service.PublisherService;
+import es.cesguiro.service.dto.BatchResultDto;
+import es.cesguiro.service.dto.PublisherDto;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+public class AsyncPublisherService extends AsyncFacade {
+
+    private final PublisherService publisherService;
+
+    public AsyncPublisherService(PublisherService publisherService) {
+        this.publisherService = publisherService;
+    }
+
+    public AsyncPublisherService(PublisherService publisherService, ExecutorService executor) {
+        super(executor, false);
+        this.publisherService = publisherService;
+    }
+
+    public CompletableFuture<List<PublisherDto>> getAllAsync() {
+        return supply(publisherService::getAll);
+    }
+
+    public CompletableFuture<PublisherDto> getBySlugAsync(String slug) {
+        return supply(() -> publisherService.getBySlug(slug));
+    }
+
+    public CompletableFuture<PublisherDto> createAsync(PublisherDto publisherDto) {
+        return supply(() -> publisherService.create(publisherDto));
+    }
+
+    public CompletableFuture<PublisherDto> updateAsync(PublisherDto publisherDto) {
+        return supply(() -> publisherService.update(publisherDto));
+    }
+
+    public CompletableFuture<Integer> deleteAsync(String slug) {
+        return supply(() -> publisherService.delete(slug));
+    }
+
+    public CompletableFuture<BatchResultDto<PublisherDto>> createAllAsync(List<PublisherDto> publisherDtos) {
+        return supply(() -> publisherService.createAll(publisherDtos));
+    }
+
+    public CompletableFuture<BatchResultDto<PublisherDto>> updateAllAsync(List<PublisherDto> publisherDtos) {
+        return supply(() -> publisherService.updateAll(publisherDtos));
+    }
+
+    public CompletableFuture<BatchResultDto<String>> deleteAllAsync(List<String> slugs) {
+        return supply(() -> publisherService.deleteAll(slugs));
+    }
+}
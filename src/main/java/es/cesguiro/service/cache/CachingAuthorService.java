@@ -0,0 +1,107 @@
+package es.cesguiro.service.cache;
+
+import es.cesguiro.service.AuthorService;
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BatchResultDto;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class CachingAuthorService implements AuthorService {
+
+    private final AuthorService authorService;
+    private final ExpiringLruCache<String, AuthorDto> authorsBySlug;
+
+    public CachingAuthorService(AuthorService authorService, int maxSize, Duration ttl) {
+        this(authorService, new ExpiringLruCache<>(maxSize, ttl));
+    }
+
+    public CachingAuthorService(AuthorService authorService, ExpiringLruCache<String, AuthorDto> authorsBySlug) {
+        this.authorService = authorService;
+        this.authorsBySlug = authorsBySlug;
+    }
+
+    @Override
+    public List<AuthorDto> getAll() {
+        return authorService.getAll();
+    }
+
+    @Override
+    public Stream<AuthorDto> streamAll() {
+        return authorService.streamAll();
+    }
+
+    @Override
+    public AuthorDto getBySlug(String slug) {
+        if (slug == null) {
+            return authorService.getBySlug(null);
+        }
+        return authorsBySlug.getOrLoad(slug, authorService::getBySlug);
+    }
+
+    @Override
+    public AuthorDto create(AuthorDto authorDto) {
+        AuthorDto created = authorService.create(authorDto);
+        if (created != null) {
+            authorsBySlug.invalidate(created.slug());
+        }
+        return created;
+    }
+
+    @Override
+    public AuthorDto update(String slug, AuthorDto authorDto) {
+        try {
+            return authorService.update(slug, authorDto);
+        } finally {
+            authorsBySlug.invalidate(slug);
+            if (authorDto != null) {
+                authorsBySlug.invalidate(authorDto.slug());
+            }
+        }
+    }
+
+    @Override
+    public int delete(String slug) {
+        try {
+            return authorService.delete(slug);
+        } finally {
+            authorsBySlug.invalidate(slug);
+        }
+    }
+
+    @Override
+    public BatchResultDto<AuthorDto> createAll(List<AuthorDto> authorDtos) {
+        BatchResultDto<AuthorDto> result = authorService.createAll(authorDtos);
+        result.items().stream()
+                .filter(BatchResultDto.Item::persisted)
+                .forEach(item -> authorsBySlug.invalidate(authorDtos.get(item.index()).slug()));
+        return result;
+    }
+
+    @Override
+    public BatchResultDto<AuthorDto> updateAll(List<AuthorDto> authorDtos) {
+        BatchResultDto<AuthorDto> result = authorService.updateAll(authorDtos);
+        result.items().stream()
+                .filter(BatchResultDto.Item::persisted)
+                .forEach(item -> authorsBySlug.invalidate(authorDtos.get(item.index()).slug()));
+        return result;
+    }
+
+    @Override
+    public BatchResultDto<String> deleteAll(List<String> slugs) {
+        try {
+            return authorService.deleteAll(slugs);
+        } finally {
+            slugs.forEach(authorsBySlug::invalidate);
+        }
+    }
+
+    public void invalidateAll() {
+        authorsBySlug.invalidateAll();
+    }
+
+    public CacheStats cacheStats() {
+        return authorsBySlug.stats();
+    }
+}
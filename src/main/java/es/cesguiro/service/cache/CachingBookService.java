@@ -0,0 +1,196 @@
+package es.cesguiro.service.cache;
+
+import es.cesguiro.collection.LongObjectHashMap;
+import es.cesguiro.repository.BookQuery;
+import es.cesguiro.service.BookService;
+import es.cesguiro.service.dto.BatchResultDto;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.CursorPageDto;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class CachingBookService implements BookService {
+
+    private final BookService bookService;
+    private final ExpiringLruCache<String, BookDto> booksByIsbn;
+    private final LongObjectHashMap<String> cachedIsbnsById = new LongObjectHashMap<>();
+
+    public CachingBookService(BookService bookService, int maxSize, Duration ttl) {
+        this.bookService = bookService;
+        this.booksByIsbn = new ExpiringLruCache<>(maxSize, ttl, System::nanoTime, this::forget);
+    }
+
+    @Override
+    public List<BookDto> getAll(int page, int size) {
+        return bookService.getAll(page, size);
+    }
+
+    @Override
+    public CursorPageDto<BookDto> getAllAfter(String cursor, int size) {
+        return bookService.getAllAfter(cursor, size);
+    }
+
+    @Override
+    public List<BookDto> getAll(BookQuery query, int page, int size) {
+        return bookService.getAll(query, page, size);
+    }
+
+    @Override
+    public List<BookDto> getByAuthorSlug(String slug, int page, int size) {
+        return bookService.getByAuthorSlug(slug, page, size);
+    }
+
+    @Override
+    public List<BookDto> getByPublisherSlug(String slug, int page, int size) {
+        return bookService.getByPublisherSlug(slug, page, size);
+    }
+
+    @Override
+    public Stream<BookDto> streamAll() {
+        return bookService.streamAll();
+    }
+
+    @Override
+    public BookDto getByIsbn(String isbn) {
+        if (isbn == null) {
+            return bookService.getByIsbn(null);
+        }
+        return booksByIsbn.getOrLoad(isbn, this::load);
+    }
+
+    @Override
+    public BookDto create(BookDto bookDto) {
+        BookDto created = null;
+        try {
+            created = bookService.create(bookDto);
+            return created;
+        } finally {
+            booksByIsbn.invalidate(bookDto.isbn());
+            if (created != null) {
+                booksByIsbn.invalidate(created.isbn());
+            }
+        }
+    }
+
+    @Override
+    public BookDto upsert(BookDto bookDto) {
+        BookDto upserted = null;
+        try {
+            upserted = bookService.upsert(bookDto);
+            return upserted;
+        } finally {
+            booksByIsbn.invalidate(bookDto.isbn());
+            if (upserted != null) {
+                invalidate(upserted.id(), upserted.isbn());
+            }
+        }
+    }
+
+    @Override
+    public BookDto update(BookDto bookDto) {
+        BookDto updated = null;
+        try {
+            updated = bookService.update(bookDto);
+            return updated;
+        } finally {
+            booksByIsbn.cancelPendingLoads();
+            invalidate(bookDto.id(), bookDto.isbn());
+            if (updated != null) {
+                invalidate(updated.id(), updated.isbn());
+            }
+        }
+    }
+
+    @Override
+    public void delete(String isbn) {
+        try {
+            bookService.delete(isbn);
+        } finally {
+            booksByIsbn.invalidate(isbn);
+        }
+    }
+
+    @Override
+    public BatchResultDto<BookDto> createAll(List<BookDto> bookDtos) {
+        BatchResultDto<BookDto> result = bookService.createAll(bookDtos);
+        result.items().stream()
+                .filter(BatchResultDto.Item::persisted)
+                .forEach(item -> booksByIsbn.invalidate(bookDtos.get(item.index()).isbn()));
+        return result;
+    }
+
+    @Override
+    public BatchResultDto<BookDto> updateAll(List<BookDto> bookDtos) {
+        BatchResultDto<BookDto> result = null;
+        try {
+            result = bookService.updateAll(bookDtos);
+            return result;
+        } finally {
+            booksByIsbn.cancelPendingLoads();
+            if (result == null) {
+                bookDtos.forEach(bookDto -> invalidate(bookDto.id(), bookDto.isbn()));
+            } else {
+                for (BatchResultDto.Item<BookDto> item : result.items()) {
+                    if (item.persisted()) {
+                        BookDto bookDto = bookDtos.get(item.index());
+                        invalidate(bookDto.id(), bookDto.isbn());
+                        if (item.value() != null) {
+                            invalidate(item.value().id(), item.value().isbn());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public BatchResultDto<String> deleteAll(List<String> isbns) {
+        try {
+            return bookService.deleteAll(isbns);
+        } finally {
+            isbns.forEach(booksByIsbn::invalidate);
+        }
+    }
+
+    public void invalidateAll() {
+        booksByIsbn.invalidateAll();
+    }
+
+    private BookDto load(String isbn) {
+        BookDto bookDto = bookService.getByIsbn(isbn);
+        if (bookDto != null && bookDto.id() != null) {
+            synchronized (cachedIsbnsById) {
+                cachedIsbnsById.put(bookDto.id(), isbn);
+            }
+        }
+        return bookDto;
+    }
+
+    private void forget(String isbn, BookDto bookDto) {
+        if (bookDto.id() == null) {
+            return;
+        }
+        synchronized (cachedIsbnsById) {
+            if (isbn.equals(cachedIsbnsById.get(bookDto.id()))) {
+                cachedIsbnsById.remove(bookDto.id());
+            }
+        }
+    }
+
+    private void invalidate(Long id, String isbn) {
+        if (id != null) {
+            String cachedIsbn;
+            synchronized (cachedIsbnsById) {
+                cachedIsbn = cachedIsbnsById.get(id);
+            }
+            booksByIsbn.invalidate(cachedIsbn);
+        }
+        booksByIsbn.invalidate(isbn);
+    }
+
+    public CacheStats cacheStats() {
+        return booksByIsbn.stats();
+    }
+}
@@ -0,0 +1,171 @@
+package es.cesguiro.service.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+public class ExpiringLruCache<K, V> {
+
+    private static final int DEFAULT_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final BiConsumer<? super K, ? super V> removalListener;
+    private final AtomicLong loadEpoch = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public ExpiringLruCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    public ExpiringLruCache(int maxSize, Duration ttl, LongSupplier clock) {
+        this(maxSize, ttl, clock, (key, value) -> {
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public ExpiringLruCache(int maxSize, Duration ttl, LongSupplier clock, BiConsumer<? super K, ? super V> removalListener) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be greater than 0");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache ttl must be positive");
+        }
+        int segmentCount = Math.min(DEFAULT_SEGMENTS, Integer.highestOneBit(maxSize));
+        int segmentSize = (maxSize + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentSize);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.removalListener = removalListener;
+    }
+
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = clock.getAsLong();
+        long generation;
+        long epoch;
+        synchronized (segment) {
+            Entry<V> entry = segment.map.get(key);
+            if (entry != null) {
+                if (now - entry.expiresAt < 0) {
+                    hits.increment();
+                    return entry.value;
+                }
+                segment.map.remove(key);
+                removalListener.accept(key, entry.value);
+                expirations.increment();
+            }
+            generation = segment.generation;
+            epoch = loadEpoch.get();
+        }
+        misses.increment();
+        V value = loader.apply(key);
+        if (value != null) {
+            synchronized (segment) {
+                if (segment.generation == generation && loadEpoch.get() == epoch) {
+                    segment.map.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+                    evictions.add(segment.drainOverflow(removalListener));
+                }
+            }
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        if (key == null) {
+            return;
+        }
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Entry<V> removed = segment.map.remove(key);
+            if (removed != null) {
+                removalListener.accept(key, removed.value);
+            }
+            segment.generation++;
+        }
+    }
+
+    public void cancelPendingLoads() {
+        loadEpoch.incrementAndGet();
+    }
+
+    public void invalidateIf(Predicate<? super V> predicate) {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.map.entrySet().removeIf(entry -> {
+                    if (!predicate.test(entry.getValue().value)) {
+                        return false;
+                    }
+                    removalListener.accept(entry.getKey(), entry.getValue().value);
+                    return true;
+                });
+                segment.generation++;
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.map.forEach((key, entry) -> removalListener.accept(key, entry.value));
+                segment.map.clear();
+                segment.generation++;
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.map.size();
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size);
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private static final class Segment<K, V> {
+        private final int capacity;
+        private final LinkedHashMap<K, Entry<V>> map;
+        private long generation;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+            this.map = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        private int drainOverflow(BiConsumer<? super K, ? super V> removalListener) {
+            int evicted = 0;
+            Iterator<Map.Entry<K, Entry<V>>> iterator = map.entrySet().iterator();
+            while (map.size() > capacity && iterator.hasNext()) {
+                Map.Entry<K, Entry<V>> eldest = iterator.next();
+                iterator.remove();
+                removalListener.accept(eldest.getKey(), eldest.getValue().value);
+                evicted++;
+            }
+            return evicted;
+        }
+    }
+}
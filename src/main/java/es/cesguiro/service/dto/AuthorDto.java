@@ -23,6 +23,12 @@ public record AuthorDto(
 
         @NotBlank(message = "El slug no puede estar vacío")
         @Pattern(regexp = "^[a-z0-9-]+$", message = "El slug solo puede contener minúsculas, números y guiones")
-        String slug
+        String slug,
+
+        @Min(value = 0, message = "La versión no puede ser negativa")
+        long version
 ) {
+    public AuthorDto(Long id, String name, String nationality, String biographyEs, String biographyEn, int birthYear, Integer deathYear, String slug) {
+        this(id, name, nationality, biographyEs, biographyEn, birthYear, deathYear, slug, 0L);
+    }
 }
@@ -0,0 +1,55 @@
+package es.cesguiro.service.dto;
+
+import java.util.List;
+
+public record BatchResultDto<T>(
+        List<Item<T>> items
+) {
+    public BatchResultDto {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+
+    public List<T> succeeded() {
+        return items.stream()
+                .filter(Item::isSuccess)
+                .map(Item::value)
+                .toList();
+    }
+
+    public List<Item<T>> failed() {
+        return items.stream()
+                .filter(item -> !item.isSuccess())
+                .toList();
+    }
+
+    public boolean hasFailures() {
+        return items.stream().anyMatch(item -> !item.isSuccess());
+    }
+
+    public record Item<T>(
+            int index,
+            T value,
+            String error,
+            boolean persisted
+    ) {
+        public Item(int index, T value, String error) {
+            this(index, value, error, error == null);
+        }
+
+        public static <T> Item<T> success(int index, T value) {
+            return new Item<>(index, value, null, true);
+        }
+
+        public static <T> Item<T> failure(int index, String error) {
+            return new Item<>(index, null, error, false);
+        }
+
+        public static <T> Item<T> persistedWithError(int index, String error) {
+            return new Item<>(index, null, error, true);
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
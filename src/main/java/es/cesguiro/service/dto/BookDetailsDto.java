@@ -0,0 +1,12 @@
+package es.cesguiro.service.dto;
+
+import java.util.List;
+
+public record BookDetailsDto(
+        BookDto book,
+        List<AuthorDto> authors
+) {
+    public BookDetailsDto {
+        authors = authors == null ? List.of() : List.copyOf(authors);
+    }
+}
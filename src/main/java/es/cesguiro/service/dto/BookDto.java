@@ -28,8 +28,28 @@ public record BookDto(
         LocalDate publicationDate,
         @NotNull
         PublisherDto publisher,
-        List<AuthorDto> authors
+        List<AuthorDto> authors,
+        @Min(value = 0, message = "La versión no puede ser negativa")
+        long version
 ) {
+    public BookDto(
+            Long id,
+            String isbn,
+            String titleEs,
+            String titleEn,
+            String synopsisEs,
+            String synopsisEn,
+            BigDecimal basePrice,
+            double discountPercentage,
+            BigDecimal price,
+            String cover,
+            LocalDate publicationDate,
+            PublisherDto publisher,
+            List<AuthorDto> authors
+    ) {
+        this(id, isbn, titleEs, titleEn, synopsisEs, synopsisEn, basePrice, discountPercentage, price, cover, publicationDate, publisher, authors, 0L);
+    }
+
     public BookDto {
         if (titleEs == null && titleEn == null) {
             throw new ValidationException("Al menos uno de los títulos (español o inglés) debe estar presente.");
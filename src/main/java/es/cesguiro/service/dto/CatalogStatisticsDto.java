@@ -0,0 +1,12 @@
+package es.cesguiro.service.dto;
+
+import java.util.Map;
+
+public record CatalogStatisticsDto(
+        long totalBooks,
+        double averageDiscount,
+        Map<String, Long> booksByPublisher,
+        Map<String, Long> booksByNationality,
+        Map<Integer, Long> booksByPublicationYear
+) {
+}
@@ -0,0 +1,16 @@
+package es.cesguiro.service.dto;
+
+import java.util.List;
+
+public record CursorPageDto<T>(
+        List<T> items,
+        String nextCursor
+) {
+    public CursorPageDto {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
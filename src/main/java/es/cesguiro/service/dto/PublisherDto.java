@@ -1,5 +1,6 @@
 package es.cesguiro.service.dto;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
@@ -11,6 +12,12 @@ public record PublisherDto(
 
         @NotBlank(message = "El slug no puede estar vacío")
         @Pattern(regexp = "^[a-z0-9-]+$", message = "El slug solo puede contener minúsculas, números y guiones")
-        String slug
+        String slug,
+
+        @Min(value = 0, message = "La versión no puede ser negativa")
+        long version
 ) {
+    public PublisherDto(Long id, String name, String slug) {
+        this(id, name, slug, 0L);
+    }
 }
@@ -6,60 +6,211 @@ import es.cesguiro.mapper.BookMapper;
 import es.cesguiro.model.Author;
 import es.cesguiro.repository.AuthorRepository;
 import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.service.AuthorListener;
 import es.cesguiro.service.dto.AuthorDto;
 import es.cesguiro.service.AuthorService;
+import es.cesguiro.service.dto.BatchResultDto;
+import es.cesguiro.validation.DtoValidator;
+import es.cesguiro.validation.Violation;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public class AuthorServiceImpl implements AuthorService {
 
+    private static final AuthorMapper AUTHOR_MAPPER = AuthorMapper.getInstance();
+
     private final AuthorRepository authorRepository;
+    private final Listeners<AuthorListener> listeners = new Listeners<>();
 
     public AuthorServiceImpl(AuthorRepository authorRepository) {
         this.authorRepository = authorRepository;
     }
 
+    public void addListener(AuthorListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(AuthorListener listener) {
+        listeners.remove(listener);
+    }
+
     @Override
     public List<AuthorDto> getAll() {
         List<AuthorEntity> authorEntities = authorRepository.findAll();
         if (authorEntities == null || authorEntities.isEmpty()) {
             throw new BusinessException("There is no books in the system");
         }
-        return authorEntities.stream()
-                .map(AuthorMapper.getInstance()::fromAuthorEntityToAuthor)
-                .map(AuthorMapper.getInstance()::fromAuthorToAuthorDto)
-                .toList();
+        return AUTHOR_MAPPER.fromAuthorEntitiesToAuthorDtos(authorEntities);
+    }
+
+    @Override
+    public Stream<AuthorDto> streamAll() {
+        return authorRepository.streamAll()
+                .map(AUTHOR_MAPPER::fromAuthorEntityToAuthorDto);
     }
 
     @Override
     public AuthorDto getBySlug(String slug) {
         return authorRepository
                 .findBySlug(slug)
-                .map(AuthorMapper.getInstance()::fromAuthorEntityToAuthor)
-                .map(AuthorMapper.getInstance()::fromAuthorToAuthorDto)
+                .map(AUTHOR_MAPPER::fromAuthorEntityToAuthorDto)
                 .orElseThrow(() -> new BusinessException("Author with slug " + slug + " not found"));
     }
 
     @Override
     public AuthorDto create(AuthorDto authorDto) {
-        Author author = AuthorMapper.getInstance().fromAuthorDtoToAuthor(authorDto);
-        AuthorEntity authorEntity = AuthorMapper.getInstance().fromAuthorToAuthorEntity(author);
+        Author author = AUTHOR_MAPPER.fromAuthorDtoToAuthor(authorDto);
+        AuthorEntity authorEntity = AUTHOR_MAPPER.fromAuthorToAuthorEntity(author);
         AuthorEntity newAuthorEntity = authorRepository.create(authorEntity);
-        Author newAuthor = AuthorMapper.getInstance().fromAuthorEntityToAuthor(newAuthorEntity);
-        return AuthorMapper.getInstance().fromAuthorToAuthorDto(newAuthor);
+        notifyCreated(newAuthorEntity);
+        Author newAuthor = AUTHOR_MAPPER.fromAuthorEntityToAuthor(newAuthorEntity);
+        return AUTHOR_MAPPER.fromAuthorToAuthorDto(newAuthor);
     }
 
     @Override
     public AuthorDto update(String slug, AuthorDto authorDto) {
-        Author author = AuthorMapper.getInstance().fromAuthorDtoToAuthor(authorDto);
-        AuthorEntity authorEntity = AuthorMapper.getInstance().fromAuthorToAuthorEntity(author);
+        Author author = AUTHOR_MAPPER.fromAuthorDtoToAuthor(authorDto);
+        AuthorEntity authorEntity = AUTHOR_MAPPER.fromAuthorToAuthorEntity(author);
+        AuthorEntity previous = listeners.isEmpty() ? null : authorRepository.findBySlug(slug).orElse(null);
         AuthorEntity updatedAuthorEntity = authorRepository.update(slug, authorEntity);
-        Author updatedAuthor = AuthorMapper.getInstance().fromAuthorEntityToAuthor(updatedAuthorEntity);
-        return AuthorMapper.getInstance().fromAuthorToAuthorDto(updatedAuthor);
+        notifyUpdated(previous, updatedAuthorEntity);
+        Author updatedAuthor = AUTHOR_MAPPER.fromAuthorEntityToAuthor(updatedAuthorEntity);
+        return AUTHOR_MAPPER.fromAuthorToAuthorDto(updatedAuthor);
     }
 
     @Override
     public int delete(String slug) {
-        return authorRepository.delete(slug);
+        if (listeners.isEmpty()) {
+            return authorRepository.delete(slug);
+        }
+        Optional<AuthorEntity> existing = authorRepository.findBySlug(slug);
+        int deleted = authorRepository.delete(slug);
+        if (deleted > 0) {
+            existing.ifPresent(this::notifyDeleted);
+        }
+        return deleted;
+    }
+
+    @Override
+    public BatchResultDto<AuthorDto> createAll(List<AuthorDto> authorDtos) {
+        BatchOutcomes<AuthorDto> outcomes = new BatchOutcomes<>(authorDtos.size());
+        Map<String, Integer> indexesBySlug = collectBySlug(authorDtos, outcomes);
+        if (!indexesBySlug.isEmpty()) {
+            for (AuthorEntity existing : authorRepository.findAllBySlugIn(indexesBySlug.keySet())) {
+                Integer index = indexesBySlug.remove(existing.slug());
+                if (index != null) {
+                    outcomes.fail(index, "Author with slug " + existing.slug() + " already exists");
+                }
+            }
+        }
+        List<AuthorEntity> created = outcomes.persist(
+                authorDtos,
+                indexesBySlug.values(),
+                this::toAuthorEntity,
+                AUTHOR_MAPPER::fromAuthorEntityToAuthorDto,
+                authorRepository::createAll,
+                authorRepository::create
+        );
+        created.forEach(this::notifyCreated);
+        return outcomes.toResult();
+    }
+
+    @Override
+    public BatchResultDto<AuthorDto> updateAll(List<AuthorDto> authorDtos) {
+        BatchOutcomes<AuthorDto> outcomes = new BatchOutcomes<>(authorDtos.size());
+        Map<String, Integer> indexesBySlug = collectBySlug(authorDtos, outcomes);
+        Map<String, AuthorEntity> previousBySlug = new HashMap<>();
+        if (!indexesBySlug.isEmpty()) {
+            Map<String, Integer> missing = new HashMap<>(indexesBySlug);
+            for (AuthorEntity existing : authorRepository.findAllBySlugIn(indexesBySlug.keySet())) {
+                missing.remove(existing.slug());
+                previousBySlug.put(existing.slug(), existing);
+            }
+            for (Map.Entry<String, Integer> entry : missing.entrySet()) {
+                indexesBySlug.remove(entry.getKey());
+                outcomes.fail(entry.getValue(), "Author with slug " + entry.getKey() + " not found");
+            }
+        }
+        List<AuthorEntity> updated = outcomes.persist(
+                authorDtos,
+                indexesBySlug.values(),
+                this::toAuthorEntity,
+                AUTHOR_MAPPER::fromAuthorEntityToAuthorDto,
+                authorRepository::updateAll,
+                authorEntity -> authorRepository.update(authorEntity.slug(), authorEntity)
+        );
+        updated.forEach(authorEntity -> notifyUpdated(previousBySlug.get(authorEntity.slug()), authorEntity));
+        return outcomes.toResult();
+    }
+
+    @Override
+    public BatchResultDto<String> deleteAll(List<String> slugs) {
+        BatchOutcomes<String> outcomes = new BatchOutcomes<>(slugs.size());
+        Map<String, Integer> indexesBySlug = new LinkedHashMap<>();
+        for (int i = 0; i < slugs.size(); i++) {
+            String slug = slugs.get(i);
+            if (slug == null) {
+                outcomes.fail(i, "Slug cannot be null");
+            } else if (indexesBySlug.putIfAbsent(slug, i) != null) {
+                outcomes.fail(i, "Author with slug " + slug + " is duplicated in the batch");
+            }
+        }
+        if (indexesBySlug.isEmpty()) {
+            return outcomes.toResult();
+        }
+        Map<String, Integer> existing = new LinkedHashMap<>();
+        Map<String, AuthorEntity> existingBySlug = new HashMap<>();
+        for (AuthorEntity authorEntity : authorRepository.findAllBySlugIn(indexesBySlug.keySet())) {
+            Integer index = indexesBySlug.remove(authorEntity.slug());
+            if (index != null) {
+                existing.put(authorEntity.slug(), index);
+                existingBySlug.put(authorEntity.slug(), authorEntity);
+            }
+        }
+        indexesBySlug.forEach((slug, index) -> outcomes.fail(index, "Author with slug " + slug + " not found"));
+        List<String> deleted = outcomes.remove(existing, authorRepository::deleteAll, authorRepository::delete);
+        deleted.forEach(slug -> notifyDeleted(existingBySlug.get(slug)));
+        return outcomes.toResult();
+    }
+
+    private Map<String, Integer> collectBySlug(List<AuthorDto> authorDtos, BatchOutcomes<AuthorDto> outcomes) {
+        Map<String, Integer> indexesBySlug = new LinkedHashMap<>();
+        for (int i = 0; i < authorDtos.size(); i++) {
+            AuthorDto authorDto = authorDtos.get(i);
+            if (authorDto == null) {
+                outcomes.fail(i, "AuthorDto cannot be null");
+                continue;
+            }
+            Optional<Violation> violation = DtoValidator.firstViolationOf(authorDto);
+            if (violation.isPresent()) {
+                outcomes.fail(i, violation.get().toString());
+                continue;
+            }
+            if (indexesBySlug.putIfAbsent(authorDto.slug(), i) != null) {
+                outcomes.fail(i, "Author with slug " + authorDto.slug() + " is duplicated in the batch");
+            }
+        }
+        return indexesBySlug;
+    }
+
+    private AuthorEntity toAuthorEntity(AuthorDto authorDto) {
+        return AUTHOR_MAPPER.fromAuthorDtoToAuthorEntity(authorDto);
+    }
+
+    private void notifyCreated(AuthorEntity author) {
+        listeners.publish(listener -> listener.onCreated(author));
+    }
+
+    private void notifyUpdated(AuthorEntity previous, AuthorEntity current) {
+        listeners.publish(listener -> listener.onUpdated(previous, current));
+    }
+
+    private void notifyDeleted(AuthorEntity author) {
+        listeners.publish(listener -> listener.onDeleted(author));
     }
 }
@@ -0,0 +1,115 @@
+package es.cesguiro.service.impl;
+
+import es.cesguiro.service.dto.BatchResultDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+final class BatchOutcomes<T> {
+
+    private final List<BatchResultDto.Item<T>> items;
+
+    BatchOutcomes(int size) {
+        this.items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(null);
+        }
+    }
+
+    void succeed(int index, T value) {
+        items.set(index, BatchResultDto.Item.success(index, value));
+    }
+
+    void fail(int index, String error) {
+        items.set(index, BatchResultDto.Item.failure(index, error));
+    }
+
+    void persistedWithError(int index, String error) {
+        items.set(index, BatchResultDto.Item.persistedWithError(index, error));
+    }
+
+    BatchResultDto<T> toResult() {
+        return new BatchResultDto<>(items);
+    }
+
+    <D, E> List<E> persist(
+            List<D> dtos,
+            Iterable<Integer> pending,
+            Function<D, E> toEntity,
+            Function<E, T> toResult,
+            UnaryOperator<List<E>> batchWriter,
+            UnaryOperator<E> singleWriter
+    ) {
+        List<Integer> indexes = new ArrayList<>();
+        List<E> entities = new ArrayList<>();
+        for (Integer index : pending) {
+            try {
+                entities.add(toEntity.apply(dtos.get(index)));
+                indexes.add(index);
+            } catch (RuntimeException e) {
+                fail(index, messageOf(e));
+            }
+        }
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        List<E> batch;
+        try {
+            batch = batchWriter.apply(entities);
+        } catch (RuntimeException batchError) {
+            batch = null;
+        }
+        List<E> written = new ArrayList<>(entities.size());
+        for (int i = 0; i < indexes.size(); i++) {
+            E entity;
+            try {
+                entity = batch != null ? batch.get(i) : singleWriter.apply(entities.get(i));
+            } catch (RuntimeException e) {
+                fail(indexes.get(i), messageOf(e));
+                continue;
+            }
+            written.add(entity);
+            try {
+                succeed(indexes.get(i), toResult.apply(entity));
+            } catch (RuntimeException e) {
+                persistedWithError(indexes.get(i), messageOf(e));
+            }
+        }
+        return written;
+    }
+
+    List<T> remove(Map<T, Integer> existing, Consumer<Set<T>> batchDeleter, Consumer<T> singleDeleter) {
+        if (existing.isEmpty()) {
+            return List.of();
+        }
+        boolean batchDeleted;
+        try {
+            batchDeleter.accept(existing.keySet());
+            batchDeleted = true;
+        } catch (RuntimeException batchError) {
+            batchDeleted = false;
+        }
+        List<T> removed = new ArrayList<>(existing.size());
+        for (Map.Entry<T, Integer> entry : existing.entrySet()) {
+            try {
+                if (!batchDeleted) {
+                    singleDeleter.accept(entry.getKey());
+                }
+                removed.add(entry.getKey());
+                succeed(entry.getValue(), entry.getKey());
+            } catch (RuntimeException e) {
+                fail(entry.getValue(), messageOf(e));
+            }
+        }
+        return removed;
+    }
+
+    static String messageOf(RuntimeException e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,66 @@
+package es.cesguiro.service.impl;
+
+import es.cesguiro.exception.BusinessException;
+import es.cesguiro.mapper.BookMapper;
+import es.cesguiro.mapper.MappingContext;
+import es.cesguiro.repository.BookRepository;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.search.BookSearchIndex;
+import es.cesguiro.search.SearchHit;
+import es.cesguiro.service.BookSearchService;
+import es.cesguiro.service.dto.BookDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class BookSearchServiceImpl implements BookSearchService {
+
+    private static final BookMapper BOOK_MAPPER = BookMapper.getInstance();
+
+    private final BookRepository bookRepository;
+    private final BookSearchIndex searchIndex;
+
+    public BookSearchServiceImpl(BookRepository bookRepository, BookSearchIndex searchIndex) {
+        this.bookRepository = bookRepository;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public List<BookDto> search(String query, int limit) {
+        if (limit <= 0) {
+            throw new BusinessException("Limit must be greater than 0");
+        }
+        List<SearchHit> hits = searchIndex.search(query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            ids.add(hit.bookId());
+        }
+        Map<Long, BookEntity> booksById = new HashMap<>();
+        for (BookEntity bookEntity : bookRepository.findAllByIdIn(ids)) {
+            booksById.put(bookEntity.id(), bookEntity);
+        }
+        MappingContext context = new MappingContext();
+        List<BookDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            BookEntity bookEntity = booksById.get(id);
+            if (bookEntity != null) {
+                result.add(BOOK_MAPPER.fromBookEntityToBookDto(bookEntity, context));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void reindex() {
+        searchIndex.clear();
+        try (Stream<BookEntity> books = bookRepository.streamAll()) {
+            books.forEach(searchIndex::index);
+        }
+    }
+}
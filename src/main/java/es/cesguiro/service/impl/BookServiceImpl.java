@@ -2,28 +2,57 @@ package es.cesguiro.service.impl;
 
 import es.cesguiro.mapper.AuthorMapper;
 import es.cesguiro.mapper.BookMapper;
+import es.cesguiro.mapper.MappingContext;
 import es.cesguiro.mapper.PublisherMapper;
 import es.cesguiro.model.Author;
 import es.cesguiro.model.Book;
 import es.cesguiro.repository.entity.AuthorEntity;
 import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.service.dto.BatchResultDto;
 import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.CursorPageDto;
 import es.cesguiro.exception.BusinessException;
+import es.cesguiro.repository.BookQuery;
 import es.cesguiro.repository.BookRepository;
+import es.cesguiro.repository.UpsertResult;
+import es.cesguiro.service.BookListener;
 import es.cesguiro.service.BookService;
 import es.cesguiro.validation.DtoValidator;
+import es.cesguiro.validation.Violation;
 
 import java.lang.module.ResolutionException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class BookServiceImpl implements BookService {
 
+    private static final BookMapper BOOK_MAPPER = BookMapper.getInstance();
+    private static final int EVENT_STRIPES = 64;
+
     private final BookRepository bookRepository;
+    private final Listeners<BookListener> listeners = new Listeners<>();
+    private final ReentrantLock[] eventLocks = new ReentrantLock[EVENT_STRIPES];
 
     public BookServiceImpl(BookRepository bookRepository) {
         this.bookRepository = bookRepository;
+        for (int i = 0; i < EVENT_STRIPES; i++) {
+            eventLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public void addListener(BookListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(BookListener listener) {
+        listeners.remove(listener);
     }
 
     @Override
@@ -32,62 +61,300 @@ public class BookServiceImpl implements BookService {
         if (books == null || books.isEmpty()) {
             throw new BusinessException("There is no books in the system");
         }
-        return books.stream()
-                .map(BookMapper.getInstance()::fromBookEntityToBook)
-                .map(BookMapper.getInstance()::fromBookToBookDto)
-                .toList();
+        return BOOK_MAPPER.fromBookEntitiesToBookDtos(books);
     }
 
+    @Override
+    public CursorPageDto<BookDto> getAllAfter(String cursor, int size) {
+        if (size <= 0) {
+            throw new BusinessException("Page size must be greater than 0");
+        }
+        List<BookEntity> books = bookRepository.findAllAfter(CursorCodec.decode(cursor), size + 1);
+        if (books == null || books.isEmpty()) {
+            return new CursorPageDto<>(List.of(), null);
+        }
+        boolean hasNext = books.size() > size;
+        List<BookEntity> page = hasNext ? books.subList(0, size) : books;
+        List<BookDto> bookDtos = BOOK_MAPPER.fromBookEntitiesToBookDtos(page);
+        String nextCursor = hasNext ? CursorCodec.encode(page.get(page.size() - 1).id()) : null;
+        return new CursorPageDto<>(bookDtos, nextCursor);
+    }
+
+    @Override
+    public List<BookDto> getAll(BookQuery query, int page, int size) {
+        checkPage(page, size);
+        return BOOK_MAPPER.fromBookEntitiesToBookDtos(bookRepository.findAll(query == null ? BookQuery.all() : query, page, size));
+    }
+
+    @Override
+    public List<BookDto> getByAuthorSlug(String slug, int page, int size) {
+        checkPage(page, size);
+        return BOOK_MAPPER.fromBookEntitiesToBookDtos(bookRepository.findAllByAuthorSlug(slug, page, size));
+    }
+
+    @Override
+    public List<BookDto> getByPublisherSlug(String slug, int page, int size) {
+        checkPage(page, size);
+        return BOOK_MAPPER.fromBookEntitiesToBookDtos(bookRepository.findAllByPublisherSlug(slug, page, size));
+    }
 
+    @Override
+    public Stream<BookDto> streamAll() {
+        return bookRepository.streamAll()
+                .map(BOOK_MAPPER::fromBookEntityToBookDto);
+    }
 
     @Override
     public BookDto getByIsbn(String isbn) {
         return bookRepository
                 .findByIsbn(isbn)
-                .map(BookMapper.getInstance()::fromBookEntityToBook)
-                .map(BookMapper.getInstance()::fromBookToBookDto)
+                .map(BOOK_MAPPER::fromBookEntityToBookDto)
                 .orElseThrow(() -> new BusinessException("Book with isbn " + isbn + " not found"));
     }
 
     @Override
     public BookDto create(BookDto bookDto) {
+        BookEntity savedBookEntity = bookRepository.saveIfAbsent(toNewBookEntity(bookDto))
+                .orElseThrow(() -> new BusinessException("Book with isbn " + bookDto.isbn() + " already exists"));
+        notifyCreated(savedBookEntity);
+        return BOOK_MAPPER.fromBookEntityToBookDto(savedBookEntity);
+    }
+
+    @Override
+    public BookDto upsert(BookDto bookDto) {
+        UpsertResult<BookEntity> result = bookRepository.upsert(toNewBookEntity(bookDto));
+        if (result.created()) {
+            notifyCreated(result.current());
+        } else {
+            notifyUpdated(result.previous(), result.current());
+        }
+        return BOOK_MAPPER.fromBookEntityToBookDto(result.current());
+    }
+
+    private static BookEntity toNewBookEntity(BookDto bookDto) {
         if (bookDto.authors() == null || bookDto.authors().isEmpty()) {
             throw new IllegalArgumentException("A book must have at least one author");
         }
-        Book book = BookMapper.getInstance().fromBookDtoToBook(bookDto);
-        BookEntity bookEntity = BookMapper.getInstance().fromBookToBookEntity(book);
-        Optional<BookDto> bookDtoFinded= bookRepository
-                .findByIsbn(bookDto.isbn())
-                .map(BookMapper.getInstance()::fromBookEntityToBook)
-                .map(BookMapper.getInstance()::fromBookToBookDto);
-        if (bookDtoFinded.isEmpty()) {
-            Book bookCreated= BookMapper.getInstance().fromBookEntityToBook(bookRepository.save(bookEntity));
-            return BookMapper.getInstance().fromBookToBookDto(bookCreated);
-        } else {
-            throw new BusinessException("Book with isbn " + bookDto.isbn() + " already exists");
-        }
+        return BOOK_MAPPER.fromBookDtoToBookEntity(bookDto);
     }
 
     @Override
     public BookDto update(BookDto bookDto) {
-        boolean exists = bookRepository.findById(bookDto.id()).isPresent();
-        if (!exists) {
-            throw new BusinessException("Book with id " + bookDto.id() + " not found");
+        Book book = BOOK_MAPPER.fromBookDtoToBook(bookDto);
+        BookEntity bookEntity = BOOK_MAPPER.fromBookToBookEntity(book);
+        BookEntity updatedBookEntity;
+        ReentrantLock lock = eventLock(bookDto.id());
+        lock.lock();
+        try {
+            BookEntity previous = bookRepository.findById(bookDto.id())
+                    .orElseThrow(() -> new BusinessException("Book with id " + bookDto.id() + " not found"));
+            updatedBookEntity = bookRepository.update(bookEntity);
+            notifyUpdated(previous, updatedBookEntity);
+        } finally {
+            lock.unlock();
         }
-
-        Book book = BookMapper.getInstance().fromBookDtoToBook(bookDto);
-        BookEntity bookEntity = BookMapper.getInstance().fromBookToBookEntity(book);
-        BookEntity updatedBookEntity = bookRepository.update(bookEntity);
-        Book updatedBook = BookMapper.getInstance().fromBookEntityToBook(updatedBookEntity);
-        return BookMapper.getInstance().fromBookToBookDto(updatedBook);
+        Book updatedBook = BOOK_MAPPER.fromBookEntityToBook(updatedBookEntity);
+        return BOOK_MAPPER.fromBookToBookDto(updatedBook);
     }
 
     @Override
     public void delete(String isbn) {
-        boolean exists = bookRepository.findByIsbn(isbn).isPresent();
-        if (!exists) {
-            throw new BusinessException("Book with isbn " + isbn + " not found");
+        BookEntity existing = bookRepository.findByIsbn(isbn)
+                .orElseThrow(() -> new BusinessException("Book with isbn " + isbn + " not found"));
+        ReentrantLock lock = eventLock(existing.id());
+        lock.lock();
+        try {
+            bookRepository.delete(isbn);
+            notifyDeleted(existing);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public BatchResultDto<BookDto> createAll(List<BookDto> bookDtos) {
+        BatchOutcomes<BookDto> outcomes = new BatchOutcomes<>(bookDtos.size());
+        Map<String, Integer> indexesByIsbn = new LinkedHashMap<>();
+        for (int i = 0; i < bookDtos.size(); i++) {
+            BookDto bookDto = bookDtos.get(i);
+            String error = checkBook(bookDto);
+            if (error == null && (bookDto.authors() == null || bookDto.authors().isEmpty())) {
+                error = "A book must have at least one author";
+            }
+            if (error == null && indexesByIsbn.putIfAbsent(bookDto.isbn(), i) != null) {
+                error = "Book with isbn " + bookDto.isbn() + " is duplicated in the batch";
+            }
+            if (error != null) {
+                outcomes.fail(i, error);
+            }
+        }
+        if (!indexesByIsbn.isEmpty()) {
+            for (BookEntity existing : bookRepository.findAllByIsbnIn(indexesByIsbn.keySet())) {
+                Integer index = indexesByIsbn.remove(existing.isbn());
+                if (index != null) {
+                    outcomes.fail(index, "Book with isbn " + existing.isbn() + " already exists");
+                }
+            }
+        }
+        MappingContext context = new MappingContext();
+        List<BookEntity> saved = outcomes.persist(
+                bookDtos,
+                indexesByIsbn.values(),
+                BOOK_MAPPER::fromBookDtoToBookEntity,
+                bookEntity -> BOOK_MAPPER.fromBookEntityToBookDto(bookEntity, context),
+                bookRepository::saveAll,
+                bookRepository::save
+        );
+        saved.forEach(this::notifyCreated);
+        return outcomes.toResult();
+    }
+
+    @Override
+    public BatchResultDto<BookDto> updateAll(List<BookDto> bookDtos) {
+        BatchOutcomes<BookDto> outcomes = new BatchOutcomes<>(bookDtos.size());
+        Map<Long, Integer> indexesById = new LinkedHashMap<>();
+        for (int i = 0; i < bookDtos.size(); i++) {
+            BookDto bookDto = bookDtos.get(i);
+            String error = checkBook(bookDto);
+            if (error == null && bookDto.id() == null) {
+                error = "Book id cannot be null";
+            }
+            if (error == null && indexesById.putIfAbsent(bookDto.id(), i) != null) {
+                error = "Book with id " + bookDto.id() + " is duplicated in the batch";
+            }
+            if (error != null) {
+                outcomes.fail(i, error);
+            }
+        }
+        Map<Long, BookEntity> previousById = new HashMap<>();
+        if (!indexesById.isEmpty()) {
+            Map<Long, Integer> missing = new HashMap<>(indexesById);
+            for (BookEntity existing : bookRepository.findAllByIdIn(indexesById.keySet())) {
+                missing.remove(existing.id());
+                previousById.put(existing.id(), existing);
+            }
+            for (Map.Entry<Long, Integer> entry : missing.entrySet()) {
+                indexesById.remove(entry.getKey());
+                outcomes.fail(entry.getValue(), "Book with id " + entry.getKey() + " not found");
+            }
+        }
+        MappingContext context = new MappingContext();
+        List<ReentrantLock> locks = eventLocksFor(indexesById.keySet());
+        locks.forEach(ReentrantLock::lock);
+        try {
+            List<BookEntity> updated = outcomes.persist(
+                    bookDtos,
+                    indexesById.values(),
+                    BOOK_MAPPER::fromBookDtoToBookEntity,
+                    bookEntity -> BOOK_MAPPER.fromBookEntityToBookDto(bookEntity, context),
+                    bookRepository::updateAll,
+                    bookRepository::update
+            );
+            updated.forEach(bookEntity -> notifyUpdated(previousById.get(bookEntity.id()), bookEntity));
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+        return outcomes.toResult();
+    }
+
+    @Override
+    public BatchResultDto<String> deleteAll(List<String> isbns) {
+        BatchOutcomes<String> outcomes = new BatchOutcomes<>(isbns.size());
+        Map<String, Integer> indexesByIsbn = new LinkedHashMap<>();
+        for (int i = 0; i < isbns.size(); i++) {
+            String isbn = isbns.get(i);
+            if (isbn == null) {
+                outcomes.fail(i, "Isbn cannot be null");
+            } else if (indexesByIsbn.putIfAbsent(isbn, i) != null) {
+                outcomes.fail(i, "Book with isbn " + isbn + " is duplicated in the batch");
+            }
+        }
+        if (indexesByIsbn.isEmpty()) {
+            return outcomes.toResult();
+        }
+        Map<String, Integer> existing = new LinkedHashMap<>();
+        Map<String, BookEntity> existingByIsbn = new HashMap<>();
+        for (BookEntity bookEntity : bookRepository.findAllByIsbnIn(indexesByIsbn.keySet())) {
+            Integer index = indexesByIsbn.remove(bookEntity.isbn());
+            if (index != null) {
+                existing.put(bookEntity.isbn(), index);
+                existingByIsbn.put(bookEntity.isbn(), bookEntity);
+            }
+        }
+        indexesByIsbn.forEach((isbn, index) -> outcomes.fail(index, "Book with isbn " + isbn + " not found"));
+        List<ReentrantLock> locks = eventLocksFor(existingByIsbn.values().stream().map(BookEntity::id).toList());
+        locks.forEach(ReentrantLock::lock);
+        try {
+            List<String> deleted = outcomes.remove(existing, bookRepository::deleteAll, bookRepository::delete);
+            deleted.forEach(isbn -> notifyDeleted(existingByIsbn.get(isbn)));
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+        return outcomes.toResult();
+    }
+
+    private void notifyCreated(BookEntity book) {
+        publish(book.id(), listener -> listener.onCreated(book));
+    }
+
+    private void notifyUpdated(BookEntity previous, BookEntity current) {
+        publish(current.id(), listener -> listener.onUpdated(previous, current));
+    }
+
+    private void notifyDeleted(BookEntity book) {
+        publish(book.id(), listener -> listener.onDeleted(book));
+    }
+
+    private void publish(Long id, Consumer<BookListener> event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        ReentrantLock lock = eventLock(id);
+        lock.lock();
+        try {
+            listeners.publish(event);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock eventLock(Long id) {
+        return eventLocks[stripeOf(id)];
+    }
+
+    private List<ReentrantLock> eventLocksFor(Collection<Long> ids) {
+        boolean[] used = new boolean[EVENT_STRIPES];
+        for (Long id : ids) {
+            used[stripeOf(id)] = true;
+        }
+        List<ReentrantLock> locks = new ArrayList<>();
+        for (int i = 0; i < EVENT_STRIPES; i++) {
+            if (used[i]) {
+                locks.add(eventLocks[i]);
+            }
+        }
+        return locks;
+    }
+
+    private static int stripeOf(Long id) {
+        return id == null ? 0 : Long.hashCode(id) & (EVENT_STRIPES - 1);
+    }
+
+    private void checkPage(int page, int size) {
+        if (page < 0) {
+            throw new BusinessException("Page must not be negative");
+        }
+        if (size <= 0) {
+            throw new BusinessException("Page size must be greater than 0");
+        }
+    }
+
+    private String checkBook(BookDto bookDto) {
+        if (bookDto == null) {
+            return "BookDto cannot be null";
         }
-        bookRepository.delete(isbn);
+        return DtoValidator.firstViolationOf(bookDto)
+                .map(Violation::toString)
+                .orElse(null);
     }
 }
@@ -0,0 +1,64 @@
+package es.cesguiro.service.impl;
+
+import es.cesguiro.analytics.CatalogStatistics;
+import es.cesguiro.repository.AuthorRepository;
+import es.cesguiro.repository.BookRepository;
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.service.CatalogStatisticsService;
+import es.cesguiro.service.dto.CatalogStatisticsDto;
+
+import java.util.stream.Stream;
+
+public class CatalogStatisticsServiceImpl implements CatalogStatisticsService {
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final CatalogStatistics statistics;
+
+    public CatalogStatisticsServiceImpl(BookRepository bookRepository, AuthorRepository authorRepository, CatalogStatistics statistics) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public CatalogStatisticsDto getStatistics() {
+        CatalogStatistics.Snapshot snapshot = statistics.snapshot();
+        return new CatalogStatisticsDto(
+                snapshot.totalBooks(),
+                snapshot.averageDiscount(),
+                snapshot.booksByPublisher(),
+                snapshot.booksByNationality(),
+                snapshot.booksByPublicationYear()
+        );
+    }
+
+    @Override
+    public long countBooksByPublisher(String publisherSlug) {
+        return statistics.booksByPublisher(publisherSlug);
+    }
+
+    @Override
+    public long countBooksByNationality(String nationality) {
+        return statistics.booksByNationality(nationality);
+    }
+
+    @Override
+    public long countBooksByPublicationYear(int year) {
+        return statistics.booksByPublicationYear(year);
+    }
+
+    @Override
+    public double getAverageDiscount() {
+        return statistics.averageDiscount();
+    }
+
+    @Override
+    public void rebuild() {
+        try (Stream<AuthorEntity> authors = authorRepository.streamAll();
+             Stream<BookEntity> books = bookRepository.streamAll()) {
+            statistics.rebuild(authors::iterator, books::iterator);
+        }
+    }
+}
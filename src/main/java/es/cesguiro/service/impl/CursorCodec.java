@@ -0,0 +1,35 @@
+package es.cesguiro.service.impl;
+
+import es.cesguiro.exception.BusinessException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+final class CursorCodec {
+
+    private static final byte VERSION = 1;
+
+    private CursorCodec() {
+    }
+
+    static String encode(long lastId) {
+        ByteBuffer buffer = ByteBuffer.allocate(Byte.BYTES + Long.BYTES);
+        buffer.put(VERSION).putLong(lastId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != Byte.BYTES + Long.BYTES || bytes[0] != VERSION) {
+                throw new BusinessException("Invalid cursor " + cursor);
+            }
+            return ByteBuffer.wrap(bytes, 1, Long.BYTES).getLong();
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor " + cursor);
+        }
+    }
+}
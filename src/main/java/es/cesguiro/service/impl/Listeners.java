@@ -0,0 +1,36 @@
+package es.cesguiro.service.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+final class Listeners<L> {
+
+    private static final Logger LOGGER = Logger.getLogger(Listeners.class.getName());
+
+    private final List<L> listeners = new CopyOnWriteArrayList<>();
+
+    void add(L listener) {
+        listeners.add(listener);
+    }
+
+    void remove(L listener) {
+        listeners.remove(listener);
+    }
+
+    boolean isEmpty() {
+        return listeners.isEmpty();
+    }
+
+    void publish(Consumer<L> event) {
+        for (L listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Listener " + listener + " failed", e);
+            }
+        }
+    }
+}
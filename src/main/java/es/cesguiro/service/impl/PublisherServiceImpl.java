@@ -10,11 +10,22 @@ import es.cesguiro.repository.entity.AuthorEntity;
 import es.cesguiro.repository.entity.PublisherEntity;
 import es.cesguiro.service.dto.PublisherDto;
 import es.cesguiro.service.PublisherService;
+import es.cesguiro.service.dto.BatchResultDto;
+import es.cesguiro.validation.DtoValidator;
+import es.cesguiro.validation.Violation;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class PublisherServiceImpl implements PublisherService {
 
+    private static final PublisherMapper PUBLISHER_MAPPER = PublisherMapper.getInstance();
+
     private final PublisherRepository publisherRepository;
 
     public PublisherServiceImpl(PublisherRepository publisherRepository) {
@@ -26,6 +37,12 @@ public class PublisherServiceImpl implements PublisherService {
         return List.of();
     }
 
+    @Override
+    public Stream<PublisherDto> streamAll() {
+        return publisherRepository.streamAll()
+                .map(PUBLISHER_MAPPER::fromPublisherEntityToPublisherDto);
+    }
+
     @Override
     public PublisherDto getBySlug(String slug) {
         return null;
@@ -33,11 +50,11 @@ public class PublisherServiceImpl implements PublisherService {
 
     @Override
     public PublisherDto create(PublisherDto publisherDto) {
-        Publisher publisher = PublisherMapper.getInstance().fromPublisherDtoToPublisher(publisherDto);
-        PublisherEntity publisherEntity = PublisherMapper.getInstance().fromPublisherToPublisherEntity(publisher);
+        Publisher publisher = PUBLISHER_MAPPER.fromPublisherDtoToPublisher(publisherDto);
+        PublisherEntity publisherEntity = PUBLISHER_MAPPER.fromPublisherToPublisherEntity(publisher);
         PublisherEntity newPublisherEntity = publisherRepository.create(publisherEntity);
-        Publisher newPublisher = PublisherMapper.getInstance().fromPublisherEntityToPublisher(newPublisherEntity);
-        return PublisherMapper.getInstance().fromPublisherToPublisherDto(newPublisher);
+        Publisher newPublisher = PUBLISHER_MAPPER.fromPublisherEntityToPublisher(newPublisherEntity);
+        return PUBLISHER_MAPPER.fromPublisherToPublisherDto(newPublisher);
     }
 
     @Override
@@ -49,4 +66,103 @@ public class PublisherServiceImpl implements PublisherService {
     public int delete(String slug) {
         return 0;
     }
+
+    @Override
+    public BatchResultDto<PublisherDto> createAll(List<PublisherDto> publisherDtos) {
+        BatchOutcomes<PublisherDto> outcomes = new BatchOutcomes<>(publisherDtos.size());
+        Map<String, Integer> indexesBySlug = collectBySlug(publisherDtos, outcomes);
+        if (!indexesBySlug.isEmpty()) {
+            for (PublisherEntity existing : publisherRepository.findAllBySlugIn(indexesBySlug.keySet())) {
+                Integer index = indexesBySlug.remove(existing.slug());
+                if (index != null) {
+                    outcomes.fail(index, "Publisher with slug " + existing.slug() + " already exists");
+                }
+            }
+        }
+        outcomes.persist(
+                publisherDtos,
+                indexesBySlug.values(),
+                this::toPublisherEntity,
+                PUBLISHER_MAPPER::fromPublisherEntityToPublisherDto,
+                publisherRepository::createAll,
+                publisherRepository::create
+        );
+        return outcomes.toResult();
+    }
+
+    @Override
+    public BatchResultDto<PublisherDto> updateAll(List<PublisherDto> publisherDtos) {
+        BatchOutcomes<PublisherDto> outcomes = new BatchOutcomes<>(publisherDtos.size());
+        Map<String, Integer> indexesBySlug = collectBySlug(publisherDtos, outcomes);
+        if (!indexesBySlug.isEmpty()) {
+            Map<String, Integer> missing = new HashMap<>(indexesBySlug);
+            for (PublisherEntity existing : publisherRepository.findAllBySlugIn(indexesBySlug.keySet())) {
+                missing.remove(existing.slug());
+            }
+            for (Map.Entry<String, Integer> entry : missing.entrySet()) {
+                indexesBySlug.remove(entry.getKey());
+                outcomes.fail(entry.getValue(), "Publisher with slug " + entry.getKey() + " not found");
+            }
+        }
+        outcomes.persist(
+                publisherDtos,
+                indexesBySlug.values(),
+                this::toPublisherEntity,
+                PUBLISHER_MAPPER::fromPublisherEntityToPublisherDto,
+                publisherRepository::updateAll,
+                publisherEntity -> publisherRepository.updateAll(List.of(publisherEntity)).get(0)
+        );
+        return outcomes.toResult();
+    }
+
+    @Override
+    public BatchResultDto<String> deleteAll(List<String> slugs) {
+        BatchOutcomes<String> outcomes = new BatchOutcomes<>(slugs.size());
+        Map<String, Integer> indexesBySlug = new LinkedHashMap<>();
+        for (int i = 0; i < slugs.size(); i++) {
+            String slug = slugs.get(i);
+            if (slug == null) {
+                outcomes.fail(i, "Slug cannot be null");
+            } else if (indexesBySlug.putIfAbsent(slug, i) != null) {
+                outcomes.fail(i, "Publisher with slug " + slug + " is duplicated in the batch");
+            }
+        }
+        if (indexesBySlug.isEmpty()) {
+            return outcomes.toResult();
+        }
+        Map<String, Integer> existing = new LinkedHashMap<>();
+        for (PublisherEntity publisherEntity : publisherRepository.findAllBySlugIn(indexesBySlug.keySet())) {
+            Integer index = indexesBySlug.remove(publisherEntity.slug());
+            if (index != null) {
+                existing.put(publisherEntity.slug(), index);
+            }
+        }
+        indexesBySlug.forEach((slug, index) -> outcomes.fail(index, "Publisher with slug " + slug + " not found"));
+        outcomes.remove(existing, publisherRepository::deleteAll, slug -> publisherRepository.deleteAll(Set.of(slug)));
+        return outcomes.toResult();
+    }
+
+    private Map<String, Integer> collectBySlug(List<PublisherDto> publisherDtos, BatchOutcomes<PublisherDto> outcomes) {
+        Map<String, Integer> indexesBySlug = new LinkedHashMap<>();
+        for (int i = 0; i < publisherDtos.size(); i++) {
+            PublisherDto publisherDto = publisherDtos.get(i);
+            if (publisherDto == null) {
+                outcomes.fail(i, "PublisherDto cannot be null");
+                continue;
+            }
+            Optional<Violation> violation = DtoValidator.firstViolationOf(publisherDto);
+            if (violation.isPresent()) {
+                outcomes.fail(i, violation.get().toString());
+                continue;
+            }
+            if (indexesBySlug.putIfAbsent(publisherDto.slug(), i) != null) {
+                outcomes.fail(i, "Publisher with slug " + publisherDto.slug() + " is duplicated in the batch");
+            }
+        }
+        return indexesBySlug;
+    }
+
+    private PublisherEntity toPublisherEntity(PublisherDto publisherDto) {
+        return PUBLISHER_MAPPER.fromPublisherDtoToPublisherEntity(publisherDto);
+    }
 }
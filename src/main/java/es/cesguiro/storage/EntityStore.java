@@ -0,0 +1,29 @@
+package es.cesguiro.storage;
+
+import es.cesguiro.collection.LongObjectHashMap;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+public interface EntityStore<T> {
+
+    T get(long id);
+
+    boolean contains(long id);
+
+    void put(long id, T value);
+
+    boolean putIfAbsent(long id, T value);
+
+    void putAll(LongObjectHashMap<T> values);
+
+    boolean putAllIfAbsent(LongObjectHashMap<T> values);
+
+    boolean remove(long id);
+
+    void removeAll(Collection<Long> ids);
+
+    int size();
+
+    void forEach(Consumer<? super T> action);
+}
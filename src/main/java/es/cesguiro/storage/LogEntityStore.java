@@ -0,0 +1,699 @@
+package es.cesguiro.storage;
+
+import es.cesguiro.codec.BinaryCodec;
+import es.cesguiro.codec.RecordCodec;
+import es.cesguiro.collection.ConcurrentLongObjectMap;
+import es.cesguiro.collection.LongArrayList;
+import es.cesguiro.collection.LongObjectHashMap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+public class LogEntityStore<T> implements EntityStore<T>, Closeable {
+
+    public static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+
+    private static final int HEADER_SIZE = 17;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte BEGIN = 3;
+    private static final byte COMMIT = 4;
+    private static final byte[] NO_PAYLOAD = new byte[0];
+    private static final int MIN_MAPPING_SIZE = 64 << 10;
+    private static final double COMPACTION_RATIO = 0.5;
+    private static final long MIN_COMPACTION_BYTES = 1L << 20;
+    private static final long COMPACTION_GAP = 1L << 32;
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final Logger LOGGER = Logger.getLogger(LogEntityStore.class.getName());
+    private static final Executor COMPACTOR = task -> Thread.ofPlatform().daemon().name("log-store-compactor").start(task);
+
+    private final Path directory;
+    private final String name;
+    private final RecordCodec<T> codec;
+    private final long segmentSize;
+    private final boolean syncWrites;
+    private final List<Segment> segments = new ArrayList<>();
+    private final ConcurrentLongObjectMap<Location> locations = new ConcurrentLongObjectMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock compactionLock = new ReentrantLock();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private Segment active;
+    private long liveBytes;
+    private long totalBytes;
+    private boolean closed;
+
+    public LogEntityStore(Path directory, String name, RecordCodec<T> codec) {
+        this(directory, name, codec, DEFAULT_SEGMENT_SIZE, true);
+    }
+
+    public LogEntityStore(Path directory, String name, RecordCodec<T> codec, long segmentSize, boolean syncWrites) {
+        if (segmentSize <= HEADER_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be between " + HEADER_SIZE + " and " + Integer.MAX_VALUE);
+        }
+        this.directory = directory;
+        this.name = name;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.syncWrites = syncWrites;
+        try {
+            Files.createDirectories(directory);
+            Replay replay = new Replay();
+            for (Path path : segmentPaths()) {
+                Segment segment = Segment.open(path, numberOf(path));
+                segments.add(segment);
+                replay(segment, replay);
+            }
+            if (replay.pending != null) {
+                truncateTo(replay.batchSegment, replay.batchOffset);
+            }
+            active = segments.isEmpty() ? newSegment(0) : segments.get(segments.size() - 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open store " + name + " in " + directory, e);
+        }
+    }
+
+    @Override
+    public T get(long id) {
+        lock.readLock().lock();
+        try {
+            Location location = locations.get(id);
+            return location == null ? null : valueAt(location);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(long id) {
+        return locations.containsKey(id);
+    }
+
+    @Override
+    public void put(long id, T value) {
+        byte[] payload = encode(value);
+        write(() -> index(id, append(PUT, id, payload).cache(value)));
+    }
+
+    @Override
+    public boolean putIfAbsent(long id, T value) {
+        byte[] payload = encode(value);
+        lock.writeLock().lock();
+        try {
+            if (locations.containsKey(id)) {
+                return false;
+            }
+            index(id, append(PUT, id, payload).cache(value));
+            afterWrite();
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to store " + name, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void putAll(LongObjectHashMap<T> values) {
+        LongArrayList ids = new LongArrayList(values.size());
+        List<byte[]> payloads = encodeAll(values, ids);
+        write(() -> indexAll(ids, appendBatch(PUT, ids, payloads), values));
+    }
+
+    @Override
+    public boolean putAllIfAbsent(LongObjectHashMap<T> values) {
+        LongArrayList ids = new LongArrayList(values.size());
+        List<byte[]> payloads = encodeAll(values, ids);
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < ids.size(); i++) {
+                if (locations.containsKey(ids.get(i))) {
+                    return false;
+                }
+            }
+            indexAll(ids, appendBatch(PUT, ids, payloads), values);
+            afterWrite();
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to store " + name, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (!locations.containsKey(id)) {
+                return false;
+            }
+            append(DELETE, id, NO_PAYLOAD);
+            unindex(id);
+            afterWrite();
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to store " + name, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<Long> ids) {
+        write(() -> {
+            LongArrayList existing = new LongArrayList(ids.size());
+            for (Long id : ids) {
+                if (id != null && locations.containsKey(id)) {
+                    existing.add(id);
+                }
+            }
+            if (existing.isEmpty()) {
+                return;
+            }
+            appendBatch(DELETE, existing, null);
+            existing.forEach(this::unindex);
+        });
+    }
+
+    @Override
+    public int size() {
+        return locations.size();
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        lock.readLock().lock();
+        try {
+            locations.forEachValue(location -> action.accept(valueAt(location)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void compact() {
+        compactionLock.lock();
+        try {
+            rewriteLiveRecords();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact store " + name, e);
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    public boolean compactIfNeeded() {
+        compactionLock.lock();
+        try {
+            return readNeedsCompaction() && rewriteLiveRecords();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact store " + name, e);
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    public long diskSize() {
+        lock.readLock().lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        compactionLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                for (Segment segment : segments) {
+                    segment.channel().close();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    private void write(IoAction action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+            afterWrite();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to store " + name, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterWrite() throws IOException {
+        if (syncWrites) {
+            active.channel().force(false);
+        }
+        if (needsCompaction() && compactionScheduled.compareAndSet(false, true)) {
+            COMPACTOR.execute(this::compactInBackground);
+        }
+    }
+
+    private void compactInBackground() {
+        compactionLock.lock();
+        try {
+            compactionScheduled.set(false);
+            if (readNeedsCompaction()) {
+                rewriteLiveRecords();
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Cannot compact store " + name, e);
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    private boolean readNeedsCompaction() {
+        lock.readLock().lock();
+        try {
+            return !closed && needsCompaction();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean needsCompaction() {
+        return totalBytes >= MIN_COMPACTION_BYTES && totalBytes - liveBytes >= totalBytes * COMPACTION_RATIO;
+    }
+
+    private List<Location> appendBatch(byte op, LongArrayList ids, List<byte[]> payloads) throws IOException {
+        Segment batchSegment = active;
+        int batchOffset = batchSegment.size();
+        try {
+            append(BEGIN, ids.size(), NO_PAYLOAD);
+            List<Location> written = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                written.add(append(op, ids.get(i), payloads == null ? NO_PAYLOAD : payloads.get(i)));
+            }
+            append(COMMIT, ids.size(), NO_PAYLOAD);
+            return written;
+        } catch (IOException | RuntimeException e) {
+            try {
+                truncateTo(batchSegment, batchOffset);
+            } catch (IOException rollbackError) {
+                e.addSuppressed(rollbackError);
+            }
+            throw e;
+        }
+    }
+
+    private Location append(byte op, long id, byte[] payload) throws IOException {
+        int recordSize = HEADER_SIZE + payload.length;
+        if (active.size() > 0 && active.size() + recordSize > segmentSize) {
+            if (syncWrites) {
+                active.channel().force(false);
+            }
+            active = newSegment(active.number() + 1);
+        }
+        ByteBuffer record = ByteBuffer.allocate(recordSize);
+        record.putInt(0).putInt(payload.length).put(op).putLong(id).put(payload);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), Integer.BYTES, recordSize - Integer.BYTES);
+        record.putInt(0, (int) crc.getValue());
+        record.flip();
+        int offset = active.append(record);
+        totalBytes += recordSize;
+        return new Location(active, offset, payload.length);
+    }
+
+    private void truncateTo(Segment segment, int offset) throws IOException {
+        int index = segments.indexOf(segment);
+        while (segments.size() > index + 1) {
+            Segment discarded = segments.remove(segments.size() - 1);
+            totalBytes -= discarded.size();
+            discarded.channel().close();
+            Files.deleteIfExists(discarded.path());
+        }
+        totalBytes -= segment.size() - offset;
+        segment.truncate(offset);
+        active = segment;
+    }
+
+    private void index(long id, Location location) {
+        Location previous = locations.put(id, location);
+        if (previous != null) {
+            liveBytes -= HEADER_SIZE + previous.length();
+        }
+        liveBytes += HEADER_SIZE + location.length();
+    }
+
+    private void indexAll(LongArrayList ids, List<Location> written, LongObjectHashMap<T> values) {
+        for (int i = 0; i < ids.size(); i++) {
+            index(ids.get(i), written.get(i).cache(values.get(ids.get(i))));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T valueAt(Location location) {
+        Object cached = location.cached();
+        if (cached != null) {
+            return (T) cached;
+        }
+        T value = BinaryCodec.decodeRecord(location.segment().read(location.offset() + HEADER_SIZE, location.length()), codec);
+        location.cache(value);
+        return value;
+    }
+
+    private void unindex(long id) {
+        Location previous = locations.remove(id);
+        if (previous != null) {
+            liveBytes -= HEADER_SIZE + previous.length();
+        }
+    }
+
+    private void replay(Segment segment, Replay replay) throws IOException {
+        long fileSize = segment.channel().size();
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("Segment " + segment.path() + " is larger than " + Integer.MAX_VALUE + " bytes");
+        }
+        ByteBuffer buffer = fileSize == 0 ? ByteBuffer.allocate(0) : segment.channel().map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        int position = 0;
+        CRC32 crc = new CRC32();
+        while (position + HEADER_SIZE <= fileSize) {
+            int checksum = buffer.getInt(position);
+            int length = buffer.getInt(position + Integer.BYTES);
+            byte op = buffer.get(position + 2 * Integer.BYTES);
+            if (length < 0 || (long) position + HEADER_SIZE + length > fileSize || op < PUT || op > COMMIT) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.slice(position + Integer.BYTES, HEADER_SIZE - Integer.BYTES + length));
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            long id = buffer.getLong(position + 2 * Integer.BYTES + 1);
+            if (op == BEGIN) {
+                replay.pending = new ArrayList<>();
+                replay.batchSegment = segment;
+                replay.batchOffset = position;
+            } else if (op == COMMIT) {
+                if (replay.pending != null) {
+                    replay.pending.forEach(this::apply);
+                    replay.pending = null;
+                }
+            } else if (replay.pending != null) {
+                replay.pending.add(new ReplayedRecord(op, id, new Location(segment, position, length)));
+            } else {
+                apply(new ReplayedRecord(op, id, new Location(segment, position, length)));
+            }
+            position += HEADER_SIZE + length;
+        }
+        if (position < fileSize) {
+            segment.channel().truncate(position);
+            segment.channel().force(true);
+        }
+        segment.setSize(position);
+        totalBytes += position;
+    }
+
+    private void apply(ReplayedRecord record) {
+        if (record.op() == PUT) {
+            index(record.id(), record.location());
+        } else {
+            unindex(record.id());
+        }
+    }
+
+    private boolean rewriteLiveRecords() throws IOException {
+        List<Segment> sealed;
+        LongArrayList ids = new LongArrayList(locations.size());
+        List<Location> current = new ArrayList<>(locations.size());
+        long firstNumber;
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            sealed = new ArrayList<>(segments);
+            firstNumber = active.number() + 1;
+            if (syncWrites) {
+                active.channel().force(false);
+            }
+            active = newSegment(active.number() + COMPACTION_GAP);
+            locations.forEach((id, location) -> {
+                ids.add(id);
+                current.add(location);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<Segment> compacted = new ArrayList<>();
+        List<Location> relocated = new ArrayList<>(current.size());
+        try {
+            Segment target = Segment.open(segmentPath(firstNumber), firstNumber);
+            compacted.add(target);
+            for (Location location : current) {
+                int recordSize = HEADER_SIZE + location.length();
+                if (target.size() > 0 && target.size() + recordSize > segmentSize) {
+                    target.channel().force(false);
+                    target = Segment.open(segmentPath(target.number() + 1), target.number() + 1);
+                    compacted.add(target);
+                }
+                ByteBuffer record = location.segment().read(location.offset(), recordSize);
+                relocated.add(new Location(target, target.append(record), location.length()).cache(location.cached()));
+            }
+            target.channel().force(true);
+        } catch (IOException | RuntimeException e) {
+            for (Segment segment : compacted) {
+                segment.channel().close();
+                Files.deleteIfExists(segment.path());
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < current.size(); i++) {
+                if (locations.get(ids.get(i)) == current.get(i)) {
+                    locations.put(ids.get(i), relocated.get(i));
+                }
+            }
+            segments.removeAll(sealed);
+            segments.addAll(0, compacted);
+            totalBytes = 0;
+            for (Segment segment : segments) {
+                totalBytes += segment.size();
+            }
+            for (Segment segment : sealed) {
+                segment.channel().close();
+                Files.deleteIfExists(segment.path());
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Segment newSegment(long number) throws IOException {
+        Segment segment = Segment.open(segmentPath(number), number);
+        segments.add(segment);
+        return segment;
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s-%020d%s", name, number, SEGMENT_SUFFIX));
+    }
+
+    private List<Path> segmentPaths() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, name + "-*" + SEGMENT_SUFFIX)) {
+            stream.forEach(paths::add);
+        }
+        paths.sort(null);
+        return paths;
+    }
+
+    private long numberOf(Path path) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(name.length() + 1, fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private List<byte[]> encodeAll(LongObjectHashMap<T> values, LongArrayList ids) {
+        List<byte[]> payloads = new ArrayList<>(values.size());
+        values.forEach((id, value) -> {
+            ids.add(id);
+            payloads.add(encode(value));
+        });
+        return payloads;
+    }
+
+    private byte[] encode(T value) {
+        return BinaryCodec.encodeRecord(value, codec);
+    }
+
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    private static final class Location {
+        private final Segment segment;
+        private final int offset;
+        private final int length;
+        private volatile SoftReference<Object> value;
+
+        private Location(Segment segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        private Segment segment() {
+            return segment;
+        }
+
+        private int offset() {
+            return offset;
+        }
+
+        private int length() {
+            return length;
+        }
+
+        private Object cached() {
+            SoftReference<Object> current = value;
+            return current == null ? null : current.get();
+        }
+
+        private Location cache(Object decoded) {
+            value = decoded == null ? null : new SoftReference<>(decoded);
+            return this;
+        }
+    }
+
+    private record ReplayedRecord(byte op, long id, Location location) {
+    }
+
+    private static final class Replay {
+        private List<ReplayedRecord> pending;
+        private Segment batchSegment;
+        private int batchOffset;
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final long number;
+        private final FileChannel channel;
+        private volatile MappedByteBuffer mapped;
+        private int size;
+
+        private Segment(Path path, long number, FileChannel channel) {
+            this.path = path;
+            this.number = number;
+            this.channel = channel;
+        }
+
+        private static Segment open(Path path, long number) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(path, number, channel);
+        }
+
+        private Path path() {
+            return path;
+        }
+
+        private long number() {
+            return number;
+        }
+
+        private FileChannel channel() {
+            return channel;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void setSize(int size) {
+            this.size = size;
+        }
+
+        private int append(ByteBuffer record) throws IOException {
+            int offset = size;
+            long position = offset;
+            while (record.hasRemaining()) {
+                position += channel.write(record, position);
+            }
+            size = (int) position;
+            return offset;
+        }
+
+        private void truncate(int offset) throws IOException {
+            channel.truncate(offset);
+            channel.force(true);
+            size = offset;
+            mapped = null;
+        }
+
+        private ByteBuffer read(int offset, int length) {
+            MappedByteBuffer current = mapped;
+            if (current == null || current.capacity() < offset + length) {
+                current = remap();
+            }
+            if (current != null && current.capacity() >= offset + length) {
+                return current.slice(offset, length);
+            }
+            return readFromChannel(offset, length);
+        }
+
+        private synchronized MappedByteBuffer remap() {
+            int capacity = mapped == null ? 0 : mapped.capacity();
+            if (size >= MIN_MAPPING_SIZE && size >= 2L * capacity) {
+                try {
+                    mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot map segment " + path, e);
+                }
+            }
+            return mapped;
+        }
+
+        private ByteBuffer readFromChannel(int offset, int length) {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            try {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, offset + buffer.position()) < 0) {
+                        throw new IOException("Unexpected end of segment " + path);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read segment " + path, e);
+            }
+            return buffer.flip();
+        }
+    }
+}
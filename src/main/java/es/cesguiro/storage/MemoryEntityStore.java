@@ -0,0 +1,85 @@
+package es.cesguiro.storage;
+
+import es.cesguiro.collection.ConcurrentLongObjectMap;
+import es.cesguiro.collection.LongArrayList;
+import es.cesguiro.collection.LongObjectHashMap;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+public class MemoryEntityStore<T> implements EntityStore<T> {
+
+    private final ConcurrentLongObjectMap<T> values;
+
+    public MemoryEntityStore() {
+        this(16);
+    }
+
+    public MemoryEntityStore(int expectedSize) {
+        this.values = new ConcurrentLongObjectMap<>(expectedSize);
+    }
+
+    @Override
+    public T get(long id) {
+        return values.get(id);
+    }
+
+    @Override
+    public boolean contains(long id) {
+        return values.containsKey(id);
+    }
+
+    @Override
+    public void put(long id, T value) {
+        values.put(id, value);
+    }
+
+    @Override
+    public boolean putIfAbsent(long id, T value) {
+        return values.putIfAbsent(id, value) == null;
+    }
+
+    @Override
+    public void putAll(LongObjectHashMap<T> values) {
+        this.values.putAll(values);
+    }
+
+    @Override
+    public boolean putAllIfAbsent(LongObjectHashMap<T> values) {
+        LongArrayList inserted = new LongArrayList(values.size());
+        boolean[] absent = {true};
+        values.forEach((id, value) -> {
+            if (absent[0] && this.values.putIfAbsent(id, value) == null) {
+                inserted.add(id);
+            } else {
+                absent[0] = false;
+            }
+        });
+        if (!absent[0]) {
+            inserted.forEach(this.values::remove);
+        }
+        return absent[0];
+    }
+
+    @Override
+    public boolean remove(long id) {
+        return values.remove(id) != null;
+    }
+
+    @Override
+    public void removeAll(Collection<Long> ids) {
+        for (Long id : ids) {
+            values.remove(id);
+        }
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        values.forEachValue(action);
+    }
+}
@@ -1,24 +1,117 @@
 package es.cesguiro.validation;
 
-import jakarta.validation.*;
+import es.cesguiro.exception.ValidationException;
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.PublisherDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public class DtoValidator {
-    private static final Validator validator;
+    private static final Comparator<Violation> BY_FIELD = Comparator
+            .comparing(Violation::field)
+            .thenComparing(Violation::message);
+
+    private static final Validator validator = buildValidator(false);
+    private static final Validator failFastValidator = buildValidator(true);
+
+    private static final ClassValue<Boolean> constrained = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            boolean beanConstrained = validator.getConstraintsForClass(type).isBeanConstrained();
+            failFastValidator.getConstraintsForClass(type);
+            return beanConstrained;
+        }
+    };
 
     static {
-        ValidatorFactory factory = Validation.byDefaultProvider()
+        warmUp(BookDto.class, AuthorDto.class, PublisherDto.class);
+    }
+
+    private DtoValidator() {
+    }
+
+    private static Validator buildValidator(boolean failFast) {
+        HibernateValidatorConfiguration configuration = Validation.byProvider(HibernateValidator.class)
                 .configure()
-                .messageInterpolator(new org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator())
-                .buildValidatorFactory();
-        validator = factory.getValidator();
+                .messageInterpolator(new ParameterMessageInterpolator())
+                .failFast(failFast);
+        return configuration.buildValidatorFactory().getValidator();
+    }
+
+    public static void warmUp(Class<?>... types) {
+        for (Class<?> type : types) {
+            constrained.get(type);
+        }
     }
 
     public static <T> void validate(T dto) {
+        if (!isConstrained(dto)) {
+            return;
+        }
         Set<ConstraintViolation<T>> violations = validator.validate(dto);
         if (!violations.isEmpty()) {
-            throw new ValidationException(violations.toString());
+            throw new ValidationException(violations, sorted(violations));
+        }
+    }
+
+    public static <T> void validateFailFast(T dto) {
+        if (!isConstrained(dto)) {
+            return;
+        }
+        Set<ConstraintViolation<T>> violations = failFastValidator.validate(dto);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<T> first = violations.iterator().next();
+            throw new ValidationException(Set.of(first), List.of(toViolation(first)));
         }
     }
+
+    public static <T> List<Violation> violationsOf(T dto) {
+        if (!isConstrained(dto)) {
+            return List.of();
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(dto);
+        return violations.isEmpty() ? List.of() : sorted(violations);
+    }
+
+    public static <T> Optional<Violation> firstViolationOf(T dto) {
+        if (!isConstrained(dto)) {
+            return Optional.empty();
+        }
+        Set<ConstraintViolation<T>> violations = failFastValidator.validate(dto);
+        if (violations.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toViolation(violations.iterator().next()));
+    }
+
+    private static boolean isConstrained(Object dto) {
+        if (dto == null) {
+            throw new IllegalArgumentException("Dto cannot be null");
+        }
+        return constrained.get(dto.getClass());
+    }
+
+    private static <T> List<Violation> sorted(Set<ConstraintViolation<T>> violations) {
+        List<Violation> result = new ArrayList<>(violations.size());
+        for (ConstraintViolation<T> violation : violations) {
+            result.add(toViolation(violation));
+        }
+        result.sort(BY_FIELD);
+        return result;
+    }
+
+    private static Violation toViolation(ConstraintViolation<?> violation) {
+        return new Violation(violation.getPropertyPath().toString(), violation.getMessage());
+    }
 }
@@ -0,0 +1,9 @@
+package es.cesguiro.validation;
+
+public record Violation(String field, String message) {
+
+    @Override
+    public String toString() {
+        return field + ": " + message;
+    }
+}
@@ -0,0 +1,179 @@
+package es.cesguiro.analytics;
+
+import es.cesguiro.model.PriceCalculator;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookColumnStoreTest {
+
+    private BookColumnStore columnStore;
+
+    @BeforeEach
+    void setUp() {
+        columnStore = new BookColumnStore(2);
+        columnStore.onCreated(book(1L, 1L, "10.00", 0, LocalDate.of(2020, 1, 1)));
+        columnStore.onCreated(book(2L, 1L, "20.00", 50, LocalDate.of(2021, 6, 15)));
+        columnStore.onCreated(book(3L, 2L, "15.99", 10, LocalDate.of(2019, 3, 10)));
+    }
+
+    private static BookEntity book(Long id, Long publisherId, String basePrice, double discount, LocalDate publicationDate) {
+        PublisherEntity publisher = publisherId == null ? null : new PublisherEntity(publisherId, "Publisher " + publisherId, "publisher-" + publisherId);
+        return new BookEntity(id, String.valueOf(id).repeat(13), "Título " + id, "Title " + id, null, null,
+                basePrice == null ? null : new BigDecimal(basePrice), discount, null, publicationDate, publisher, List.of());
+    }
+
+    private static long[] sorted(long[] ids) {
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    @Nested
+    class ScanTests {
+        @Test
+        @DisplayName("idsWithPriceBetween should filter on the discounted price")
+        void idsWithPriceBetween_ShouldFilterOnFinalPrice() {
+            assertAll(
+                    () -> assertArrayEquals(new long[]{1L, 2L}, sorted(columnStore.idsWithPriceBetween(new BigDecimal("10.00"), new BigDecimal("10.00")))),
+                    () -> assertArrayEquals(new long[]{3L}, sorted(columnStore.idsWithPriceBetween(new BigDecimal("14.00"), null))),
+                    () -> assertArrayEquals(new long[]{1L, 2L, 3L}, sorted(columnStore.idsWithPriceBetween(null, null))),
+                    () -> assertEquals(2, columnStore.countWithPriceBetween(null, new BigDecimal("12.00")))
+            );
+        }
+
+        @Test
+        @DisplayName("price bounds with sub-cent precision should not widen the range")
+        void idsWithPriceBetween_SubCentBounds_ShouldRoundInward() {
+            assertAll(
+                    () -> assertArrayEquals(new long[]{3L}, columnStore.idsWithPriceBetween(new BigDecimal("10.001"), null)),
+                    () -> assertEquals(0, columnStore.countWithPriceBetween(null, new BigDecimal("9.999"))),
+                    () -> assertEquals(2, columnStore.countWithPriceBetween(new BigDecimal("9.991"), new BigDecimal("10.009")))
+            );
+        }
+
+        @Test
+        @DisplayName("idsPublishedBetween should include both bounds and skip books without date")
+        void idsPublishedBetween_ShouldIncludeBounds() {
+            columnStore.onCreated(book(4L, 2L, "5.00", 0, null));
+
+            assertAll(
+                    () -> assertArrayEquals(new long[]{1L, 2L}, sorted(columnStore.idsPublishedBetween(LocalDate.of(2020, 1, 1), LocalDate.of(2021, 6, 15)))),
+                    () -> assertArrayEquals(new long[]{1L, 2L, 3L}, sorted(columnStore.idsPublishedBetween(null, null))),
+                    () -> assertEquals(0, columnStore.idsPublishedBetween(LocalDate.of(2022, 1, 1), null).length)
+            );
+        }
+    }
+
+    @Nested
+    class StatsTests {
+        @Test
+        @DisplayName("priceStats should aggregate final prices globally and per publisher")
+        void priceStats_ShouldAggregateFinalPrices() {
+            PriceStats global = columnStore.priceStats();
+            PriceStats publisher = columnStore.priceStats(1L);
+
+            assertAll(
+                    () -> assertEquals(new PriceStats(3, new BigDecimal("10.00"), new BigDecimal("14.39"), new BigDecimal("11.46")), global),
+                    () -> assertEquals(new PriceStats(2, new BigDecimal("10.00"), new BigDecimal("10.00"), new BigDecimal("10.00")), publisher),
+                    () -> assertEquals(PriceStats.EMPTY, columnStore.priceStats(99L))
+            );
+        }
+
+        @Test
+        @DisplayName("priceStatsByPublisher should match a reference computed from the entities")
+        void priceStatsByPublisher_ShouldMatchReference() {
+            Random random = new Random(42);
+            List<BookEntity> books = new ArrayList<>();
+            for (long id = 1; id <= 500; id++) {
+                String price = random.nextInt(5) == 0 ? null : BigDecimal.valueOf(random.nextInt(10_000), 2).toPlainString();
+                Long publisherId = random.nextInt(10) == 0 ? null : (long) random.nextInt(7);
+                books.add(book(id, publisherId, price, random.nextInt(60), LocalDate.ofEpochDay(random.nextInt(20_000))));
+            }
+            columnStore.rebuild(books);
+
+            Map<Long, List<BigDecimal>> pricesByPublisher = new TreeMap<>();
+            for (BookEntity book : books) {
+                if (book.basePrice() != null && book.publisher() != null) {
+                    pricesByPublisher.computeIfAbsent(book.publisher().id(), key -> new ArrayList<>())
+                            .add(PriceCalculator.finalPrice(book.basePrice(), book.discountPercentage()));
+                }
+            }
+            Map<Long, PriceStats> expected = new TreeMap<>();
+            pricesByPublisher.forEach((publisherId, prices) -> expected.put(publisherId, new PriceStats(
+                    prices.size(),
+                    prices.stream().min(BigDecimal::compareTo).orElseThrow(),
+                    prices.stream().max(BigDecimal::compareTo).orElseThrow(),
+                    prices.stream().reduce(BigDecimal.ZERO, BigDecimal::add).divide(BigDecimal.valueOf(prices.size()), 2, RoundingMode.HALF_UP)
+            )));
+
+            assertAll(
+                    () -> assertEquals(500, columnStore.size()),
+                    () -> assertEquals(expected, columnStore.priceStatsByPublisher())
+            );
+        }
+    }
+
+    @Nested
+    class UpdateTests {
+        @Test
+        @DisplayName("onUpdated should overwrite the row of the book")
+        void onUpdated_ShouldOverwriteRow() {
+            columnStore.onUpdated(null, book(1L, 2L, "30.00", 0, LocalDate.of(2020, 1, 1)));
+
+            assertAll(
+                    () -> assertEquals(3, columnStore.size()),
+                    () -> assertEquals(1, columnStore.priceStats(1L).count()),
+                    () -> assertArrayEquals(new long[]{1L}, columnStore.idsWithPriceBetween(new BigDecimal("30.00"), null))
+            );
+        }
+
+        @Test
+        @DisplayName("onDeleted should move the last row into the freed slot")
+        void onDeleted_ShouldKeepRemainingRows() {
+            columnStore.onDeleted(book(1L, 1L, "10.00", 0, LocalDate.of(2020, 1, 1)));
+            columnStore.onUpdated(null, book(3L, 2L, "50.00", 0, LocalDate.of(2019, 3, 10)));
+
+            assertAll(
+                    () -> assertEquals(2, columnStore.size()),
+                    () -> assertArrayEquals(new long[]{2L, 3L}, sorted(columnStore.idsWithPriceBetween(null, null))),
+                    () -> assertEquals(new BigDecimal("50.00"), columnStore.priceStats(2L).max()),
+                    () -> assertEquals(1, columnStore.priceStats(1L).count())
+            );
+        }
+
+        @Test
+        @DisplayName("upsert should grow the columns past the initial capacity")
+        void upsert_PastCapacity_ShouldGrow() {
+            for (long id = 4; id <= 100; id++) {
+                columnStore.upsert(book(id, 3L, "1.00", 0, LocalDate.of(2000, 1, 1)));
+            }
+
+            assertAll(
+                    () -> assertEquals(100, columnStore.size()),
+                    () -> assertEquals(97, columnStore.priceStats(3L).count()),
+                    () -> assertEquals(2, columnStore.priceStats(1L).count())
+            );
+        }
+
+        @Test
+        @DisplayName("constructor should reject capacities beyond the documented maximum")
+        void constructor_PastMaxCapacity_ShouldThrow() {
+            assertThrows(IllegalArgumentException.class, () -> new BookColumnStore(BookColumnStore.MAX_CAPACITY + 1));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package es.cesguiro.analytics;
+
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogStatisticsTest {
+
+    private static final AuthorEntity CERVANTES = author(1L, "Española", "cervantes");
+    private static final AuthorEntity BORGES = author(2L, "Argentina", "borges");
+    private static final AuthorEntity LORCA = author(3L, "Española", "lorca");
+    private static final PublisherEntity ANAGRAMA = new PublisherEntity(1L, "Anagrama", "anagrama");
+    private static final PublisherEntity PLANETA = new PublisherEntity(2L, "Planeta", "planeta");
+
+    private CatalogStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new CatalogStatistics();
+        statistics.rebuild(
+                List.of(CERVANTES, BORGES, LORCA),
+                List.of(
+                        book(1L, ANAGRAMA, 10, 2020, CERVANTES),
+                        book(2L, ANAGRAMA, 20, 2020, BORGES, LORCA),
+                        book(3L, PLANETA, 0, 2021, CERVANTES, LORCA)
+                )
+        );
+    }
+
+    private static AuthorEntity author(Long id, String nationality, String slug) {
+        return new AuthorEntity(id, slug, nationality, null, null, 1900, null, slug);
+    }
+
+    private static BookEntity book(Long id, PublisherEntity publisher, double discount, int year, AuthorEntity... authors) {
+        return new BookEntity(id, String.valueOf(id).repeat(13), "Título " + id, "Title " + id, null, null,
+                new BigDecimal("10.00"), discount, null, LocalDate.of(year, 1, 1), publisher, List.of(authors));
+    }
+
+    @Nested
+    class ReadTests {
+        @Test
+        @DisplayName("rebuild should aggregate publishers, discount, nationalities and years")
+        void rebuild_ShouldAggregateCatalog() {
+            assertAll(
+                    () -> assertEquals(3, statistics.totalBooks()),
+                    () -> assertEquals(10.0, statistics.averageDiscount(), 1e-9),
+                    () -> assertEquals(Map.of("anagrama", 2L, "planeta", 1L), statistics.booksByPublisher()),
+                    () -> assertEquals(Map.of("Española", 3L, "Argentina", 1L), statistics.booksByNationality()),
+                    () -> assertEquals(Map.of(2020, 2L, 2021, 1L), statistics.booksByPublicationYear()),
+                    () -> assertEquals(0, statistics.booksByPublisher("unknown"))
+            );
+        }
+
+        @Test
+        @DisplayName("snapshot should be reused until the next write")
+        void snapshot_ShouldBeReusedUntilNextWrite() {
+            // Arrange
+            CatalogStatistics.Snapshot before = statistics.snapshot();
+
+            // Act
+            CatalogStatistics.Snapshot unchanged = statistics.snapshot();
+            statistics.onDeleted(book(3L, PLANETA, 0, 2021, CERVANTES, LORCA));
+            CatalogStatistics.Snapshot after = statistics.snapshot();
+
+            // Assert
+            assertAll(
+                    () -> assertSame(before, unchanged),
+                    () -> assertNotSame(before, after),
+                    () -> assertEquals(3, before.totalBooks()),
+                    () -> assertEquals(Map.of("anagrama", 2L, "planeta", 1L), before.booksByPublisher()),
+                    () -> assertEquals(2, after.totalBooks()),
+                    () -> assertEquals(Map.of("anagrama", 2L), after.booksByPublisher()),
+                    () -> assertThrows(UnsupportedOperationException.class, () -> after.booksByPublisher().clear())
+            );
+        }
+    }
+
+    @Nested
+    class BookWriteTests {
+        @Test
+        @DisplayName("book updates should move the book between buckets")
+        void onUpdated_ShouldMoveBook() {
+            statistics.onUpdated(null, book(1L, PLANETA, 40, 2022, BORGES));
+
+            assertAll(
+                    () -> assertEquals(3, statistics.totalBooks()),
+                    () -> assertEquals(20.0, statistics.averageDiscount(), 1e-9),
+                    () -> assertEquals(Map.of("anagrama", 1L, "planeta", 2L), statistics.booksByPublisher()),
+                    () -> assertEquals(Map.of("Española", 2L, "Argentina", 2L), statistics.booksByNationality()),
+                    () -> assertEquals(Map.of(2020, 1L, 2021, 1L, 2022, 1L), statistics.booksByPublicationYear())
+            );
+        }
+
+        @Test
+        @DisplayName("book deletes should drop empty buckets")
+        void onDeleted_ShouldDropEmptyBuckets() {
+            statistics.onDeleted(book(3L, PLANETA, 0, 2021, CERVANTES, LORCA));
+            statistics.onCreated(book(4L, null, 30, 2020));
+
+            assertAll(
+                    () -> assertEquals(3, statistics.totalBooks()),
+                    () -> assertEquals(20.0, statistics.averageDiscount(), 1e-9),
+                    () -> assertEquals(Map.of("anagrama", 2L), statistics.booksByPublisher()),
+                    () -> assertEquals(Map.of("Española", 2L, "Argentina", 1L), statistics.booksByNationality()),
+                    () -> assertEquals(Map.of(2020, 3L), statistics.booksByPublicationYear())
+            );
+        }
+    }
+
+    @Nested
+    class PublisherTests {
+        @Test
+        @DisplayName("publisher counts should be keyed by id and reported under the latest slug")
+        void onUpdated_PublisherSlugChange_ShouldKeepCountsById() {
+            // Arrange
+            PublisherEntity renamed = new PublisherEntity(1L, "Anagrama", "editorial-anagrama");
+
+            // Act
+            statistics.onUpdated(null, book(2L, renamed, 20, 2020, BORGES, LORCA));
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(Map.of("editorial-anagrama", 2L, "planeta", 1L), statistics.booksByPublisher()),
+                    () -> assertEquals(2, statistics.booksByPublisher("editorial-anagrama")),
+                    () -> assertEquals(0, statistics.booksByPublisher("anagrama"))
+            );
+        }
+    }
+
+    @Nested
+    class AuthorWriteTests {
+        @Test
+        @DisplayName("author nationality changes should recount the books of the author")
+        void onUpdated_Nationality_ShouldRecountBooks() {
+            statistics.onUpdated(LORCA, author(3L, "Argentina", "lorca"));
+
+            assertAll(
+                    () -> assertEquals(2, statistics.booksByNationality("Española")),
+                    () -> assertEquals(2, statistics.booksByNationality("Argentina"))
+            );
+        }
+
+        @Test
+        @DisplayName("author deletes should remove the nationality from the books of the author")
+        void onDeleted_ShouldRemoveNationality() {
+            statistics.onDeleted(BORGES);
+            statistics.onCreated(author(4L, "Francesa", "verne"));
+
+            assertAll(
+                    () -> assertEquals(Map.of("Española", 3L), statistics.booksByNationality()),
+                    () -> assertEquals(3, statistics.totalBooks())
+            );
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package es.cesguiro.codec;
+
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.PublisherDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryCodecTest {
+
+    private static final PublisherDto PUBLISHER = new PublisherDto(1L, "Editorial", "editorial");
+    private static final AuthorDto AUTHOR = new AuthorDto(7L, "Gabriel García Márquez", "Colombiana", "Biografía", null, 1927, 2014, "gabriel-garcia-marquez");
+
+    private static BookDto book(long id) {
+        return new BookDto(
+                id,
+                "978-84-376-0494-" + id,
+                "Cien años de soledad " + id,
+                null,
+                "SinopsisEs",
+                "SynopsisEn",
+                new BigDecimal("19.95"),
+                12.5,
+                new BigDecimal("17.46"),
+                "cover.jpg",
+                LocalDate.of(1967, 5, 30),
+                PUBLISHER,
+                List.of(AUTHOR)
+        );
+    }
+
+    @Nested
+    class RoundTripTests {
+        @Test
+        @DisplayName("BookDto list should survive encode and decode with and without string dedup")
+        void bookDtos_ShouldRoundTrip() {
+            // Arrange
+            List<BookDto> books = new ArrayList<>();
+            for (long id = 1; id <= 50; id++) {
+                books.add(book(id));
+            }
+
+            // Act
+            List<BookDto> plain = BinaryCodec.decode(BinaryCodec.encode(books, RecordCodecs.BOOK_DTO, false), RecordCodecs.BOOK_DTO);
+            List<BookDto> deduped = BinaryCodec.decode(BinaryCodec.encode(books, RecordCodecs.BOOK_DTO, true), RecordCodecs.BOOK_DTO);
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(books, plain),
+                    () -> assertEquals(books, deduped)
+            );
+        }
+
+        @Test
+        @DisplayName("string dedup should shrink payloads with repeated publishers and authors")
+        void dedup_ShouldShrinkPayload() {
+            // Arrange
+            List<BookDto> books = new ArrayList<>();
+            for (long id = 1; id <= 50; id++) {
+                books.add(book(id));
+            }
+
+            // Act
+            int plain = BinaryCodec.encode(books, RecordCodecs.BOOK_DTO, false).remaining();
+            int deduped = BinaryCodec.encode(books, RecordCodecs.BOOK_DTO, true).remaining();
+
+            // Assert
+            assertTrue(deduped < plain / 2);
+        }
+
+        @Test
+        @DisplayName("entities with nulls, odd scales and fractional discounts should round trip exactly")
+        void entities_ShouldRoundTripEdgeValues() {
+            // Arrange
+            List<BookEntity> books = List.of(
+                    new BookEntity(null, null, "Title", null, null, null, null, 0.0, null, null, null, null),
+                    new BookEntity(Long.MAX_VALUE, "isbn", null, "Title", null, null, new BigDecimal("12.5"), 33.333333, null, LocalDate.of(-200, 1, 1), new PublisherEntity(2L, "Ñandú", "nandu"), List.of()),
+                    new BookEntity(-3L, "isbn", "Título", "Title", null, null, new BigDecimal("123456789012345678901234.567"), -0.0, null, LocalDate.MAX, null, List.of(new AuthorEntity(1L, "Autor", "Española", null, null, -5, null, "autor")))
+            );
+
+            // Act
+            List<BookEntity> decoded = BinaryCodec.decode(BinaryCodec.encode(books, RecordCodecs.BOOK_ENTITY, true), RecordCodecs.BOOK_ENTITY);
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(books, decoded),
+                    () -> assertEquals(new BigDecimal("12.5").scale(), decoded.get(1).basePrice().scale()),
+                    () -> assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(decoded.get(2).discountPercentage()))
+            );
+        }
+
+        @Test
+        @DisplayName("encoding into a caller provided direct buffer should decode in place")
+        void directBuffer_ShouldRoundTrip() {
+            // Arrange
+            ByteBuffer target = ByteBuffer.allocateDirect(4096);
+            List<PublisherDto> publishers = List.of(PUBLISHER, new PublisherDto(2L, "Otra", "otra"));
+
+            // Act
+            BinaryCodec.encode(publishers, RecordCodecs.PUBLISHER_DTO, true, target);
+            List<PublisherDto> decoded = BinaryCodec.decode(target.flip(), RecordCodecs.PUBLISHER_DTO);
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(publishers, decoded),
+                    () -> assertFalse(target.hasRemaining())
+            );
+        }
+    }
+
+    @Nested
+    class HeaderTests {
+        @Test
+        @DisplayName("decode should reject payloads from a newer version")
+        void decode_NewerVersion_ShouldThrow() {
+            // Arrange
+            ByteBuffer buffer = BinaryCodec.encode(List.of(PUBLISHER), RecordCodecs.PUBLISHER_DTO, false);
+            buffer.put(2, (byte) (BinaryCodec.VERSION + 1));
+
+            // Act & Assert
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decode(buffer, RecordCodecs.PUBLISHER_DTO));
+            assertEquals("Unsupported codec version " + (BinaryCodec.VERSION + 1), exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("a single record should round trip with its version prefix")
+        void record_ShouldRoundTrip() {
+            // Arrange
+            PublisherEntity publisher = new PublisherEntity(3L, "Anagrama", "anagrama", 4L);
+
+            // Act
+            byte[] encoded = BinaryCodec.encodeRecord(publisher, RecordCodecs.PUBLISHER_ENTITY);
+            PublisherEntity decoded = BinaryCodec.decodeRecord(ByteBuffer.wrap(encoded), RecordCodecs.PUBLISHER_ENTITY);
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(BinaryCodec.VERSION, encoded[0]),
+                    () -> assertEquals(publisher, decoded)
+            );
+        }
+
+        @Test
+        @DisplayName("decodeRecord should reject records from a newer version")
+        void decodeRecord_NewerVersion_ShouldThrow() {
+            // Arrange
+            byte[] encoded = BinaryCodec.encodeRecord(new PublisherEntity(3L, "Anagrama", "anagrama", 4L), RecordCodecs.PUBLISHER_ENTITY);
+            encoded[0] = (byte) (BinaryCodec.VERSION + 1);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeRecord(ByteBuffer.wrap(encoded), RecordCodecs.PUBLISHER_ENTITY));
+        }
+
+        @Test
+        @DisplayName("decode should reject buffers without the magic header")
+        void decode_WithoutMagic_ShouldThrow() {
+            // Arrange
+            ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4});
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decode(buffer, RecordCodecs.PUBLISHER_DTO));
+        }
+    }
+}
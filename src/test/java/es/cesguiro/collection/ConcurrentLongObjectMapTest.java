@@ -0,0 +1,95 @@
+package es.cesguiro.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentLongObjectMapTest {
+
+    @Test
+    @DisplayName("readers should never observe a missing stable key while writers resize segments")
+    void get_DuringConcurrentWrites_ShouldSeeStableKeys() throws Exception {
+        // Arrange
+        ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>();
+        for (long key = 1; key <= 1_000; key++) {
+            map.put(key, key);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        List<Future<Long>> readers = new ArrayList<>();
+
+        try {
+            // Act
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < 2; w++) {
+                long base = 1_000_000L * (w + 1);
+                writers.add(executor.submit(() -> {
+                    for (long key = base; key < base + 100_000; key++) {
+                        map.put(key, key);
+                        if ((key & 1) == 0) {
+                            map.remove(key);
+                        }
+                    }
+                }));
+            }
+            for (int r = 0; r < 4; r++) {
+                readers.add(executor.submit(() -> {
+                    long misses = 0;
+                    while (running.get()) {
+                        for (long key = 1; key <= 1_000; key++) {
+                            Long value = map.get(key);
+                            if (value == null || value != key) {
+                                misses++;
+                            }
+                        }
+                    }
+                    return misses;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            running.set(false);
+
+            // Assert
+            for (Future<Long> reader : readers) {
+                assertEquals(0L, reader.get());
+            }
+            assertAll(
+                    () -> assertEquals(1_000 + 2 * 50_000, map.size()),
+                    () -> assertTrue(map.containsKey(1_000_001L)),
+                    () -> assertFalse(map.containsKey(1_000_002L))
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("putIfAbsent should only store the first value")
+    void putIfAbsent_ShouldKeepFirstValue() {
+        // Arrange
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+
+        // Act
+        String first = map.putIfAbsent(42L, "first");
+        String second = map.putIfAbsent(42L, "second");
+
+        // Assert
+        assertAll(
+                () -> assertNull(first),
+                () -> assertEquals("first", second),
+                () -> assertEquals("first", map.get(42L)),
+                () -> assertEquals(1, map.size()),
+                () -> assertThrows(NullPointerException.class, () -> map.put(1L, null))
+        );
+    }
+}
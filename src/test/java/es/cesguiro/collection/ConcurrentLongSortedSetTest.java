@@ -0,0 +1,122 @@
+package es.cesguiro.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentLongSortedSetTest {
+
+    private static long[] toArray(NavigableSet<Long> values) {
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Test
+    @DisplayName("random adds and removes across block splits should match a sorted reference set")
+    void addAndRemove_ShouldMatchReference() {
+        // Arrange
+        ConcurrentLongSortedSet set = new ConcurrentLongSortedSet();
+        TreeSet<Long> reference = new TreeSet<>();
+        Random random = new Random(7);
+
+        // Act
+        for (int i = 0; i < 20_000; i++) {
+            long value = random.nextInt(10_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(value), set.remove(value));
+            } else {
+                assertEquals(reference.add(value), set.add(value));
+            }
+        }
+        long middle = reference.ceiling(5_000L);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(reference.size(), set.size()),
+                () -> assertArrayEquals(toArray(reference), set.stream().toArray()),
+                () -> assertArrayEquals(reference.stream().skip(1_000).limit(700).mapToLong(Long::longValue).toArray(), set.page(1_000, 700)),
+                () -> assertArrayEquals(reference.tailSet(middle, false).stream().limit(300).mapToLong(Long::longValue).toArray(), set.after(middle, 300)),
+                () -> assertArrayEquals(toArray(reference.tailSet(middle, false)), collect(set.iteratorAfter(middle))),
+                () -> assertTrue(set.contains(middle)),
+                () -> assertEquals(0, set.page(reference.size(), 10).length)
+        );
+    }
+
+    @Test
+    @DisplayName("iterators should see stable values in order while writers add and remove others")
+    void iterator_DuringConcurrentWrites_ShouldSeeStableValuesInOrder() throws Exception {
+        // Arrange
+        ConcurrentLongSortedSet set = new ConcurrentLongSortedSet();
+        for (long value = 0; value < 10_000; value += 2) {
+            set.add(value);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Long>> readers = new ArrayList<>();
+
+        try {
+            // Act
+            Future<?> writer = executor.submit(() -> {
+                for (int round = 0; round < 20; round++) {
+                    for (long value = 1; value < 10_000; value += 2) {
+                        set.add(value);
+                    }
+                    for (long value = 1; value < 10_000; value += 2) {
+                        set.remove(value);
+                    }
+                }
+            });
+            for (int r = 0; r < 3; r++) {
+                readers.add(executor.submit(() -> {
+                    long errors = 0;
+                    while (running.get()) {
+                        long previous = -1;
+                        long evens = 0;
+                        PrimitiveIterator.OfLong iterator = set.iterator();
+                        while (iterator.hasNext()) {
+                            long value = iterator.nextLong();
+                            if (value <= previous) {
+                                errors++;
+                            }
+                            if (value % 2 == 0) {
+                                evens++;
+                            }
+                            previous = value;
+                        }
+                        if (evens != 5_000) {
+                            errors++;
+                        }
+                    }
+                    return errors;
+                }));
+            }
+            writer.get();
+            running.set(false);
+
+            // Assert
+            for (Future<Long> reader : readers) {
+                assertEquals(0L, reader.get());
+            }
+            assertEquals(5_000, set.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long[] collect(PrimitiveIterator.OfLong iterator) {
+        LongArrayList values = new LongArrayList();
+        iterator.forEachRemaining((long value) -> values.add(value));
+        return values.toArray();
+    }
+}
@@ -0,0 +1,132 @@
+package es.cesguiro.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongObjectHashMapTest {
+
+    @Nested
+    class MapTests {
+        @Test
+        @DisplayName("random puts and removes should match a HashMap")
+        void operations_ShouldMatchHashMap() {
+            // Arrange
+            Random random = new Random(7);
+            LongObjectHashMap<String> map = new LongObjectHashMap<>(2);
+            Map<Long, String> reference = new HashMap<>();
+
+            // Act
+            for (int i = 0; i < 50_000; i++) {
+                long key = random.nextInt(2_000) - 100;
+                if (random.nextInt(3) == 0) {
+                    assertEquals(reference.remove(key), map.remove(key));
+                } else {
+                    String value = "v" + i;
+                    assertEquals(reference.put(key, value), map.put(key, value));
+                }
+            }
+
+            // Assert
+            Map<Long, String> copy = new HashMap<>();
+            map.forEach(copy::put);
+            assertAll(
+                    () -> assertEquals(reference.size(), map.size()),
+                    () -> assertEquals(reference, copy),
+                    () -> assertEquals(reference.get(0L), map.get(0L)),
+                    () -> assertNull(map.get(5_000L))
+            );
+        }
+
+        @Test
+        @DisplayName("putIfAbsent and computeIfAbsent should keep the existing value")
+        void putIfAbsent_WithExistingKey_ShouldKeepValue() {
+            // Arrange
+            LongObjectHashMap<String> map = new LongObjectHashMap<>();
+            map.put(1L, "first");
+
+            // Act
+            String existing = map.putIfAbsent(1L, "second");
+            String computed = map.computeIfAbsent(2L, key -> "computed-" + key);
+
+            // Assert
+            assertAll(
+                    () -> assertEquals("first", existing),
+                    () -> assertEquals("first", map.get(1L)),
+                    () -> assertEquals("computed-2", computed),
+                    () -> assertEquals("computed-2", map.computeIfAbsent(2L, key -> "other"))
+            );
+        }
+    }
+
+    @Nested
+    class SetTests {
+        @Test
+        @DisplayName("random adds and removes should match a HashSet")
+        void operations_ShouldMatchHashSet() {
+            // Arrange
+            Random random = new Random(11);
+            LongHashSet set = new LongHashSet(0);
+            Set<Long> reference = new HashSet<>();
+
+            // Act
+            for (int i = 0; i < 50_000; i++) {
+                long key = random.nextInt(2_000) - 100;
+                if (random.nextBoolean()) {
+                    assertEquals(reference.remove(key), set.remove(key));
+                } else {
+                    assertEquals(reference.add(key), set.add(key));
+                }
+            }
+
+            // Assert
+            Set<Long> copy = new HashSet<>();
+            set.forEach(copy::add);
+            assertAll(
+                    () -> assertEquals(reference.size(), set.size()),
+                    () -> assertEquals(reference, copy),
+                    () -> assertEquals(reference.size(), set.toArray().length)
+            );
+        }
+    }
+
+    @Nested
+    class ListTests {
+        @Test
+        @DisplayName("sorted inserts and removes should keep ids ordered")
+        void addSorted_ShouldKeepOrder() {
+            // Arrange
+            Random random = new Random(3);
+            LongArrayList list = new LongArrayList();
+            TreeSet<Long> reference = new TreeSet<>();
+
+            // Act
+            for (int i = 0; i < 10_000; i++) {
+                long value = random.nextInt(500);
+                if (random.nextInt(4) == 0) {
+                    assertEquals(reference.remove(value), list.removeSorted(value));
+                } else {
+                    assertEquals(reference.add(value), list.addSorted(value));
+                }
+            }
+
+            // Assert
+            long[] expected = reference.stream().mapToLong(Long::longValue).toArray();
+            assertAll(
+                    () -> assertArrayEquals(expected, list.toArray()),
+                    () -> assertArrayEquals(Arrays.copyOfRange(expected, 2, 5), list.toArray(2, 5)),
+                    () -> assertThrows(IndexOutOfBoundsException.class, () -> list.get(list.size()))
+            );
+        }
+    }
+}
@@ -16,7 +16,11 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -262,4 +266,207 @@ class BookMapperTest {
             assertThrows(BusinessException.class, () -> BookMapper.getInstance().fromBookDtoToBook(bookDto));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Test projection from BookEntity to BookDto")
+    class FromBookEntityToBookDto {
+        @Test
+        @DisplayName("Test map BookEntity to BookDto")
+        void toBookDto_BookEntityToBookDto() {
+            // Arrange
+            BookEntity bookEntity = new BookEntity(
+                    1L,
+                    "978-84-376-0494-7",
+                    "TitleEs",
+                    "TitleEn",
+                    "SynopsisEs",
+                    "SynopsisEn",
+                    new BigDecimal("20.00"),
+                    10,
+                    "cover.jpg",
+                    LocalDate.of(2020, 1, 1),
+                    new PublisherEntity(1L, "Publisher Name", "publisher-slug"),
+                    List.of(
+                            new AuthorEntity(1L, "Author One", "nationality1", "Bio1", "Bio1En", 1970, null, "author-one"),
+                            new AuthorEntity(2L, "Author Two", "nationality2", "Bio2", "Bio2En", 1980, 2020, "author-two")
+                    )
+            );
+            // Act
+            BookDto bookDto = BookMapper.getInstance().fromBookEntityToBookDto(bookEntity);
+            BookDto twoHopsBookDto = BookMapper.getInstance().fromBookToBookDto(BookMapper.getInstance().fromBookEntityToBook(bookEntity));
+            // Assert
+            assertAll(
+                    () -> assertEquals(twoHopsBookDto, bookDto, "Projection should match the mapping through Book"),
+                    () -> assertEquals(new BigDecimal("18.00"), bookDto.price(), "Final price should be correctly calculated"),
+                    () -> assertEquals("Author Two", bookDto.authors().get(1).name(), "Second author name should match"),
+                    () -> assertEquals("publisher-slug", bookDto.publisher().slug(), "Publisher slug should match")
+            );
+        }
+
+        @Test
+        @DisplayName("Test map BookEntity without authors to BookDto returns empty authors")
+        void toBookDto_NullAuthors_ReturnsEmptyAuthors() {
+            // Arrange
+            BookEntity bookEntity = new BookEntity(1L, "978-84-376-0494-7", "TitleEs", null, null, null, new BigDecimal("20.00"), 0, null, null, null, null);
+            // Act
+            BookDto bookDto = BookMapper.getInstance().fromBookEntityToBookDto(bookEntity);
+            // Assert
+            assertAll(
+                    () -> assertTrue(bookDto.authors().isEmpty(), "Authors should be empty"),
+                    () -> assertNull(bookDto.publisher(), "Publisher should be null")
+            );
+        }
+
+        @Test
+        @DisplayName("Test map null BookEntity to BookDto throws BusinessException")
+        void toBookDto_NullBookEntity_ThrowsBusinessException() {
+            BookEntity bookEntity = null;
+
+            assertThrows(BusinessException.class, () -> BookMapper.getInstance().fromBookEntityToBookDto(bookEntity));
+        }
+    }
+
+    @Nested
+    @DisplayName("Test interning authors and publishers within a conversion")
+    class InterningTests {
+        private BookEntity book(long id, PublisherEntity publisher, AuthorEntity author) {
+            return new BookEntity(id, "isbn-" + id, "TitleEs", "TitleEn", null, null, new BigDecimal("10.00"), 0.0, null, null, publisher, List.of(author));
+        }
+
+        @Test
+        @DisplayName("Books sharing author and publisher ids should share one mapped instance")
+        void fromBookEntitiesToBookDtos_ShouldShareInstances() {
+            // Arrange
+            PublisherEntity publisher = new PublisherEntity(1L, "Publisher", "publisher");
+            AuthorEntity author = new AuthorEntity(1L, "Author", "Spanish", null, null, 1900, null, "author");
+            List<BookEntity> bookEntities = List.of(
+                    book(1L, publisher, author),
+                    book(2L, new PublisherEntity(1L, "Publisher", "publisher"), new AuthorEntity(1L, "Author", "Spanish", null, null, 1900, null, "author"))
+            );
+
+            // Act
+            List<BookDto> bookDtos = BookMapper.getInstance().fromBookEntitiesToBookDtos(bookEntities);
+
+            // Assert
+            assertAll(
+                    () -> assertSame(bookDtos.get(0).publisher(), bookDtos.get(1).publisher()),
+                    () -> assertSame(bookDtos.get(0).authors().get(0), bookDtos.get(1).authors().get(0)),
+                    () -> assertEquals(BookMapper.getInstance().fromBookEntityToBookDto(bookEntities.get(1)), bookDtos.get(1))
+            );
+        }
+
+        @Test
+        @DisplayName("Diverging data under the same id should not be interned")
+        void intern_WithDifferentSource_ShouldMapAgain() {
+            // Arrange
+            MappingContext context = new MappingContext();
+            AuthorEntity author = new AuthorEntity(1L, "Author", "Spanish", null, null, 1900, null, "author");
+            AuthorEntity renamed = new AuthorEntity(1L, "Renamed", "Spanish", null, null, 1900, null, "author");
+
+            // Act
+            BookDto first = BookMapper.getInstance().fromBookEntityToBookDto(book(1L, null, author), context);
+            BookDto second = BookMapper.getInstance().fromBookEntityToBookDto(book(2L, null, renamed), context);
+            BookDto third = BookMapper.getInstance().fromBookEntityToBookDto(book(3L, null, renamed), context);
+
+            // Assert
+            assertAll(
+                    () -> assertNotSame(first.authors().get(0), second.authors().get(0)),
+                    () -> assertEquals("Renamed", second.authors().get(0).name()),
+                    () -> assertSame(second.authors().get(0), third.authors().get(0)),
+                    () -> assertEquals(1, context.reused())
+            );
+        }
+
+        @Test
+        @DisplayName("Domain authors and publishers should be found by id before being mapped again")
+        void intern_DomainSources_ShouldReuseByIdUntilTheyChange() {
+            // Arrange
+            MappingContext context = new MappingContext();
+            PublisherEntity publisher = new PublisherEntity(1L, "Publisher", "publisher");
+            AuthorEntity author = new AuthorEntity(1L, "Author", "Spanish", null, null, 1900, null, "author");
+            List<Book> books = BookMapper.getInstance().fromBookEntitiesToBooks(List.of(book(1L, publisher, author), book(2L, publisher, author), book(3L, publisher, author)));
+
+            // Act
+            BookDto first = BookMapper.getInstance().fromBookToBookDto(books.get(0), context);
+            BookDto second = BookMapper.getInstance().fromBookToBookDto(books.get(1), context);
+            books.get(2).getAuthors().get(0).setName("Edited");
+            BookDto third = BookMapper.getInstance().fromBookToBookDto(books.get(2), context);
+
+            // Assert
+            assertAll(
+                    () -> assertSame(first.authors().get(0), second.authors().get(0)),
+                    () -> assertSame(first.publisher(), second.publisher()),
+                    () -> assertEquals("Edited", third.authors().get(0).name()),
+                    () -> assertSame(first.publisher(), third.publisher()),
+                    () -> assertEquals(3, context.reused())
+            );
+        }
+
+        @Test
+        @DisplayName("Mutable domain authors and publishers should not be shared between books")
+        void fromBookEntitiesToBooks_ShouldNotShareMutableInstances() {
+            // Arrange
+            PublisherEntity publisher = new PublisherEntity(1L, "Publisher", "publisher");
+            AuthorEntity author = new AuthorEntity(1L, "Author", "Spanish", null, null, 1900, null, "author");
+            List<BookEntity> bookEntities = List.of(book(1L, publisher, author), book(2L, publisher, author));
+
+            // Act
+            List<Book> books = BookMapper.getInstance().fromBookEntitiesToBooks(bookEntities);
+            books.get(0).getAuthors().get(0).setName("Edited");
+            books.get(0).getPublisher().setName("Edited");
+
+            // Assert
+            assertAll(
+                    () -> assertEquals("Author", books.get(1).getAuthors().get(0).getName()),
+                    () -> assertEquals("Publisher", books.get(1).getPublisher().getName())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Test bulk conversions")
+    class BulkTests {
+        @Test
+        @DisplayName("Bulk conversions should match single item conversions")
+        void bulkConversions_ShouldMatchSingleConversions() {
+            // Arrange
+            PublisherEntity publisher = new PublisherEntity(1L, "Publisher", "publisher");
+            AuthorEntity author = new AuthorEntity(1L, "Author", "Spanish", null, null, 1900, null, "author");
+            List<BookEntity> bookEntities = List.of(
+                    new BookEntity(1L, "isbn-1", "TitleEs", "TitleEn", null, null, new BigDecimal("10.00"), 10.0, null, null, publisher, List.of(author)),
+                    new BookEntity(2L, "isbn-2", "TitleEs", "TitleEn", null, null, new BigDecimal("20.00"), 0.0, null, null, publisher, List.of(author))
+            );
+            List<Book> books = BookMapper.getInstance().fromBookEntitiesToBooks(bookEntities);
+
+            // Act
+            List<BookDto> bookDtos = BookMapper.getInstance().fromBooksToBookDtos(books);
+            List<BookEntity> roundTrip = BookMapper.getInstance().fromBookDtosToBookEntities(bookDtos);
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(BookMapper.getInstance().fromBookToBookDto(books.get(0)), bookDtos.get(0)),
+                    () -> assertSame(bookDtos.get(0).authors().get(0), bookDtos.get(1).authors().get(0)),
+                    () -> assertEquals(bookEntities, roundTrip)
+            );
+        }
+
+        @Test
+        @DisplayName("Concurrent lookups should observe a single instance")
+        void getInstance_Concurrently_ShouldReturnSameInstance() throws Exception {
+            // Arrange
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            try {
+                // Act
+                List<Future<BookMapper>> futures = executor.invokeAll(Collections.nCopies(64, BookMapper::getInstance));
+
+                // Assert
+                for (Future<BookMapper> future : futures) {
+                    assertSame(BookMapper.getInstance(), future.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
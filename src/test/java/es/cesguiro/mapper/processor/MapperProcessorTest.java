@@ -0,0 +1,130 @@
+package es.cesguiro.mapper.processor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapperProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    private DiagnosticCollector<JavaFileObject> compile(String mapperSource) throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("src/sample"));
+        Files.writeString(sources.resolve("Source.java"), """
+                package sample;
+                public record Source(Long id, String name, java.util.List<Source> children) {
+                }
+                """);
+        Files.writeString(sources.resolve("Target.java"), """
+                package sample;
+                public class Target {
+                    private final long id;
+                    private final String label;
+                    private final java.util.List<Target> children;
+                    public Target(long id, String label, java.util.List<Target> children) {
+                        this.id = id;
+                        this.label = label;
+                        this.children = children;
+                    }
+                    public long getId() { return id; }
+                    public String getLabel() { return label; }
+                    public java.util.List<Target> getChildren() { return children; }
+                }
+                """);
+        Files.writeString(sources.resolve("SampleConversions.java"), mapperSource);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            Path classes = Files.createDirectories(directory.resolve("classes"));
+            List<String> options = List.of(
+                    "-d", classes.toString(),
+                    "-s", Files.createDirectories(directory.resolve("generated")).toString(),
+                    "-classpath", System.getProperty("java.class.path")
+            );
+            Iterable<? extends JavaFileObject> units;
+            try (var files = Files.list(sources)) {
+                units = fileManager.getJavaFileObjectsFromPaths(files.toList());
+            }
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, units);
+            task.setProcessors(List.of(new MapperProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    private boolean hasErrors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        return diagnostics.getDiagnostics().stream().anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR);
+    }
+
+    @Test
+    @DisplayName("Generated mapper should convert properties, computed values and nested lists")
+    void generate_ValidMapper_ShouldConvert() throws Exception {
+        // Arrange
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("""
+                package sample;
+                @es.cesguiro.mapper.processor.GenerateMapper
+                public interface SampleConversions {
+                    Target toTarget(Source source);
+                    default String label(Source source) {
+                        return source.name().toUpperCase();
+                    }
+                }
+                """);
+        assertFalse(hasErrors(diagnostics), diagnostics.getDiagnostics().toString());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.resolve("classes").toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> sourceType = loader.loadClass("sample.Source");
+            Object child = sourceType.getConstructors()[0].newInstance(2L, "child", null);
+            Object parent = sourceType.getConstructors()[0].newInstance(1L, "parent", List.of(child));
+            Object mapper = loader.loadClass("sample.SampleConversionsImpl").getDeclaredConstructor().newInstance();
+
+            // Act
+            Object target = mapper.getClass().getMethod("toTarget", sourceType).invoke(mapper, parent);
+
+            // Assert
+            Class<?> targetType = target.getClass();
+            List<?> children = (List<?>) targetType.getMethod("getChildren").invoke(target);
+            assertAll(
+                    () -> assertEquals(1L, targetType.getMethod("getId").invoke(target)),
+                    () -> assertEquals("PARENT", targetType.getMethod("getLabel").invoke(target)),
+                    () -> assertEquals(1, children.size()),
+                    () -> assertEquals("CHILD", targetType.getMethod("getLabel").invoke(children.get(0))),
+                    () -> assertEquals(List.of(), targetType.getMethod("getChildren").invoke(children.get(0)))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Unmapped target properties should fail the compilation")
+    void generate_UnmappedProperty_ShouldReportError() throws Exception {
+        // Act
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("""
+                package sample;
+                @es.cesguiro.mapper.processor.GenerateMapper
+                public interface SampleConversions {
+                    Target toTarget(Source source);
+                }
+                """);
+
+        // Assert
+        assertTrue(diagnostics.getDiagnostics().stream()
+                .anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+                        && diagnostic.getMessage(null).contains("No source property 'label'")));
+    }
+}
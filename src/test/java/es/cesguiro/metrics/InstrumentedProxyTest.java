@@ -0,0 +1,49 @@
+package es.cesguiro.metrics;
+
+import es.cesguiro.exception.BusinessException;
+import es.cesguiro.service.PublisherService;
+import es.cesguiro.service.dto.PublisherDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedProxyTest {
+
+    @Mock
+    private PublisherService publisherService;
+
+    @Test
+    @DisplayName("wrap should record calls and errors per method")
+    void wrap_ShouldRecordCallsAndErrors() {
+        // Arrange
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        PublisherService instrumented = InstrumentedProxy.wrap(PublisherService.class, publisherService, sink);
+        when(publisherService.getBySlug("publisher-slug")).thenReturn(new PublisherDto(1L, "Publisher", "publisher-slug"));
+        when(publisherService.getBySlug("unknown")).thenThrow(new BusinessException("Publisher with slug unknown not found"));
+
+        // Act
+        instrumented.getBySlug("publisher-slug");
+        instrumented.getBySlug("publisher-slug");
+        assertThrows(BusinessException.class, () -> instrumented.getBySlug("unknown"));
+
+        // Assert
+        MetricSnapshot snapshot = sink.snapshot("PublisherService.getBySlug");
+        assertAll(
+                () -> assertEquals(3, snapshot.calls()),
+                () -> assertEquals(1, snapshot.errors()),
+                () -> assertEquals(3, snapshot.latency().count())
+        );
+    }
+
+    @Test
+    @DisplayName("wrap with the no-op sink should return the target itself")
+    void wrap_NoopSink_ShouldReturnTarget() {
+        assertSame(publisherService, InstrumentedProxy.wrap(PublisherService.class, publisherService, MetricsSink.NOOP));
+    }
+}
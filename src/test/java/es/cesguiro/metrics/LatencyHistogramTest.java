@@ -0,0 +1,65 @@
+package es.cesguiro.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("bucket bounds should cover every value within the sub-bucket precision")
+    void indexOf_ShouldStayWithinPrecision() {
+        for (long value : new long[]{0, 1, 31, 32, 33, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            long upper = LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(value));
+
+            assertTrue(upper >= value, "upper bound for " + value);
+            assertTrue(upper - value <= Math.max(1, value / 16), "precision for " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("snapshot should report count, max and percentiles")
+    void snapshot_ShouldReportPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertAll(
+                () -> assertEquals(1_000, snapshot.count()),
+                () -> assertEquals(1_000_000, snapshot.max()),
+                () -> assertEquals(500_500, snapshot.mean(), 0.001),
+                () -> assertEquals(500_000, snapshot.p50(), 500_000 / 32.0),
+                () -> assertEquals(990_000, snapshot.p99(), 990_000 / 32.0)
+        );
+    }
+
+    @Test
+    @DisplayName("concurrent records should not be lost")
+    void record_Concurrently_ShouldCountEveryValue() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        histogram.record(i);
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertAll(
+                () -> assertEquals(80_000, histogram.count()),
+                () -> assertEquals(9_999, histogram.max())
+        );
+    }
+}
@@ -105,4 +105,34 @@ class BookTest {
         assertThrows(BusinessException.class, () -> book.addAuthor(author));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Clearing the base price should clear the final price")
+    void setBasePrice_WithNull_ShouldClearPrice() {
+        // Arrange
+        Book book = new Book(
+                1L,
+                "978-3-16-148410-0",
+                "Título en Español",
+                "Title in English",
+                "Sinopsis en Español",
+                "Synopsis in English",
+                new BigDecimal("100.00"),
+                15.0,
+                "cover.jpg",
+                LocalDate.of(2023, 1, 1),
+                null,
+                null
+        );
+
+        // Act
+        book.setBasePrice(null);
+        book.setDiscountPercentage(20.0);
+
+        // Assert
+        assertAll(
+                () -> assertNull(book.getBasePrice()),
+                () -> assertNull(book.getPrice())
+        );
+    }
+
+}
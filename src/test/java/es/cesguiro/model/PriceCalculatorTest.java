@@ -0,0 +1,60 @@
+package es.cesguiro.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceCalculatorTest {
+
+    @ParameterizedTest(name = "{index} => basePrice={0}, discountPercentage={1}, expectedPrice={2}")
+    @DisplayName("finalPrice should round the discount half up to cents")
+    @CsvSource({
+            "100.00, 15.0, 85.00",
+            "10.01, 50.0, 5.00",
+            "0.05, 10.0, 0.04",
+            "19.99, 33.3333, 13.33",
+            "19.99, 33.333333333, 13.33",
+            "10.005, 0.0, 10.01",
+            "-10.01, 50.0, -5.00",
+            "100, 12.5, 87.50"
+    })
+    void finalPrice_ShouldMatchExpected(String basePrice, double discountPercentage, String expectedPrice) {
+        assertEquals(new BigDecimal(expectedPrice), PriceCalculator.finalPrice(new BigDecimal(basePrice), discountPercentage));
+    }
+
+    @Test
+    @DisplayName("finalPrice should match the BigDecimal reference for random prices and discounts")
+    void finalPrice_RandomInputs_ShouldMatchReference() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            BigDecimal basePrice = BigDecimal.valueOf(random.nextLong(-1_000_000_000L, 1_000_000_000L), random.nextInt(3));
+            double discountPercentage = switch (i % 3) {
+                case 0 -> random.nextInt(101);
+                case 1 -> random.nextInt(1_000_001) / 10_000d;
+                default -> random.nextDouble() * 100;
+            };
+
+            BigDecimal expected = PriceCalculator.referenceFinalPrice(basePrice, discountPercentage);
+
+            assertEquals(expected, PriceCalculator.finalPrice(basePrice, discountPercentage), basePrice + " " + discountPercentage);
+            assertEquals(expected.movePointRight(2).longValueExact(), PriceCalculator.finalPriceCents(basePrice, discountPercentage));
+        }
+    }
+
+    @Test
+    @DisplayName("finalPriceCents should fall back to BigDecimal when cents would overflow")
+    void finalPriceCents_Overflow_ShouldFallBack() {
+        BigDecimal basePrice = new BigDecimal("90000000000000.00");
+
+        assertEquals(
+                PriceCalculator.referenceFinalPrice(basePrice, 99.9999),
+                PriceCalculator.fromCents(PriceCalculator.finalPriceCents(PriceCalculator.toCents(basePrice), 99.9999))
+        );
+    }
+}
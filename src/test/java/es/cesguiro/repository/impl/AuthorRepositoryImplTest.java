@@ -0,0 +1,96 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.exception.BusinessException;
+import es.cesguiro.exception.OptimisticLockException;
+import es.cesguiro.repository.entity.AuthorEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorRepositoryImplTest {
+
+    private AuthorRepositoryImpl authorRepository;
+
+    @BeforeEach
+    void setUp() {
+        authorRepository = new AuthorRepositoryImpl();
+    }
+
+    private static AuthorEntity author(Long id, String name, String slug) {
+        return new AuthorEntity(id, name, "Country", null, null, 1970, null, slug);
+    }
+
+    @Nested
+    class CreateTests {
+        @Test
+        @DisplayName("create should assign ids and reject duplicated slugs")
+        void create_ShouldAssignIdsAndRejectDuplicates() {
+            AuthorEntity first = authorRepository.create(author(null, "First", "first"));
+            AuthorEntity second = authorRepository.create(author(null, "Second", "second"));
+
+            assertAll(
+                    () -> assertEquals(1L, first.id()),
+                    () -> assertEquals(2L, second.id()),
+                    () -> assertThrows(BusinessException.class, () -> authorRepository.create(author(null, "Other", "first"))),
+                    () -> assertEquals(List.of("first", "second"), authorRepository.findAll().stream().map(AuthorEntity::slug).toList())
+            );
+        }
+    }
+
+    @Nested
+    class UpdateTests {
+        @Test
+        @DisplayName("update should keep the id and move the slug")
+        void update_ChangedSlug_ShouldMoveSlug() {
+            AuthorEntity created = authorRepository.create(author(null, "First", "first"));
+
+            AuthorEntity updated = authorRepository.update("first", author(null, "Renamed", "renamed"));
+
+            assertAll(
+                    () -> assertEquals(created.id(), updated.id()),
+                    () -> assertTrue(authorRepository.findBySlug("first").isEmpty()),
+                    () -> assertEquals("Renamed", authorRepository.findBySlug("renamed").orElseThrow().name())
+            );
+        }
+
+        @Test
+        @DisplayName("update of an unknown slug should throw exception")
+        void update_UnknownSlug_ShouldThrowException() {
+            assertThrows(BusinessException.class, () -> authorRepository.update("unknown", author(null, "Name", "unknown")));
+        }
+
+        @Test
+        @DisplayName("update with a stale version should throw exception")
+        void update_StaleVersion_ShouldThrowOptimisticLockException() {
+            authorRepository.create(author(null, "First", "first"));
+            AuthorEntity updated = authorRepository.update("first", author(null, "Renamed", "first"));
+
+            assertAll(
+                    () -> assertEquals(1L, updated.version()),
+                    () -> assertThrows(OptimisticLockException.class, () -> authorRepository.update("first", author(null, "Stale", "first"))),
+                    () -> assertEquals("Renamed", authorRepository.findBySlug("first").orElseThrow().name())
+            );
+        }
+    }
+
+    @Nested
+    class DeleteTests {
+        @Test
+        @DisplayName("delete should return the number of removed authors")
+        void delete_ShouldReturnRemovedCount() {
+            authorRepository.createAll(List.of(author(null, "First", "first"), author(null, "Second", "second")));
+
+            assertAll(
+                    () -> assertEquals(1, authorRepository.delete("first")),
+                    () -> assertEquals(0, authorRepository.delete("first")),
+                    () -> assertEquals(1, authorRepository.deleteAll(List.of("second", "unknown"))),
+                    () -> assertTrue(authorRepository.findAll().isEmpty())
+            );
+        }
+    }
+}
@@ -0,0 +1,720 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.codec.RecordCodecs;
+import es.cesguiro.exception.BusinessException;
+import es.cesguiro.exception.OptimisticLockException;
+import es.cesguiro.model.PriceCalculator;
+import es.cesguiro.repository.BookQuery;
+import es.cesguiro.repository.BookSort;
+import es.cesguiro.repository.UpsertResult;
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+import es.cesguiro.storage.LogEntityStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookRepositoryImplTest {
+
+    private BookRepositoryImpl bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository = new BookRepositoryImpl();
+    }
+
+    private static BookEntity book(Long id, String isbn) {
+        return new BookEntity(
+                id,
+                isbn,
+                "TitleEs " + isbn,
+                "TitleEn " + isbn,
+                "SynopsisEs",
+                "SynopsisEn",
+                new BigDecimal("10.00"),
+                5,
+                "cover.jpg",
+                LocalDate.of(2020, 1, 1),
+                new PublisherEntity(1L, "Publisher", "publisher-slug"),
+                List.of(new AuthorEntity(1L, "Author", "Country", "BioEs", "BioEn", 1970, null, "author-slug"))
+        );
+    }
+
+    @Nested
+    class SaveTests {
+        @Test
+        @DisplayName("save without id should assign a sequential id")
+        void save_WithoutId_ShouldAssignId() {
+            BookEntity first = bookRepository.save(book(null, "1111111111111"));
+            BookEntity second = bookRepository.save(book(null, "2222222222222"));
+
+            assertAll(
+                    () -> assertEquals(1L, first.id()),
+                    () -> assertEquals(2L, second.id()),
+                    () -> assertEquals(2, bookRepository.count())
+            );
+        }
+
+        @Test
+        @DisplayName("save with explicit id should keep it and advance the sequence")
+        void save_WithId_ShouldKeepIt() {
+            bookRepository.save(book(10L, "1111111111111"));
+            BookEntity next = bookRepository.save(book(null, "2222222222222"));
+
+            assertAll(
+                    () -> assertTrue(bookRepository.findById(10L).isPresent()),
+                    () -> assertEquals(11L, next.id())
+            );
+        }
+
+        @Test
+        @DisplayName("save with duplicated isbn should throw exception")
+        void save_DuplicatedIsbn_ShouldThrowException() {
+            bookRepository.save(book(null, "1111111111111"));
+
+            assertThrows(BusinessException.class, () -> bookRepository.save(book(null, "1111111111111")));
+        }
+
+        @Test
+        @DisplayName("concurrent saves of the same isbn should store only one book")
+        void save_ConcurrentSameIsbn_ShouldStoreOne() throws InterruptedException {
+            AtomicInteger failures = new AtomicInteger();
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                for (int i = 0; i < 100; i++) {
+                    executor.submit(() -> {
+                        try {
+                            bookRepository.save(book(null, "1111111111111"));
+                        } catch (BusinessException e) {
+                            failures.incrementAndGet();
+                        }
+                    });
+                }
+                executor.shutdown();
+                assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            }
+
+            assertAll(
+                    () -> assertEquals(1, bookRepository.count()),
+                    () -> assertEquals(99, failures.get())
+            );
+        }
+    }
+
+    @Nested
+    class FindTests {
+        @Test
+        @DisplayName("findByIsbn and findById should return the stored book")
+        void find_ExistingBook_ShouldReturnBook() {
+            BookEntity saved = bookRepository.save(book(null, "1111111111111"));
+
+            assertAll(
+                    () -> assertEquals(saved, bookRepository.findByIsbn("1111111111111").orElseThrow()),
+                    () -> assertEquals(saved, bookRepository.findById(saved.id()).orElseThrow()),
+                    () -> assertTrue(bookRepository.findByIsbn("9999999999999").isEmpty()),
+                    () -> assertTrue(bookRepository.findById(99L).isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("findAll should page books ordered by id")
+        void findAll_ShouldPageOrderedById() {
+            bookRepository.save(book(3L, "3333333333333"));
+            bookRepository.save(book(1L, "1111111111111"));
+            bookRepository.save(book(2L, "2222222222222"));
+
+            List<BookEntity> firstPage = bookRepository.findAll(0, 2);
+            List<BookEntity> secondPage = bookRepository.findAll(1, 2);
+
+            assertAll(
+                    () -> assertEquals(List.of(1L, 2L), firstPage.stream().map(BookEntity::id).toList()),
+                    () -> assertEquals(List.of(3L), secondPage.stream().map(BookEntity::id).toList()),
+                    () -> assertTrue(bookRepository.findAll(2, 2).isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("findAllAfter should return books with id greater than the last id")
+        void findAllAfter_ShouldReturnNextBooks() {
+            bookRepository.save(book(1L, "1111111111111"));
+            bookRepository.save(book(2L, "2222222222222"));
+            bookRepository.save(book(3L, "3333333333333"));
+
+            assertAll(
+                    () -> assertEquals(List.of(1L, 2L), bookRepository.findAllAfter(null, 2).stream().map(BookEntity::id).toList()),
+                    () -> assertEquals(List.of(3L), bookRepository.findAllAfter(2L, 2).stream().map(BookEntity::id).toList()),
+                    () -> assertTrue(bookRepository.findAllAfter(3L, 2).isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("streamAll should return every book ordered by id")
+        void streamAll_ShouldReturnBooksOrderedById() {
+            bookRepository.save(book(2L, "2222222222222"));
+            bookRepository.save(book(1L, "1111111111111"));
+            bookRepository.save(book(3L, "3333333333333"));
+            bookRepository.delete("2222222222222");
+
+            assertEquals(List.of(1L, 3L), bookRepository.streamAll().map(BookEntity::id).toList());
+        }
+    }
+
+    @Nested
+    class QueryTests {
+        private final Random random = new Random(42);
+
+        private BookEntity randomBook(long id) {
+            long author = 1 + random.nextInt(5);
+            long publisher = 1 + random.nextInt(3);
+            return new BookEntity(
+                    id,
+                    String.format("%013d", id),
+                    random.nextInt(10) == 0 ? null : "Título " + (char) ('a' + random.nextInt(26)) + id,
+                    "Title " + id,
+                    null,
+                    null,
+                    random.nextInt(20) == 0 ? null : BigDecimal.valueOf(100 + random.nextInt(5000), 2),
+                    random.nextBoolean() ? 0 : random.nextInt(50),
+                    null,
+                    random.nextInt(20) == 0 ? null : LocalDate.of(2000, 1, 1).plusDays(random.nextInt(9000)),
+                    new PublisherEntity(publisher, "Publisher " + publisher, "publisher-" + publisher),
+                    List.of(new AuthorEntity(author, "Author " + author, "Country", null, null, 1970, null, "author-" + author))
+            );
+        }
+
+        private List<BookEntity> reference(List<BookEntity> all, BookQuery query, Comparator<BookEntity> order, int page, int size) {
+            return all.stream()
+                    .filter(book -> query.authorSlug() == null || book.authors().get(0).slug().equals(query.authorSlug()))
+                    .filter(book -> query.publisherSlug() == null || book.publisher().slug().equals(query.publisherSlug()))
+                    .filter(book -> !query.discountedOnly() || book.discountPercentage() > 0)
+                    .filter(book -> query.minPrice() == null || (book.basePrice() != null
+                            && PriceCalculator.finalPrice(book.basePrice(), book.discountPercentage()).compareTo(query.minPrice()) >= 0))
+                    .filter(book -> query.maxPrice() == null || (book.basePrice() != null
+                            && PriceCalculator.finalPrice(book.basePrice(), book.discountPercentage()).compareTo(query.maxPrice()) <= 0))
+                    .filter(book -> query.publishedFrom() == null || (book.publicationDate() != null && !book.publicationDate().isBefore(query.publishedFrom())))
+                    .filter(book -> query.publishedTo() == null || (book.publicationDate() != null && !book.publicationDate().isAfter(query.publishedTo())))
+                    .sorted(order)
+                    .skip((long) page * size)
+                    .limit(size)
+                    .toList();
+        }
+
+        @Test
+        @DisplayName("faceted queries should match a brute force filter and sort")
+        void findAll_WithQuery_ShouldMatchReference() {
+            List<BookEntity> all = new ArrayList<>();
+            for (long id = 1; id <= 500; id++) {
+                all.add(randomBook(id));
+            }
+            bookRepository.saveAll(all);
+            BookQuery cheapFromPublisher = BookQuery.all().withPriceBetween(null, new BigDecimal("20.00")).withPublisher("publisher-2").sortedBy(BookSort.PRICE_ASC);
+            BookQuery newestDiscounted = BookQuery.all().discounted().withAuthor("author-3").withPublishedBetween(LocalDate.of(2010, 1, 1), null).sortedBy(BookSort.DATE_DESC);
+            Comparator<BookEntity> byPrice = Comparator.comparing((BookEntity book) -> PriceCalculator.finalPrice(book.basePrice(), book.discountPercentage()))
+                    .thenComparing(BookEntity::id);
+            Comparator<BookEntity> byDateDesc = Comparator.comparing(BookEntity::publicationDate).thenComparing(BookEntity::id).reversed();
+
+            assertAll(
+                    () -> assertEquals(reference(all, cheapFromPublisher, byPrice, 0, 10), bookRepository.findAll(cheapFromPublisher, 0, 10)),
+                    () -> assertEquals(reference(all, cheapFromPublisher, byPrice, 2, 10), bookRepository.findAll(cheapFromPublisher, 2, 10)),
+                    () -> assertEquals(reference(all, newestDiscounted, byDateDesc, 0, 1000), bookRepository.findAll(newestDiscounted, 0, 1000)),
+                    () -> assertEquals(bookRepository.findAll(0, 25), bookRepository.findAll(BookQuery.all(), 0, 25)),
+                    () -> assertTrue(bookRepository.findAll(BookQuery.all().withAuthor("unknown"), 0, 10).isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("sort indexes should follow updates and deletes")
+        void findAll_AfterWrites_ShouldUseFreshIndexes() {
+            BookEntity cheap = bookRepository.save(book(null, "1111111111111"));
+            bookRepository.save(book(null, "2222222222222"));
+            BookEntity expensive = new BookEntity(cheap.id(), cheap.isbn(), "A", null, null, null, new BigDecimal("99.00"), 0, null, null, null, List.of(), cheap.version());
+
+            bookRepository.update(expensive);
+            bookRepository.delete("2222222222222");
+
+            assertAll(
+                    () -> assertEquals(List.of(cheap.id()), bookRepository.findAll(BookQuery.all().sortedBy(BookSort.PRICE_DESC), 0, 10).stream().map(BookEntity::id).toList()),
+                    () -> assertTrue(bookRepository.findAll(BookQuery.all().withPriceBetween(null, new BigDecimal("50.00")), 0, 10).isEmpty()),
+                    () -> assertEquals("A", bookRepository.findAll(BookQuery.all().sortedBy(BookSort.TITLE_ASC), 0, 1).get(0).titleEs())
+            );
+        }
+        @Test
+        @DisplayName("faceted queries sorted by id should page across many books of the same author")
+        void findAll_WithLargeFacet_ShouldMatchReference() {
+            List<BookEntity> all = new ArrayList<>();
+            for (long id = 1; id <= 1400; id++) {
+                all.add(randomBook(id));
+            }
+            bookRepository.saveAll(all);
+            BookQuery byAuthor = BookQuery.all().withAuthor("author-1");
+            BookQuery byAuthorAndPublisher = BookQuery.all().withAuthor("author-2").withPublisher("publisher-1");
+            Comparator<BookEntity> byId = Comparator.comparing(BookEntity::id);
+
+            assertAll(
+                    () -> assertEquals(reference(all, byAuthor, byId, 0, 1000), bookRepository.findAll(byAuthor, 0, 1000)),
+                    () -> assertEquals(reference(all, byAuthor, byId, 6, 40), bookRepository.findAll(byAuthor, 6, 40)),
+                    () -> assertEquals(reference(all, byAuthorAndPublisher, byId, 1, 20), bookRepository.findAll(byAuthorAndPublisher, 1, 20))
+            );
+        }
+
+        private List<BookEntity> catalogWithRareAuthor(long firstId, int size) {
+            List<BookEntity> all = new ArrayList<>();
+            AuthorEntity rare = new AuthorEntity(99L, "Rare", "Country", null, null, 1970, null, "author-rare");
+            for (long id = firstId; id < firstId + size; id++) {
+                BookEntity book = randomBook(id);
+                all.add(id % 100 != 0 ? book : new BookEntity(book.id(), book.isbn(), book.titleEs(), book.titleEn(), null, null,
+                        book.basePrice(), book.discountPercentage(), null, book.publicationDate(), book.publisher(), List.of(rare)));
+            }
+            return all;
+        }
+
+        private static Comparator<BookEntity> byFinalPrice(boolean descending) {
+            Comparator<BigDecimal> prices = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+            Comparator<Long> ids = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+            return Comparator.comparing((BookEntity book) -> book.basePrice() == null ? null : PriceCalculator.finalPrice(book.basePrice(), book.discountPercentage()),
+                    Comparator.nullsLast(prices)).thenComparing(BookEntity::id, ids);
+        }
+
+        private static Comparator<BookEntity> byPublicationDate(boolean descending) {
+            Comparator<LocalDate> dates = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+            Comparator<Long> ids = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+            return Comparator.comparing(BookEntity::publicationDate, Comparator.nullsLast(dates)).thenComparing(BookEntity::id, ids);
+        }
+
+        @Test
+        @DisplayName("id sorted queries with a narrow price or date range should match a brute force filter")
+        void findAll_SortedByIdWithNarrowRange_ShouldMatchReference() {
+            List<BookEntity> all = catalogWithRareAuthor(1, 2000);
+            bookRepository.saveAll(all);
+            BookQuery narrowPrice = BookQuery.all().withPriceBetween(new BigDecimal("10.00"), new BigDecimal("10.50"));
+            BookQuery narrowDate = BookQuery.all().withPublishedBetween(LocalDate.of(2005, 3, 1), LocalDate.of(2005, 4, 1)).withPublisher("publisher-1");
+            BookQuery bothRanges = narrowPrice.withPublishedBetween(LocalDate.of(2000, 1, 1), LocalDate.of(2012, 12, 31));
+            Comparator<BookEntity> byId = Comparator.comparing(BookEntity::id);
+
+            assertAll(
+                    () -> assertFalse(reference(all, narrowPrice, byId, 0, 1000).isEmpty()),
+                    () -> assertEquals(reference(all, narrowPrice, byId, 0, 1000), bookRepository.findAll(narrowPrice, 0, 1000)),
+                    () -> assertEquals(reference(all, narrowPrice, byId, 1, 3), bookRepository.findAll(narrowPrice, 1, 3)),
+                    () -> assertEquals(reference(all, narrowDate, byId, 0, 1000), bookRepository.findAll(narrowDate, 0, 1000)),
+                    () -> assertEquals(reference(all, bothRanges, byId, 0, 5), bookRepository.findAll(bothRanges, 0, 5))
+            );
+        }
+
+        @Test
+        @DisplayName("price and date sorted queries with a small author facet should match a brute force sort")
+        void findAll_SortedByKeyWithSmallFacet_ShouldMatchReference() {
+            List<BookEntity> all = catalogWithRareAuthor(1, 2000);
+            bookRepository.saveAll(all);
+            BookQuery rare = BookQuery.all().withAuthor("author-rare");
+
+            assertAll(
+                    () -> assertEquals(20, bookRepository.findAll(rare, 0, 100).size()),
+                    () -> assertEquals(reference(all, rare, byFinalPrice(false), 0, 10), bookRepository.findAll(rare.sortedBy(BookSort.PRICE_ASC), 0, 10)),
+                    () -> assertEquals(reference(all, rare, byFinalPrice(true), 1, 10), bookRepository.findAll(rare.sortedBy(BookSort.PRICE_DESC), 1, 10)),
+                    () -> assertEquals(reference(all, rare, byPublicationDate(false), 0, 10), bookRepository.findAll(rare.sortedBy(BookSort.DATE_ASC), 0, 10)),
+                    () -> assertEquals(reference(all, rare.discounted(), byPublicationDate(true), 0, 10), bookRepository.findAll(rare.discounted().sortedBy(BookSort.DATE_DESC), 0, 10))
+            );
+        }
+
+        @Test
+        @DisplayName("date sorted queries should put undated books last in both directions")
+        void findAll_SortedByDate_ShouldPutUndatedBooksLast() {
+            BookEntity undated = bookRepository.save(new BookEntity(null, "1111111111111", "A", null, null, null, new BigDecimal("10.00"), 0, null, null, null, List.of()));
+            BookEntity older = bookRepository.save(new BookEntity(null, "2222222222222", "B", null, null, null, new BigDecimal("10.00"), 0, null, LocalDate.of(2001, 1, 1), null, List.of()));
+            BookEntity newer = bookRepository.save(new BookEntity(null, "3333333333333", "C", null, null, null, null, 0, null, LocalDate.of(2002, 1, 1), null, List.of()));
+            List<BookEntity> all = catalogWithRareAuthor(100, 2000);
+            bookRepository.saveAll(all);
+            List<BookEntity> everything = Stream.concat(Stream.of(undated, older, newer), all.stream()).toList();
+            BookQuery rare = BookQuery.all().withAuthor("author-rare");
+
+            assertAll(
+                    () -> assertEquals(List.of(older.id(), newer.id(), undated.id()), bookRepository.findAll(BookQuery.all().sortedBy(BookSort.DATE_ASC), 0, 2003).stream()
+                            .map(BookEntity::id).filter(id -> id <= newer.id()).toList()),
+                    () -> assertEquals(List.of(newer.id(), older.id(), undated.id()), bookRepository.findAll(BookQuery.all().sortedBy(BookSort.DATE_DESC), 0, 2003).stream()
+                            .map(BookEntity::id).filter(id -> id <= newer.id()).toList()),
+                    () -> assertEquals(reference(everything, BookQuery.all(), byPublicationDate(true), 0, 2003), bookRepository.findAll(BookQuery.all().sortedBy(BookSort.DATE_DESC), 0, 2003)),
+                    () -> assertEquals(reference(everything, BookQuery.all(), byFinalPrice(true), 0, 2003), bookRepository.findAll(BookQuery.all().sortedBy(BookSort.PRICE_DESC), 0, 2003)),
+                    () -> assertEquals(reference(all, rare, byPublicationDate(true), 0, 20), bookRepository.findAll(rare.sortedBy(BookSort.DATE_DESC), 0, 20))
+            );
+        }
+
+        @Test
+        @DisplayName("price bounds with sub-cent precision should not widen the range")
+        void findAll_WithSubCentPriceBounds_ShouldExcludeOutOfRangeBooks() {
+            BookEntity book = bookRepository.save(new BookEntity(null, "1111111111111", "A", null, null, null, new BigDecimal("10.00"), 0, null, null, null, List.of()));
+
+            assertAll(
+                    () -> assertTrue(bookRepository.findAll(BookQuery.all().withPriceBetween(new BigDecimal("10.001"), null), 0, 10).isEmpty()),
+                    () -> assertTrue(bookRepository.findAll(BookQuery.all().withPriceBetween(null, new BigDecimal("9.999")), 0, 10).isEmpty()),
+                    () -> assertEquals(List.of(book.id()), bookRepository.findAll(BookQuery.all().withPriceBetween(new BigDecimal("9.991"), new BigDecimal("10.009")), 0, 10).stream().map(BookEntity::id).toList())
+            );
+        }
+    }
+
+    @Nested
+    class UpsertTests {
+        @Test
+        @DisplayName("saveIfAbsent should insert once and report existing isbns as empty")
+        void saveIfAbsent_ShouldInsertOnce() {
+            Optional<BookEntity> first = bookRepository.saveIfAbsent(book(null, "1111111111111"));
+            Optional<BookEntity> second = bookRepository.saveIfAbsent(book(null, "1111111111111"));
+
+            assertAll(
+                    () -> assertTrue(first.isPresent()),
+                    () -> assertTrue(second.isEmpty()),
+                    () -> assertEquals(1, bookRepository.count())
+            );
+        }
+
+        @Test
+        @DisplayName("upsert should insert new isbns and replace existing ones keeping their id")
+        void upsert_ShouldInsertOrReplace() {
+            UpsertResult<BookEntity> inserted = bookRepository.upsert(book(null, "1111111111111"));
+            BookEntity replacement = new BookEntity(null, "1111111111111", "Replaced", null, null, null, new BigDecimal("5.00"), 0, null, null, null, List.of());
+
+            UpsertResult<BookEntity> replaced = bookRepository.upsert(replacement);
+
+            assertAll(
+                    () -> assertTrue(inserted.created()),
+                    () -> assertFalse(replaced.created()),
+                    () -> assertEquals(inserted.current(), replaced.previous()),
+                    () -> assertEquals(inserted.current().id(), replaced.current().id()),
+                    () -> assertEquals(1L, replaced.current().version()),
+                    () -> assertEquals("Replaced", bookRepository.findByIsbn("1111111111111").orElseThrow().titleEs()),
+                    () -> assertTrue(bookRepository.findAllByAuthorSlug("author-slug", 0, 10).isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("concurrent saveIfAbsent calls for one isbn should insert exactly once")
+        void saveIfAbsent_Concurrent_ShouldInsertOnce() throws InterruptedException {
+            AtomicInteger inserted = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                threads.add(Thread.ofVirtual().start(() -> {
+                    try {
+                        start.await();
+                        if (bookRepository.saveIfAbsent(book(null, "1111111111111")).isPresent()) {
+                            inserted.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            }
+
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertAll(
+                    () -> assertEquals(1, inserted.get()),
+                    () -> assertEquals(1, bookRepository.count())
+            );
+        }
+    }
+
+    @Nested
+    class UpdateTests {
+        @Test
+        @DisplayName("update should replace the book and move the isbn index")
+        void update_ChangedIsbn_ShouldMoveIndex() {
+            BookEntity saved = bookRepository.save(book(null, "1111111111111"));
+
+            bookRepository.update(book(saved.id(), "2222222222222"));
+
+            assertAll(
+                    () -> assertTrue(bookRepository.findByIsbn("1111111111111").isEmpty()),
+                    () -> assertEquals(saved.id(), bookRepository.findByIsbn("2222222222222").orElseThrow().id())
+            );
+        }
+
+        @Test
+        @DisplayName("update to an isbn owned by another book should throw exception")
+        void update_IsbnTaken_ShouldThrowException() {
+            BookEntity first = bookRepository.save(book(null, "1111111111111"));
+            bookRepository.save(book(null, "2222222222222"));
+
+            assertThrows(BusinessException.class, () -> bookRepository.update(book(first.id(), "2222222222222")));
+        }
+
+        @Test
+        @DisplayName("update of unknown id should throw exception")
+        void update_UnknownId_ShouldThrowException() {
+            assertThrows(BusinessException.class, () -> bookRepository.update(book(99L, "1111111111111")));
+        }
+
+        @Test
+        @DisplayName("update should bump the version and reject writers holding a stale one")
+        void update_StaleVersion_ShouldThrowOptimisticLockException() {
+            BookEntity saved = bookRepository.save(book(null, "1111111111111"));
+
+            BookEntity updated = bookRepository.update(saved);
+
+            assertAll(
+                    () -> assertEquals(0L, saved.version()),
+                    () -> assertEquals(1L, updated.version()),
+                    () -> assertEquals(1L, bookRepository.findById(saved.id()).orElseThrow().version()),
+                    () -> assertThrows(OptimisticLockException.class, () -> bookRepository.update(saved)),
+                    () -> assertThrows(OptimisticLockException.class, () -> bookRepository.updateAll(List.of(saved))),
+                    () -> assertEquals(2L, bookRepository.updateAll(List.of(updated)).get(0).version())
+            );
+        }
+
+        @Test
+        @DisplayName("concurrent writers of one version should let exactly one of them win")
+        void update_ConcurrentWriters_ShouldLetOneWin() throws InterruptedException {
+            BookEntity saved = bookRepository.save(book(null, "1111111111111"));
+            int writers = 8;
+            AtomicInteger wins = new AtomicInteger();
+            AtomicInteger conflicts = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                threads.add(Thread.ofVirtual().start(() -> {
+                    try {
+                        start.await();
+                        bookRepository.update(saved);
+                        wins.incrementAndGet();
+                    } catch (OptimisticLockException e) {
+                        conflicts.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            }
+
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertAll(
+                    () -> assertEquals(1, wins.get()),
+                    () -> assertEquals(writers - 1, conflicts.get()),
+                    () -> assertEquals(1L, bookRepository.findById(saved.id()).orElseThrow().version())
+            );
+        }
+    }
+
+    @Nested
+    class DeleteTests {
+        @Test
+        @DisplayName("delete should remove the book from every index")
+        void delete_ExistingIsbn_ShouldRemoveBook() {
+            BookEntity saved = bookRepository.save(book(null, "1111111111111"));
+
+            bookRepository.delete("1111111111111");
+
+            assertAll(
+                    () -> assertTrue(bookRepository.findByIsbn("1111111111111").isEmpty()),
+                    () -> assertTrue(bookRepository.findById(saved.id()).isEmpty()),
+                    () -> assertTrue(bookRepository.findAll(0, 10).isEmpty()),
+                    () -> assertEquals(0, bookRepository.count())
+            );
+        }
+    }
+
+    @Nested
+    class RelationTests {
+        private BookEntity book(Long id, String isbn, long authorId, long publisherId) {
+            BookEntity base = BookRepositoryImplTest.book(id, isbn);
+            return new BookEntity(
+                    base.id(), base.isbn(), base.titleEs(), base.titleEn(), base.synopsisEs(), base.synopsisEn(),
+                    base.basePrice(), base.discountPercentage(), base.cover(), base.publicationDate(),
+                    new PublisherEntity(publisherId, "Publisher" + publisherId, "publisher-" + publisherId),
+                    List.of(new AuthorEntity(authorId, "Author" + authorId, "Country", null, null, 1970, null, "author-" + authorId))
+            );
+        }
+
+        @Test
+        @DisplayName("findAllByAuthorSlug and findAllByPublisherSlug should follow saves, updates and deletes")
+        void findByRelation_ShouldFollowWrites() {
+            bookRepository.save(book(1L, "1111111111111", 1L, 1L));
+            bookRepository.save(book(2L, "2222222222222", 1L, 2L));
+            bookRepository.saveAll(List.of(book(3L, "3333333333333", 2L, 1L)));
+
+            bookRepository.update(book(2L, "2222222222222", 2L, 2L));
+            bookRepository.delete("1111111111111");
+
+            assertAll(
+                    () -> assertTrue(bookRepository.findAllByAuthorSlug("author-1", 0, 10).isEmpty()),
+                    () -> assertEquals(List.of(2L, 3L), bookRepository.findAllByAuthorSlug("author-2", 0, 10).stream().map(BookEntity::id).toList()),
+                    () -> assertEquals(List.of(3L), bookRepository.findAllByAuthorSlug("author-2", 1, 1).stream().map(BookEntity::id).toList()),
+                    () -> assertEquals(List.of(3L), bookRepository.findAllByPublisherSlug("publisher-1", 0, 10).stream().map(BookEntity::id).toList()),
+                    () -> assertTrue(bookRepository.findAllByPublisherSlug("unknown", 0, 10).isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("findAllByAuthorSlug should follow slug renames and reassignments")
+        void findByAuthorSlug_RenamedSlug_ShouldResolveCurrentOwner() {
+            BookEntity renamed = book(1L, "1111111111111", 1L, 1L);
+            AuthorEntity author = renamed.authors().get(0);
+            bookRepository.save(renamed);
+            bookRepository.update(withAuthor(renamed, new AuthorEntity(1L, author.name(), author.nationality(), null, null, 1970, null, "author-renamed")));
+            boolean oldSlugReleased = bookRepository.findAllByAuthorSlug("author-1", 0, 10).isEmpty();
+            BookEntity reassigned = book(2L, "2222222222222", 2L, 1L);
+            bookRepository.save(withAuthor(reassigned, new AuthorEntity(2L, "Author2", "Country", null, null, 1970, null, "author-1")));
+
+            List<Long> ownerIds = bookRepository.findAllByAuthorSlug("author-1", 0, 10).stream().map(BookEntity::id).toList();
+            bookRepository.delete("2222222222222");
+
+            assertAll(
+                    () -> assertTrue(oldSlugReleased),
+                    () -> assertEquals(List.of(2L), ownerIds),
+                    () -> assertTrue(bookRepository.findAllByAuthorSlug("author-1", 0, 10).isEmpty()),
+                    () -> assertEquals(List.of(1L), bookRepository.findAllByAuthorSlug("author-renamed", 0, 10).stream().map(BookEntity::id).toList())
+            );
+        }
+
+        private BookEntity withAuthor(BookEntity book, AuthorEntity author) {
+            return new BookEntity(
+                    book.id(), book.isbn(), book.titleEs(), book.titleEn(), book.synopsisEs(), book.synopsisEn(),
+                    book.basePrice(), book.discountPercentage(), book.cover(), book.publicationDate(),
+                    book.publisher(), List.of(author), book.version()
+            );
+        }
+    }
+
+    @Nested
+    class PersistenceTests {
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("a repository backed by a log store should recover its indexes after reopening")
+        void reopen_ShouldRestoreIndexes() throws IOException {
+            try (LogEntityStore<BookEntity> store = new LogEntityStore<>(directory, "books", RecordCodecs.BOOK_ENTITY)) {
+                BookRepositoryImpl repository = new BookRepositoryImpl(store);
+                repository.saveAll(List.of(book(null, "1111111111111"), book(null, "2222222222222")));
+                repository.update(book(2L, "3333333333333"));
+            }
+
+            try (LogEntityStore<BookEntity> store = new LogEntityStore<>(directory, "books", RecordCodecs.BOOK_ENTITY)) {
+                BookRepositoryImpl repository = new BookRepositoryImpl(store);
+
+                assertAll(
+                        () -> assertEquals(book(1L, "1111111111111"), repository.findByIsbn("1111111111111").orElseThrow()),
+                        () -> assertEquals(2L, repository.findByIsbn("3333333333333").orElseThrow().id()),
+                        () -> assertEquals(1L, repository.findByIsbn("3333333333333").orElseThrow().version()),
+                        () -> assertTrue(repository.findByIsbn("2222222222222").isEmpty()),
+                        () -> assertEquals(2, repository.findAllByAuthorSlug("author-slug", 0, 10).size()),
+                        () -> assertEquals(3L, repository.save(book(null, "4444444444444")).id())
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("a saveAll without its commit record should be dropped as a whole on replay")
+        void reopen_TornSaveAll_ShouldDropWholeBatch() throws IOException {
+            try (LogEntityStore<BookEntity> store = new LogEntityStore<>(directory, "books", RecordCodecs.BOOK_ENTITY)) {
+                BookRepositoryImpl repository = new BookRepositoryImpl(store);
+                repository.save(book(null, "1111111111111"));
+                repository.saveAll(List.of(book(null, "2222222222222"), book(null, "3333333333333")));
+            }
+            Path segment;
+            try (Stream<Path> files = Files.list(directory)) {
+                segment = files.sorted().toList().get(0);
+            }
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(Files.size(segment) - 17);
+            }
+
+            try (LogEntityStore<BookEntity> store = new LogEntityStore<>(directory, "books", RecordCodecs.BOOK_ENTITY)) {
+                BookRepositoryImpl repository = new BookRepositoryImpl(store);
+
+                assertAll(
+                        () -> assertEquals(1, repository.count()),
+                        () -> assertTrue(repository.findByIsbn("1111111111111").isPresent()),
+                        () -> assertTrue(repository.findByIsbn("2222222222222").isEmpty()),
+                        () -> assertTrue(repository.findByIsbn("3333333333333").isEmpty())
+                );
+            }
+        }
+    }
+
+    @Nested
+    class BatchTests {
+        @Test
+        @DisplayName("saveAll should store every book and assign ids")
+        void saveAll_ShouldStoreEveryBook() {
+            List<BookEntity> saved = bookRepository.saveAll(List.of(book(null, "1111111111111"), book(null, "2222222222222")));
+
+            assertAll(
+                    () -> assertEquals(List.of(1L, 2L), saved.stream().map(BookEntity::id).toList()),
+                    () -> assertEquals(2, bookRepository.findAllByIsbnIn(List.of("1111111111111", "2222222222222", "3333333333333")).size())
+            );
+        }
+
+        @Test
+        @DisplayName("saveAll should not generate an id that a later book in the batch claims explicitly")
+        void saveAll_ExplicitIdAfterGenerated_ShouldReserveIt() {
+            List<BookEntity> saved = bookRepository.saveAll(List.of(book(null, "1111111111111"), book(1L, "2222222222222")));
+
+            assertAll(
+                    () -> assertEquals(List.of(2L, 1L), saved.stream().map(BookEntity::id).toList()),
+                    () -> assertEquals("2222222222222", bookRepository.findById(1L).orElseThrow().isbn()),
+                    () -> assertEquals(3L, bookRepository.save(book(null, "3333333333333")).id())
+            );
+        }
+
+        @Test
+        @DisplayName("saveAll with a taken isbn should not store any book")
+        void saveAll_TakenIsbn_ShouldStoreNothing() {
+            bookRepository.save(book(null, "2222222222222"));
+
+            assertThrows(BusinessException.class, () -> bookRepository.saveAll(List.of(book(null, "1111111111111"), book(null, "2222222222222"))));
+            assertTrue(bookRepository.findByIsbn("1111111111111").isEmpty());
+        }
+
+        @Test
+        @DisplayName("updateAll should replace every book")
+        void updateAll_ShouldReplaceEveryBook() {
+            List<BookEntity> saved = bookRepository.saveAll(List.of(book(null, "1111111111111"), book(null, "2222222222222")));
+
+            bookRepository.updateAll(List.of(book(saved.get(0).id(), "3333333333333"), book(saved.get(1).id(), "2222222222222")));
+
+            assertAll(
+                    () -> assertTrue(bookRepository.findByIsbn("1111111111111").isEmpty()),
+                    () -> assertEquals(saved.get(0).id(), bookRepository.findByIsbn("3333333333333").orElseThrow().id()),
+                    () -> assertEquals(2, bookRepository.findAllByIdIn(List.of(saved.get(0).id(), saved.get(1).id())).size())
+            );
+        }
+
+        @Test
+        @DisplayName("deleteAll should remove every given isbn")
+        void deleteAll_ShouldRemoveBooks() {
+            bookRepository.saveAll(List.of(book(null, "1111111111111"), book(null, "2222222222222"), book(null, "3333333333333")));
+
+            bookRepository.deleteAll(List.of("1111111111111", "3333333333333", "9999999999999"));
+
+            assertEquals(List.of("2222222222222"), bookRepository.findAll(0, 10).stream().map(BookEntity::isbn).toList());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.analytics.BookColumnStore;
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnStoreBookRepositoryTest {
+
+    private BookRepositoryImpl delegate;
+    private BookColumnStore columnStore;
+    private ColumnStoreBookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new BookRepositoryImpl();
+        delegate.save(book(1L, "0000000000001", "10.00"));
+        columnStore = new BookColumnStore(1);
+        bookRepository = new ColumnStoreBookRepository(delegate, columnStore);
+    }
+
+    private static BookEntity book(Long id, String isbn, String basePrice) {
+        return new BookEntity(
+                id,
+                isbn,
+                "TitleEs " + isbn,
+                null,
+                null,
+                null,
+                new BigDecimal(basePrice),
+                0,
+                null,
+                LocalDate.of(2020, 1, 1),
+                new PublisherEntity(1L, "Publisher", "publisher-slug"),
+                List.of(new AuthorEntity(1L, "Author", "Country", null, null, 1970, null, "author-slug"))
+        );
+    }
+
+    private static long[] sorted(long[] ids) {
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    @Test
+    @DisplayName("writes through the repository should be reflected in the column store")
+    void writes_ShouldSyncColumnStore() {
+        // Act
+        bookRepository.save(book(2L, "0000000000002", "20.00"));
+        bookRepository.saveAll(List.of(book(3L, "0000000000003", "30.00"), book(4L, "0000000000004", "40.00")));
+        bookRepository.update(book(2L, "0000000000002", "25.00"));
+        bookRepository.delete("0000000000001");
+        bookRepository.deleteAll(List.of("0000000000004"));
+
+        // Assert
+        assertAll(
+                () -> assertEquals(2, columnStore.size()),
+                () -> assertArrayEquals(new long[]{2L, 3L}, sorted(columnStore.idsWithPriceBetween(null, null))),
+                () -> assertArrayEquals(new long[]{2L}, columnStore.idsWithPriceBetween(new BigDecimal("25.00"), new BigDecimal("25.00")))
+        );
+    }
+
+    @Test
+    @DisplayName("reconcile should drop rows written outside the repository")
+    void reconcile_ShouldMatchRepository() {
+        // Arrange
+        columnStore.upsert(book(9L, "0000000000009", "90.00"));
+        delegate.save(book(5L, "0000000000005", "50.00"));
+
+        // Act
+        bookRepository.reconcile();
+
+        // Assert
+        assertArrayEquals(new long[]{1L, 5L}, sorted(columnStore.idsWithPriceBetween(null, null)));
+    }
+}
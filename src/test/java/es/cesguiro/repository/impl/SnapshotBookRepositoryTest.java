@@ -0,0 +1,277 @@
+package es.cesguiro.repository.impl;
+
+import es.cesguiro.repository.BookQuery;
+import es.cesguiro.repository.BookSort;
+import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.repository.entity.BookEntity;
+import es.cesguiro.repository.entity.PublisherEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class SnapshotBookRepositoryTest {
+
+    private BookRepositoryImpl delegate;
+    private SnapshotBookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new BookRepositoryImpl();
+        bookRepository = new SnapshotBookRepository(delegate);
+    }
+
+    private static BookEntity book(Long id, String isbn) {
+        return new BookEntity(
+                id,
+                isbn,
+                "TitleEs " + isbn,
+                null,
+                null,
+                null,
+                new BigDecimal("10.00"),
+                0,
+                null,
+                LocalDate.of(2020, 1, 1),
+                new PublisherEntity(1L, "Publisher", "publisher-slug"),
+                List.of(new AuthorEntity(1L, "Author", "Country", null, null, 1970, null, "author-slug"))
+        );
+    }
+
+    private static String isbn(long id) {
+        return String.format("%013d", id);
+    }
+
+    private static BookEntity randomBook(Random random, long id) {
+        long author = 1 + random.nextInt(6);
+        long publisher = 1 + random.nextInt(3);
+        return new BookEntity(
+                id,
+                isbn(id),
+                random.nextInt(10) == 0 ? null : "Título " + (char) ('a' + random.nextInt(26)) + id,
+                "Title " + id,
+                null,
+                null,
+                random.nextInt(20) == 0 ? null : BigDecimal.valueOf(100 + random.nextInt(5000), 2),
+                random.nextBoolean() ? 0 : random.nextInt(50),
+                null,
+                random.nextInt(20) == 0 ? null : LocalDate.of(2000, 1, 1).plusDays(random.nextInt(9000)),
+                new PublisherEntity(publisher, "Publisher " + publisher, "publisher-" + publisher),
+                List.of(new AuthorEntity(author, "Author " + author, "Country", null, null, 1970, null, "author-" + author))
+        );
+    }
+
+    @Nested
+    class ReadTests {
+        @Test
+        @DisplayName("reads should be served from the snapshot built from the delegate")
+        void snapshot_ShouldMirrorDelegate() {
+            delegate.save(book(1L, isbn(1)));
+            SnapshotBookRepository repository = new SnapshotBookRepository(delegate);
+
+            assertAll(
+                    () -> assertEquals(1, repository.size()),
+                    () -> assertEquals(1L, repository.findByIsbn(isbn(1)).orElseThrow().id()),
+                    () -> assertEquals(isbn(1), repository.findById(1L).orElseThrow().isbn())
+            );
+        }
+
+        @Test
+        @DisplayName("pages and cursors should walk books in id order across partitions")
+        void findAll_AcrossPartitions_ShouldKeepIdOrder() {
+            List<BookEntity> books = new ArrayList<>();
+            for (long id = 1; id <= 3000; id += 3) {
+                books.add(book(id, isbn(id)));
+            }
+            bookRepository.saveAll(books);
+
+            assertAll(
+                    () -> assertEquals(delegate.findAll(2, 400), bookRepository.findAll(2, 400)),
+                    () -> assertEquals(delegate.findAll(0, 5000), bookRepository.findAll(0, 5000)),
+                    () -> assertEquals(delegate.findAllAfter(1024L, 10), bookRepository.findAllAfter(1024L, 10)),
+                    () -> assertEquals(delegate.findAllAfter(null, 10), bookRepository.findAllAfter(null, 10)),
+                    () -> assertEquals(1000L, bookRepository.streamAll().count())
+            );
+        }
+
+        @Test
+        @DisplayName("queries and facet pages should match the delegate after writes")
+        void findAll_WithQueryAndFacets_ShouldMatchDelegate() {
+            // Arrange
+            Random random = new Random(11);
+            List<BookEntity> books = new ArrayList<>();
+            for (long id = 1; id <= 3000; id++) {
+                books.add(randomBook(random, id));
+            }
+            bookRepository.saveAll(books);
+            List<BookEntity> changed = new ArrayList<>();
+            for (long id = 1; id <= 3000; id += 7) {
+                BookEntity current = bookRepository.findById(id).orElseThrow();
+                BookEntity replacement = randomBook(random, id);
+                changed.add(new BookEntity(id, current.isbn(), replacement.titleEs(), replacement.titleEn(), null, null, replacement.basePrice(),
+                        replacement.discountPercentage(), null, replacement.publicationDate(), replacement.publisher(), replacement.authors(), current.version()));
+            }
+            bookRepository.updateAll(changed);
+            bookRepository.deleteAll(List.of(isbn(2), isbn(3), isbn(500)));
+            bookRepository.delete(isbn(2999));
+            List<BookQuery> queries = List.of(
+                    BookQuery.all(),
+                    BookQuery.all().withAuthor("author-2"),
+                    BookQuery.all().withAuthor("author-3").withPublisher("publisher-1").sortedBy(BookSort.PRICE_DESC),
+                    BookQuery.all().withPriceBetween(new BigDecimal("5.00"), new BigDecimal("15.00")).sortedBy(BookSort.PRICE_ASC),
+                    BookQuery.all().discounted().sortedBy(BookSort.DATE_DESC),
+                    BookQuery.all().withPublishedBetween(LocalDate.of(2005, 1, 1), LocalDate.of(2010, 1, 1)).sortedBy(BookSort.DATE_ASC),
+                    BookQuery.all().withPublisher("publisher-2").sortedBy(BookSort.TITLE_ASC),
+                    BookQuery.all().sortedBy(BookSort.TITLE_DESC),
+                    BookQuery.all().withAuthor("unknown")
+            );
+
+            // Act & Assert
+            for (BookQuery query : queries) {
+                assertAll(
+                        () -> assertEquals(delegate.findAll(query, 0, 25), bookRepository.findAll(query, 0, 25), query.toString()),
+                        () -> assertEquals(delegate.findAll(query, 3, 40), bookRepository.findAll(query, 3, 40), query.toString())
+                );
+            }
+            assertAll(
+                    () -> assertEquals(delegate.findAllByAuthorSlug("author-1", 0, 1000), bookRepository.findAllByAuthorSlug("author-1", 0, 1000)),
+                    () -> assertEquals(delegate.findAllByAuthorSlug("author-4", 2, 30), bookRepository.findAllByAuthorSlug("author-4", 2, 30)),
+                    () -> assertEquals(delegate.findAllByPublisherSlug("publisher-3", 1, 50), bookRepository.findAllByPublisherSlug("publisher-3", 1, 50)),
+                    () -> assertTrue(bookRepository.findAllByPublisherSlug("unknown", 0, 10).isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("isbn lookups should survive the catalog growing and shrinking")
+        void findByIsbn_AfterGrowingAndShrinking_ShouldFindEveryBook() {
+            // Arrange
+            List<BookEntity> books = new ArrayList<>();
+            for (long id = 1; id <= 5000; id++) {
+                books.add(book(id, isbn(id)));
+            }
+            bookRepository.saveAll(books);
+            List<String> removed = new ArrayList<>();
+            for (long id = 1; id <= 4900; id++) {
+                removed.add(isbn(id));
+            }
+
+            // Act
+            bookRepository.deleteAll(removed);
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(100, bookRepository.size()),
+                    () -> assertTrue(bookRepository.findByIsbn(isbn(4900)).isEmpty()),
+                    () -> assertEquals(100, bookRepository.findAllByIsbnIn(books.stream().map(BookEntity::isbn).toList()).size()),
+                    () -> assertEquals(4901L, bookRepository.findByIsbn(isbn(4901)).orElseThrow().id()),
+                    () -> assertEquals(100, bookRepository.findAllByAuthorSlug("author-slug", 0, 1000).size())
+            );
+        }
+
+        @Test
+        @DisplayName("snapshot reads and deletes should not query the delegate")
+        void readsAndDeletes_ShouldNotQueryDelegate() {
+            // Arrange
+            BookRepositoryImpl spied = spy(delegate);
+            SnapshotBookRepository repository = new SnapshotBookRepository(spied);
+            repository.saveAll(List.of(book(1L, isbn(1)), book(2L, isbn(2)), book(3L, isbn(3))));
+            clearInvocations(spied);
+
+            // Act
+            List<BookEntity> byQuery = repository.findAll(BookQuery.all().withAuthor("author-slug").sortedBy(BookSort.PRICE_ASC), 0, 10);
+            List<BookEntity> byAuthor = repository.findAllByAuthorSlug("author-slug", 0, 10);
+            List<BookEntity> byPublisher = repository.findAllByPublisherSlug("publisher-slug", 0, 10);
+            repository.delete(isbn(1));
+            repository.deleteAll(List.of(isbn(2)));
+
+            // Assert
+            verify(spied, never()).findAll(any(BookQuery.class), anyInt(), anyInt());
+            verify(spied, never()).findAllByAuthorSlug(anyString(), anyInt(), anyInt());
+            verify(spied, never()).findAllByPublisherSlug(anyString(), anyInt(), anyInt());
+            verify(spied, never()).findByIsbn(anyString());
+            verify(spied, never()).findAllByIsbnIn(any());
+            assertAll(
+                    () -> assertEquals(3, byQuery.size()),
+                    () -> assertEquals(3, byAuthor.size()),
+                    () -> assertEquals(3, byPublisher.size()),
+                    () -> assertEquals(List.of(3L), repository.findAll(0, 10).stream().map(BookEntity::id).toList())
+            );
+        }
+    }
+
+    @Nested
+    class WriteTests {
+        @Test
+        @DisplayName("writes should publish a snapshot that shares untouched partitions")
+        void writes_ShouldPublishChanges() {
+            BookEntity first = bookRepository.save(book(1L, isbn(1)));
+            bookRepository.save(book(5000L, isbn(5000)));
+            List<BookEntity> before = bookRepository.findAll(0, 10);
+
+            BookEntity updated = bookRepository.update(book(first.id(), isbn(2)));
+            bookRepository.delete(isbn(5000));
+
+            assertAll(
+                    () -> assertTrue(bookRepository.findByIsbn(isbn(1)).isEmpty()),
+                    () -> assertEquals(updated, bookRepository.findByIsbn(isbn(2)).orElseThrow()),
+                    () -> assertTrue(bookRepository.findById(5000L).isEmpty()),
+                    () -> assertEquals(1, bookRepository.size()),
+                    () -> assertEquals(2, before.size()),
+                    () -> assertEquals(first, before.get(0))
+            );
+        }
+
+        @Test
+        @DisplayName("readers should always see a complete snapshot while writers publish")
+        void concurrentReaders_ShouldSeeConsistentSnapshots() throws InterruptedException {
+            List<BookEntity> books = new ArrayList<>();
+            for (long id = 1; id <= 2048; id++) {
+                books.add(book(id, isbn(id)));
+            }
+            bookRepository.saveAll(books);
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger inconsistent = new AtomicInteger();
+            CountDownLatch readers = new CountDownLatch(4);
+            for (int r = 0; r < 4; r++) {
+                Thread.ofVirtual().start(() -> {
+                    while (running.get()) {
+                        if (bookRepository.findAll(0, 5000).size() != 2048 || bookRepository.findByIsbn(isbn(7)).isEmpty()) {
+                            inconsistent.incrementAndGet();
+                        }
+                    }
+                    readers.countDown();
+                });
+            }
+
+            for (int i = 0; i < 200; i++) {
+                BookEntity current = bookRepository.findById(7L).orElseThrow();
+                bookRepository.update(current);
+            }
+            running.set(false);
+            readers.await();
+
+            assertAll(
+                    () -> assertEquals(0, inconsistent.get()),
+                    () -> assertEquals(200L, bookRepository.findById(7L).orElseThrow().version())
+            );
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package es.cesguiro.search;
+
+import es.cesguiro.repository.entity.BookEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookSearchIndexTest {
+
+    private BookSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new BookSearchIndex();
+        searchIndex.index(book(1L, "La canción del pirata", "Pirate songs", "Un poema sobre el mar", "A poem about the sea"));
+        searchIndex.index(book(2L, "El jardín de las rosas", "The rose garden", "Novela sobre canciones antiguas", "A novel about old songs"));
+        searchIndex.index(book(3L, "Historias del mar", "Sea stories", "Relatos de piratas", "Tales of pirates"));
+    }
+
+    private static BookEntity book(Long id, String titleEs, String titleEn, String synopsisEs, String synopsisEn) {
+        return new BookEntity(id, String.valueOf(id).repeat(13), titleEs, titleEn, synopsisEs, synopsisEn,
+                new BigDecimal("10.00"), 0, null, LocalDate.of(2020, 1, 1), null, List.of());
+    }
+
+    private List<Long> idsOf(String query) {
+        return searchIndex.search(query, 10).stream().map(SearchHit::bookId).toList();
+    }
+
+    @Nested
+    class SearchTests {
+        @Test
+        @DisplayName("search should fold accents and rank title matches first")
+        void search_AccentlessQuery_ShouldRankTitleMatchesFirst() {
+            assertEquals(List.of(1L, 2L), idsOf("cancion"));
+        }
+
+        @Test
+        @DisplayName("search should match stemmed plural forms in both languages")
+        void search_PluralQuery_ShouldMatchStems() {
+            assertAll(
+                    () -> assertEquals(List.of(1L, 3L), idsOf("pirates")),
+                    () -> assertEquals(List.of(3L, 1L), idsOf("historia del mar"))
+            );
+        }
+
+        @Test
+        @DisplayName("search should return at most limit hits and ignore stop words")
+        void search_Limit_ShouldReturnTopHits() {
+            assertAll(
+                    () -> assertEquals(1, searchIndex.search("mar sea pirate", 1).size()),
+                    () -> assertTrue(searchIndex.search("the of", 10).isEmpty()),
+                    () -> assertTrue(searchIndex.search(null, 10).isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("pruned top hits should match the head of the exhaustive ranking")
+        void search_SmallLimit_ShouldMatchExhaustiveRanking() {
+            String[] words = {"mar", "pirata", "cancion", "jardin", "rosa", "historia", "poema", "novela"};
+            Random random = new Random(42);
+            searchIndex.clear();
+            for (long id = 1; id <= 500; id++) {
+                StringBuilder title = new StringBuilder();
+                StringBuilder synopsis = new StringBuilder();
+                for (int i = 0; i < 3; i++) {
+                    title.append(words[random.nextInt(words.length)]).append(' ');
+                    synopsis.append(words[random.nextInt(words.length)]).append(' ');
+                }
+                searchIndex.index(book(id, title.toString(), null, synopsis.toString(), null));
+            }
+
+            List<SearchHit> exhaustive = searchIndex.search("mar pirata jardin", 500);
+            List<SearchHit> pruned = searchIndex.search("mar pirata jardin", 10);
+
+            assertEquals(exhaustive.subList(0, 10), pruned);
+        }
+    }
+
+    @Nested
+    class UpdateTests {
+        @Test
+        @DisplayName("index should replace the previous terms of a book")
+        void index_ExistingBook_ShouldReplaceTerms() {
+            searchIndex.onUpdated(null, book(1L, "Cocina mediterránea", "Mediterranean cooking", null, null));
+
+            assertAll(
+                    () -> assertEquals(List.of(2L), idsOf("cancion")),
+                    () -> assertEquals(List.of(1L), idsOf("cook")),
+                    () -> assertEquals(3, searchIndex.size())
+            );
+        }
+
+        @Test
+        @DisplayName("onDeleted should remove the book from the index")
+        void onDeleted_ShouldRemoveBook() {
+            searchIndex.onDeleted(book(3L, null, "x", null, null));
+
+            assertAll(
+                    () -> assertEquals(List.of(1L), idsOf("pirates")),
+                    () -> assertEquals(2, searchIndex.size())
+            );
+        }
+    }
+}
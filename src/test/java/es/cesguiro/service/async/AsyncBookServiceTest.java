@@ -0,0 +1,157 @@
+package es.cesguiro.service.async;
+
+import es.cesguiro.service.AuthorService;
+import es.cesguiro.service.BookService;
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BookDetailsDto;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.PublisherDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncBookServiceTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private AuthorService authorService;
+
+    private AsyncBookService asyncBookService;
+
+    private final AuthorDto author1 = new AuthorDto(1L, "Author1", "Country1", null, null, 1970, null, "author1-slug");
+    private final AuthorDto author2 = new AuthorDto(2L, "Author2", "Country2", null, null, 1980, null, "author2-slug");
+    private final BookDto bookDto = new BookDto(
+            1L, "1111111111111", "TitleEs", "TitleEn", null, null,
+            new BigDecimal("10.00"), 0, new BigDecimal("10.00"), null, LocalDate.of(2020, 1, 1),
+            new PublisherDto(1L, "Publisher", "publisher-slug"), List.of(author1, author2)
+    );
+
+    @BeforeEach
+    void setUp() {
+        asyncBookService = new AsyncBookService(bookService, authorService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncBookService.close();
+    }
+
+    @Nested
+    class GetDetailsTests {
+        @Test
+        @DisplayName("getDetailsAsync should look up the authors of a book concurrently")
+        void getDetailsAsync_ShouldFanOutAuthorLookups() {
+            // Arrange
+            CountDownLatch bothAuthorsRequested = new CountDownLatch(2);
+            when(bookService.getByIsbn("1111111111111")).thenReturn(bookDto);
+            when(authorService.getBySlug(Mockito.anyString())).thenAnswer(invocation -> {
+                bothAuthorsRequested.countDown();
+                assertTrue(bothAuthorsRequested.await(5, TimeUnit.SECONDS), "Author lookups should run concurrently");
+                return "author1-slug".equals(invocation.getArgument(0)) ? author1 : author2;
+            });
+
+            // Act
+            BookDetailsDto details = asyncBookService.getDetailsAsync("1111111111111", Duration.ofSeconds(10)).join();
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(bookDto, details.book()),
+                    () -> assertEquals(List.of(author1, author2), details.authors())
+            );
+        }
+
+        @Test
+        @DisplayName("getDetailsAsync should fail with a timeout when lookups take too long")
+        void getDetailsAsync_SlowLookup_ShouldTimeOut() {
+            // Arrange
+            when(bookService.getByIsbn("1111111111111")).thenAnswer(invocation -> {
+                Thread.sleep(1_000);
+                return bookDto;
+            });
+
+            // Act
+            CompletionException exception = assertThrows(CompletionException.class,
+                    () -> asyncBookService.getDetailsAsync("1111111111111", Duration.ofMillis(50)).join());
+
+            // Assert
+            assertInstanceOf(TimeoutException.class, exception.getCause());
+        }
+    
+        @Test
+        @DisplayName("getDetailsAsync should interrupt the lookups still running when it times out")
+        void getDetailsAsync_Timeout_ShouldInterruptRunningLookups() throws InterruptedException {
+            // Arrange
+            CountDownLatch interrupted = new CountDownLatch(1);
+            when(bookService.getByIsbn("1111111111111")).thenAnswer(invocation -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return bookDto;
+            });
+
+            // Act
+            CompletionException exception = assertThrows(CompletionException.class,
+                    () -> asyncBookService.getDetailsAsync("1111111111111", Duration.ofMillis(50)).join());
+
+            // Assert
+            assertAll(
+                    () -> assertInstanceOf(TimeoutException.class, exception.getCause()),
+                    () -> assertTrue(interrupted.await(5, TimeUnit.SECONDS), "The running lookup should be interrupted")
+            );
+        }
+    }
+
+    @Nested
+    class GetAllByIsbnTests {
+        @Test
+        @DisplayName("getAllByIsbnAsync should cancel the remaining lookups when it times out")
+        void getAllByIsbnAsync_Timeout_ShouldCancelRemainingLookups() throws InterruptedException {
+            // Arrange
+            CountDownLatch interrupted = new CountDownLatch(2);
+            when(bookService.getByIsbn("1111111111111")).thenReturn(bookDto);
+            when(bookService.getByIsbn("2222222222222")).thenAnswer(invocation -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return bookDto;
+            });
+
+            // Act
+            CompletionException exception = assertThrows(CompletionException.class,
+                    () -> asyncBookService.getAllByIsbnAsync(List.of("1111111111111", "2222222222222", "2222222222222"), Duration.ofMillis(50)).join());
+
+            // Assert
+            assertAll(
+                    () -> assertInstanceOf(TimeoutException.class, exception.getCause()),
+                    () -> assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Both slow lookups should be interrupted")
+            );
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package es.cesguiro.service.cache;
+
+import es.cesguiro.exception.BusinessException;
+import es.cesguiro.service.BookService;
+import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.PublisherDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingBookServiceTest {
+
+    @Mock
+    private BookService bookService;
+
+    private CachingBookService cachingBookService;
+
+    private final BookDto bookDto = new BookDto(
+            1L,
+            "1111111111111",
+            "TitleEs",
+            "TitleEn",
+            "SynopsisEs",
+            "SynopsisEn",
+            new BigDecimal("10.00"),
+            5,
+            new BigDecimal("9.50"),
+            "cover.jpg",
+            LocalDate.of(2020, 1, 1),
+            new PublisherDto(1L, "Publisher", "publisher-slug"),
+            List.of(new AuthorDto(1L, "Author", "Country", "BioEs", "BioEn", 1970, null, "author-slug"))
+    );
+
+    @BeforeEach
+    void setUp() {
+        cachingBookService = new CachingBookService(bookService, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("getByIsbn should hit the delegate only once")
+    void getByIsbn_RepeatedReads_ShouldUseCache() {
+        when(bookService.getByIsbn(bookDto.isbn())).thenReturn(bookDto);
+
+        cachingBookService.getByIsbn(bookDto.isbn());
+        BookDto result = cachingBookService.getByIsbn(bookDto.isbn());
+
+        assertAll(
+                () -> assertSame(bookDto, result),
+                () -> assertEquals(1, cachingBookService.cacheStats().hits()),
+                () -> assertEquals(1, cachingBookService.cacheStats().misses())
+        );
+        verify(bookService, times(1)).getByIsbn(bookDto.isbn());
+    }
+
+    @Test
+    @DisplayName("getByIsbn should not cache failed lookups")
+    void getByIsbn_NotFound_ShouldNotCache() {
+        when(bookService.getByIsbn("9999999999999")).thenThrow(new BusinessException("not found"));
+
+        assertThrows(BusinessException.class, () -> cachingBookService.getByIsbn("9999999999999"));
+        assertThrows(BusinessException.class, () -> cachingBookService.getByIsbn("9999999999999"));
+
+        verify(bookService, times(2)).getByIsbn("9999999999999");
+    }
+
+    @Test
+    @DisplayName("update should invalidate the cached book even when its isbn changes")
+    void update_ShouldInvalidateCachedBook() {
+        BookDto renamed = new BookDto(1L, "2222222222222", "New", null, null, null, new BigDecimal("10.00"), 0, new BigDecimal("10.00"), null, null, bookDto.publisher(), bookDto.authors());
+        when(bookService.getByIsbn(bookDto.isbn())).thenReturn(bookDto);
+        when(bookService.update(renamed)).thenReturn(renamed);
+
+        cachingBookService.getByIsbn(bookDto.isbn());
+        cachingBookService.update(renamed);
+
+        assertEquals(0, cachingBookService.cacheStats().size());
+    }
+
+    @Test
+    @DisplayName("delete should invalidate the cached book")
+    void delete_ShouldInvalidateCachedBook() {
+        when(bookService.getByIsbn(bookDto.isbn())).thenReturn(bookDto);
+
+        cachingBookService.getByIsbn(bookDto.isbn());
+        cachingBookService.delete(bookDto.isbn());
+        cachingBookService.getByIsbn(bookDto.isbn());
+
+        verify(bookService, times(2)).getByIsbn(bookDto.isbn());
+        verify(bookService).delete(bookDto.isbn());
+    }
+
+    @Test
+    @DisplayName("update should invalidate only the previous and new isbn of the book")
+    void update_WithIsbnChange_ShouldInvalidateOnlyItsKeys() {
+        BookDto other = new BookDto(2L, "3333333333333", "Other", null, null, null, new BigDecimal("10.00"), 0, new BigDecimal("10.00"), null, null, bookDto.publisher(), bookDto.authors());
+        BookDto renamed = new BookDto(1L, "2222222222222", "New", null, null, null, new BigDecimal("10.00"), 0, new BigDecimal("10.00"), null, null, bookDto.publisher(), bookDto.authors());
+        when(bookService.getByIsbn(bookDto.isbn())).thenReturn(bookDto);
+        when(bookService.getByIsbn(other.isbn())).thenReturn(other);
+        when(bookService.update(renamed)).thenReturn(renamed);
+
+        cachingBookService.getByIsbn(bookDto.isbn());
+        cachingBookService.getByIsbn(other.isbn());
+        cachingBookService.update(renamed);
+        cachingBookService.getByIsbn(other.isbn());
+
+        assertAll(
+                () -> assertEquals(1, cachingBookService.cacheStats().size()),
+                () -> assertEquals(1, cachingBookService.cacheStats().hits())
+        );
+        verify(bookService, times(1)).getByIsbn(other.isbn());
+    }
+
+    @Test
+    @DisplayName("failed updates should still invalidate the cached book")
+    void update_WhenDelegateFails_ShouldInvalidateCachedBook() {
+        when(bookService.getByIsbn(bookDto.isbn())).thenReturn(bookDto);
+        when(bookService.update(bookDto)).thenThrow(new BusinessException("conflict"));
+
+        cachingBookService.getByIsbn(bookDto.isbn());
+
+        assertThrows(BusinessException.class, () -> cachingBookService.update(bookDto));
+        assertEquals(0, cachingBookService.cacheStats().size());
+    }
+
+    @Test
+    @DisplayName("failed creates should still invalidate the isbn")
+    void create_WhenDelegateFails_ShouldInvalidateIsbn() {
+        when(bookService.getByIsbn(bookDto.isbn())).thenReturn(bookDto);
+        when(bookService.create(bookDto)).thenThrow(new BusinessException("duplicated"));
+
+        cachingBookService.getByIsbn(bookDto.isbn());
+
+        assertThrows(BusinessException.class, () -> cachingBookService.create(bookDto));
+        assertEquals(0, cachingBookService.cacheStats().size());
+    }
+}
@@ -0,0 +1,123 @@
+package es.cesguiro.service.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringLruCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("getOrLoad should load once and then serve hits")
+    void getOrLoad_ShouldCacheLoadedValue() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(10), clock::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad("key", k -> "value-" + loads.incrementAndGet());
+        String value = cache.getOrLoad("key", k -> "value-" + loads.incrementAndGet());
+
+        CacheStats stats = cache.stats();
+        assertAll(
+                () -> assertEquals("value-1", value),
+                () -> assertEquals(1, loads.get()),
+                () -> assertEquals(1, stats.hits()),
+                () -> assertEquals(1, stats.misses()),
+                () -> assertEquals(1, stats.size())
+        );
+    }
+
+    @Test
+    @DisplayName("entries older than the ttl should be reloaded")
+    void getOrLoad_ExpiredEntry_ShouldReload() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, Duration.ofNanos(100), clock::get);
+        cache.getOrLoad("key", k -> "old");
+
+        clock.addAndGet(101);
+        String value = cache.getOrLoad("key", k -> "new");
+
+        assertAll(
+                () -> assertEquals("new", value),
+                () -> assertEquals(1, cache.stats().expirations())
+        );
+    }
+
+    @Test
+    @DisplayName("least recently used entries should be evicted when full")
+    void getOrLoad_Full_ShouldEvictLeastRecentlyUsed() {
+        ExpiringLruCache<Integer, Integer> cache = new ExpiringLruCache<>(1, Duration.ofSeconds(10), clock::get);
+
+        cache.getOrLoad(1, k -> k);
+        cache.getOrLoad(2, k -> k);
+
+        assertAll(
+                () -> assertEquals(1, cache.stats().evictions()),
+                () -> assertEquals(1, cache.stats().size())
+        );
+    }
+
+    @Test
+    @DisplayName("invalidate should force the next read to load again")
+    void invalidate_ShouldRemoveEntry() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(10), clock::get);
+        cache.getOrLoad("key", k -> "old");
+
+        cache.invalidate("key");
+
+        assertEquals("new", cache.getOrLoad("key", k -> "new"));
+    }
+
+    @Test
+    @DisplayName("a load racing with an invalidation should not be cached")
+    void getOrLoad_InvalidatedWhileLoading_ShouldNotCache() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(10), clock::get);
+
+        cache.getOrLoad("key", k -> {
+            cache.invalidate(k);
+            return "stale";
+        });
+
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("a load racing with cancelPendingLoads should not be cached under any key")
+    void getOrLoad_PendingLoadsCancelled_ShouldNotCache() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(10), clock::get);
+
+        cache.getOrLoad("key", k -> {
+            cache.cancelPendingLoads();
+            return "stale";
+        });
+        String reloaded = cache.getOrLoad("key", k -> "fresh");
+
+        assertAll(
+                () -> assertEquals("fresh", reloaded),
+                () -> assertEquals(1, cache.stats().size())
+        );
+    }
+
+    @Test
+    @DisplayName("the removal listener should see evicted, expired and invalidated entries")
+    void removalListener_ShouldSeeEveryRemovedEntry() {
+        List<String> removed = new ArrayList<>();
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(1, Duration.ofNanos(100), clock::get,
+                (key, value) -> removed.add(key + "=" + value));
+
+        cache.getOrLoad("a", k -> "1");
+        cache.getOrLoad("b", k -> "2");
+        clock.addAndGet(101);
+        cache.getOrLoad("b", k -> "3");
+        cache.invalidate("b");
+        cache.invalidate("missing");
+
+        assertEquals(List.of("a=1", "b=2", "b=3"), removed);
+    }
+}
@@ -5,7 +5,9 @@ import es.cesguiro.mapper.AuthorMapper;
 import es.cesguiro.model.Author;
 import es.cesguiro.repository.AuthorRepository;
 import es.cesguiro.repository.entity.AuthorEntity;
+import es.cesguiro.service.AuthorListener;
 import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BatchResultDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -304,4 +306,58 @@ class AuthorServiceImplTest {
             assertEquals("Author with slug nonexistent-slug not found", exception.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class ListenerTests {
+        @Test
+        @DisplayName("update and delete should notify registered listeners with the previous author")
+        void updateAndDelete_ShouldNotifyListeners() {
+            // Arrange
+            AuthorListener listener = Mockito.mock(AuthorListener.class);
+            authorServiceImpl.addListener(listener);
+            AuthorEntity previous = new AuthorEntity(1L, "author1", "nationality1", "BioEs", "BioEn", 1970, null, "slug1");
+            AuthorEntity updated = new AuthorEntity(1L, "author1", "nationality2", "BioEs", "BioEn", 1970, null, "slug1");
+            AuthorDto authorDto = new AuthorDto(1L, "author1", "nationality2", "BioEs", "BioEn", 1970, null, "slug1");
+            when(authorRepository.findBySlug("slug1")).thenReturn(Optional.of(previous));
+            when(authorRepository.update(Mockito.eq("slug1"), Mockito.any(AuthorEntity.class))).thenReturn(updated);
+            when(authorRepository.delete("slug1")).thenReturn(1);
+
+            // Act
+            authorServiceImpl.update("slug1", authorDto);
+            authorServiceImpl.delete("slug1");
+
+            // Assert
+            Mockito.verify(listener).onUpdated(previous, updated);
+            Mockito.verify(listener).onDeleted(previous);
+        }
+
+        @Test
+        @DisplayName("createAll should report persisted authors as created even when a listener fails")
+        void createAll_FailingListener_ShouldNotChangeOutcomes() {
+            // Arrange
+            AuthorListener failing = Mockito.mock(AuthorListener.class);
+            AuthorListener listener = Mockito.mock(AuthorListener.class);
+            Mockito.doThrow(new IllegalStateException("listener failure")).when(failing).onCreated(Mockito.any());
+            authorServiceImpl.addListener(failing);
+            authorServiceImpl.addListener(listener);
+            List<AuthorEntity> created = List.of(
+                    new AuthorEntity(1L, "author1", "nationality1", "BioEs", "BioEn", 1970, null, "slug1"),
+                    new AuthorEntity(2L, "author2", "nationality2", "BioEs", "BioEn", 1980, null, "slug2")
+            );
+            List<AuthorDto> authorDtos = created.stream().map(AuthorMapper.getInstance()::fromAuthorEntityToAuthorDto).toList();
+            when(authorRepository.findAllBySlugIn(Mockito.anyCollection())).thenReturn(List.of());
+            when(authorRepository.createAll(Mockito.anyList())).thenReturn(created);
+
+            // Act
+            BatchResultDto<AuthorDto> result = authorServiceImpl.createAll(authorDtos);
+
+            // Assert
+            assertAll(
+                    () -> assertFalse(result.hasFailures()),
+                    () -> Mockito.verify(listener).onCreated(created.get(0)),
+                    () -> Mockito.verify(listener).onCreated(created.get(1)),
+                    () -> Mockito.verify(authorRepository, Mockito.never()).create(Mockito.any())
+            );
+        }
+    }
+}
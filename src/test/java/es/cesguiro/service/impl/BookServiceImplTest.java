@@ -6,11 +6,15 @@ import es.cesguiro.model.Author;
 import es.cesguiro.model.Book;
 import es.cesguiro.model.Publisher;
 import es.cesguiro.repository.BookRepository;
+import es.cesguiro.repository.UpsertResult;
 import es.cesguiro.repository.entity.AuthorEntity;
 import es.cesguiro.repository.entity.BookEntity;
 import es.cesguiro.repository.entity.PublisherEntity;
 import es.cesguiro.service.dto.AuthorDto;
+import es.cesguiro.service.dto.BatchResultDto;
+import es.cesguiro.service.BookListener;
 import es.cesguiro.service.dto.BookDto;
+import es.cesguiro.service.dto.CursorPageDto;
 import es.cesguiro.service.dto.PublisherDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,8 +27,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -163,6 +172,256 @@ class BookServiceImplTest {
         }
     }
 
+    @Nested
+    class GetAllAfterTests {
+        @Test
+        @DisplayName("getAllAfter should return a page with a cursor to the next one")
+        void getAllAfter_ShouldReturnPageWithNextCursor() {
+            // Arrange
+            when(bookRepository.findAllAfter(null, 3)).thenReturn(bookEntities.subList(0, 3));
+            when(bookRepository.findAllAfter(2L, 3)).thenReturn(bookEntities.subList(2, 5));
+            when(bookRepository.findAllAfter(4L, 3)).thenReturn(bookEntities.subList(4, 5));
+
+            // Act
+            CursorPageDto<BookDto> first = bookServiceImpl.getAllAfter(null, 2);
+            CursorPageDto<BookDto> second = bookServiceImpl.getAllAfter(first.nextCursor(), 2);
+            CursorPageDto<BookDto> last = bookServiceImpl.getAllAfter(second.nextCursor(), 2);
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(List.of("1111111111111", "2222222222222"), first.items().stream().map(BookDto::isbn).toList()),
+                    () -> assertTrue(first.hasNext(), "First page should have a next cursor"),
+                    () -> assertEquals(List.of("3333333333333", "4444444444444"), second.items().stream().map(BookDto::isbn).toList()),
+                    () -> assertEquals(List.of("5555555555555"), last.items().stream().map(BookDto::isbn).toList()),
+                    () -> assertFalse(last.hasNext(), "Last page should not have a next cursor")
+            );
+        }
+
+        @Test
+        @DisplayName("getAllAfter with an invalid cursor should throw exception")
+        void getAllAfter_InvalidCursor_ShouldThrowException() {
+            assertThrows(BusinessException.class, () -> bookServiceImpl.getAllAfter("not-a-cursor", 10));
+        }
+
+        @Test
+        @DisplayName("getAllAfter with non positive size should throw exception")
+        void getAllAfter_NonPositiveSize_ShouldThrowException() {
+            assertThrows(BusinessException.class, () -> bookServiceImpl.getAllAfter(null, 0));
+        }
+    }
+
+    @Nested
+    class GetByRelationTests {
+        @Test
+        @DisplayName("getByAuthorSlug should return the books of the author")
+        void getByAuthorSlug_ShouldReturnBooks() {
+            // Arrange
+            when(bookRepository.findAllByAuthorSlug("author1-slug", 0, 10)).thenReturn(bookEntities.subList(0, 1));
+
+            // Act
+            List<BookDto> result = bookServiceImpl.getByAuthorSlug("author1-slug", 0, 10);
+
+            // Assert
+            assertEquals(List.of("1111111111111"), result.stream().map(BookDto::isbn).toList());
+        }
+
+        @Test
+        @DisplayName("getByPublisherSlug with an unknown publisher should return an empty list")
+        void getByPublisherSlug_UnknownPublisher_ShouldReturnEmptyList() {
+            // Arrange
+            when(bookRepository.findAllByPublisherSlug("unknown", 0, 10)).thenReturn(List.of());
+
+            // Act & Assert
+            assertTrue(bookServiceImpl.getByPublisherSlug("unknown", 0, 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("getByAuthorSlug with non positive size should throw exception")
+        void getByAuthorSlug_NonPositiveSize_ShouldThrowException() {
+            assertThrows(BusinessException.class, () -> bookServiceImpl.getByAuthorSlug("author1-slug", 0, 0));
+        }
+    }
+
+    @Nested
+    class ListenerTests {
+        @Test
+        @DisplayName("update and delete should notify registered listeners")
+        void updateAndDelete_ShouldNotifyListeners() {
+            // Arrange
+            BookListener listener = Mockito.mock(BookListener.class);
+            bookServiceImpl.addListener(listener);
+            BookEntity previous = bookEntities.get(0);
+            when(bookRepository.findById(1L)).thenReturn(Optional.of(previous));
+            when(bookRepository.update(Mockito.any(BookEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(bookRepository.findByIsbn(previous.isbn())).thenReturn(Optional.of(previous));
+
+            // Act
+            bookServiceImpl.update(BookMapper.getInstance().fromBookEntityToBookDto(previous));
+            bookServiceImpl.delete(previous.isbn());
+
+            // Assert
+            Mockito.verify(listener).onUpdated(Mockito.eq(previous), Mockito.any(BookEntity.class));
+            Mockito.verify(listener).onDeleted(previous);
+        }
+
+        @Test
+        @DisplayName("update should notify the entity returned by the write without reading it back")
+        void update_ShouldNotifyWrittenEntity() {
+            // Arrange
+            BookListener listener = Mockito.mock(BookListener.class);
+            bookServiceImpl.addListener(listener);
+            BookEntity previous = bookEntities.get(0);
+            BookEntity written = bookEntities.get(1);
+            when(bookRepository.findById(1L)).thenReturn(Optional.of(previous));
+            when(bookRepository.update(Mockito.any(BookEntity.class))).thenReturn(written);
+
+            // Act
+            bookServiceImpl.update(BookMapper.getInstance().fromBookEntityToBookDto(previous));
+
+            // Assert
+            assertAll(
+                    () -> Mockito.verify(listener).onUpdated(previous, written),
+                    () -> Mockito.verify(bookRepository, Mockito.times(1)).findById(1L)
+            );
+        }
+
+        @Test
+        @DisplayName("events for the same book should be dispatched in write order")
+        void update_ConcurrentWrites_ShouldDispatchInWriteOrder() throws InterruptedException {
+            // Arrange
+            List<Long> dispatched = Collections.synchronizedList(new ArrayList<>());
+            bookServiceImpl.addListener(new BookListener() {
+                @Override
+                public void onUpdated(BookEntity previous, BookEntity current) {
+                    dispatched.add(current.version());
+                }
+            });
+            BookEntity previous = bookEntities.get(0);
+            AtomicLong versions = new AtomicLong();
+            when(bookRepository.findById(1L)).thenReturn(Optional.of(previous));
+            when(bookRepository.update(Mockito.any(BookEntity.class))).thenAnswer(invocation -> {
+                BookEntity book = invocation.getArgument(0);
+                return new BookEntity(book.id(), book.isbn(), book.titleEs(), book.titleEn(), book.synopsisEs(), book.synopsisEn(),
+                        book.basePrice(), book.discountPercentage(), book.cover(), book.publicationDate(), book.publisher(), book.authors(),
+                        versions.incrementAndGet());
+            });
+            BookDto bookDto = BookMapper.getInstance().fromBookEntityToBookDto(previous);
+
+            // Act
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                threads.add(Thread.ofPlatform().start(() -> {
+                    for (int j = 0; j < 50; j++) {
+                        bookServiceImpl.update(bookDto);
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // Assert
+            List<Long> expected = new ArrayList<>();
+            for (long version = 1; version <= 200; version++) {
+                expected.add(version);
+            }
+            assertEquals(expected, dispatched);
+        }
+
+        @Test
+        @DisplayName("createAll should report persisted books as created even when a listener fails")
+        void createAll_FailingListener_ShouldNotChangeOutcomes() {
+            // Arrange
+            BookListener failing = Mockito.mock(BookListener.class);
+            BookListener listener = Mockito.mock(BookListener.class);
+            Mockito.doThrow(new IllegalStateException("listener failure")).when(failing).onCreated(Mockito.any());
+            bookServiceImpl.addListener(failing);
+            bookServiceImpl.addListener(listener);
+            List<BookEntity> saved = List.of(bookEntities.get(0), bookEntities.get(1));
+            List<BookDto> bookDtos = saved.stream().map(BookMapper.getInstance()::fromBookEntityToBookDto).toList();
+            when(bookRepository.findAllByIsbnIn(Mockito.anyCollection())).thenReturn(List.of());
+            when(bookRepository.saveAll(Mockito.anyList())).thenReturn(saved);
+
+            // Act
+            BatchResultDto<BookDto> result = bookServiceImpl.createAll(bookDtos);
+
+            // Assert
+            assertAll(
+                    () -> assertFalse(result.hasFailures()),
+                    () -> Mockito.verify(listener).onCreated(saved.get(0)),
+                    () -> Mockito.verify(listener).onCreated(saved.get(1)),
+                    () -> Mockito.verify(bookRepository, Mockito.never()).save(Mockito.any())
+            );
+        }
+    }
+
+    @Nested
+    class UpsertTests {
+        @Test
+        @DisplayName("upsert of a new isbn should create the book and notify creation")
+        void upsert_NewIsbn_ShouldCreate() {
+            // Arrange
+            BookListener listener = Mockito.mock(BookListener.class);
+            bookServiceImpl.addListener(listener);
+            BookEntity bookEntity = bookEntities.get(0);
+            when(bookRepository.upsert(Mockito.any(BookEntity.class))).thenReturn(new UpsertResult<>(null, bookEntity));
+
+            // Act
+            BookDto result = bookServiceImpl.upsert(BookMapper.getInstance().fromBookEntityToBookDto(bookEntity));
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(bookEntity.isbn(), result.isbn()),
+                    () -> Mockito.verify(listener).onCreated(bookEntity),
+                    () -> Mockito.verify(bookRepository, Mockito.never()).findByIsbn(Mockito.anyString())
+            );
+        }
+
+        @Test
+        @DisplayName("upsert of an existing isbn should replace the book and notify the update")
+        void upsert_ExistingIsbn_ShouldUpdate() {
+            // Arrange
+            BookListener listener = Mockito.mock(BookListener.class);
+            bookServiceImpl.addListener(listener);
+            BookEntity previous = bookEntities.get(0);
+            BookEntity current = bookEntities.get(1);
+            when(bookRepository.upsert(Mockito.any(BookEntity.class))).thenReturn(new UpsertResult<>(previous, current));
+
+            // Act
+            BookDto result = bookServiceImpl.upsert(BookMapper.getInstance().fromBookEntityToBookDto(current));
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(current.isbn(), result.isbn()),
+                    () -> Mockito.verify(listener).onUpdated(previous, current),
+                    () -> Mockito.verify(listener, Mockito.never()).onCreated(Mockito.any())
+            );
+        }
+    }
+
+    @Nested
+    class StreamAllTests {
+        @Test
+        @DisplayName("streamAll should map books lazily as they are consumed")
+        void streamAll_ShouldMapLazily() {
+            // Arrange
+            AtomicInteger pulled = new AtomicInteger();
+            when(bookRepository.streamAll()).thenReturn(bookEntities.stream().peek(bookEntity -> pulled.incrementAndGet()));
+
+            // Act
+            List<String> isbns;
+            try (Stream<BookDto> books = bookServiceImpl.streamAll()) {
+                isbns = books.limit(2).map(BookDto::isbn).toList();
+            }
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(List.of("1111111111111", "2222222222222"), isbns),
+                    () -> assertEquals(2, pulled.get())
+            );
+        }
+    }
+
     @Nested
     class GetByIsbnTests{
         @Test
@@ -238,8 +497,7 @@ class BookServiceImplTest {
             BookDto newBookDto = BookMapper.getInstance().fromBookToBookDto(newBook);
             BookEntity newBookEntity = BookMapper.getInstance().fromBookToBookEntity(newBook);
 
-            when(bookRepository.findByIsbn(newBook.getIsbn())).thenReturn(Optional.empty());
-            when(bookRepository.save(Mockito.any(BookEntity.class))).thenReturn(newBookEntity);
+            when(bookRepository.saveIfAbsent(Mockito.any(BookEntity.class))).thenReturn(Optional.of(newBookEntity));
 
             // Act
             BookDto createdBook = bookServiceImpl.create(newBookDto);
@@ -271,6 +529,59 @@ class BookServiceImplTest {
             );
         }
 
+        @Test
+        @DisplayName("Given book without id should create book with a null entity id")
+        void create_BookWithoutId_ShouldCreateBook() {
+            // Arrange
+            BookDto newBookDto = new BookDto(
+                    null,
+                    "9999999999999",
+                    "NuevoTituloEs",
+                    "NewTitleEn",
+                    null,
+                    null,
+                    new BigDecimal("25.00"),
+                    0,
+                    null,
+                    null,
+                    LocalDate.of(2023, 5, 1),
+                    new PublisherDto(1L, "NewPublisher", "newpublisher-slug"),
+                    List.of(new AuthorDto(1L, "NewAuthor", "NewCountry", null, null, 1980, null, "newauthor-slug"))
+            );
+            BookEntity savedBookEntity = BookMapper.getInstance().fromBookDtoToBookEntity(newBookDto);
+
+            when(bookRepository.saveIfAbsent(Mockito.argThat(bookEntity -> bookEntity.id() == null))).thenReturn(Optional.of(savedBookEntity));
+
+            // Act
+            BookDto createdBook = bookServiceImpl.create(newBookDto);
+
+            // Assert
+            assertAll(
+                    () -> assertNotNull(createdBook, "Created book should not be null"),
+                    () -> assertEquals(newBookDto.isbn(), createdBook.isbn(), "ISBN should match")
+            );
+        }
+
+        @Test
+        @DisplayName("create should notify listeners with the saved entity without reading it back")
+        void create_ShouldNotifyFromSavedEntityWithoutRereading() {
+            // Arrange
+            BookEntity savedBookEntity = bookEntities.get(0);
+            BookDto newBookDto = BookMapper.getInstance().fromBookEntityToBookDto(savedBookEntity);
+            BookListener listener = Mockito.mock(BookListener.class);
+            bookServiceImpl.addListener(listener);
+            when(bookRepository.saveIfAbsent(Mockito.any(BookEntity.class))).thenReturn(Optional.of(savedBookEntity));
+
+            // Act
+            BookDto createdBook = bookServiceImpl.create(newBookDto);
+
+            // Assert
+            assertEquals(savedBookEntity.isbn(), createdBook.isbn());
+            Mockito.verify(listener).onCreated(Mockito.same(savedBookEntity));
+            Mockito.verify(bookRepository, Mockito.never()).findById(Mockito.any());
+            Mockito.verify(bookRepository, Mockito.never()).findByIsbn(Mockito.any());
+        }
+
         @Test
         @DisplayName("Given existing book should throws exception")
         void create_ExistingBook_ShouldThrowException() {
@@ -291,7 +602,7 @@ class BookServiceImplTest {
             BookDto existingBookDto = BookMapper.getInstance().fromBookToBookDto(existingBook);
             BookEntity existingBookEntity = BookMapper.getInstance().fromBookToBookEntity(existingBook);
 
-            when(bookRepository.findByIsbn(existingBook.getIsbn())).thenReturn(Optional.of(existingBookEntity));
+            when(bookRepository.saveIfAbsent(existingBookEntity)).thenReturn(Optional.empty());
 
             assertThrows(BusinessException.class, () -> bookServiceImpl.create(existingBookDto));
         }
@@ -381,4 +692,118 @@ class BookServiceImplTest {
             assertThrows(BusinessException.class, () -> bookServiceImpl.delete(isbn));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class BatchTests {
+        private BookDto newBookDto(String isbn) {
+            return new BookDto(null, isbn, "TitleEs", "TitleEn", "SynopsisEs", "SynopsisEn", new BigDecimal("20.00"), 10, new BigDecimal("18.00"), "cover.jpg", LocalDate.of(2020, 1, 1), new PublisherDto(1L, "Publisher", "publisher-slug"), List.of(new AuthorDto(1L, "Author", "Country", "Bio Es", "Bio En", 1980, null, "author-slug")));
+        }
+
+        @Test
+        @DisplayName("createAll should report a written book whose result cannot be mapped as persisted, not as failed")
+        void createAll_UnmappableResult_ShouldReportPersistedWithError() {
+            // Arrange
+            List<BookDto> bookDtos = List.of(newBookDto("6666666666666"), newBookDto("7777777777777"));
+            when(bookRepository.findAllByIsbnIn(Mockito.anyCollection())).thenReturn(List.of());
+            when(bookRepository.saveAll(Mockito.anyList())).thenAnswer(invocation -> {
+                List<BookEntity> toSave = invocation.getArgument(0);
+                return toSave.stream()
+                        .map(b -> new BookEntity(10L + toSave.indexOf(b), b.isbn(), b.titleEs(), b.titleEn(), b.synopsisEs(), b.synopsisEn(),
+                                b.isbn().startsWith("7") ? null : b.basePrice(), b.discountPercentage(), b.cover(), b.publicationDate(), b.publisher(), b.authors()))
+                        .toList();
+            });
+
+            // Act
+            BatchResultDto<BookDto> result = bookServiceImpl.createAll(bookDtos);
+
+            // Assert
+            assertAll(
+                    () -> assertTrue(result.items().get(0).isSuccess()),
+                    () -> assertTrue(result.items().get(0).persisted()),
+                    () -> assertFalse(result.items().get(1).isSuccess()),
+                    () -> assertTrue(result.items().get(1).persisted(), "The book was written even though its result could not be mapped"),
+                    () -> assertNull(result.items().get(1).value())
+            );
+        }
+
+        @Test
+        @DisplayName("createAll should report each item and persist valid books in one call")
+        void createAll_MixedBatch_ShouldReportPerItem() {
+            // Arrange
+            List<BookDto> bookDtos = List.of(
+                    newBookDto("6666666666666"),
+                    newBookDto("1111111111111"),
+                    newBookDto("6666666666666"),
+                    newBookDto("invalid"),
+                    newBookDto("7777777777777")
+            );
+            when(bookRepository.findAllByIsbnIn(Mockito.anyCollection())).thenReturn(List.of(bookEntities.get(0)));
+            when(bookRepository.saveAll(Mockito.anyList())).thenAnswer(invocation -> {
+                List<BookEntity> toSave = invocation.getArgument(0);
+                return toSave.stream()
+                        .map(b -> new BookEntity(10L + toSave.indexOf(b), b.isbn(), b.titleEs(), b.titleEn(), b.synopsisEs(), b.synopsisEn(), b.basePrice(), b.discountPercentage(), b.cover(), b.publicationDate(), b.publisher(), b.authors()))
+                        .toList();
+            });
+
+            // Act
+            BatchResultDto<BookDto> result = bookServiceImpl.createAll(bookDtos);
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(5, result.items().size(), "Every item should be reported"),
+                    () -> assertTrue(result.items().get(0).isSuccess(), "First book should be created"),
+                    () -> assertEquals(10L, result.items().get(0).value().id(), "Created book should carry the new id"),
+                    () -> assertTrue(result.items().get(1).error().contains("already exists"), "Existing isbn should fail"),
+                    () -> assertTrue(result.items().get(2).error().contains("duplicated"), "Duplicated isbn should fail"),
+                    () -> assertFalse(result.items().get(3).isSuccess(), "Invalid isbn should fail validation"),
+                    () -> assertTrue(result.items().get(4).isSuccess(), "Last book should be created"),
+                    () -> assertEquals(2, result.succeeded().size(), "Two books should be created")
+            );
+            Mockito.verify(bookRepository).findAllByIsbnIn(Mockito.anyCollection());
+            Mockito.verify(bookRepository).saveAll(Mockito.anyList());
+            Mockito.verify(bookRepository, Mockito.never()).save(Mockito.any());
+        }
+
+        @Test
+        @DisplayName("createAll should fall back to single saves when the batch write fails")
+        void createAll_BatchWriteFails_ShouldFallBackToSingleSaves() {
+            // Arrange
+            List<BookDto> bookDtos = List.of(newBookDto("6666666666666"), newBookDto("7777777777777"));
+            when(bookRepository.findAllByIsbnIn(Mockito.anyCollection())).thenReturn(List.of());
+            when(bookRepository.saveAll(Mockito.anyList())).thenThrow(new BusinessException("Book with isbn 7777777777777 already exists"));
+            when(bookRepository.save(Mockito.any(BookEntity.class))).thenAnswer(invocation -> {
+                BookEntity bookEntity = invocation.getArgument(0);
+                if (bookEntity.isbn().equals("7777777777777")) {
+                    throw new BusinessException("Book with isbn 7777777777777 already exists");
+                }
+                return bookEntity;
+            });
+
+            // Act
+            BatchResultDto<BookDto> result = bookServiceImpl.createAll(bookDtos);
+
+            // Assert
+            assertAll(
+                    () -> assertTrue(result.items().get(0).isSuccess()),
+                    () -> assertEquals("Book with isbn 7777777777777 already exists", result.items().get(1).error())
+            );
+        }
+
+        @Test
+        @DisplayName("deleteAll should delete existing books and report missing ones")
+        void deleteAll_ShouldReportMissingBooks() {
+            // Arrange
+            when(bookRepository.findAllByIsbnIn(Mockito.anyCollection())).thenReturn(List.of(bookEntities.get(0)));
+
+            // Act
+            BatchResultDto<String> result = bookServiceImpl.deleteAll(List.of("1111111111111", "9999999999999"));
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(List.of("1111111111111"), result.succeeded()),
+                    () -> assertEquals("Book with isbn 9999999999999 not found", result.items().get(1).error())
+            );
+            Mockito.verify(bookRepository).deleteAll(Mockito.anyCollection());
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package es.cesguiro.storage;
+
+import es.cesguiro.codec.RecordCodecs;
+import es.cesguiro.collection.LongObjectHashMap;
+import es.cesguiro.repository.entity.PublisherEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogEntityStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private LogEntityStore<PublisherEntity> open(long segmentSize) {
+        return new LogEntityStore<>(directory, "publishers", RecordCodecs.PUBLISHER_ENTITY, segmentSize, true);
+    }
+
+    private static PublisherEntity publisher(long id) {
+        return new PublisherEntity(id, "Publisher " + id, "publisher-" + id);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    @Nested
+    class ReplayTests {
+        @Test
+        @DisplayName("reopening the store should replay puts and deletes")
+        void reopen_ShouldReplayLog() throws IOException {
+            try (LogEntityStore<PublisherEntity> store = open(LogEntityStore.DEFAULT_SEGMENT_SIZE)) {
+                LongObjectHashMap<PublisherEntity> publishers = new LongObjectHashMap<>();
+                publishers.put(1L, publisher(1));
+                publishers.put(2L, publisher(2));
+                store.putAll(publishers);
+                store.put(1L, new PublisherEntity(1L, "Renamed", "publisher-1"));
+                store.remove(2L);
+            }
+
+            try (LogEntityStore<PublisherEntity> store = open(LogEntityStore.DEFAULT_SEGMENT_SIZE)) {
+                assertAll(
+                        () -> assertEquals(1, store.size()),
+                        () -> assertEquals("Renamed", store.get(1L).name()),
+                        () -> assertNull(store.get(2L))
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("reopening after a torn or corrupted write should keep the valid prefix")
+        void reopen_CorruptedTail_ShouldTruncateIt() throws IOException {
+            try (LogEntityStore<PublisherEntity> store = open(LogEntityStore.DEFAULT_SEGMENT_SIZE)) {
+                store.put(1L, publisher(1));
+                store.put(2L, publisher(2));
+            }
+            Path segment = segments().get(0);
+            long validSize = Files.size(segment);
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{42}), validSize - 1);
+                channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), validSize);
+            }
+
+            try (LogEntityStore<PublisherEntity> store = open(LogEntityStore.DEFAULT_SEGMENT_SIZE)) {
+                store.put(3L, publisher(3));
+
+                assertAll(
+                        () -> assertEquals(publisher(1), store.get(1L)),
+                        () -> assertNull(store.get(2L)),
+                        () -> assertEquals(publisher(3), store.get(3L))
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("reopening after a batch without commit record should discard the whole batch")
+        void reopen_UncommittedBatch_ShouldDiscardIt() throws IOException {
+            try (LogEntityStore<PublisherEntity> store = open(LogEntityStore.DEFAULT_SEGMENT_SIZE)) {
+                store.put(1L, publisher(1));
+                LongObjectHashMap<PublisherEntity> publishers = new LongObjectHashMap<>();
+                publishers.put(2L, publisher(2));
+                publishers.put(3L, publisher(3));
+                store.putAll(publishers);
+            }
+            Path segment = segments().get(0);
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(Files.size(segment) - 17);
+            }
+
+            try (LogEntityStore<PublisherEntity> store = open(LogEntityStore.DEFAULT_SEGMENT_SIZE)) {
+                assertAll(
+                        () -> assertEquals(1, store.size()),
+                        () -> assertNull(store.get(2L)),
+                        () -> assertNull(store.get(3L))
+                );
+                store.put(4L, publisher(4));
+            }
+
+            try (LogEntityStore<PublisherEntity> store = open(LogEntityStore.DEFAULT_SEGMENT_SIZE)) {
+                assertAll(
+                        () -> assertEquals(2, store.size()),
+                        () -> assertEquals(publisher(4), store.get(4L))
+                );
+            }
+        }
+        @Test
+        @DisplayName("putAllIfAbsent with a taken id should not write any record of the batch")
+        void putAllIfAbsent_TakenId_ShouldWriteNothing() throws IOException {
+            try (LogEntityStore<PublisherEntity> store = open(LogEntityStore.DEFAULT_SEGMENT_SIZE)) {
+                store.put(2L, publisher(2));
+                long before = store.diskSize();
+                LongObjectHashMap<PublisherEntity> publishers = new LongObjectHashMap<>();
+                publishers.put(1L, publisher(1));
+                publishers.put(2L, new PublisherEntity(2L, "Renamed", "publisher-2"));
+
+                boolean written = store.putAllIfAbsent(publishers);
+
+                assertAll(
+                        () -> assertFalse(written),
+                        () -> assertEquals(before, store.diskSize()),
+                        () -> assertNull(store.get(1L)),
+                        () -> assertEquals(publisher(2), store.get(2L))
+                );
+            }
+        }
+    }
+
+    @Nested
+    class SegmentTests {
+        @Test
+        @DisplayName("reading each record right after writing it should work across the mapping threshold")
+        void get_AfterEachPut_ShouldReadOwnWrites() throws IOException {
+            try (LogEntityStore<PublisherEntity> store = open(LogEntityStore.DEFAULT_SEGMENT_SIZE)) {
+                for (long id = 1; id <= 3_000; id++) {
+                    store.put(id, publisher(id));
+                    assertEquals(publisher(id), store.get(id));
+                }
+
+                assertAll(
+                        () -> assertEquals(publisher(1), store.get(1L)),
+                        () -> assertEquals(publisher(1_500), store.get(1_500L)),
+                        () -> assertEquals(3_000, store.size())
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("writes should roll over to new segments and stay readable")
+        void put_SmallSegments_ShouldRollOver() throws IOException {
+            try (LogEntityStore<PublisherEntity> store = open(64)) {
+                for (long id = 1; id <= 10; id++) {
+                    store.put(id, publisher(id));
+                }
+
+                assertAll(
+                        () -> assertTrue(segments().size() > 1),
+                        () -> assertEquals(publisher(7), store.get(7L))
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("compact should drop overwritten and deleted records")
+        void compact_ShouldKeepOnlyLiveRecords() throws IOException {
+            try (LogEntityStore<PublisherEntity> store = open(256)) {
+                for (int round = 0; round < 5; round++) {
+                    for (long id = 1; id <= 10; id++) {
+                        store.put(id, publisher(id));
+                    }
+                }
+                store.removeAll(List.of(1L, 2L));
+                long before = store.diskSize();
+
+                store.compact();
+
+                assertAll(
+                        () -> assertTrue(store.diskSize() < before),
+                        () -> assertEquals(8, store.size()),
+                        () -> assertEquals(publisher(10), store.get(10L))
+                );
+            }
+
+            try (LogEntityStore<PublisherEntity> store = open(256)) {
+                assertAll(
+                        () -> assertEquals(8, store.size()),
+                        () -> assertNull(store.get(1L))
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("overwrites past the compaction threshold should be compacted off the write path and replay intact")
+        void put_PastCompactionThreshold_ShouldCompactInBackground() throws IOException {
+            try (LogEntityStore<PublisherEntity> store = new LogEntityStore<>(directory, "publishers", RecordCodecs.PUBLISHER_ENTITY, 64 * 1024, false)) {
+                for (int round = 0; round < 150; round++) {
+                    for (long id = 1; id <= 200; id++) {
+                        store.put(id, new PublisherEntity(id, "Publisher " + id + " round " + round, "publisher-" + id));
+                    }
+                }
+
+                store.compactIfNeeded();
+
+                assertAll(
+                        () -> assertTrue(store.diskSize() < 1L << 20),
+                        () -> assertEquals(200, store.size()),
+                        () -> assertEquals("Publisher 7 round 149", store.get(7L).name())
+                );
+            }
+
+            try (LogEntityStore<PublisherEntity> store = open(64 * 1024)) {
+                assertAll(
+                        () -> assertEquals(200, store.size()),
+                        () -> assertEquals("Publisher 200 round 149", store.get(200L).name())
+                );
+            }
+        }
+    }
+
+    @Nested
+    class CacheTests {
+        @Test
+        @DisplayName("get should return the written value without decoding it again")
+        void get_AfterPut_ShouldReturnCachedValue() throws IOException {
+            try (LogEntityStore<PublisherEntity> store = open(LogEntityStore.DEFAULT_SEGMENT_SIZE)) {
+                PublisherEntity publisher = publisher(1);
+
+                store.put(1L, publisher);
+
+                assertSame(publisher, store.get(1L));
+            }
+        }
+
+        @Test
+        @DisplayName("get after a replay should decode once and reuse the value across compaction")
+        void get_AfterReplay_ShouldDecodeOnce() throws IOException {
+            try (LogEntityStore<PublisherEntity> store = open(256)) {
+                for (long id = 1; id <= 10; id++) {
+                    store.put(id, publisher(id));
+                }
+            }
+
+            try (LogEntityStore<PublisherEntity> store = open(256)) {
+                PublisherEntity first = store.get(3L);
+                store.compact();
+
+                assertAll(
+                        () -> assertEquals(publisher(3), first),
+                        () -> assertSame(first, store.get(3L))
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package es.cesguiro.validation;
+
+import es.cesguiro.exception.ValidationException;
+import es.cesguiro.service.dto.AuthorDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DtoValidatorTest {
+
+    private final AuthorDto validAuthor = new AuthorDto(1L, "Author", "Country", null, null, 1970, null, "author-slug");
+    private final AuthorDto invalidAuthor = new AuthorDto(1L, "", "", null, null, -1, null, "Not A Slug");
+
+    @Nested
+    class ValidateTests {
+        @Test
+        @DisplayName("validate with a valid dto should not throw exception")
+        void validate_ValidDto_ShouldNotThrow() {
+            assertDoesNotThrow(() -> DtoValidator.validate(validAuthor));
+        }
+
+        @Test
+        @DisplayName("validate with an invalid dto should report every violation sorted by field")
+        void validate_InvalidDto_ShouldReportEveryViolation() {
+            // Act
+            ValidationException exception = assertThrows(ValidationException.class, () -> DtoValidator.validate(invalidAuthor));
+
+            // Assert
+            assertAll(
+                    () -> assertEquals(
+                            List.of("birthYear", "name", "nationality", "slug"),
+                            exception.violations().stream().map(Violation::field).toList()),
+                    () -> assertEquals(4, exception.getViolations().size()),
+                    () -> assertTrue(exception.getViolations().stream().anyMatch(v -> v.getPropertyPath().toString().equals("slug"))),
+                    () -> assertTrue(exception.getMessage().contains("name: El nombre no puede estar vacío"))
+            );
+        }
+
+        @Test
+        @DisplayName("validate with a null dto should throw exception")
+        void validate_NullDto_ShouldThrowException() {
+            assertThrows(IllegalArgumentException.class, () -> DtoValidator.validate(null));
+        }
+
+        @Test
+        @DisplayName("validate with an unconstrained object should not throw exception")
+        void validate_UnconstrainedObject_ShouldNotThrow() {
+            assertTrue(DtoValidator.violationsOf("not a dto").isEmpty());
+        }
+    }
+
+    @Nested
+    class FailFastTests {
+        @Test
+        @DisplayName("validateFailFast with an invalid dto should report only one violation")
+        void validateFailFast_InvalidDto_ShouldReportOneViolation() {
+            ValidationException exception = assertThrows(ValidationException.class, () -> DtoValidator.validateFailFast(invalidAuthor));
+
+            assertAll(
+                    () -> assertEquals(1, exception.violations().size()),
+                    () -> assertEquals(1, exception.getViolations().size())
+            );
+        }
+
+        @Test
+        @DisplayName("firstViolationOf with a valid dto should return empty")
+        void firstViolationOf_ValidDto_ShouldReturnEmpty() {
+            assertTrue(DtoValidator.firstViolationOf(validAuthor).isEmpty());
+        }
+    }
+}